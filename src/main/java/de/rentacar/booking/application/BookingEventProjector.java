@@ -0,0 +1,11 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.BookingEvent;
+
+/**
+ * Read-Model, das aus dem Buchungs-Event-Log aufgebaut wird.
+ * Ereignisse werden strikt in Log-Reihenfolge und von genau einem Thread zugestellt.
+ */
+public interface BookingEventProjector {
+    void project(BookingEvent event);
+}
@@ -0,0 +1,70 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application Service: liest das Buchungs-Event-Log asynchron und in Reihenfolge
+ * und aktualisiert alle registrierten Read-Models (Projektoren).
+ * Der Fortschritt wird im Speicher gehalten; nach einem Neustart werden die
+ * Read-Models aus dem vollständigen Log neu aufgebaut.
+ */
+@Service
+public class BookingProjectionService {
+
+    private final BookingEventRepository bookingEventRepository;
+    private final List<BookingEventProjector> projectors;
+    private final int batchSize;
+    private final long gapTimeoutSeconds;
+
+    private long lastProcessedEventId = 0L;
+
+    public BookingProjectionService(BookingEventRepository bookingEventRepository,
+                                    List<BookingEventProjector> projectors,
+                                    @Value("${rentacar.booking.projection.batch-size:500}") int batchSize,
+                                    @Value("${rentacar.booking.projection.gap-timeout-seconds:60}") long gapTimeoutSeconds) {
+        this.bookingEventRepository = bookingEventRepository;
+        this.projectors = projectors;
+        this.batchSize = batchSize;
+        this.gapTimeoutSeconds = gapTimeoutSeconds;
+    }
+
+    /**
+     * Verarbeitet alle noch nicht projizierten Ereignisse.
+     * Eine Lücke in der ID-Folge kann von einer noch offenen Transaktion stammen;
+     * in diesem Fall wird gewartet, bis die Lücke älter als das Timeout ist. Das Timeout
+     * muss die längsten schreibenden Transaktionen (Sammelbuchung, Sweep) abdecken, denn
+     * später committete Ereignisse werden nicht nachgeliefert - die Projektoren verlassen
+     * sich auf strikte Log-Reihenfolge.
+     */
+    @Scheduled(fixedDelayString = "${rentacar.booking.projection.interval-ms:1000}")
+    public synchronized void processPendingEvents() {
+        List<BookingEvent> batch;
+        do {
+            batch = bookingEventRepository.findEventsAfter(lastProcessedEventId, batchSize);
+            for (BookingEvent event : batch) {
+                if (isUnsettledGap(event)) {
+                    return;
+                }
+                projectors.forEach(projector -> projector.project(event));
+                lastProcessedEventId = event.getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    public synchronized long getLastProcessedEventId() {
+        return lastProcessedEventId;
+    }
+
+    private boolean isUnsettledGap(BookingEvent event) {
+        return lastProcessedEventId > 0
+                && event.getId() != lastProcessedEventId + 1
+                && event.getOccurredAt().isAfter(LocalDateTime.now().minusSeconds(gapTimeoutSeconds));
+    }
+}
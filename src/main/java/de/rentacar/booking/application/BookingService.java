@@ -1,10 +1,16 @@
 package de.rentacar.booking.application;
 
+import de.rentacar.booking.application.VehicleAssignmentIndex.Assignment;
 import de.rentacar.booking.domain.*;
 import de.rentacar.customer.domain.CustomerRepository;
 import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.vehicle.application.BranchDirectory;
+import de.rentacar.vehicle.domain.Branch;
+import de.rentacar.vehicle.domain.BranchGeoIndex.NearbyBranch;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
 import de.rentacar.vehicle.domain.VehicleType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,7 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Application Service für Buchungsverwaltung (Use Cases)
@@ -21,12 +32,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingService {
 
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final int AUDIT_CHUNK_SIZE = 50;
+    private static final int MAX_ASSIGNMENT_ATTEMPTS = 3;
+    private static final double MAX_SEARCH_RADIUS_KM = 500;
+    private static final int MAX_NEARBY_RESULTS = 100;
+
     private final BookingRepository bookingRepository;
     private final VehicleRepository vehicleRepository;
     private final CustomerRepository customerRepository;
     private final PriceCalculationService priceCalculationService;
     private final AvailabilityService availabilityService;
+    private final BookingEventRepository bookingEventRepository;
+    private final OutboxService outboxService;
     private final AuditService auditService;
+    private final VehicleAssignmentIndex assignmentIndex;
+    private final BranchDirectory branchDirectory;
 
     /**
      * Use Case: Fahrzeuge suchen (Zeitraum, Typ, Standort)
@@ -38,6 +59,51 @@ public class BookingService {
         return vehicleRepository.findAvailableVehicles(vehicleType, location, startDate, endDate);
     }
 
+    /**
+     * Use Case: Fahrzeuge im Umkreis suchen ("in der Nähe")
+     * Filialen werden in aufsteigender Entfernung abgefragt, die Suche endet, sobald genug
+     * Fahrzeuge gefunden sind; das Ergebnis ist nach Entfernung sortiert.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyVehicle> searchAvailableVehiclesNearby(VehicleType vehicleType, double latitude, double longitude,
+                                                             double radiusKm, LocalDate startDate, LocalDate endDate,
+                                                             int limit) {
+        validateDateRange(startDate, endDate);
+        if (radiusKm <= 0 || radiusKm > MAX_SEARCH_RADIUS_KM) {
+            throw new IllegalArgumentException("Umkreis muss zwischen 0 und " + MAX_SEARCH_RADIUS_KM + " km liegen");
+        }
+        if (limit < 1 || limit > MAX_NEARBY_RESULTS) {
+            throw new IllegalArgumentException("Maximal " + MAX_NEARBY_RESULTS + " Treffer pro Suche");
+        }
+
+        List<NearbyVehicle> result = new ArrayList<>();
+        for (NearbyBranch branch : branchDirectory.findNearby(latitude, longitude, radiusKm)) {
+            for (Vehicle vehicle : vehicleRepository.findAvailableVehicles(vehicleType, branch.name(), startDate, endDate)) {
+                result.add(new NearbyVehicle(vehicle, branch.name(), branch.distanceKm()));
+                if (result.size() == limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Use Case: Fahrzeuge im Umkreis einer Filiale suchen
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyVehicle> searchAvailableVehiclesNearBranch(VehicleType vehicleType, String location,
+                                                                 double radiusKm, LocalDate startDate,
+                                                                 LocalDate endDate, int limit) {
+        Branch branch = branchDirectory.findBranch(location)
+                .orElseThrow(() -> new IllegalArgumentException("Unbekannter Standort: " + location));
+        if (!branch.hasPosition()) {
+            throw new IllegalArgumentException("Keine Koordinaten für Standort: " + location);
+        }
+        return searchAvailableVehiclesNearby(vehicleType, branch.getLatitude(), branch.getLongitude(),
+                radiusKm, startDate, endDate, limit);
+    }
+
     /**
      * Use Case: Buchung erstellen mit Verfügbarkeitsprüfung
      */
@@ -61,31 +127,132 @@ public class BookingService {
             throw new IllegalStateException("Fahrzeug ist im angegebenen Zeitraum nicht verfügbar");
         }
 
-        // Preis berechnen
-        BigDecimal totalPrice = priceCalculationService.calculateTotalPrice(
-                vehicle.getType(), pickupDate, returnDate);
+        return placeBooking(customerId, vehicle, pickupDate, returnDate, pickupLocation, returnLocation,
+                username, ipAddress);
+    }
 
-        // Buchung erstellen
-        Booking booking = Booking.builder()
-                .customerId(customerId)
-                .vehicle(vehicle)
-                .pickupDate(pickupDate)
-                .returnDate(returnDate)
-                .pickupLocation(pickupLocation)
-                .returnLocation(returnLocation)
-                .totalPrice(totalPrice)
-                .status(BookingStatus.ANFRAGE)
-                .build();
+    /**
+     * Use Case: Buchung auf Typ-Ebene ("ein SUV in Berlin")
+     * Das konkrete Fahrzeug wählt der VehicleAssignmentIndex per Best-Fit; die
+     * Verfügbarkeit wird anschließend wie bei der Einzelbuchung verbindlich geprüft.
+     */
+    @Transactional
+    public Booking createBookingForType(Long customerId, VehicleType vehicleType, String location,
+                                        LocalDate pickupDate, LocalDate returnDate, String returnLocation,
+                                        String username, String ipAddress) {
+        validateDateRange(pickupDate, returnDate);
+        customerRepository.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("Kunde nicht gefunden"));
 
-        Booking savedBooking = bookingRepository.save(booking);
+        for (int attempt = 0; attempt < MAX_ASSIGNMENT_ATTEMPTS; attempt++) {
+            Assignment assignment = assignmentIndex.assign(vehicleType, location, pickupDate, returnDate)
+                    .orElseThrow(() -> new IllegalStateException(
+                            String.format("Kein Fahrzeug vom Typ %s in %s im angegebenen Zeitraum verfügbar",
+                                    vehicleType, location)));
+            try {
+                Vehicle vehicle = vehicleRepository.findById(assignment.vehicleId()).orElse(null);
+                if (vehicle == null || vehicle.getType() != vehicleType || !location.equals(vehicle.getLocation())
+                        || vehicle.getStatus() == VehicleStatus.WARTUNG
+                        || vehicle.getStatus() == VehicleStatus.AUSSER_BETRIEB) {
+                    // Veralteter Fahrzeugbestand im Index
+                    assignmentIndex.release(assignment);
+                    assignmentIndex.removeVehicle(assignment.vehicleId());
+                    continue;
+                }
+                if (!availabilityService.isVehicleAvailable(vehicle.getId(), pickupDate, returnDate)) {
+                    // Index kennt die Buchung noch nicht: Reservierung bleibt bis zum Timeout bestehen
+                    continue;
+                }
+                Booking booking = placeBooking(customerId, vehicle, pickupDate, returnDate, location, returnLocation,
+                        username, ipAddress);
+                assignmentIndex.bind(assignment, booking.getId());
+                return booking;
+            } catch (RuntimeException e) {
+                assignmentIndex.release(assignment);
+                throw e;
+            }
+        }
+        throw new IllegalStateException(
+                String.format("Kein Fahrzeug vom Typ %s in %s im angegebenen Zeitraum verfügbar", vehicleType, location));
+    }
 
-        // Audit-Log
-        auditService.logAction(username, "BOOKING_CREATED", "Booking", 
-                savedBooking.getId() != null ? savedBooking.getId().toString() : "NEW", 
-                String.format("Buchung erstellt für Fahrzeug %s", vehicle.getLicensePlate()),
-                ipAddress);
+    /**
+     * Use Case: Sammelbuchung mehrerer Fahrzeuge für denselben Zeitraum (Firmen-/Flottenkunden)
+     * Kunde, Fahrzeuge und Verfügbarkeit werden jeweils mit einer Abfrage geprüft,
+     * die Buchungen per JDBC-Batch geschrieben. Alles-oder-nichts: ist ein Fahrzeug
+     * nicht verfügbar, wird keine Buchung angelegt.
+     */
+    @Transactional
+    public List<Booking> createBatchBooking(Long customerId, List<Long> vehicleIds, LocalDate pickupDate,
+                                            LocalDate returnDate, String pickupLocation, String returnLocation,
+                                            String username, String ipAddress) {
+        validateDateRange(pickupDate, returnDate);
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            throw new IllegalArgumentException("Mindestens ein Fahrzeug erforderlich");
+        }
+        if (vehicleIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Maximal " + MAX_BATCH_SIZE + " Fahrzeuge pro Sammelbuchung");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(vehicleIds);
+        if (distinctIds.size() != vehicleIds.size()) {
+            throw new IllegalArgumentException("Fahrzeug mehrfach in Sammelbuchung angegeben");
+        }
 
-        return savedBooking;
+        customerRepository.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("Kunde nicht gefunden"));
+
+        Map<Long, Vehicle> vehicles = new HashMap<>();
+        for (Vehicle vehicle : vehicleRepository.findAllById(distinctIds)) {
+            vehicles.put(vehicle.getId(), vehicle);
+        }
+        List<Long> missing = distinctIds.stream().filter(id -> !vehicles.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Fahrzeug nicht gefunden: " + missing);
+        }
+
+        Set<Long> unavailable = availabilityService.findUnavailableVehicleIds(distinctIds, pickupDate, returnDate);
+        if (!unavailable.isEmpty()) {
+            throw new IllegalStateException("Fahrzeuge im angegebenen Zeitraum nicht verfügbar: "
+                    + distinctIds.stream().filter(unavailable::contains).toList());
+        }
+
+        Map<VehicleType, BigDecimal> prices = priceCalculationService.calculateTotalPrices(
+                vehicles.values().stream().map(Vehicle::getType).toList(), pickupDate, returnDate);
+
+        List<Booking> bookings = new ArrayList<>(distinctIds.size());
+        for (Long vehicleId : distinctIds) {
+            Vehicle vehicle = vehicles.get(vehicleId);
+            bookings.add(Booking.builder()
+                    .customerId(customerId)
+                    .vehicle(vehicle)
+                    .pickupDate(pickupDate)
+                    .returnDate(returnDate)
+                    .pickupLocation(pickupLocation)
+                    .returnLocation(returnLocation)
+                    .totalPrice(prices.get(vehicle.getType()))
+                    .status(BookingStatus.ANFRAGE)
+                    .build());
+        }
+
+        List<Booking> savedBookings = bookingRepository.insertAll(bookings);
+        bookingEventRepository.appendAll(savedBookings.stream()
+                .map(booking -> BookingEvent.of(booking, BookingEventType.BOOKING_REQUESTED, username))
+                .toList());
+        for (Booking booking : savedBookings) {
+            outboxService.record("Booking", booking.getId(), "BOOKING_CREATED", bookingPayload(booking));
+        }
+
+        // Ein Audit-Eintrag pro Block, damit die Liste der IDs in das Detailfeld passt
+        for (int from = 0; from < savedBookings.size(); from += AUDIT_CHUNK_SIZE) {
+            List<Booking> chunk = savedBookings.subList(from, Math.min(from + AUDIT_CHUNK_SIZE, savedBookings.size()));
+            BigDecimal total = chunk.stream().map(Booking::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+            auditService.logAction(username, "BOOKING_BATCH_CREATED", "Booking", null,
+                    String.format("Sammelbuchung für Kunde %d: %d Fahrzeuge, Gesamtpreis %s, Buchungen %s",
+                            customerId, chunk.size(), total, chunk.stream().map(Booking::getId).toList()),
+                    ipAddress);
+        }
+
+        return savedBookings;
     }
 
     /**
@@ -107,6 +274,8 @@ public class BookingService {
         
         bookingRepository.save(booking);
         vehicleRepository.save(booking.getVehicle());
+        bookingEventRepository.append(BookingEvent.of(booking, BookingEventType.BOOKING_CONFIRMED, username));
+        outboxService.record("Booking", bookingId, "BOOKING_CONFIRMED", bookingPayload(booking));
 
         auditService.logAction(username, "BOOKING_CONFIRMED", "Booking", 
                 bookingId.toString(), "Buchung bestätigt", ipAddress);
@@ -119,6 +288,7 @@ public class BookingService {
     public void cancelBooking(Long bookingId, String username, String ipAddress) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Buchung nicht gefunden"));
+        BookingStatus previousStatus = booking.getStatus();
 
         booking.cancel();
         
@@ -129,6 +299,10 @@ public class BookingService {
         }
         
         bookingRepository.save(booking);
+        bookingEventRepository.append(BookingEvent.of(booking, BookingEventType.BOOKING_CANCELLED, username));
+        Map<String, Object> payload = bookingPayload(booking);
+        payload.put("previousStatus", previousStatus);
+        outboxService.record("Booking", bookingId, "BOOKING_CANCELLED", payload);
 
         auditService.logAction(username, "BOOKING_CANCELLED", "Booking", 
                 bookingId.toString(), "Buchung storniert", ipAddress);
@@ -142,6 +316,66 @@ public class BookingService {
         return bookingRepository.findByCustomerId(customerId);
     }
 
+    /**
+     * Use Case: Ereignis-Historie einer Buchung
+     */
+    @Transactional(readOnly = true)
+    public List<BookingEvent> getBookingEvents(Long bookingId) {
+        return bookingEventRepository.findByBookingId(bookingId);
+    }
+
+    private Booking placeBooking(Long customerId, Vehicle vehicle, LocalDate pickupDate, LocalDate returnDate,
+                                 String pickupLocation, String returnLocation, String username, String ipAddress) {
+        // Preis berechnen
+        BigDecimal totalPrice = priceCalculationService.calculateTotalPrice(
+                vehicle.getType(), pickupDate, returnDate);
+
+        // Buchung erstellen
+        Booking booking = Booking.builder()
+                .customerId(customerId)
+                .vehicle(vehicle)
+                .pickupDate(pickupDate)
+                .returnDate(returnDate)
+                .pickupLocation(pickupLocation)
+                .returnLocation(returnLocation)
+                .totalPrice(totalPrice)
+                .status(BookingStatus.ANFRAGE)
+                .build();
+
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingEventRepository.append(BookingEvent.of(savedBooking, BookingEventType.BOOKING_REQUESTED, username));
+        outboxService.record("Booking", savedBooking.getId(), "BOOKING_CREATED", bookingPayload(savedBooking));
+
+        // Audit-Log
+        auditService.logAction(username, "BOOKING_CREATED", "Booking", 
+                savedBooking.getId() != null ? savedBooking.getId().toString() : "NEW", 
+                String.format("Buchung erstellt für Fahrzeug %s", vehicle.getLicensePlate()),
+                ipAddress);
+
+        return savedBooking;
+    }
+
+    /**
+     * Treffer der Umkreissuche: Fahrzeug, Filiale und Entfernung der Filiale
+     */
+    public record NearbyVehicle(Vehicle vehicle, String location, double distanceKm) {
+    }
+
+    static Map<String, Object> bookingPayload(Booking booking) {
+        return OutboxService.payload(
+                "bookingId", booking.getId(),
+                "customerId", booking.getCustomerId(),
+                "vehicleId", booking.getVehicle() != null ? booking.getVehicle().getId() : null,
+                "vehicleType", booking.getVehicle() != null ? booking.getVehicle().getType() : null,
+                "vehicleLocation", booking.getVehicle() != null ? booking.getVehicle().getLocation() : null,
+                "pickupDate", booking.getPickupDate(),
+                "returnDate", booking.getReturnDate(),
+                "pickupLocation", booking.getPickupLocation(),
+                "returnLocation", booking.getReturnLocation(),
+                "status", booking.getStatus(),
+                "totalPrice", booking.getTotalPrice());
+    }
+
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Datum darf nicht null sein");
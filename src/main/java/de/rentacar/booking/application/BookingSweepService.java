@@ -0,0 +1,188 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventRepository;
+import de.rentacar.booking.domain.BookingEventType;
+import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.shared.domain.SchedulerLock;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Application Service: räumt Buchungen zeitgesteuert auf, damit sie nicht dauerhaft
+ * in den aktiven Abfragen verbleiben.
+ * - Anfragen, deren Abholdatum verstrichen ist, verfallen (storniert)
+ * - bestätigte Buchungen ohne Übergabe nach der Kulanzfrist gelten als No-Show (storniert, Fahrzeug frei)
+ * - bestätigte Buchungen mit zurückgegebener Vermietung werden abgeschlossen
+ * Jeder Batch ist eine Transaktion: Zeilen sperren, ein Status-Update für den ganzen
+ * Batch, Events, Outbox und ein Audit-Eintrag gesammelt. Über eine Lease in der
+ * Datenbank läuft der Sweep auf höchstens einem Knoten gleichzeitig.
+ */
+@Service
+public class BookingSweepService {
+
+    static final String LEASE_NAME = "booking-sweeper";
+    private static final String SYSTEM_USER = "system";
+
+    private final BookingRepository bookingRepository;
+    private final VehicleRepository vehicleRepository;
+    private final BookingEventRepository bookingEventRepository;
+    private final OutboxService outboxService;
+    private final AuditService auditService;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int noShowGraceDays;
+    private final Duration leaseTime;
+
+    public BookingSweepService(BookingRepository bookingRepository,
+                               VehicleRepository vehicleRepository,
+                               BookingEventRepository bookingEventRepository,
+                               OutboxService outboxService,
+                               AuditService auditService,
+                               SchedulerLock schedulerLock,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${rentacar.booking.sweeper.batch-size:500}") int batchSize,
+                               @Value("${rentacar.booking.sweeper.no-show-grace-days:1}") int noShowGraceDays,
+                               @Value("${rentacar.booking.sweeper.lease-seconds:300}") long leaseSeconds) {
+        if (batchSize < 1 || noShowGraceDays < 0 || leaseSeconds < 1) {
+            throw new IllegalArgumentException("Ungültige Sweeper-Konfiguration");
+        }
+        this.bookingRepository = bookingRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.bookingEventRepository = bookingEventRepository;
+        this.outboxService = outboxService;
+        this.auditService = auditService;
+        this.schedulerLock = schedulerLock;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.noShowGraceDays = noShowGraceDays;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Führt einen Sweep aus; leer, wenn ein anderer Knoten die Lease hält
+     */
+    @Scheduled(fixedDelayString = "${rentacar.booking.sweeper.interval-ms:300000}",
+            initialDelayString = "${rentacar.booking.sweeper.interval-ms:300000}")
+    public Optional<SweepResult> sweep() {
+        if (!schedulerLock.tryAcquire(LEASE_NAME, leaseTime)) {
+            return Optional.empty();
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            return Optional.of(new SweepResult(
+                    drain(SweepKind.EXPIRED_REQUEST, today),
+                    drain(SweepKind.NO_SHOW, today.minusDays(noShowGraceDays)),
+                    drain(SweepKind.COMPLETION, today)));
+        } finally {
+            schedulerLock.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * Ergebnis eines Sweeps (Anzahl Buchungen je Kategorie)
+     */
+    public record SweepResult(int expiredRequests, int noShows, int completed) {
+    }
+
+    /**
+     * Verarbeitet Batches, bis keine Kandidaten mehr übrig sind; vor jedem weiteren
+     * Batch wird die Lease verlängert und bei Verlust abgebrochen
+     */
+    private int drain(SweepKind kind, LocalDate cutoff) {
+        int total = 0;
+        int swept;
+        do {
+            swept = Objects.requireNonNull(transactionTemplate.execute(status -> sweepBatch(kind, cutoff)));
+            total += swept;
+        } while (swept == batchSize && schedulerLock.tryAcquire(LEASE_NAME, leaseTime));
+        return total;
+    }
+
+    private int sweepBatch(SweepKind kind, LocalDate cutoff) {
+        List<Booking> bookings = switch (kind) {
+            case EXPIRED_REQUEST -> bookingRepository.findExpiredRequestsForUpdate(cutoff, batchSize);
+            case NO_SHOW -> bookingRepository.findNoShowsForUpdate(cutoff, batchSize);
+            case COMPLETION -> bookingRepository.findReturnedBookingsForUpdate(cutoff, batchSize);
+        };
+        if (bookings.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> bookingIds = bookings.stream().map(Booking::getId).toList();
+        List<Long> vehicleIds = bookings.stream().map(booking -> booking.getVehicle().getId()).distinct().toList();
+        // Fahrzeuge in einer Abfrage laden, bevor das Status-Update den Persistence Context leert
+        vehicleRepository.findAllById(vehicleIds);
+
+        List<BookingEvent> events = new ArrayList<>(bookings.size());
+        Map<Long, Map<String, Object>> payloads = new LinkedHashMap<>();
+        for (Booking booking : bookings) {
+            events.add(BookingEvent.of(booking, kind.eventType, SYSTEM_USER));
+            Map<String, Object> payload = BookingService.bookingPayload(booking);
+            payload.put("status", kind.targetStatus);
+            payload.put("previousStatus", kind.sourceStatus);
+            payload.put("reason", kind.name());
+            payloads.put(booking.getId(), payload);
+        }
+
+        LocalDateTime cancellationDate = kind.targetStatus == BookingStatus.STORNIERT ? LocalDateTime.now() : null;
+        int updated = bookingRepository.updateStatus(bookingIds, kind.sourceStatus, kind.targetStatus, cancellationDate);
+        if (updated != bookingIds.size()) {
+            // Zeilen sind gesperrt; eine Abweichung heißt, dass die Sperre nicht gegriffen hat
+            throw new IllegalStateException("Buchungsstatus wurde während des Sweeps geändert");
+        }
+        if (kind == SweepKind.NO_SHOW) {
+            vehicleRepository.releaseReservedVehicles(vehicleIds);
+        }
+        bookingEventRepository.appendAll(events);
+        outboxService.recordAll("Booking", kind.outboxEventType, payloads);
+        auditService.logAction(SYSTEM_USER, kind.auditAction, "Booking", null,
+                String.format("%s: %d Buchungen (IDs %d bis %d)", kind.description, bookingIds.size(),
+                        bookingIds.get(0), bookingIds.get(bookingIds.size() - 1)), null);
+        return bookings.size();
+    }
+
+    private enum SweepKind {
+        EXPIRED_REQUEST(BookingStatus.ANFRAGE, BookingStatus.STORNIERT, BookingEventType.BOOKING_CANCELLED,
+                "BOOKING_CANCELLED", "BOOKING_REQUESTS_EXPIRED", "Anfragen verfallen"),
+        NO_SHOW(BookingStatus.BESTÄTIGT, BookingStatus.STORNIERT, BookingEventType.BOOKING_CANCELLED,
+                "BOOKING_CANCELLED", "BOOKING_NO_SHOWS_CANCELLED", "Nicht abgeholte Buchungen storniert"),
+        COMPLETION(BookingStatus.BESTÄTIGT, BookingStatus.ABGESCHLOSSEN, BookingEventType.BOOKING_COMPLETED,
+                "BOOKING_COMPLETED", "BOOKINGS_COMPLETED", "Zurückgegebene Buchungen abgeschlossen");
+
+        private final BookingStatus sourceStatus;
+        private final BookingStatus targetStatus;
+        private final BookingEventType eventType;
+        private final String outboxEventType;
+        private final String auditAction;
+        private final String description;
+
+        SweepKind(BookingStatus sourceStatus, BookingStatus targetStatus, BookingEventType eventType,
+                  String outboxEventType, String auditAction, String description) {
+            this.sourceStatus = sourceStatus;
+            this.targetStatus = targetStatus;
+            this.eventType = eventType;
+            this.outboxEventType = outboxEventType;
+            this.auditAction = auditAction;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.BookingEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-Model: Buchungszähler pro Kunde (aus dem Event-Log projiziert)
+ */
+@Component
+public class CustomerBookingStatisticsProjection implements BookingEventProjector {
+
+    private final Map<Long, CustomerBookingStatistics> statisticsByCustomer = new ConcurrentHashMap<>();
+
+    @Override
+    public void project(BookingEvent event) {
+        statisticsByCustomer.merge(event.getCustomerId(),
+                CustomerBookingStatistics.EMPTY.apply(event),
+                (current, ignored) -> current.apply(event));
+    }
+
+    public CustomerBookingStatistics getStatistics(Long customerId) {
+        return statisticsByCustomer.getOrDefault(customerId, CustomerBookingStatistics.EMPTY);
+    }
+
+    /**
+     * Value Object für die Buchungszähler eines Kunden
+     */
+    public record CustomerBookingStatistics(long requested, long confirmed, long cancelled, long completed) {
+
+        static final CustomerBookingStatistics EMPTY = new CustomerBookingStatistics(0, 0, 0, 0);
+
+        CustomerBookingStatistics apply(BookingEvent event) {
+            return switch (event.getType()) {
+                case BOOKING_REQUESTED -> new CustomerBookingStatistics(requested + 1, confirmed, cancelled, completed);
+                case BOOKING_CONFIRMED -> new CustomerBookingStatistics(requested, confirmed + 1, cancelled, completed);
+                case BOOKING_CANCELLED -> new CustomerBookingStatistics(requested, confirmed, cancelled + 1, completed);
+                case BOOKING_COMPLETED -> new CustomerBookingStatistics(requested, confirmed, cancelled, completed + 1);
+            };
+        }
+    }
+}
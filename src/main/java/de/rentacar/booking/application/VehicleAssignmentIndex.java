@@ -0,0 +1,368 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-Model für die automatische Fahrzeugzuweisung bei Buchungen auf Typ-Ebene.
+ * Hält pro Standort und Fahrzeugtyp die Fahrzeuge und pro Fahrzeug die künftigen
+ * Belegungen (Anfragen und bestätigte Buchungen, aus dem Event-Log projiziert).
+ * Die Zuweisung wählt per Best-Fit das Fahrzeug, dessen freie Lücke den Zeitraum
+ * am knappsten umschließt, damit lange freie Zeiträume für lange Mieten erhalten
+ * bleiben. Auswahl und Reservierung erfolgen unter einer Sperre pro Standort/Typ;
+ * die verbindliche Überbuchungsprüfung bleibt im AvailabilityService.
+ * Geplante Wartungsfenster werden ebenfalls als Belegung geführt.
+ */
+@Component
+public class VehicleAssignmentIndex implements BookingEventProjector {
+
+    private final VehicleRepository vehicleRepository;
+    private final long horizonDays;
+    private final long holdTimeoutSeconds;
+    private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final AtomicLong holdSequence = new AtomicLong();
+
+    public VehicleAssignmentIndex(VehicleRepository vehicleRepository,
+                                  @Value("${rentacar.booking.assignment.horizon-days:365}") long horizonDays,
+                                  @Value("${rentacar.booking.assignment.hold-timeout-seconds:300}") long holdTimeoutSeconds) {
+        if (horizonDays < 1 || holdTimeoutSeconds < 1) {
+            throw new IllegalArgumentException("Horizont und Reservierungs-Timeout müssen positiv sein");
+        }
+        this.vehicleRepository = vehicleRepository;
+        this.horizonDays = horizonDays;
+        this.holdTimeoutSeconds = holdTimeoutSeconds;
+    }
+
+    @Override
+    public void project(BookingEvent event) {
+        if (event.getVehicleId() == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case BOOKING_REQUESTED, BOOKING_CONFIRMED -> timeline(event.getVehicleId())
+                    .put(event.getBookingId(), event.getPickupDate(), event.getReturnDate(), null);
+            case BOOKING_CANCELLED, BOOKING_COMPLETED -> {
+                Timeline timeline = timelines.get(event.getVehicleId());
+                if (timeline != null) {
+                    timeline.remove(event.getBookingId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Wählt ein Fahrzeug per Best-Fit und reserviert den Zeitraum vorläufig.
+     * Die Reservierung muss mit {@link #bind} an die Buchung gebunden oder mit
+     * {@link #release} freigegeben werden; sonst verfällt sie nach dem Timeout.
+     */
+    public Optional<Assignment> assign(VehicleType type, String location, LocalDate pickupDate, LocalDate returnDate) {
+        Bucket bucket = buckets.get(new BucketKey(location, type));
+        if (bucket == null) {
+            return Optional.empty();
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(horizonDays);
+        synchronized (bucket) {
+            Long bestVehicleId = null;
+            long bestWaste = Long.MAX_VALUE;
+            for (Long vehicleId : bucket.vehicleIds) {
+                Timeline timeline = timelines.get(vehicleId);
+                long waste = timeline == null
+                        ? Timeline.waste(null, null, pickupDate, returnDate, today, horizon)
+                        : timeline.fitWaste(pickupDate, returnDate, today, horizon);
+                if (waste >= 0 && waste < bestWaste) {
+                    bestWaste = waste;
+                    bestVehicleId = vehicleId;
+                }
+            }
+            if (bestVehicleId == null) {
+                return Optional.empty();
+            }
+            long holdId = -holdSequence.incrementAndGet();
+            timeline(bestVehicleId).put(holdId, pickupDate, returnDate, Instant.now());
+            return Optional.of(new Assignment(bestVehicleId, holdId));
+        }
+    }
+
+    /**
+     * Bindet eine vorläufige Reservierung an die gespeicherte Buchung
+     */
+    public void bind(Assignment assignment, Long bookingId) {
+        Timeline timeline = timelines.get(assignment.vehicleId());
+        if (timeline != null) {
+            timeline.rekey(assignment.holdId(), bookingId);
+        }
+    }
+
+    public void release(Assignment assignment) {
+        Timeline timeline = timelines.get(assignment.vehicleId());
+        if (timeline != null) {
+            timeline.remove(assignment.holdId());
+        }
+    }
+
+    /**
+     * Blockiert ein Wartungsfenster in der Belegung des Fahrzeugs
+     */
+    public void blockMaintenance(Long vehicleId, Long windowId, LocalDate startDate, LocalDate endDate) {
+        timeline(vehicleId).block(windowId, startDate, endDate);
+    }
+
+    public void unblockMaintenance(Long vehicleId, Long windowId) {
+        Timeline timeline = timelines.get(vehicleId);
+        if (timeline != null) {
+            timeline.unblock(windowId);
+        }
+    }
+
+    /**
+     * Wählt für eine Wartung von days Tagen mit Beginn in [earliest, latest] den Termin mit dem
+     * geringsten erwarteten Umsatzausfall. Ausfall pro Tag ist der Tagespreis mal dem Anteil der
+     * übrigen Fahrzeuge gleichen Typs am Standort, die an dem Tag belegt sind: bei hoher
+     * Auslastung wäre das Fahrzeug wahrscheinlich gebraucht worden. Bei gleichem Ausfall gewinnt
+     * der späteste Beginn, damit das Intervall ausgenutzt wird. Der Zeitraum muss für das
+     * Fahrzeug selbst frei sein.
+     */
+    public Optional<MaintenanceSlot> findMaintenanceSlot(Long vehicleId, VehicleType type, String location,
+                                                         double dailyPrice, LocalDate earliest, LocalDate latest,
+                                                         int days) {
+        if (latest.isBefore(earliest)) {
+            return Optional.empty();
+        }
+        Bucket bucket = buckets.get(new BucketKey(location, type));
+        List<Long> fleet = bucket != null ? bucket.vehicleIds : List.of();
+        int span = (int) ChronoUnit.DAYS.between(earliest, latest) + days;
+
+        // Belegte Fahrzeuge pro Tag über ein Differenzen-Array, dann Präfixsummen
+        int[] booked = new int[span + 1];
+        int others = 0;
+        for (Long otherId : fleet) {
+            if (otherId.equals(vehicleId)) {
+                continue;
+            }
+            others++;
+            Timeline timeline = timelines.get(otherId);
+            if (timeline != null) {
+                timeline.addBookedDays(booked, earliest, span);
+            }
+        }
+        for (int day = 1; day < span; day++) {
+            booked[day] += booked[day - 1];
+        }
+
+        Timeline own = timelines.get(vehicleId);
+        int windowSum = 0;
+        for (int day = 0; day < days; day++) {
+            windowSum += booked[day];
+        }
+        LocalDate bestStart = null;
+        int bestSum = Integer.MAX_VALUE;
+        for (int offset = 0; offset + days <= span; offset++) {
+            if (offset > 0) {
+                windowSum += booked[offset + days - 1] - booked[offset - 1];
+            }
+            LocalDate start = earliest.plusDays(offset);
+            if (windowSum <= bestSum && (own == null || own.isFree(start, start.plusDays(days - 1)))) {
+                bestSum = windowSum;
+                bestStart = start;
+            }
+        }
+        if (bestStart == null) {
+            return Optional.empty();
+        }
+        double impact = others == 0 ? 0.0 : dailyPrice * bestSum / others;
+        return Optional.of(new MaintenanceSlot(bestStart, bestStart.plusDays(days - 1), impact));
+    }
+
+    /**
+     * Nimmt ein Fahrzeug bis zur nächsten Aktualisierung aus der Zuweisung
+     */
+    public void removeVehicle(Long vehicleId) {
+        for (Bucket bucket : buckets.values()) {
+            synchronized (bucket) {
+                if (bucket.vehicleIds.contains(vehicleId)) {
+                    List<Long> remaining = new ArrayList<>(bucket.vehicleIds);
+                    remaining.remove(vehicleId);
+                    bucket.vehicleIds = List.copyOf(remaining);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lädt den Fahrzeugbestand neu, verwirft abgelaufene Reservierungen und vergangene Belegungen
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${rentacar.booking.assignment.refresh-interval-ms:60000}",
+            initialDelayString = "${rentacar.booking.assignment.refresh-interval-ms:60000}")
+    public void refresh() {
+        Map<BucketKey, List<Long>> roster = new HashMap<>();
+        for (Vehicle vehicle : vehicleRepository.findAll()) {
+            if (vehicle.getStatus() != VehicleStatus.WARTUNG && vehicle.getStatus() != VehicleStatus.AUSSER_BETRIEB) {
+                roster.computeIfAbsent(new BucketKey(vehicle.getLocation(), vehicle.getType()), key -> new ArrayList<>())
+                        .add(vehicle.getId());
+            }
+        }
+        roster.keySet().forEach(key -> buckets.computeIfAbsent(key, k -> new Bucket()));
+        buckets.forEach((key, bucket) -> {
+            List<Long> vehicleIds = roster.getOrDefault(key, List.of()).stream().sorted().toList();
+            synchronized (bucket) {
+                bucket.vehicleIds = vehicleIds;
+            }
+        });
+
+        LocalDate today = LocalDate.now();
+        Instant expiry = Instant.now().minusSeconds(holdTimeoutSeconds);
+        timelines.values().forEach(timeline -> timeline.prune(today, expiry));
+    }
+
+    private Timeline timeline(Long vehicleId) {
+        return timelines.computeIfAbsent(vehicleId, id -> new Timeline());
+    }
+
+    /**
+     * Ergebnis einer Zuweisung: gewähltes Fahrzeug und Kennung der vorläufigen Reservierung
+     */
+    public record Assignment(Long vehicleId, long holdId) {
+    }
+
+    /**
+     * Vorgeschlagenes Wartungsfenster mit erwartetem Umsatzausfall
+     */
+    public record MaintenanceSlot(LocalDate startDate, LocalDate endDate, double revenueImpact) {
+    }
+
+    private record BucketKey(String location, VehicleType type) {
+    }
+
+    private static final class Bucket {
+        private volatile List<Long> vehicleIds = List.of();
+    }
+
+    /**
+     * Künftige Belegungen eines Fahrzeugs; Schlüssel ist die Buchungs-ID bzw. eine negative Reservierungs-ID,
+     * Wartungsfenster werden getrennt nach ihrer ID geführt
+     */
+    private static final class Timeline {
+
+        private final Map<Long, Occupancy> occupancies = new HashMap<>();
+        private final Map<Long, Occupancy> maintenance = new HashMap<>();
+
+        synchronized void put(Long key, LocalDate pickupDate, LocalDate returnDate, Instant heldAt) {
+            occupancies.put(key, new Occupancy(pickupDate, returnDate, heldAt));
+        }
+
+        synchronized void remove(Long key) {
+            occupancies.remove(key);
+        }
+
+        synchronized void block(Long windowId, LocalDate startDate, LocalDate endDate) {
+            maintenance.put(windowId, new Occupancy(startDate, endDate, null));
+        }
+
+        synchronized void unblock(Long windowId) {
+            maintenance.remove(windowId);
+        }
+
+        synchronized void rekey(Long holdId, Long bookingId) {
+            Occupancy hold = occupancies.remove(holdId);
+            if (hold != null) {
+                occupancies.putIfAbsent(bookingId, hold);
+            }
+        }
+
+        synchronized void prune(LocalDate today, Instant expiry) {
+            Iterator<Occupancy> iterator = occupancies.values().iterator();
+            while (iterator.hasNext()) {
+                Occupancy occupancy = iterator.next();
+                if (occupancy.returnDate().isBefore(today)
+                        || (occupancy.heldAt() != null && occupancy.heldAt().isBefore(expiry))) {
+                    iterator.remove();
+                }
+            }
+            maintenance.values().removeIf(window -> window.returnDate().isBefore(today));
+        }
+
+        /**
+         * Trägt die gebuchten Tage ab from in das Differenzen-Array ein (Wartung zählt nicht als Nachfrage)
+         */
+        synchronized void addBookedDays(int[] booked, LocalDate from, int span) {
+            for (Occupancy occupancy : occupancies.values()) {
+                long first = Math.max(0, ChronoUnit.DAYS.between(from, occupancy.pickupDate()));
+                long last = Math.min(span - 1, ChronoUnit.DAYS.between(from, occupancy.returnDate()));
+                if (first <= last) {
+                    booked[(int) first]++;
+                    booked[(int) last + 1]--;
+                }
+            }
+        }
+
+        synchronized boolean isFree(LocalDate startDate, LocalDate endDate) {
+            for (Collection<Occupancy> group : List.of(occupancies.values(), maintenance.values())) {
+                for (Occupancy occupancy : group) {
+                    if (!occupancy.pickupDate().isAfter(endDate) && !occupancy.returnDate().isBefore(startDate)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Ungenutzte Tage der freien Lücke um den Zeitraum oder -1, wenn der Zeitraum belegt ist
+         */
+        synchronized long fitWaste(LocalDate pickupDate, LocalDate returnDate, LocalDate today, LocalDate horizon) {
+            LocalDate previousEnd = null;
+            LocalDate nextStart = null;
+            for (Collection<Occupancy> group : List.of(occupancies.values(), maintenance.values())) {
+                for (Occupancy occupancy : group) {
+                    if (!occupancy.pickupDate().isAfter(returnDate) && !occupancy.returnDate().isBefore(pickupDate)) {
+                        return -1;
+                    }
+                    if (occupancy.returnDate().isBefore(pickupDate)) {
+                        if (previousEnd == null || occupancy.returnDate().isAfter(previousEnd)) {
+                            previousEnd = occupancy.returnDate();
+                        }
+                    } else if (nextStart == null || occupancy.pickupDate().isBefore(nextStart)) {
+                        nextStart = occupancy.pickupDate();
+                    }
+                }
+            }
+            return waste(previousEnd, nextStart, pickupDate, returnDate, today, horizon);
+        }
+
+        static long waste(LocalDate previousEnd, LocalDate nextStart, LocalDate pickupDate, LocalDate returnDate,
+                          LocalDate today, LocalDate horizon) {
+            LocalDate gapStart = previousEnd == null || previousEnd.isBefore(today) ? today : previousEnd.plusDays(1);
+            LocalDate gapEnd = nextStart == null ? horizon : nextStart;
+            long before = Math.max(0, ChronoUnit.DAYS.between(gapStart, pickupDate));
+            long after = Math.max(0, ChronoUnit.DAYS.between(returnDate.plusDays(1), gapEnd));
+            return before + after;
+        }
+    }
+
+    private record Occupancy(LocalDate pickupDate, LocalDate returnDate, Instant heldAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.BookingEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-Model: bestätigte Belegungszeiträume pro Fahrzeug (aus dem Event-Log projiziert).
+ * Eventual consistent - die verbindliche Überbuchungsprüfung bleibt im AvailabilityService.
+ */
+@Component
+public class VehicleOccupancyProjection implements BookingEventProjector {
+
+    private final Map<Long, Map<Long, Occupancy>> occupanciesByVehicle = new ConcurrentHashMap<>();
+
+    @Override
+    public void project(BookingEvent event) {
+        if (event.getVehicleId() == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case BOOKING_CONFIRMED -> occupanciesByVehicle
+                    .computeIfAbsent(event.getVehicleId(), id -> new ConcurrentHashMap<>())
+                    .put(event.getBookingId(), new Occupancy(event.getPickupDate(), event.getReturnDate()));
+            case BOOKING_CANCELLED, BOOKING_COMPLETED -> {
+                Map<Long, Occupancy> occupancies = occupanciesByVehicle.get(event.getVehicleId());
+                if (occupancies != null) {
+                    occupancies.remove(event.getBookingId());
+                }
+            }
+            default -> {
+                // Anfragen belegen das Fahrzeug noch nicht
+            }
+        }
+    }
+
+    /**
+     * Prüft ob das Fahrzeug im Zeitraum laut Read-Model belegt ist
+     */
+    public boolean isOccupied(Long vehicleId, LocalDate startDate, LocalDate endDate) {
+        Map<Long, Occupancy> occupancies = occupanciesByVehicle.get(vehicleId);
+        return occupancies != null && occupancies.values().stream()
+                .anyMatch(occupancy -> occupancy.overlapsWith(startDate, endDate));
+    }
+
+    record Occupancy(LocalDate pickupDate, LocalDate returnDate) {
+        boolean overlapsWith(LocalDate startDate, LocalDate endDate) {
+            return !pickupDate.isAfter(endDate) && !returnDate.isBefore(startDate);
+        }
+    }
+}
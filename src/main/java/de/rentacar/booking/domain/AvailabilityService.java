@@ -1,19 +1,25 @@
 package de.rentacar.booking.domain;
 
+import de.rentacar.vehicle.domain.MaintenanceWindowRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Domain Service für Verfügbarkeitsprüfung (verhindert Überbuchung)
+ * Geplante und laufende Wartungsfenster blockieren das Fahrzeug wie eine Buchung.
  */
 @Service
 @RequiredArgsConstructor
 public class AvailabilityService {
 
     private final BookingRepository bookingRepository;
+    private final MaintenanceWindowRepository maintenanceWindowRepository;
 
     /**
      * Prüft ob ein Fahrzeug im angegebenen Zeitraum verfügbar ist
@@ -24,8 +30,21 @@ public class AvailabilityService {
         List<Booking> overlappingBookings = bookingRepository.findOverlappingBookings(
                 vehicleId, startDate, endDate);
         
-        // Wenn überlappende Buchungen existieren, ist das Fahrzeug nicht verfügbar
-        return overlappingBookings.isEmpty();
+        // Wenn überlappende Buchungen oder Wartungsfenster existieren, ist das Fahrzeug nicht verfügbar
+        return overlappingBookings.isEmpty()
+                && !maintenanceWindowRepository.existsBlocking(vehicleId, startDate, endDate);
     }
-}
 
+    /**
+     * Ermittelt in einer Abfrage, welche der Fahrzeuge im Zeitraum bereits belegt sind
+     */
+    public Set<Long> findUnavailableVehicleIds(Collection<Long> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        if (vehicleIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> unavailable = new HashSet<>(
+                bookingRepository.findVehicleIdsWithOverlappingBookings(vehicleIds, startDate, endDate));
+        unavailable.addAll(maintenanceWindowRepository.findBlockedVehicleIds(vehicleIds, startDate, endDate));
+        return unavailable;
+    }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * Aggregate Root für Buchungen (Booking Context)
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_status_pickup", columnList = "status, pickup_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,10 +35,12 @@ public class Booking extends BaseEntity {
     @Column(nullable = false)
     private LocalDate returnDate;
 
-    @Column(nullable = false, length = 100)
+    @Convert(converter = de.rentacar.vehicle.domain.LocationConverter.class)
+    @Column(name = "pickup_location_id", nullable = false)
     private String pickupLocation;
 
-    @Column(nullable = false, length = 100)
+    @Convert(converter = de.rentacar.vehicle.domain.LocationConverter.class)
+    @Column(name = "return_location_id", nullable = false)
     private String returnLocation;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,65 @@
+package de.rentacar.booking.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only Ereignis einer Buchungs-Zustandsänderung (Event-Log)
+ * Wird in derselben Transaktion wie die Zustandsänderung geschrieben.
+ */
+@Entity
+@Table(name = "booking_events", indexes = {
+        @Index(name = "idx_booking_events_booking", columnList = "booking_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingEvent extends BaseEntity {
+
+    @Column(nullable = false, updatable = false)
+    private Long bookingId;
+
+    @Column(updatable = false)
+    private Long vehicleId;
+
+    @Column(nullable = false, updatable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private BookingEventType type;
+
+    @Column(updatable = false)
+    private LocalDate pickupDate;
+
+    @Column(updatable = false)
+    private LocalDate returnDate;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(updatable = false)
+    private String username;
+
+    /**
+     * Erzeugt ein Ereignis aus dem aktuellen Zustand der Buchung
+     */
+    public static BookingEvent of(Booking booking, BookingEventType type, String username) {
+        return BookingEvent.builder()
+                .bookingId(booking.getId())
+                .vehicleId(booking.getVehicle() != null ? booking.getVehicle().getId() : null)
+                .customerId(booking.getCustomerId())
+                .type(type)
+                .pickupDate(booking.getPickupDate())
+                .returnDate(booking.getReturnDate())
+                .occurredAt(LocalDateTime.now())
+                .username(username)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package de.rentacar.booking.domain;
+
+import java.util.List;
+
+/**
+ * Repository Interface für das Buchungs-Event-Log (Domain Layer)
+ */
+public interface BookingEventRepository {
+    BookingEvent append(BookingEvent event);
+    List<BookingEvent> appendAll(List<BookingEvent> events);
+    List<BookingEvent> findByBookingId(Long bookingId);
+    List<BookingEvent> findEventsAfter(Long lastEventId, int limit);
+}
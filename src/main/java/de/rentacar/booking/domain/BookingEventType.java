@@ -0,0 +1,11 @@
+package de.rentacar.booking.domain;
+
+/**
+ * Value Object für Typen von Buchungsereignissen (Event-Log)
+ */
+public enum BookingEventType {
+    BOOKING_REQUESTED,
+    BOOKING_CONFIRMED,
+    BOOKING_CANCELLED,
+    BOOKING_COMPLETED
+}
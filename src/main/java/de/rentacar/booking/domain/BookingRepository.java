@@ -1,6 +1,10 @@
 package de.rentacar.booking.domain;
 
+import de.rentacar.vehicle.domain.VehicleType;
+
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,11 +13,21 @@ import java.util.Optional;
  */
 public interface BookingRepository {
     Booking save(Booking booking);
+    List<Booking> insertAll(List<Booking> bookings);
+    List<Booking> saveAll(Collection<Booking> bookings);
     Optional<Booking> findById(Long id);
+    List<Booking> findAllById(Collection<Long> ids);
     List<Booking> findAll();
     List<Booking> findByCustomerId(Long customerId);
     List<Booking> findByVehicleId(Long vehicleId);
     List<Booking> findOverlappingBookings(Long vehicleId, LocalDate startDate, LocalDate endDate);
+    List<Long> findVehicleIdsWithOverlappingBookings(Collection<Long> vehicleIds, LocalDate startDate, LocalDate endDate);
     List<Booking> findActiveBookingsByVehicle(Long vehicleId);
+    List<Booking> findActiveBookingsByVehicleType(VehicleType vehicleType, LocalDate startDate, LocalDate endDate);
+    List<Booking> findExpiredRequestsForUpdate(LocalDate pickupBefore, int limit);
+    List<Booking> findNoShowsForUpdate(LocalDate pickupBefore, int limit);
+    List<Booking> findReturnedBookingsForUpdate(LocalDate returnBefore, int limit);
+    int updateStatus(Collection<Long> bookingIds, BookingStatus expectedStatus, BookingStatus newStatus,
+                     LocalDateTime cancellationDate);
 }
 
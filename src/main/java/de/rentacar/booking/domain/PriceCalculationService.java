@@ -6,6 +6,9 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Domain Service für Preisberechnung
@@ -38,6 +41,19 @@ public class PriceCalculationService {
         return dailyPrice.multiply(BigDecimal.valueOf(days));
     }
 
+    /**
+     * Berechnet die Gesamtpreise für mehrere Fahrzeugtypen im selben Zeitraum
+     * (jeder Typ wird nur einmal berechnet)
+     */
+    public Map<VehicleType, BigDecimal> calculateTotalPrices(Collection<VehicleType> vehicleTypes,
+                                                             LocalDate pickupDate, LocalDate returnDate) {
+        Map<VehicleType, BigDecimal> prices = new EnumMap<>(VehicleType.class);
+        for (VehicleType type : vehicleTypes) {
+            prices.computeIfAbsent(type, key -> calculateTotalPrice(key, pickupDate, returnDate));
+        }
+        return prices;
+    }
+
     private BigDecimal getDailyPriceForType(VehicleType type) {
         return switch (type) {
             case KLEINWAGEN -> BASE_PRICE_KLEINWAGEN;
@@ -0,0 +1,21 @@
+package de.rentacar.booking.infrastructure;
+
+import de.rentacar.booking.domain.BookingEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface BookingEventJpaRepository extends JpaRepository<BookingEvent, Long> {
+    List<BookingEvent> findByBookingIdOrderByIdAsc(Long bookingId);
+
+    @Query("SELECT e FROM BookingEvent e WHERE e.id > :lastEventId ORDER BY e.id ASC")
+    List<BookingEvent> findEventsAfter(@Param("lastEventId") Long lastEventId, Pageable pageable);
+}
@@ -0,0 +1,39 @@
+package de.rentacar.booking.infrastructure;
+
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingEventRepositoryImpl implements BookingEventRepository {
+
+    private final BookingEventJpaRepository jpaRepository;
+
+    @Override
+    public BookingEvent append(BookingEvent event) {
+        return jpaRepository.save(event);
+    }
+
+    @Override
+    public List<BookingEvent> appendAll(List<BookingEvent> events) {
+        return jpaRepository.saveAll(events);
+    }
+
+    @Override
+    public List<BookingEvent> findByBookingId(Long bookingId) {
+        return jpaRepository.findByBookingIdOrderByIdAsc(bookingId);
+    }
+
+    @Override
+    public List<BookingEvent> findEventsAfter(Long lastEventId, int limit) {
+        return jpaRepository.findEventsAfter(lastEventId, PageRequest.of(0, limit));
+    }
+}
@@ -1,12 +1,20 @@
 package de.rentacar.booking.infrastructure;
 
 import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,9 +31,58 @@ public interface BookingJpaRepository extends JpaRepository<Booking, Long> {
     List<Booking> findOverlappingBookings(@Param("vehicleId") Long vehicleId,
                                           @Param("startDate") LocalDate startDate,
                                           @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT DISTINCT b.vehicle.id FROM Booking b WHERE b.vehicle.id IN :vehicleIds " +
+           "AND b.status = 'BESTÄTIGT' " +
+           "AND b.pickupDate <= :endDate AND b.returnDate >= :startDate")
+    List<Long> findVehicleIdsWithOverlappingBookings(@Param("vehicleIds") Collection<Long> vehicleIds,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
     
     @Query("SELECT b FROM Booking b WHERE b.vehicle.id = :vehicleId " +
            "AND (b.status = 'ANFRAGE' OR b.status = 'BESTÄTIGT')")
     List<Booking> findActiveBookingsByVehicle(@Param("vehicleId") Long vehicleId);
-}
 
+    @Query("SELECT b FROM Booking b WHERE b.vehicle.type = :vehicleType " +
+           "AND (b.status = 'ANFRAGE' OR b.status = 'BESTÄTIGT') " +
+           "AND b.pickupDate <= :endDate AND b.returnDate >= :startDate")
+    List<Booking> findActiveBookingsByVehicleType(@Param("vehicleType") VehicleType vehicleType,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    // Sweeper-Abfragen nutzen den Index (status, pickup_date) und sperren die Zeilen bis zum Batch-Update
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.status = :status AND b.pickupDate < :pickupBefore ORDER BY b.id")
+    List<Booking> findByStatusAndPickupDateBeforeForUpdate(@Param("status") BookingStatus status,
+                                                            @Param("pickupBefore") LocalDate pickupBefore,
+                                                            Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.status = :status AND b.pickupDate < :pickupBefore " +
+           "AND NOT EXISTS (SELECT r.id FROM de.rentacar.rental.domain.Rental r WHERE r.bookingId = b.id) " +
+           "ORDER BY b.id")
+    List<Booking> findWithoutRentalForUpdate(@Param("status") BookingStatus status,
+                                             @Param("pickupBefore") LocalDate pickupBefore,
+                                             Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.status = :status AND b.pickupDate < :returnBefore " +
+           "AND b.returnDate < :returnBefore " +
+           "AND EXISTS (SELECT r.id FROM de.rentacar.rental.domain.Rental r " +
+           "WHERE r.bookingId = b.id AND r.actualReturnTime IS NOT NULL) " +
+           "ORDER BY b.id")
+    List<Booking> findReturnedForUpdate(@Param("status") BookingStatus status,
+                                        @Param("returnBefore") LocalDate returnBefore,
+                                        Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :newStatus, b.cancellationDate = :cancellationDate, " +
+           "b.updatedAt = :updatedAt, b.version = b.version + 1 " +
+           "WHERE b.id IN :bookingIds AND b.status = :expectedStatus")
+    int updateStatus(@Param("bookingIds") Collection<Long> bookingIds,
+                     @Param("expectedStatus") BookingStatus expectedStatus,
+                     @Param("newStatus") BookingStatus newStatus,
+                     @Param("cancellationDate") LocalDateTime cancellationDate,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -2,10 +2,15 @@ package de.rentacar.booking.infrastructure;
 
 import de.rentacar.booking.domain.Booking;
 import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.vehicle.domain.VehicleType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +22,33 @@ import java.util.Optional;
 public class BookingRepositoryImpl implements BookingRepository {
 
     private final BookingJpaRepository jpaRepository;
+    private final JdbcBookingBatchWriter batchWriter;
 
     @Override
     public Booking save(Booking booking) {
         return jpaRepository.save(booking);
     }
 
+    @Override
+    public List<Booking> insertAll(List<Booking> bookings) {
+        return batchWriter.insertAll(bookings);
+    }
+
+    @Override
+    public List<Booking> saveAll(Collection<Booking> bookings) {
+        return jpaRepository.saveAll(bookings);
+    }
+
     @Override
     public Optional<Booking> findById(Long id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<Booking> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public List<Booking> findAll() {
         return jpaRepository.findAll();
@@ -48,9 +69,43 @@ public class BookingRepositoryImpl implements BookingRepository {
         return jpaRepository.findOverlappingBookings(vehicleId, startDate, endDate);
     }
 
+    @Override
+    public List<Long> findVehicleIdsWithOverlappingBookings(Collection<Long> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        return jpaRepository.findVehicleIdsWithOverlappingBookings(vehicleIds, startDate, endDate);
+    }
+
     @Override
     public List<Booking> findActiveBookingsByVehicle(Long vehicleId) {
         return jpaRepository.findActiveBookingsByVehicle(vehicleId);
     }
-}
 
+    @Override
+    public List<Booking> findActiveBookingsByVehicleType(VehicleType vehicleType, LocalDate startDate, LocalDate endDate) {
+        return jpaRepository.findActiveBookingsByVehicleType(vehicleType, startDate, endDate);
+    }
+
+    @Override
+    public List<Booking> findExpiredRequestsForUpdate(LocalDate pickupBefore, int limit) {
+        return jpaRepository.findByStatusAndPickupDateBeforeForUpdate(BookingStatus.ANFRAGE, pickupBefore,
+                PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Booking> findNoShowsForUpdate(LocalDate pickupBefore, int limit) {
+        return jpaRepository.findWithoutRentalForUpdate(BookingStatus.BESTÄTIGT, pickupBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Booking> findReturnedBookingsForUpdate(LocalDate returnBefore, int limit) {
+        return jpaRepository.findReturnedForUpdate(BookingStatus.BESTÄTIGT, returnBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> bookingIds, BookingStatus expectedStatus, BookingStatus newStatus,
+                            LocalDateTime cancellationDate) {
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.updateStatus(bookingIds, expectedStatus, newStatus, cancellationDate, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,93 @@
+package de.rentacar.booking.infrastructure;
+
+import de.rentacar.booking.domain.Booking;
+import de.rentacar.vehicle.domain.LocationDictionary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC-Batch-Insert für Sammelbuchungen.
+ * Hibernate deaktiviert Insert-Batching bei IDENTITY-Schlüsseln, daher werden
+ * neue Buchungen hier in einem einzigen Batch geschrieben und die erzeugten IDs
+ * zurück in die Objekte übernommen. Die Objekte sind danach nicht im Persistence
+ * Context verwaltet.
+ */
+@Component
+public class JdbcBookingBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bookings (customer_id, vehicle_id, pickup_date, return_date, pickup_location_id, " +
+            "return_location_id, status, total_price, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocationDictionary locationDictionary;
+
+    public JdbcBookingBatchWriter(JdbcTemplate jdbcTemplate, LocationDictionary locationDictionary) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.locationDictionary = locationDictionary;
+    }
+
+    public List<Booking> insertAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return bookings;
+        }
+        // Standortschlüssel vor dem Batch auflösen, unbekannte Standorte legt das Wörterbuch separat an
+        long[] pickupLocationIds = new long[bookings.size()];
+        long[] returnLocationIds = new long[bookings.size()];
+        for (int i = 0; i < bookings.size(); i++) {
+            pickupLocationIds[i] = locationDictionary.idOf(bookings.get(i).getPickupLocation());
+            returnLocationIds[i] = locationDictionary.idOf(bookings.get(i).getReturnLocation());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Booking booking = bookings.get(i);
+                        statement.setLong(1, booking.getCustomerId());
+                        statement.setLong(2, booking.getVehicle().getId());
+                        statement.setObject(3, booking.getPickupDate());
+                        statement.setObject(4, booking.getReturnDate());
+                        statement.setLong(5, pickupLocationIds[i]);
+                        statement.setLong(6, returnLocationIds[i]);
+                        statement.setString(7, booking.getStatus().name());
+                        statement.setBigDecimal(8, booking.getTotalPrice());
+                        statement.setTimestamp(9, Timestamp.valueOf(now));
+                        statement.setTimestamp(10, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return bookings.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != bookings.size()) {
+            throw new IllegalStateException("Erzeugte Buchungs-IDs unvollständig");
+        }
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            booking.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            booking.setCreatedAt(now);
+            booking.setUpdatedAt(now);
+            booking.setVersion(0L);
+        }
+        return bookings;
+    }
+}
@@ -1,7 +1,11 @@
 package de.rentacar.booking.web;
 
 import de.rentacar.booking.application.BookingService;
+import de.rentacar.booking.application.BookingService.NearbyVehicle;
+import de.rentacar.booking.application.CustomerBookingStatisticsProjection;
+import de.rentacar.booking.application.CustomerBookingStatisticsProjection.CustomerBookingStatistics;
 import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingEvent;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleType;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +28,7 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final CustomerBookingStatisticsProjection customerBookingStatisticsProjection;
 
     @GetMapping("/search")
     public ResponseEntity<List<Vehicle>> searchAvailableVehicles(
@@ -36,6 +41,27 @@ public class BookingController {
         return ResponseEntity.ok(vehicles);
     }
 
+    @GetMapping("/search/nearby")
+    public ResponseEntity<List<NearbyVehicle>> searchAvailableVehiclesNearby(
+            @RequestParam VehicleType vehicleType,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "30") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (latitude != null && longitude != null) {
+            return ResponseEntity.ok(bookingService.searchAvailableVehiclesNearby(
+                    vehicleType, latitude, longitude, radiusKm, startDate, endDate, limit));
+        }
+        if (location == null) {
+            throw new IllegalArgumentException("Koordinaten oder Standort müssen angegeben werden");
+        }
+        return ResponseEntity.ok(bookingService.searchAvailableVehiclesNearBranch(
+                vehicleType, location, radiusKm, startDate, endDate, limit));
+    }
+
     @PostMapping
     public ResponseEntity<Booking> createBooking(@RequestBody CreateBookingRequest request,
                                                 Authentication authentication,
@@ -53,6 +79,40 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(booking);
     }
 
+    @PostMapping("/by-type")
+    public ResponseEntity<Booking> createBookingForType(@RequestBody CreateTypeBookingRequest request,
+                                                        Authentication authentication,
+                                                        HttpServletRequest httpRequest) {
+        Booking booking = bookingService.createBookingForType(
+                request.customerId(),
+                request.vehicleType(),
+                request.location(),
+                request.pickupDate(),
+                request.returnDate(),
+                request.returnLocation() != null ? request.returnLocation() : request.location(),
+                authentication.getName(),
+                httpRequest.getRemoteAddr()
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<Booking>> createBatchBooking(@RequestBody CreateBatchBookingRequest request,
+                                                            Authentication authentication,
+                                                            HttpServletRequest httpRequest) {
+        List<Booking> bookings = bookingService.createBatchBooking(
+                request.customerId(),
+                request.vehicleIds(),
+                request.pickupDate(),
+                request.returnDate(),
+                request.pickupLocation(),
+                request.returnLocation(),
+                authentication.getName(),
+                httpRequest.getRemoteAddr()
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookings);
+    }
+
     @PutMapping("/{id}/confirm")
     public ResponseEntity<Void> confirmBooking(@PathVariable Long id,
                                               Authentication authentication,
@@ -74,6 +134,16 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookingHistory(customerId));
     }
 
+    @GetMapping("/customer/{customerId}/statistics")
+    public ResponseEntity<CustomerBookingStatistics> getCustomerStatistics(@PathVariable Long customerId) {
+        return ResponseEntity.ok(customerBookingStatisticsProjection.getStatistics(customerId));
+    }
+
+    @GetMapping("/{id}/events")
+    public ResponseEntity<List<BookingEvent>> getBookingEvents(@PathVariable Long id) {
+        return ResponseEntity.ok(bookingService.getBookingEvents(id));
+    }
+
     public record CreateBookingRequest(
             Long customerId,
             Long vehicleId,
@@ -82,5 +152,22 @@ public class BookingController {
             String pickupLocation,
             String returnLocation
     ) {}
-}
 
+    public record CreateTypeBookingRequest(
+            Long customerId,
+            VehicleType vehicleType,
+            String location,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate pickupDate,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate returnDate,
+            String returnLocation
+    ) {}
+
+    public record CreateBatchBookingRequest(
+            Long customerId,
+            List<Long> vehicleIds,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate pickupDate,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate returnDate,
+            String pickupLocation,
+            String returnLocation
+    ) {}
+}
@@ -0,0 +1,213 @@
+package de.rentacar.customer.application;
+
+import de.rentacar.customer.domain.KeyRotationCheckpoint;
+import de.rentacar.customer.domain.KeyRotationCheckpointRepository;
+import de.rentacar.customer.infrastructure.BlindIndexService;
+import de.rentacar.customer.infrastructure.EncryptionService;
+import de.rentacar.customer.infrastructure.JdbcCustomerCipherStore;
+import de.rentacar.customer.infrastructure.JdbcCustomerCipherStore.CipherRow;
+import de.rentacar.shared.domain.AuditService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application Service für die Schlüsselrotation der Kundendaten
+ * Kunden werden in ID-Chunks gelesen, von Worker-Threads mit dem alten Schlüssel
+ * entschlüsselt und mit dem neuen verschlüsselt, dann per JDBC-Batch zurückgeschrieben.
+ * Nach jedem Chunk wird ein Checkpoint in derselben Transaktion gespeichert, sodass
+ * ein abgebrochener Lauf fortgesetzt werden kann. Der Dienst bleibt währenddessen
+ * online, da EncryptionService beide Schlüssel entschlüsseln kann. Die Blind-Indizes
+ * werden dabei mit aufgebaut bzw. nachgezogen.
+ */
+@Service
+public class CustomerKeyRotationService {
+
+    private final JdbcCustomerCipherStore cipherStore;
+    private final KeyRotationCheckpointRepository checkpointRepository;
+    private final EncryptionService encryptionService;
+    private final BlindIndexService blindIndexService;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditService auditService;
+    private final int chunkSize;
+    private final int workers;
+    private final boolean autoStart;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "customer-key-rotation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CustomerKeyRotationService(JdbcCustomerCipherStore cipherStore,
+                                      KeyRotationCheckpointRepository checkpointRepository,
+                                      EncryptionService encryptionService,
+                                      BlindIndexService blindIndexService,
+                                      TransactionTemplate transactionTemplate,
+                                      AuditService auditService,
+                                      @Value("${rentacar.customer.key-rotation.chunk-size:500}") int chunkSize,
+                                      @Value("${rentacar.customer.key-rotation.workers:4}") int workers,
+                                      @Value("${rentacar.customer.key-rotation.auto-start:true}") boolean autoStart) {
+        if (chunkSize < 1 || workers < 1) {
+            throw new IllegalArgumentException("Chunk-Größe und Worker-Anzahl müssen positiv sein");
+        }
+        this.cipherStore = cipherStore;
+        this.checkpointRepository = checkpointRepository;
+        this.encryptionService = encryptionService;
+        this.blindIndexService = blindIndexService;
+        this.transactionTemplate = transactionTemplate;
+        this.auditService = auditService;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        this.autoStart = autoStart;
+    }
+
+    /**
+     * Setzt eine laufende Rotation nach dem Start automatisch fort
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        if (autoStart && encryptionService.isRotationActive()) {
+            start("system");
+        }
+    }
+
+    /**
+     * Use Case: Rotation im Hintergrund starten
+     *
+     * @return false, wenn bereits eine Rotation läuft
+     */
+    public boolean start(String username) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        runner.submit(() -> {
+            try {
+                rotate(username);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Führt die Rotation synchron bis zum Ende (oder ab dem letzten Checkpoint) aus
+     */
+    public KeyRotationStatus rotate(String username) {
+        String keyId = encryptionService.getKeyId();
+        KeyRotationCheckpoint checkpoint = checkpointRepository.findByKeyId(keyId)
+                .orElseGet(() -> KeyRotationCheckpoint.start(keyId));
+        if (checkpoint.isCompleted()) {
+            return toStatus(checkpoint);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            while (true) {
+                List<CipherRow> chunk = cipherStore.readChunk(checkpoint.getLastCustomerId(), chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<CipherRow> rewritten = pool.submit(() -> chunk.parallelStream()
+                        .map(this::reEncrypt)
+                        .filter(Objects::nonNull)
+                        .toList()).join();
+
+                KeyRotationCheckpoint current = checkpoint;
+                long lastId = chunk.get(chunk.size() - 1).id();
+                KeyRotationCheckpoint saved = transactionTemplate.execute(status -> {
+                    int updated = cipherStore.writeBatch(rewritten);
+                    if (updated < rewritten.size()) {
+                        // Parallel geänderte Kunden: Chunk erneut lesen, bereits rotierte Zeilen entfallen dann
+                        return null;
+                    }
+                    current.advance(lastId, chunk.size(), updated);
+                    return checkpointRepository.save(current);
+                });
+                if (saved == null) {
+                    continue;
+                }
+                checkpoint = saved;
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        KeyRotationCheckpoint finished = checkpoint;
+        checkpoint = transactionTemplate.execute(status -> {
+            finished.complete();
+            return checkpointRepository.save(finished);
+        });
+        auditService.logAction(username, "CUSTOMER_KEY_ROTATED", "Customer", null,
+                String.format("Schlüsselrotation auf %s abgeschlossen: %d Kunden geprüft, %d neu verschlüsselt",
+                        keyId, checkpoint.getProcessedCount(), checkpoint.getRewrittenCount()),
+                null);
+        return toStatus(checkpoint);
+    }
+
+    /**
+     * Use Case: Fortschritt der Rotation auf den aktuellen Schlüssel abfragen
+     */
+    public KeyRotationStatus getStatus() {
+        String keyId = encryptionService.getKeyId();
+        return checkpointRepository.findByKeyId(keyId)
+                .map(this::toStatus)
+                .orElseGet(() -> new KeyRotationStatus(keyId, running.get(), 0L, 0L, 0L, null));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    /**
+     * Neu verschlüsselte Zeile oder null, wenn die Zeile bereits aktuell ist
+     */
+    private CipherRow reEncrypt(CipherRow row) {
+        boolean stale = encryptionService.needsReEncryption(row.email())
+                || encryptionService.needsReEncryption(row.phone())
+                || encryptionService.needsReEncryption(row.address())
+                || encryptionService.needsReEncryption(row.driverLicenseNumber())
+                || row.emailBlindIndex() == null
+                || row.licenseBlindIndex() == null;
+        if (!stale) {
+            return null;
+        }
+        String email = encryptionService.decrypt(row.email());
+        String driverLicenseNumber = encryptionService.decrypt(row.driverLicenseNumber());
+        return new CipherRow(row.id(), row.version(),
+                encryptionService.encrypt(email),
+                encryptionService.encrypt(encryptionService.decrypt(row.phone())),
+                encryptionService.encrypt(encryptionService.decrypt(row.address())),
+                encryptionService.encrypt(driverLicenseNumber),
+                blindIndexService.emailIndex(email),
+                blindIndexService.licenseIndex(driverLicenseNumber));
+    }
+
+    private KeyRotationStatus toStatus(KeyRotationCheckpoint checkpoint) {
+        return new KeyRotationStatus(checkpoint.getKeyId(), running.get(), checkpoint.getLastCustomerId(),
+                checkpoint.getProcessedCount(), checkpoint.getRewrittenCount(), checkpoint.getCompletedAt());
+    }
+
+    /**
+     * Value Object: Fortschritt einer Schlüsselrotation
+     */
+    public record KeyRotationStatus(String keyId, boolean running, Long lastCustomerId,
+                                    Long processedCount, Long rewrittenCount, LocalDateTime completedAt) {
+    }
+}
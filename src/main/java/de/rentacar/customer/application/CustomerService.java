@@ -1,8 +1,11 @@
 package de.rentacar.customer.application;
 
 import de.rentacar.customer.domain.Customer;
+import de.rentacar.customer.domain.CustomerContactData;
 import de.rentacar.customer.domain.CustomerRepository;
 import de.rentacar.customer.domain.EncryptedString;
+import de.rentacar.customer.infrastructure.BlindIndexService;
+import de.rentacar.customer.infrastructure.DecryptedContactCache;
 import de.rentacar.customer.infrastructure.EncryptionService;
 import de.rentacar.shared.domain.AuditService;
 import de.rentacar.shared.security.Role;
@@ -13,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -25,6 +29,8 @@ public class CustomerService {
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
     private final EncryptionService encryptionService;
+    private final BlindIndexService blindIndexService;
+    private final DecryptedContactCache contactCache;
     private final PasswordEncoder passwordEncoder;
     private final AuditService auditService;
 
@@ -41,10 +47,19 @@ public class CustomerService {
             throw new IllegalArgumentException("Benutzername bereits vergeben");
         }
 
+        // Prüfe Führerschein-Duplikat über Blind-Index (ohne Entschlüsselung)
+        String licenseBlindIndex = blindIndexService.licenseIndex(driverLicenseNumber);
+        if (customerRepository.findByLicenseBlindIndex(licenseBlindIndex).isPresent()) {
+            throw new IllegalArgumentException("Führerscheinnummer bereits registriert");
+        }
+
+        // Passwort nur einmal hashen (BCrypt), für User und Customer verwenden
+        String passwordHash = passwordEncoder.encode(password);
+
         // Erstelle User für Spring Security
         User user = User.builder()
                 .username(username)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHash)
                 .roles(Set.of(Role.ROLE_CUSTOMER))
                 .enabled(true)
                 .build();
@@ -58,13 +73,15 @@ public class CustomerService {
 
         Customer customer = Customer.builder()
                 .username(username)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHash)
                 .firstName(firstName)
                 .lastName(lastName)
                 .email(encryptedEmail)
                 .phone(encryptedPhone)
                 .address(encryptedAddress)
                 .driverLicenseNumber(encryptedLicense)
+                .emailBlindIndex(blindIndexService.emailIndex(email))
+                .licenseBlindIndex(licenseBlindIndex)
                 .build();
 
         Customer savedCustomer = customerRepository.save(customer);
@@ -96,8 +113,10 @@ public class CustomerService {
                 EncryptedString.of(encryptionService.encrypt(address)) : null;
 
         customer.updatePersonalData(firstName, lastName, encryptedEmail, encryptedPhone, encryptedAddress);
+        customer.updateBlindIndexes(blindIndexService.emailIndex(email), null);
         
         Customer savedCustomer = customerRepository.save(customer);
+        contactCache.evict(customerId);
 
         auditService.logAction(username, "CUSTOMER_UPDATED", "Customer", 
                 customerId.toString(), 
@@ -107,6 +126,58 @@ public class CustomerService {
         return savedCustomer;
     }
 
+    /**
+     * Use Case: Führerscheinnummer aktualisieren
+     */
+    @Transactional
+    public Customer updateDriverLicense(Long customerId, String driverLicenseNumber,
+                                        String username, String ipAddress) {
+        if (driverLicenseNumber == null || driverLicenseNumber.isBlank()) {
+            throw new IllegalArgumentException("Führerscheinnummer darf nicht leer sein");
+        }
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("Kunde nicht gefunden"));
+
+        String licenseBlindIndex = blindIndexService.licenseIndex(driverLicenseNumber);
+        customerRepository.findByLicenseBlindIndex(licenseBlindIndex)
+                .filter(other -> !other.getId().equals(customerId))
+                .ifPresent(other -> {
+                    throw new IllegalArgumentException("Führerscheinnummer bereits registriert");
+                });
+
+        customer.updateDriverLicense(EncryptedString.of(encryptionService.encrypt(driverLicenseNumber)));
+        customer.updateBlindIndexes(null, licenseBlindIndex);
+
+        Customer savedCustomer = customerRepository.save(customer);
+        contactCache.evict(customerId);
+
+        auditService.logAction(username, "CUSTOMER_LICENSE_UPDATED", "Customer",
+                customerId.toString(),
+                "Führerscheinnummer aktualisiert",
+                ipAddress);
+
+        return savedCustomer;
+    }
+
+    /**
+     * Use Case: Entschlüsselte Kontaktdaten abrufen (Service-Desk)
+     */
+    @Transactional(readOnly = true)
+    public CustomerContactData getCustomerContactData(Long customerId) {
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("Kunde nicht gefunden"));
+        return contactCache.get(customerId, customer.getVersion(), () -> new CustomerContactData(
+                customerId,
+                decrypt(customer.getEmail()),
+                decrypt(customer.getPhone()),
+                decrypt(customer.getAddress()),
+                decrypt(customer.getDriverLicenseNumber())));
+    }
+
+    public DecryptedContactCache.CacheStatistics getContactCacheStatistics() {
+        return contactCache.getStatistics();
+    }
+
     /**
      * Use Case: Kunde nach ID abrufen
      */
@@ -124,5 +195,31 @@ public class CustomerService {
         return customerRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("Kunde nicht gefunden"));
     }
-}
 
+    /**
+     * Use Case: Kunden nach E-Mail suchen (Blind-Index, keine Entschlüsselung)
+     */
+    @Transactional(readOnly = true)
+    public List<Customer> findCustomersByEmail(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("E-Mail darf nicht leer sein");
+        }
+        return customerRepository.findByEmailBlindIndex(blindIndexService.emailIndex(email));
+    }
+
+    /**
+     * Use Case: Kunde nach Führerscheinnummer suchen (Blind-Index, keine Entschlüsselung)
+     */
+    @Transactional(readOnly = true)
+    public Customer getCustomerByDriverLicense(String driverLicenseNumber) {
+        if (driverLicenseNumber == null || driverLicenseNumber.isBlank()) {
+            throw new IllegalArgumentException("Führerscheinnummer darf nicht leer sein");
+        }
+        return customerRepository.findByLicenseBlindIndex(blindIndexService.licenseIndex(driverLicenseNumber))
+                .orElseThrow(() -> new IllegalArgumentException("Kunde nicht gefunden"));
+    }
+
+    private String decrypt(EncryptedString value) {
+        return value != null ? encryptionService.decrypt(value.getEncryptedValue()) : null;
+    }
+}
@@ -1,5 +1,6 @@
 package de.rentacar.customer.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import de.rentacar.shared.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,7 +9,10 @@ import lombok.*;
  * Aggregate Root für Kunden (Customer Context)
  */
 @Entity
-@Table(name = "customers")
+@Table(name = "customers", indexes = {
+        @Index(name = "idx_customers_email_blind_index", columnList = "email_blind_index"),
+        @Index(name = "idx_customers_license_blind_index", columnList = "license_blind_index", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,6 +42,14 @@ public class Customer extends BaseEntity {
     @AttributeOverride(name = "encryptedValue", column = @Column(name = "encrypted_license_number"))
     private EncryptedString driverLicenseNumber;
 
+    @JsonIgnore
+    @Column(name = "email_blind_index", length = 64)
+    private String emailBlindIndex; // HMAC für Gleichheitssuche
+
+    @JsonIgnore
+    @Column(name = "license_blind_index", length = 64)
+    private String licenseBlindIndex; // HMAC für Gleichheitssuche
+
     @Column(nullable = false, unique = true)
     private String username; // Für Login
 
@@ -75,5 +87,16 @@ public class Customer extends BaseEntity {
         }
         this.driverLicenseNumber = driverLicenseNumber;
     }
-}
 
+    /**
+     * Domain-Methode: Aktualisiert Blind-Indizes zu geänderten verschlüsselten Feldern
+     */
+    public void updateBlindIndexes(String emailBlindIndex, String licenseBlindIndex) {
+        if (emailBlindIndex != null) {
+            this.emailBlindIndex = emailBlindIndex;
+        }
+        if (licenseBlindIndex != null) {
+            this.licenseBlindIndex = licenseBlindIndex;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package de.rentacar.customer.domain;
+
+/**
+ * Value Object: entschlüsselte Kontaktdaten eines Kunden (nur für die Anzeige)
+ */
+public record CustomerContactData(Long customerId, String email, String phone,
+                                  String address, String driverLicenseNumber) {
+
+    @Override
+    public String toString() {
+        return "CustomerContactData[customerId=" + customerId + ", [DECRYPTED]]";
+    }
+}
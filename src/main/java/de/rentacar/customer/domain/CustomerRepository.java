@@ -10,6 +10,8 @@ public interface CustomerRepository {
     Customer save(Customer customer);
     Optional<Customer> findById(Long id);
     Optional<Customer> findByUsername(String username);
+    List<Customer> findByEmailBlindIndex(String emailBlindIndex);
+    Optional<Customer> findByLicenseBlindIndex(String licenseBlindIndex);
     List<Customer> findAll();
     void deleteById(Long id);
 }
@@ -0,0 +1,66 @@
+package de.rentacar.customer.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fortschritt einer Schlüsselrotation (Wiederaufnahme nach Abbruch)
+ */
+@Entity
+@Table(name = "key_rotation_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeyRotationCheckpoint extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String keyId;
+
+    @Column(nullable = false)
+    private Long lastCustomerId;
+
+    @Column(nullable = false)
+    private Long processedCount;
+
+    @Column(nullable = false)
+    private Long rewrittenCount;
+
+    private LocalDateTime completedAt;
+
+    public static KeyRotationCheckpoint start(String keyId) {
+        return KeyRotationCheckpoint.builder()
+                .keyId(keyId)
+                .lastCustomerId(0L)
+                .processedCount(0L)
+                .rewrittenCount(0L)
+                .build();
+    }
+
+    /**
+     * Domain-Methode: Chunk abgeschlossen
+     */
+    public void advance(Long lastCustomerId, int processed, int rewritten) {
+        if (lastCustomerId < this.lastCustomerId) {
+            throw new IllegalStateException("Checkpoint darf nicht zurückgesetzt werden");
+        }
+        this.lastCustomerId = lastCustomerId;
+        this.processedCount += processed;
+        this.rewrittenCount += rewritten;
+    }
+
+    /**
+     * Domain-Methode: Rotation abgeschlossen
+     */
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
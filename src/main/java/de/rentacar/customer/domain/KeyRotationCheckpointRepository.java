@@ -0,0 +1,11 @@
+package de.rentacar.customer.domain;
+
+import java.util.Optional;
+
+/**
+ * Repository Interface für Checkpoints der Schlüsselrotation (Domain Layer)
+ */
+public interface KeyRotationCheckpointRepository {
+    KeyRotationCheckpoint save(KeyRotationCheckpoint checkpoint);
+    Optional<KeyRotationCheckpoint> findByKeyId(String keyId);
+}
@@ -0,0 +1,57 @@
+package de.rentacar.customer.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Service für Blind-Indizes verschlüsselter Kundendaten (DSGVO-konform)
+ * Ein Blind-Index ist ein HMAC-SHA256 über den normalisierten Klartext und erlaubt
+ * Gleichheitssuchen per Datenbankindex, ohne Daten zu entschlüsseln. Der Schlüssel
+ * ist bewusst vom Verschlüsselungspasswort getrennt.
+ */
+@Service
+public class BlindIndexService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public BlindIndexService(@Value("${rentacar.customer.blind-index-key}") String key) {
+        if (key == null || key.length() < 16) {
+            throw new IllegalArgumentException("Blind-Index-Schlüssel muss mindestens 16 Zeichen lang sein");
+        }
+        this.key = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String emailIndex(String email) {
+        if (email == null) {
+            return null;
+        }
+        return hmac("email:" + email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public String licenseIndex(String driverLicenseNumber) {
+        if (driverLicenseNumber == null) {
+            return null;
+        }
+        return hmac("license:" + driverLicenseNumber.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT));
+    }
+
+    private String hmac(String value) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Blind-Index konnte nicht berechnet werden", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import de.rentacar.customer.domain.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,5 +13,7 @@ import java.util.Optional;
 @Repository
 public interface CustomerJpaRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByUsername(String username);
+    List<Customer> findByEmailBlindIndex(String emailBlindIndex);
+    Optional<Customer> findByLicenseBlindIndex(String licenseBlindIndex);
 }
 
@@ -32,6 +32,16 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         return jpaRepository.findByUsername(username);
     }
 
+    @Override
+    public List<Customer> findByEmailBlindIndex(String emailBlindIndex) {
+        return jpaRepository.findByEmailBlindIndex(emailBlindIndex);
+    }
+
+    @Override
+    public Optional<Customer> findByLicenseBlindIndex(String licenseBlindIndex) {
+        return jpaRepository.findByLicenseBlindIndex(licenseBlindIndex);
+    }
+
     @Override
     public List<Customer> findAll() {
         return jpaRepository.findAll();
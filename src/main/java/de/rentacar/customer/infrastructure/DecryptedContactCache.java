@@ -0,0 +1,128 @@
+package de.rentacar.customer.infrastructure;
+
+import de.rentacar.customer.domain.CustomerContactData;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Optionaler, größenbeschränkter Cache für entschlüsselte Kontaktdaten.
+ * Garantiert wird nur, wie lange der Cache Klartexte referenziert: höchstens maxEntries
+ * Einträge, jeweils bis zum Ablauf der TTL, bis zur Verdrängung oder bis zum Herunterfahren.
+ * Die Klartexte sind gewöhnliche Strings, die auch an Aufrufer und in Antworten gehen;
+ * sie bleiben bis zur Garbage Collection im Heap und werden nicht überschrieben.
+ * Einträge sind an die Entity-Version gebunden, eine Änderung des Kunden macht den
+ * Eintrag also auch ohne explizites evict() ungültig.
+ */
+@Component
+public class DecryptedContactCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public DecryptedContactCache(@Value("${rentacar.customer.contact-cache.enabled:false}") boolean enabled,
+                                 @Value("${rentacar.customer.contact-cache.max-entries:500}") int maxEntries,
+                                 @Value("${rentacar.customer.contact-cache.ttl-seconds:60}") long ttlSeconds) {
+        if (maxEntries < 1 || ttlSeconds < 1) {
+            throw new IllegalArgumentException("Cache-Größe und TTL müssen positiv sein");
+        }
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    /**
+     * Liefert die Kontaktdaten aus dem Cache oder entschlüsselt sie über den Loader
+     */
+    public CustomerContactData get(Long customerId, Long version, Supplier<CustomerContactData> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        synchronized (this) {
+            Entry entry = entries.get(customerId);
+            if (entry != null && Objects.equals(entry.version(), version) && !entry.isExpired(System.nanoTime())) {
+                hits++;
+                return entry.contactData();
+            }
+            if (entry != null) {
+                remove(customerId);
+            }
+            misses++;
+        }
+
+        CustomerContactData contactData = loader.get();
+        synchronized (this) {
+            entries.put(customerId, new Entry(contactData, version, System.nanoTime() + ttlNanos));
+            Iterator<Long> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions++;
+            }
+        }
+        return contactData;
+    }
+
+    public synchronized void evict(Long customerId) {
+        if (entries.containsKey(customerId)) {
+            remove(customerId);
+        }
+    }
+
+    /**
+     * Entfernt abgelaufene Einträge, auch wenn sie nicht mehr gelesen werden
+     */
+    @Scheduled(fixedDelayString = "${rentacar.customer.contact-cache.sweep-interval-ms:10000}")
+    public synchronized void purgeExpired() {
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.isExpired(now)) {
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(enabled, entries.size(), maxEntries, hits, misses, evictions);
+    }
+
+    private void remove(Long customerId) {
+        entries.remove(customerId);
+        evictions++;
+    }
+
+    /**
+     * Value Object: Kennzahlen des Caches
+     */
+    public record CacheStatistics(boolean enabled, int size, int maxEntries,
+                                  long hits, long misses, long evictions) {
+    }
+
+    private record Entry(CustomerContactData contactData, Long version, long expiresAt) {
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
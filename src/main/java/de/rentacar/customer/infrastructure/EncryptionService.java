@@ -3,43 +3,108 @@ package de.rentacar.customer.infrastructure;
 import org.jasypt.encryption.StringEncryptor;
 import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
 import org.jasypt.encryption.pbe.config.SimpleStringPBEConfig;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Service für Verschlüsselung von Kundendaten (DSGVO-konform)
+ * Chiffrate tragen die Schlüssel-ID als Präfix ("k2:..."). Während einer
+ * Schlüsselrotation entschlüsselt der Service mit altem und neuem Schlüssel,
+ * verschlüsselt aber ausschließlich mit dem neuen. Chiffrate ohne Präfix
+ * stammen aus der Zeit vor der Rotation und gehören zum vorherigen Schlüssel
+ * (bzw. zum aktuellen, wenn keine Rotation läuft).
  */
 @Service
 public class EncryptionService {
 
+    private static final String DEFAULT_KEY_ID = "k1";
+    private static final char KEY_SEPARATOR = ':';
+
+    private final String keyId;
     private final StringEncryptor encryptor;
+    private final String previousKeyId;
+    private final StringEncryptor previousEncryptor;
+
+    public EncryptionService(String password) {
+        this(password, DEFAULT_KEY_ID, "", "", 1);
+    }
 
-    public EncryptionService(@Value("${jasypt.encryptor.password}") String password) {
+    @Autowired
+    public EncryptionService(@Value("${jasypt.encryptor.password}") String password,
+                             @Value("${rentacar.customer.encryption.key-id:k1}") String keyId,
+                             @Value("${rentacar.customer.encryption.previous-password:}") String previousPassword,
+                             @Value("${rentacar.customer.encryption.previous-key-id:}") String previousKeyId,
+                             @Value("${rentacar.customer.encryption.pool-size:1}") int poolSize) {
+        if (keyId.isBlank() || keyId.indexOf(KEY_SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Ungültige Schlüssel-ID");
+        }
+        this.keyId = keyId;
+        this.encryptor = createEncryptor(password, poolSize);
+        if (previousPassword.isEmpty()) {
+            this.previousKeyId = null;
+            this.previousEncryptor = null;
+        } else {
+            if (previousKeyId.isBlank() || previousKeyId.equals(keyId)) {
+                throw new IllegalArgumentException("Vorherige Schlüssel-ID muss gesetzt und verschieden sein");
+            }
+            this.previousKeyId = previousKeyId;
+            this.previousEncryptor = createEncryptor(previousPassword, poolSize);
+        }
+    }
+
+    private static StringEncryptor createEncryptor(String password, int poolSize) {
         PooledPBEStringEncryptor pooledEncryptor = new PooledPBEStringEncryptor();
         SimpleStringPBEConfig config = new SimpleStringPBEConfig();
         config.setPassword(password);
         config.setAlgorithm("PBEWithMD5AndDES");
         config.setKeyObtentionIterations("1000");
-        config.setPoolSize("1");
+        config.setPoolSize(String.valueOf(poolSize));
         config.setProviderName("SunJCE");
         config.setSaltGeneratorClassName("org.jasypt.salt.RandomSaltGenerator");
         config.setStringOutputType("base64");
         pooledEncryptor.setConfig(config);
-        this.encryptor = pooledEncryptor;
+        return pooledEncryptor;
     }
 
     public String encrypt(String plainText) {
         if (plainText == null) {
             return null;
         }
-        return encryptor.encrypt(plainText);
+        return keyId + KEY_SEPARATOR + encryptor.encrypt(plainText);
     }
 
     public String decrypt(String encryptedText) {
         if (encryptedText == null) {
             return null;
         }
-        return encryptor.decrypt(encryptedText);
+        int separator = encryptedText.indexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            return (previousEncryptor != null ? previousEncryptor : encryptor).decrypt(encryptedText);
+        }
+        String valueKeyId = encryptedText.substring(0, separator);
+        String cipherText = encryptedText.substring(separator + 1);
+        if (valueKeyId.equals(keyId)) {
+            return encryptor.decrypt(cipherText);
+        }
+        if (valueKeyId.equals(previousKeyId)) {
+            return previousEncryptor.decrypt(cipherText);
+        }
+        throw new IllegalStateException("Unbekannte Schlüssel-ID: " + valueKeyId);
+    }
+
+    /**
+     * Prüft, ob ein Chiffrat noch nicht mit dem aktuellen Schlüssel erstellt wurde
+     */
+    public boolean needsReEncryption(String encryptedText) {
+        return encryptedText != null && !encryptedText.startsWith(keyId + KEY_SEPARATOR);
     }
-}
 
+    public boolean isRotationActive() {
+        return previousEncryptor != null;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+}
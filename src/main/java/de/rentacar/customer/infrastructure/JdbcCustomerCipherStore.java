@@ -0,0 +1,77 @@
+package de.rentacar.customer.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JDBC-Zugriff auf die verschlüsselten Kundenspalten für die Schlüsselrotation
+ * (ohne Entity-Laden, Schreiben in JDBC-Batches)
+ */
+@Component
+public class JdbcCustomerCipherStore {
+
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT id, version, encrypted_email, encrypted_phone, encrypted_address, encrypted_license_number, " +
+            "email_blind_index, license_blind_index FROM customers WHERE id > ? ORDER BY id LIMIT ?";
+
+    // Versionsprüfung: parallel über die Anwendung geänderte Zeilen sind bereits neu verschlüsselt
+    private static final String UPDATE_SQL =
+            "UPDATE customers SET encrypted_email = ?, encrypted_phone = ?, encrypted_address = ?, " +
+            "encrypted_license_number = ?, email_blind_index = ?, license_blind_index = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCustomerCipherStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<CipherRow> readChunk(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_CHUNK_SQL, (resultSet, rowNum) -> new CipherRow(
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                resultSet.getString(3),
+                resultSet.getString(4),
+                resultSet.getString(5),
+                resultSet.getString(6),
+                resultSet.getString(7),
+                resultSet.getString(8)), afterId, limit);
+    }
+
+    /**
+     * Schreibt die Zeilen als Batch zurück
+     *
+     * @return Anzahl tatsächlich aktualisierter Zeilen
+     */
+    public int writeBatch(List<CipherRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row.email());
+            statement.setString(2, row.phone());
+            statement.setString(3, row.address());
+            statement.setString(4, row.driverLicenseNumber());
+            statement.setString(5, row.emailBlindIndex());
+            statement.setString(6, row.licenseBlindIndex());
+            statement.setLong(7, row.id());
+            statement.setLong(8, row.version());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Verschlüsselte Spalten einer Kundenzeile
+     */
+    public record CipherRow(long id, long version, String email, String phone, String address,
+                            String driverLicenseNumber, String emailBlindIndex, String licenseBlindIndex) {
+    }
+}
@@ -0,0 +1,15 @@
+package de.rentacar.customer.infrastructure;
+
+import de.rentacar.customer.domain.KeyRotationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface KeyRotationCheckpointJpaRepository extends JpaRepository<KeyRotationCheckpoint, Long> {
+    Optional<KeyRotationCheckpoint> findByKeyId(String keyId);
+}
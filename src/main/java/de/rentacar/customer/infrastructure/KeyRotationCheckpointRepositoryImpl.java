@@ -0,0 +1,28 @@
+package de.rentacar.customer.infrastructure;
+
+import de.rentacar.customer.domain.KeyRotationCheckpoint;
+import de.rentacar.customer.domain.KeyRotationCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeyRotationCheckpointRepositoryImpl implements KeyRotationCheckpointRepository {
+
+    private final KeyRotationCheckpointJpaRepository jpaRepository;
+
+    @Override
+    public KeyRotationCheckpoint save(KeyRotationCheckpoint checkpoint) {
+        return jpaRepository.save(checkpoint);
+    }
+
+    @Override
+    public Optional<KeyRotationCheckpoint> findByKeyId(String keyId) {
+        return jpaRepository.findByKeyId(keyId);
+    }
+}
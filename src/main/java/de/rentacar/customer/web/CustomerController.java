@@ -1,14 +1,20 @@
 package de.rentacar.customer.web;
 
+import de.rentacar.customer.application.CustomerKeyRotationService;
+import de.rentacar.customer.application.CustomerKeyRotationService.KeyRotationStatus;
 import de.rentacar.customer.application.CustomerService;
 import de.rentacar.customer.domain.Customer;
+import de.rentacar.customer.domain.CustomerContactData;
+import de.rentacar.customer.infrastructure.DecryptedContactCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 
 /**
  * REST Controller für Kundenverwaltung
@@ -19,6 +25,7 @@ import jakarta.servlet.http.HttpServletRequest;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final CustomerKeyRotationService keyRotationService;
 
     @PostMapping("/register")
     public ResponseEntity<Customer> registerCustomer(@RequestBody RegisterCustomerRequest request,
@@ -65,6 +72,60 @@ public class CustomerController {
         return ResponseEntity.ok(customerService.getCustomerByUsername(username));
     }
 
+    @PutMapping("/{id}/driver-license")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<Customer> updateDriverLicense(@PathVariable Long id,
+                                                        @RequestBody UpdateDriverLicenseRequest request,
+                                                        Authentication authentication,
+                                                        HttpServletRequest httpRequest) {
+        Customer customer = customerService.updateDriverLicense(
+                id,
+                request.driverLicenseNumber(),
+                authentication.getName(),
+                httpRequest.getRemoteAddr()
+        );
+        return ResponseEntity.ok(customer);
+    }
+
+    @GetMapping("/{id}/contact")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<CustomerContactData> getCustomerContactData(@PathVariable Long id) {
+        return ResponseEntity.ok(customerService.getCustomerContactData(id));
+    }
+
+    @GetMapping("/contact-cache/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DecryptedContactCache.CacheStatistics> getContactCacheStatistics() {
+        return ResponseEntity.ok(customerService.getContactCacheStatistics());
+    }
+
+    @PostMapping("/key-rotation")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<KeyRotationStatus> startKeyRotation(Authentication authentication) {
+        if (!keyRotationService.start(authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(keyRotationService.getStatus());
+        }
+        return ResponseEntity.accepted().body(keyRotationService.getStatus());
+    }
+
+    @GetMapping("/key-rotation")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<KeyRotationStatus> getKeyRotationStatus() {
+        return ResponseEntity.ok(keyRotationService.getStatus());
+    }
+
+    @GetMapping("/search/email")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<List<Customer>> findCustomersByEmail(@RequestParam String email) {
+        return ResponseEntity.ok(customerService.findCustomersByEmail(email));
+    }
+
+    @GetMapping("/search/license")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+    public ResponseEntity<Customer> getCustomerByDriverLicense(@RequestParam String driverLicenseNumber) {
+        return ResponseEntity.ok(customerService.getCustomerByDriverLicense(driverLicenseNumber));
+    }
+
     public record RegisterCustomerRequest(
             String username,
             String password,
@@ -83,5 +144,8 @@ public class CustomerController {
             String phone,
             String address
     ) {}
-}
 
+    public record UpdateDriverLicenseRequest(
+            String driverLicenseNumber
+    ) {}
+}
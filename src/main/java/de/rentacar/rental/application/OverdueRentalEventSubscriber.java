@@ -0,0 +1,53 @@
+package de.rentacar.rental.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Hält den OverdueRentalMonitor über Check-out- und Check-in-Events aktuell (idempotent)
+ */
+@Component
+@RequiredArgsConstructor
+public class OverdueRentalEventSubscriber implements DomainEventSubscriber {
+
+    private final OverdueRentalMonitor overdueRentalMonitor;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String aggregateType) {
+        return "Rental".equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case "RENTAL_CHECKOUT" -> {
+                JsonNode payload = parse(event.getPayload());
+                overdueRentalMonitor.track(
+                        payload.get("rentalId").asLong(),
+                        payload.get("vehicleId").asLong(),
+                        payload.get("customerId").asLong(),
+                        LocalDate.parse(payload.get("plannedReturnDate").asText()));
+            }
+            case "RENTAL_CHECKIN" -> overdueRentalMonitor.untrack(Long.valueOf(event.getAggregateId()));
+            default -> {
+                // für die Überwachung nicht relevant
+            }
+        }
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload ist kein gültiges JSON", e);
+        }
+    }
+}
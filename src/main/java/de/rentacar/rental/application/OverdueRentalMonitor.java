@@ -0,0 +1,218 @@
+package de.rentacar.rental.application;
+
+import de.rentacar.rental.domain.LateFeePolicy;
+import de.rentacar.rental.domain.Rental;
+import de.rentacar.rental.domain.RentalRepository;
+import de.rentacar.shared.domain.OutboxService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Erkennt überfällige Vermietungen ohne die Datenbank abzufragen.
+ * Alle offenen Vermietungen liegen in einer Prioritätswarteschlange nach dem Zeitpunkt,
+ * zu dem sie (erneut) fällig werden; ein einzelner Timer ist auf den frühesten Eintrag
+ * gestellt. Beim Auslösen wird ein RENTAL_OVERDUE-Event mit der bis dahin angefallenen
+ * Gebühr laut LateFeePolicy geschrieben und der Eintrag für den nächsten Verspätungstag
+ * neu eingereiht. Beim Start wird die Warteschlange aus den offenen Vermietungen aufgebaut,
+ * danach über Check-out- und Check-in-Events fortgeschrieben.
+ */
+@Component
+public class OverdueRentalMonitor {
+
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final RentalRepository rentalRepository;
+    private final LateFeePolicy lateFeePolicy;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(
+            Comparator.comparing(Deadline::dueAt).thenComparing(Deadline::rentalId));
+    private final Map<Long, Deadline> deadlines = new HashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rental-overdue-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> armed;
+    private LocalDateTime armedFor;
+
+    public OverdueRentalMonitor(RentalRepository rentalRepository,
+                                LateFeePolicy lateFeePolicy,
+                                OutboxService outboxService,
+                                TransactionTemplate transactionTemplate) {
+        this.rentalRepository = rentalRepository;
+        this.lateFeePolicy = lateFeePolicy;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Baut die Warteschlange aus allen offenen Vermietungen auf (Start); bereits
+     * gemeldete Verspätungstage werden übersprungen
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Rental> openRentals = rentalRepository.findOpenRentals();
+        synchronized (this) {
+            for (Rental rental : openRentals) {
+                int reported = rental.getReportedOverdueDays() != null ? rental.getReportedOverdueDays() : 0;
+                enqueue(deadline(rental.getId(), rental.getVehicleId(), rental.getCustomerId(),
+                        rental.getPlannedReturnDate(), reported + 1));
+            }
+            rearm(true);
+        }
+    }
+
+    /**
+     * Überwacht eine ausgegebene Vermietung (idempotent, ersetzt einen bestehenden Eintrag)
+     */
+    public synchronized void track(Long rentalId, Long vehicleId, Long customerId, LocalDate plannedReturnDate) {
+        Deadline current = deadlines.get(rentalId);
+        int nextDay = current != null && current.plannedReturnDate().equals(plannedReturnDate)
+                ? current.overdueDay() : 1;
+        enqueue(deadline(rentalId, vehicleId, customerId, plannedReturnDate, nextDay));
+        rearm(false);
+    }
+
+    /**
+     * Beendet die Überwachung (Rückgabe); der Eintrag in der Warteschlange verfällt beim Entnehmen
+     */
+    public synchronized void untrack(Long rentalId) {
+        deadlines.remove(rentalId);
+    }
+
+    public synchronized int trackedCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * Schreibt Events für alle bis zum angegebenen Zeitpunkt fälligen Einträge.
+     * Die bedingte Aktualisierung pro Vermietung verhindert doppelte Events, wenn
+     * mehrere Knoten dieselbe Vermietung überwachen.
+     *
+     * @return Anzahl geschriebener Events
+     */
+    int fireDue(LocalDateTime now) {
+        List<Deadline> due = new ArrayList<>();
+        synchronized (this) {
+            armedFor = null;
+            while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+                Deadline deadline = queue.poll();
+                if (deadlines.get(deadline.rentalId()) == deadline) {
+                    // Nach längerem Stillstand direkt den aktuellen Verspätungstag melden statt jeden einzeln
+                    int overdueDay = (int) Math.max(deadline.overdueDay(),
+                            lateFeePolicy.daysLate(deadline.plannedReturnDate(), now));
+                    Deadline current = deadline(deadline.rentalId(), deadline.vehicleId(), deadline.customerId(),
+                            deadline.plannedReturnDate(), overdueDay);
+                    deadlines.put(current.rentalId(), current);
+                    due.add(current);
+                }
+            }
+        }
+
+        int fired = 0;
+        List<Deadline> failed = new ArrayList<>();
+        for (Deadline deadline : due) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> publish(deadline, now)))) {
+                    fired++;
+                }
+            } catch (RuntimeException e) {
+                failed.add(deadline);
+            }
+        }
+
+        synchronized (this) {
+            for (Deadline deadline : due) {
+                // Nur erneut einreihen, wenn die Vermietung inzwischen nicht zurückgegeben wurde
+                if (deadlines.get(deadline.rentalId()) != deadline) {
+                    continue;
+                }
+                enqueue(failed.contains(deadline)
+                        ? new Deadline(deadline.rentalId(), deadline.vehicleId(), deadline.customerId(),
+                                deadline.plannedReturnDate(), deadline.overdueDay(), now.plus(RETRY_DELAY))
+                        : deadline(deadline.rentalId(), deadline.vehicleId(), deadline.customerId(),
+                                deadline.plannedReturnDate(), deadline.overdueDay() + 1));
+            }
+            rearm(true);
+        }
+        return fired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private boolean publish(Deadline deadline, LocalDateTime now) {
+        if (!rentalRepository.markOverdueReported(deadline.rentalId(), deadline.overdueDay())) {
+            return false;
+        }
+        outboxService.record("Rental", deadline.rentalId(), "RENTAL_OVERDUE", OutboxService.payload(
+                "rentalId", deadline.rentalId(),
+                "vehicleId", deadline.vehicleId(),
+                "customerId", deadline.customerId(),
+                "plannedReturnDate", deadline.plannedReturnDate(),
+                "overdueSince", lateFeePolicy.overdueAt(deadline.plannedReturnDate()),
+                "overdueDays", deadline.overdueDay(),
+                "accruedLateFee", lateFeePolicy.feeFor(deadline.plannedReturnDate(), now)));
+        return true;
+    }
+
+    private Deadline deadline(Long rentalId, Long vehicleId, Long customerId, LocalDate plannedReturnDate,
+                              int overdueDay) {
+        LocalDateTime dueAt = lateFeePolicy.overdueAt(plannedReturnDate).plusDays(overdueDay - 1L);
+        return new Deadline(rentalId, vehicleId, customerId, plannedReturnDate, overdueDay, dueAt);
+    }
+
+    private void enqueue(Deadline deadline) {
+        deadlines.put(deadline.rentalId(), deadline);
+        queue.add(deadline);
+    }
+
+    /**
+     * Stellt den Timer auf den frühesten gültigen Eintrag; ohne force nur, wenn dieser früher liegt
+     */
+    private void rearm(boolean force) {
+        while (!queue.isEmpty() && deadlines.get(queue.peek().rentalId()) != queue.peek()) {
+            queue.poll();
+        }
+        if (queue.isEmpty()) {
+            return;
+        }
+        LocalDateTime next = queue.peek().dueAt();
+        if (!force && armedFor != null && !next.isBefore(armedFor)) {
+            return;
+        }
+        if (armed != null) {
+            armed.cancel(false);
+        }
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(), next).toMillis());
+        armedFor = next;
+        armed = timer.schedule(() -> fireDue(LocalDateTime.now()), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Eintrag der Warteschlange: fällig, sobald der overdueDay-te Verspätungstag beginnt
+     */
+    private record Deadline(Long rentalId, Long vehicleId, Long customerId, LocalDate plannedReturnDate,
+                            int overdueDay, LocalDateTime dueAt) {
+    }
+}
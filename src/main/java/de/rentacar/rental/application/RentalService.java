@@ -1,11 +1,22 @@
 package de.rentacar.rental.application;
 
 import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventRepository;
+import de.rentacar.booking.domain.BookingEventType;
 import de.rentacar.booking.domain.BookingRepository;
 import de.rentacar.rental.domain.DamageReport;
+import de.rentacar.rental.domain.DamageReportRepository;
+import de.rentacar.rental.domain.LateFeePolicy;
 import de.rentacar.rental.domain.Rental;
+import de.rentacar.rental.domain.RentalCostItem;
+import de.rentacar.rental.domain.RentalCostLedger;
+import de.rentacar.rental.domain.RentalCosts;
 import de.rentacar.rental.domain.RentalRepository;
+import de.rentacar.rental.domain.VehicleDamageHistory;
+import de.rentacar.rental.domain.VehicleDamageSummary;
 import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +26,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Application Service für Vermietungsprozess (Use Cases)
@@ -23,9 +42,17 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class RentalService {
 
+    private static final int MAX_BULK_CHECKIN_SIZE = 200;
+    private static final int AUDIT_CHUNK_SIZE = 50;
+
     private final RentalRepository rentalRepository;
+    private final DamageReportRepository damageReportRepository;
+    private final RentalCostLedger costLedger;
+    private final LateFeePolicy lateFeePolicy;
     private final BookingRepository bookingRepository;
     private final VehicleRepository vehicleRepository;
+    private final BookingEventRepository bookingEventRepository;
+    private final OutboxService outboxService;
     private final AuditService auditService;
 
     /**
@@ -58,7 +85,19 @@ public class RentalService {
         vehicle.markAsRented();
         
         Rental savedRental = rentalRepository.save(rental);
+        costLedger.open(savedRental.getId());
         vehicleRepository.save(vehicle);
+        outboxService.record("Rental", savedRental.getId(), "RENTAL_CHECKOUT", OutboxService.payload(
+                "rentalId", savedRental.getId(),
+                "bookingId", bookingId,
+                "vehicleId", vehicle.getId(),
+                "vehicleType", vehicle.getType(),
+                "vehicleLocation", vehicle.getLocation(),
+                "pickupLocation", booking.getPickupLocation(),
+                "customerId", savedRental.getCustomerId(),
+                "mileage", mileage,
+                "actualPickupTime", savedRental.getActualPickupTime(),
+                "plannedReturnDate", savedRental.getPlannedReturnDate()));
 
         auditService.logAction(username, "RENTAL_CHECKOUT", "Rental", 
                 savedRental.getId().toString(), 
@@ -81,28 +120,30 @@ public class RentalService {
 
         Vehicle vehicle = vehicleRepository.findById(rental.getVehicleId())
                 .orElseThrow(() -> new IllegalArgumentException("Fahrzeug nicht gefunden"));
+        Booking booking = bookingRepository.findById(rental.getBookingId())
+                .orElseThrow(() -> new IllegalArgumentException("Buchung nicht gefunden"));
         
+        // Bei Einwegmieten steht das Fahrzeug danach am Rückgabestandort
+        String pickupLocation = vehicle.getLocation();
         vehicle.updateMileage(mileage);
         vehicle.markAsAvailable();
+        vehicle.relocateTo(booking.getReturnLocation());
 
         // Prüfe auf Verspätung
-        if (rental.getActualReturnTime().toLocalDate().isAfter(rental.getPlannedReturnDate())) {
-            long daysLate = java.time.temporal.ChronoUnit.DAYS.between(
-                    rental.getPlannedReturnDate(), 
-                    rental.getActualReturnTime().toLocalDate());
-            BigDecimal lateFee = BigDecimal.valueOf(50.00).multiply(BigDecimal.valueOf(daysLate));
-            rental.addLateReturnFee(lateFee, 
-                    String.format("Verspätung um %d Tag(e)", daysLate));
+        RentalCostItem lateFee = lateReturnFee(rental);
+        if (lateFee != null) {
+            costLedger.append(List.of(lateFee));
         }
 
         Rental savedRental = rentalRepository.save(rental);
         vehicleRepository.save(vehicle);
 
         // Buchung abschließen
-        Booking booking = bookingRepository.findById(rental.getBookingId())
-                .orElseThrow(() -> new IllegalArgumentException("Buchung nicht gefunden"));
         booking.complete();
         bookingRepository.save(booking);
+        bookingEventRepository.append(BookingEvent.of(booking, BookingEventType.BOOKING_COMPLETED, username));
+        outboxService.record("Rental", rentalId, "RENTAL_CHECKIN", checkinPayload(rental, vehicle, booking,
+                pickupLocation, lateFee, costLedger.totalFor(rentalId)));
 
         auditService.logAction(username, "RENTAL_CHECKIN", "Rental", 
                 rentalId.toString(), 
@@ -112,6 +153,102 @@ public class RentalService {
         return savedRental;
     }
 
+    /**
+     * Use Case: Sammel-Check-in (viele Rückgaben gleichzeitig, z.B. am Flughafen)
+     * Vermietungen, Fahrzeuge und Buchungen werden mit je einer Abfrage geladen, die
+     * Zustandsübergänge im Speicher ausgeführt und die Änderungen beim Commit per
+     * JDBC-Batch geschrieben. Alles-oder-nichts: scheitert eine Rückgabe, wird keine übernommen.
+     */
+    @Transactional
+    public List<Rental> performBulkCheckin(List<CheckinItem> items, String username, String ipAddress) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Mindestens eine Rückgabe erforderlich");
+        }
+        if (items.size() > MAX_BULK_CHECKIN_SIZE) {
+            throw new IllegalArgumentException("Maximal " + MAX_BULK_CHECKIN_SIZE + " Rückgaben pro Sammel-Check-in");
+        }
+        Map<Long, CheckinItem> itemsByRental = new LinkedHashMap<>();
+        for (CheckinItem item : items) {
+            if (itemsByRental.put(item.rentalId(), item) != null) {
+                throw new IllegalArgumentException("Vermietung mehrfach im Sammel-Check-in angegeben: " + item.rentalId());
+            }
+        }
+
+        Map<Long, Rental> rentals = byId(rentalRepository.findAllById(itemsByRental.keySet()), Rental::getId);
+        List<Long> missing = itemsByRental.keySet().stream().filter(id -> !rentals.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Vermietung nicht gefunden: " + missing);
+        }
+        // Fahrzeuge vor den Buchungen laden: die Fahrzeug-Referenz der Buchungen kommt dann
+        // aus dem Persistence Context statt aus einer Abfrage pro Buchung
+        Map<Long, Vehicle> vehicles = byId(vehicleRepository.findAllById(
+                rentals.values().stream().map(Rental::getVehicleId).collect(Collectors.toSet())), Vehicle::getId);
+        Map<Long, Booking> bookings = byId(bookingRepository.findAllById(
+                rentals.values().stream().map(Rental::getBookingId).collect(Collectors.toSet())), Booking::getId);
+
+        List<Rental> checkedIn = new ArrayList<>(itemsByRental.size());
+        List<RentalCostItem> lateFees = new ArrayList<>();
+        Map<Long, RentalCostItem> lateFeesByRental = new HashMap<>();
+        Map<Long, String> pickupLocations = new HashMap<>();
+        for (CheckinItem item : itemsByRental.values()) {
+            Rental rental = rentals.get(item.rentalId());
+            Vehicle vehicle = vehicles.get(rental.getVehicleId());
+            Booking booking = bookings.get(rental.getBookingId());
+            if (vehicle == null || booking == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Fahrzeug oder Buchung zu Vermietung %d nicht gefunden", rental.getId()));
+            }
+
+            rental.performCheckin(item.mileage(), item.condition());
+            pickupLocations.put(rental.getId(), vehicle.getLocation());
+            vehicle.updateMileage(item.mileage());
+            vehicle.markAsAvailable();
+            vehicle.relocateTo(booking.getReturnLocation());
+            booking.complete();
+
+            RentalCostItem lateFee = lateReturnFee(rental);
+            if (lateFee != null) {
+                lateFees.add(lateFee);
+                lateFeesByRental.put(rental.getId(), lateFee);
+            }
+            checkedIn.add(rental);
+        }
+
+        rentalRepository.saveAll(checkedIn);
+        vehicleRepository.saveAll(vehicles.values());
+        bookingRepository.saveAll(bookings.values());
+        costLedger.append(lateFees);
+        Map<Long, BigDecimal> additionalCosts = costLedger.totalsFor(itemsByRental.keySet());
+
+        List<BookingEvent> events = new ArrayList<>(checkedIn.size());
+        Map<Long, Map<String, Object>> payloads = new LinkedHashMap<>();
+        for (Rental rental : checkedIn) {
+            Booking booking = bookings.get(rental.getBookingId());
+            events.add(BookingEvent.of(booking, BookingEventType.BOOKING_COMPLETED, username));
+            payloads.put(rental.getId(), checkinPayload(rental, vehicles.get(rental.getVehicleId()), booking,
+                    pickupLocations.get(rental.getId()), lateFeesByRental.get(rental.getId()),
+                    additionalCosts.get(rental.getId())));
+        }
+        bookingEventRepository.appendAll(events);
+        outboxService.recordAll("Rental", "RENTAL_CHECKIN", payloads);
+
+        // Ein Audit-Eintrag pro Block, damit die Liste der IDs in das Detailfeld passt
+        for (int from = 0; from < checkedIn.size(); from += AUDIT_CHUNK_SIZE) {
+            List<Rental> chunk = checkedIn.subList(from, Math.min(from + AUDIT_CHUNK_SIZE, checkedIn.size()));
+            BigDecimal fees = chunk.stream()
+                    .map(rental -> lateFeesByRental.get(rental.getId()))
+                    .filter(Objects::nonNull)
+                    .map(RentalCostItem::getAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            auditService.logAction(username, "RENTAL_BULK_CHECKIN", "Rental", null,
+                    String.format("Sammel-Check-in: %d Fahrzeuge, Verspätungsgebühren %s, Vermietungen %s",
+                            chunk.size(), fees, chunk.stream().map(Rental::getId).toList()),
+                    ipAddress);
+        }
+
+        return checkedIn;
+    }
+
     /**
      * Use Case: Schadensbericht erstellen
      */
@@ -119,27 +256,144 @@ public class RentalService {
     public DamageReport createDamageReport(Long rentalId, String description, 
                                           BigDecimal repairCost, String notes,
                                           String username, String ipAddress) {
+        return createDamageReports(rentalId, List.of(new DamageItem(description, repairCost, notes)),
+                username, ipAddress).get(0);
+    }
+
+    /**
+     * Use Case: mehrere Schäden einer Vermietung erfassen (ein Batch-Insert)
+     */
+    @Transactional
+    public List<DamageReport> createDamageReports(Long rentalId, List<DamageItem> items,
+                                                  String username, String ipAddress) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Mindestens ein Schaden muss angegeben werden");
+        }
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new IllegalArgumentException("Vermietung nicht gefunden"));
 
-        DamageReport damageReport = DamageReport.builder()
-                .rentalId(rentalId)
-                .description(description)
-                .repairCost(repairCost)
-                .notes(notes)
-                .build();
+        List<DamageReport> damageReports = new ArrayList<>(items.size());
+        List<RentalCostItem> costItems = new ArrayList<>(items.size());
+        for (DamageItem item : items) {
+            damageReports.add(DamageReport.of(rental, item.description(), item.repairCost(), item.notes()));
+            costItems.add(rental.registerDamage(item.repairCost(), item.description()));
+        }
+        Booking booking = bookingRepository.findById(rental.getBookingId())
+                .orElseThrow(() -> new IllegalArgumentException("Buchung nicht gefunden"));
 
-        rental.registerDamage(repairCost, description);
-        
-        // TODO: DamageReport Repository hinzufügen wenn benötigt
+        // Die Vermietung selbst ändert sich nur beim ersten Schaden (Status), die Kosten
+        // laufen über das Ledger und sperren die Vermietungszeile nicht
         rentalRepository.save(rental);
+        List<DamageReport> savedReports = damageReportRepository.insertAll(damageReports);
+        for (int i = 0; i < savedReports.size(); i++) {
+            costItems.get(i).setDamageReportId(savedReports.get(i).getId());
+        }
+        costLedger.append(costItems);
+        BigDecimal additionalCosts = costLedger.totalFor(rentalId);
+        for (DamageReport damageReport : savedReports) {
+            outboxService.record("Rental", rentalId, "DAMAGE_REPORTED", OutboxService.payload(
+                    "rentalId", rentalId,
+                    "damageReportId", damageReport.getId(),
+                    "vehicleId", rental.getVehicleId(),
+                    "vehicleType", booking.getVehicle().getType(),
+                    "pickupLocation", booking.getPickupLocation(),
+                    "plannedReturnDate", rental.getPlannedReturnDate(),
+                    "actualReturnTime", rental.getActualReturnTime(),
+                    "repairCost", damageReport.getRepairCost(),
+                    "additionalCosts", additionalCosts));
 
-        auditService.logAction(username, "DAMAGE_REPORT_CREATED", "DamageReport", 
-                rentalId.toString(), 
-                String.format("Schadensbericht erstellt: %s", description),
-                ipAddress);
+            auditService.logAction(username, "DAMAGE_REPORT_CREATED", "DamageReport", 
+                    damageReport.getId().toString(), 
+                    String.format("Schadensbericht erstellt: %s", damageReport.getDescription()),
+                    ipAddress);
+        }
 
-        return damageReport;
+        return savedReports;
+    }
+
+    /**
+     * Use Case: Zusatzkosten einer Vermietung (Summe und Einzelpositionen)
+     */
+    @Transactional(readOnly = true)
+    public RentalCosts getRentalCosts(Long rentalId) {
+        if (rentalRepository.findById(rentalId).isEmpty()) {
+            throw new IllegalArgumentException("Vermietung nicht gefunden");
+        }
+        return new RentalCosts(rentalId, costLedger.totalFor(rentalId), costLedger.findByRentalId(rentalId));
     }
-}
 
+    /**
+     * Use Case: Schadensberichte einer Vermietung
+     */
+    @Transactional(readOnly = true)
+    public List<DamageReport> getDamageReports(Long rentalId) {
+        return damageReportRepository.findByRentalId(rentalId);
+    }
+
+    /**
+     * Use Case: Schadenshistorie eines Fahrzeugs (Schadensabwicklung)
+     */
+    @Transactional(readOnly = true)
+    public VehicleDamageHistory getVehicleDamageHistory(Long vehicleId) {
+        return VehicleDamageHistory.of(vehicleId, damageReportRepository.findByVehicleId(vehicleId));
+    }
+
+    /**
+     * Use Case: Schadenskennzahlen pro Fahrzeug über die gesamte Flotte
+     */
+    @Transactional(readOnly = true)
+    public List<VehicleDamageSummary> getFleetDamageSummary() {
+        return damageReportRepository.summarizeByVehicle();
+    }
+
+    /**
+     * Verspätungsgebühr laut LateFeePolicy als Kostenposition, falls die Rückgabe verspätet erfolgt
+     */
+    private RentalCostItem lateReturnFee(Rental rental) {
+        long daysLate = lateFeePolicy.daysLate(rental.getPlannedReturnDate(), rental.getActualReturnTime());
+        if (daysLate == 0) {
+            return null;
+        }
+        BigDecimal fee = lateFeePolicy.feeFor(rental.getPlannedReturnDate(), rental.getActualReturnTime());
+        return rental.addLateReturnFee(fee, String.format("Verspätung um %d Tag(e)", daysLate));
+    }
+
+    private static Map<String, Object> checkinPayload(Rental rental, Vehicle vehicle, Booking booking,
+                                                      String pickupLocation, RentalCostItem lateFee,
+                                                      BigDecimal additionalCosts) {
+        return OutboxService.payload(
+                "rentalId", rental.getId(),
+                "bookingId", rental.getBookingId(),
+                "vehicleId", rental.getVehicleId(),
+                "vehicleType", vehicle.getType(),
+                "vehicleLocation", pickupLocation,
+                "pickupLocation", booking.getPickupLocation(),
+                "returnLocation", vehicle.getLocation(),
+                "customerId", rental.getCustomerId(),
+                "mileage", rental.getReturnMileage(),
+                "actualPickupTime", rental.getActualPickupTime(),
+                "plannedReturnDate", rental.getPlannedReturnDate(),
+                "actualReturnTime", rental.getActualReturnTime(),
+                "bookingTotalPrice", booking.getTotalPrice(),
+                "lateFee", lateFee != null ? lateFee.getAmount() : BigDecimal.ZERO,
+                "additionalCosts", additionalCosts);
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        Map<Long, T> byId = new HashMap<>();
+        entities.forEach(entity -> byId.put(id.apply(entity), entity));
+        return byId;
+    }
+
+    /**
+     * Einzelne Rückgabe beim Sammel-Check-in
+     */
+    public record CheckinItem(Long rentalId, Long mileage, String condition) {
+    }
+
+    /**
+     * Einzelner Schaden bei der Erfassung mehrerer Schäden
+     */
+    public record DamageItem(String description, BigDecimal repairCost, String notes) {
+    }
+}
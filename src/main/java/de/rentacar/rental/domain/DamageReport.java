@@ -4,11 +4,18 @@ import de.rentacar.shared.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
+
 /**
  * Entity für Schadensberichte
+ * Die Fahrzeug-ID wird mitgeführt, damit die Schadenshistorie pro Fahrzeug
+ * ohne Umweg über die Vermietungen abgefragt werden kann.
  */
 @Entity
-@Table(name = "damage_reports")
+@Table(name = "damage_reports", indexes = {
+        @Index(name = "idx_damage_reports_rental", columnList = "rental_id"),
+        @Index(name = "idx_damage_reports_vehicle", columnList = "vehicle_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,16 +23,40 @@ import lombok.*;
 @Builder
 public class DamageReport extends BaseEntity {
 
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
     @Column(nullable = false)
     private Long rentalId;
 
-    @Column(nullable = false, length = 500)
+    @Column(nullable = false)
+    private Long vehicleId;
+
+    @Column(nullable = false, length = MAX_DESCRIPTION_LENGTH)
     private String description;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private java.math.BigDecimal repairCost;
+    private BigDecimal repairCost;
 
     @Column(length = 1000)
     private String notes;
-}
 
+    /**
+     * Erzeugt einen Schadensbericht zu einer Vermietung
+     */
+    public static DamageReport of(Rental rental, String description, BigDecimal repairCost, String notes) {
+        if (description == null || description.isBlank()) {
+            throw new IllegalArgumentException("Schadensbeschreibung darf nicht leer sein");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Schadensbeschreibung darf höchstens "
+                    + MAX_DESCRIPTION_LENGTH + " Zeichen lang sein");
+        }
+        return DamageReport.builder()
+                .rentalId(rental.getId())
+                .vehicleId(rental.getVehicleId())
+                .description(description)
+                .repairCost(repairCost)
+                .notes(notes)
+                .build();
+    }
+}
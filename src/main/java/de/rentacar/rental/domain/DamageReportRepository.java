@@ -0,0 +1,14 @@
+package de.rentacar.rental.domain;
+
+import java.util.List;
+
+/**
+ * Repository Interface für Schadensberichte (Domain Layer)
+ */
+public interface DamageReportRepository {
+    DamageReport save(DamageReport damageReport);
+    List<DamageReport> insertAll(List<DamageReport> damageReports);
+    List<DamageReport> findByRentalId(Long rentalId);
+    List<DamageReport> findByVehicleId(Long vehicleId);
+    List<VehicleDamageSummary> summarizeByVehicle();
+}
@@ -0,0 +1,59 @@
+package de.rentacar.rental.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Domain Service für Verspätungen: ab wann eine Vermietung überfällig ist und
+ * welche Gebühr bis zu einem Rückgabezeitpunkt anfällt.
+ * Überfällig ist eine Vermietung nach Ablauf des geplanten Rückgabetags plus Kulanzzeit;
+ * berechnet wird eine Tagesgebühr pro angefangenem Verspätungstag, optional gedeckelt.
+ */
+@Service
+public class LateFeePolicy {
+
+    private final BigDecimal dailyFee;
+    private final long graceHours;
+    private final BigDecimal maxFee;
+
+    public LateFeePolicy(@Value("${rentacar.rental.late-fee.daily-fee:50.00}") BigDecimal dailyFee,
+                         @Value("${rentacar.rental.late-fee.grace-hours:0}") long graceHours,
+                         @Value("${rentacar.rental.late-fee.max-fee:0}") BigDecimal maxFee) {
+        if (dailyFee.signum() < 0 || graceHours < 0 || graceHours >= 24 || maxFee.signum() < 0) {
+            throw new IllegalArgumentException("Ungültige Konfiguration der Verspätungsgebühr");
+        }
+        this.dailyFee = dailyFee;
+        this.graceHours = graceHours;
+        this.maxFee = maxFee;
+    }
+
+    /**
+     * Zeitpunkt, ab dem eine Vermietung als überfällig gilt
+     */
+    public LocalDateTime overdueAt(LocalDate plannedReturnDate) {
+        return plannedReturnDate.plusDays(1).atStartOfDay().plusHours(graceHours);
+    }
+
+    /**
+     * Anzahl berechneter Verspätungstage bei Rückgabe zum angegebenen Zeitpunkt
+     */
+    public long daysLate(LocalDate plannedReturnDate, LocalDateTime returnTime) {
+        if (returnTime.isBefore(overdueAt(plannedReturnDate))) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(plannedReturnDate, returnTime.minusHours(graceHours).toLocalDate());
+    }
+
+    /**
+     * Verspätungsgebühr bei Rückgabe zum angegebenen Zeitpunkt (0, wenn pünktlich)
+     */
+    public BigDecimal feeFor(LocalDate plannedReturnDate, LocalDateTime returnTime) {
+        BigDecimal fee = dailyFee.multiply(BigDecimal.valueOf(daysLate(plannedReturnDate, returnTime)));
+        return maxFee.signum() > 0 ? fee.min(maxFee) : fee;
+    }
+}
@@ -54,12 +54,10 @@ public class Rental extends BaseEntity {
     @Builder.Default
     private RentalStatus status = RentalStatus.AUSGEGEBEN;
 
-    @Column(precision = 10, scale = 2)
-    @Builder.Default
-    private BigDecimal additionalCosts = BigDecimal.ZERO;
-
-    @Column(length = 1000)
-    private String additionalCostsDescription;
+    /**
+     * Zuletzt gemeldete Anzahl Verspätungstage (Überfällig-Events, idempotent über Knoten)
+     */
+    private Integer reportedOverdueDays;
 
     /**
      * Domain-Methode: Check-out durchführen (Übergabe)
@@ -97,33 +95,26 @@ public class Rental extends BaseEntity {
 
     /**
      * Domain-Methode: Schaden registrieren
+     * Zusatzkosten werden nicht in der Vermietung summiert, sondern als eigene
+     * Kostenposition im Ledger angehängt (keine Schreibkonflikte auf dieser Zeile).
      */
-    public void registerDamage(BigDecimal repairCost, String description) {
+    public RentalCostItem registerDamage(BigDecimal repairCost, String description) {
         if (repairCost == null || repairCost.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Reparaturkosten müssen gültig sein");
         }
         
         this.status = RentalStatus.MIT_SCHADEN;
-        this.additionalCosts = this.additionalCosts.add(repairCost);
-        if (this.additionalCostsDescription == null) {
-            this.additionalCostsDescription = "";
-        }
-        this.additionalCostsDescription += "\nSchaden: " + description + " (Kosten: " + repairCost + " EUR)";
+        return RentalCostItem.of(getId(), RentalCostType.SCHADEN, repairCost, description);
     }
 
     /**
      * Domain-Methode: Verspätungsgebühr hinzufügen
      */
-    public void addLateReturnFee(BigDecimal fee, String description) {
+    public RentalCostItem addLateReturnFee(BigDecimal fee, String description) {
         if (fee == null || fee.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Verspätungsgebühr muss gültig sein");
         }
         
-        this.additionalCosts = this.additionalCosts.add(fee);
-        if (this.additionalCostsDescription == null) {
-            this.additionalCostsDescription = "";
-        }
-        this.additionalCostsDescription += "\nVerspätung: " + description + " (Gebühr: " + fee + " EUR)";
+        return RentalCostItem.of(getId(), RentalCostType.VERSPÄTUNG, fee, description);
     }
 }
-
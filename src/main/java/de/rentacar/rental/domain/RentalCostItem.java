@@ -0,0 +1,49 @@
+package de.rentacar.rental.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Append-only Kostenposition einer Vermietung (Zusatzkosten-Ledger)
+ * Positionen werden nur eingefügt, nie geändert; die Summe pro Vermietung
+ * führt RentalCostTotal.
+ */
+@Entity
+@Table(name = "rental_cost_items", indexes = {
+        @Index(name = "idx_rental_cost_items_rental", columnList = "rental_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RentalCostItem extends BaseEntity {
+
+    @Column(nullable = false, updatable = false)
+    private Long rentalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private RentalCostType type;
+
+    @Column(nullable = false, updatable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(updatable = false, length = 500)
+    private String description;
+
+    @Column(updatable = false)
+    private Long damageReportId;
+
+    public static RentalCostItem of(Long rentalId, RentalCostType type, BigDecimal amount, String description) {
+        return RentalCostItem.builder()
+                .rentalId(rentalId)
+                .type(type)
+                .amount(amount)
+                .description(description)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package de.rentacar.rental.domain;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ledger der Zusatzkosten (Domain Layer): Positionen nur anhängen, Summen atomar fortschreiben
+ */
+public interface RentalCostLedger {
+
+    /**
+     * Legt die (leere) Summe für eine neue Vermietung an
+     */
+    void open(Long rentalId);
+
+    /**
+     * Fügt Positionen ein und erhöht die Summen der betroffenen Vermietungen in derselben Transaktion
+     */
+    List<RentalCostItem> append(List<RentalCostItem> items);
+
+    BigDecimal totalFor(Long rentalId);
+
+    /**
+     * Summen mehrerer Vermietungen in einer Abfrage (fehlende Summen als 0)
+     */
+    Map<Long, BigDecimal> totalsFor(Collection<Long> rentalIds);
+
+    List<RentalCostItem> findByRentalId(Long rentalId);
+}
@@ -0,0 +1,36 @@
+package de.rentacar.rental.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Laufende Summe der Zusatzkosten pro Vermietung.
+ * Wird ausschließlich per atomarem Inkrement in der Datenbank fortgeschrieben
+ * (daher ohne Versionsspalte); Rechnungen und Umsatzberichte lesen nur diese Summe.
+ */
+@Entity
+@Table(name = "rental_cost_totals")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalCostTotal {
+
+    @Id
+    private Long rentalId;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private Long itemCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
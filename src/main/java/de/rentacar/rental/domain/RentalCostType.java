@@ -0,0 +1,9 @@
+package de.rentacar.rental.domain;
+
+/**
+ * Value Object für Arten von Zusatzkosten einer Vermietung
+ */
+public enum RentalCostType {
+    SCHADEN,
+    VERSPÄTUNG
+}
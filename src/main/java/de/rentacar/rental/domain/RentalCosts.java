@@ -0,0 +1,10 @@
+package de.rentacar.rental.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Read-Model: Zusatzkosten einer Vermietung (vorsummierte Gesamtsumme und Positionen)
+ */
+public record RentalCosts(Long rentalId, BigDecimal total, List<RentalCostItem> items) {
+}
@@ -1,5 +1,6 @@
 package de.rentacar.rental.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,10 +9,19 @@ import java.util.Optional;
  */
 public interface RentalRepository {
     Rental save(Rental rental);
+    List<Rental> saveAll(Collection<Rental> rentals);
     Optional<Rental> findById(Long id);
+    List<Rental> findAllById(Collection<Long> ids);
     Optional<Rental> findByBookingId(Long bookingId);
     List<Rental> findAll();
     List<Rental> findByCustomerId(Long customerId);
     List<Rental> findByVehicleId(Long vehicleId);
+    List<Rental> findOpenRentals();
+
+    /**
+     * Merkt die gemeldeten Verspätungstage, sofern die Vermietung noch offen ist und
+     * diese Anzahl noch nicht gemeldet wurde; false, wenn ein anderer Knoten schneller war
+     */
+    boolean markOverdueReported(Long rentalId, int overdueDays);
 }
 
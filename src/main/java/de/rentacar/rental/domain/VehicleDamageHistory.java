@@ -0,0 +1,25 @@
+package de.rentacar.rental.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-Model: Schadenshistorie eines Fahrzeugs (neueste Berichte zuerst) mit Kennzahlen
+ */
+public record VehicleDamageHistory(VehicleDamageSummary summary, List<DamageReport> reports) {
+
+    public static VehicleDamageHistory of(Long vehicleId, List<DamageReport> reports) {
+        List<DamageReport> newestFirst = reports.stream()
+                .sorted(Comparator.comparing(DamageReport::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        BigDecimal totalRepairCost = reports.stream()
+                .map(DamageReport::getRepairCost)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        LocalDateTime lastReportedAt = newestFirst.isEmpty() ? null : newestFirst.get(0).getCreatedAt();
+        return new VehicleDamageHistory(
+                new VehicleDamageSummary(vehicleId, (long) reports.size(), totalRepairCost, lastReportedAt),
+                newestFirst);
+    }
+}
@@ -0,0 +1,11 @@
+package de.rentacar.rental.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-Model: verdichtete Schadenshistorie eines Fahrzeugs
+ */
+public record VehicleDamageSummary(Long vehicleId, Long reportCount, BigDecimal totalRepairCost,
+                                   LocalDateTime lastReportedAt) {
+}
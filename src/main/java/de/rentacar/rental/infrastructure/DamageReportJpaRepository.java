@@ -0,0 +1,23 @@
+package de.rentacar.rental.infrastructure;
+
+import de.rentacar.rental.domain.DamageReport;
+import de.rentacar.rental.domain.VehicleDamageSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface DamageReportJpaRepository extends JpaRepository<DamageReport, Long> {
+    List<DamageReport> findByRentalIdOrderByIdAsc(Long rentalId);
+    List<DamageReport> findByVehicleIdOrderByCreatedAtDesc(Long vehicleId);
+
+    @Query("SELECT new de.rentacar.rental.domain.VehicleDamageSummary(" +
+           "d.vehicleId, COUNT(d), SUM(d.repairCost), MAX(d.createdAt)) " +
+           "FROM DamageReport d GROUP BY d.vehicleId ORDER BY d.vehicleId")
+    List<VehicleDamageSummary> summarizeByVehicle();
+}
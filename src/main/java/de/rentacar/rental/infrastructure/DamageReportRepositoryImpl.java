@@ -0,0 +1,45 @@
+package de.rentacar.rental.infrastructure;
+
+import de.rentacar.rental.domain.DamageReport;
+import de.rentacar.rental.domain.DamageReportRepository;
+import de.rentacar.rental.domain.VehicleDamageSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DamageReportRepositoryImpl implements DamageReportRepository {
+
+    private final DamageReportJpaRepository jpaRepository;
+    private final JdbcDamageReportBatchWriter batchWriter;
+
+    @Override
+    public DamageReport save(DamageReport damageReport) {
+        return jpaRepository.save(damageReport);
+    }
+
+    @Override
+    public List<DamageReport> insertAll(List<DamageReport> damageReports) {
+        return batchWriter.insertAll(damageReports);
+    }
+
+    @Override
+    public List<DamageReport> findByRentalId(Long rentalId) {
+        return jpaRepository.findByRentalIdOrderByIdAsc(rentalId);
+    }
+
+    @Override
+    public List<DamageReport> findByVehicleId(Long vehicleId) {
+        return jpaRepository.findByVehicleIdOrderByCreatedAtDesc(vehicleId);
+    }
+
+    @Override
+    public List<VehicleDamageSummary> summarizeByVehicle() {
+        return jpaRepository.summarizeByVehicle();
+    }
+}
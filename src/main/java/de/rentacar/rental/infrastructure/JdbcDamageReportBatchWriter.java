@@ -0,0 +1,77 @@
+package de.rentacar.rental.infrastructure;
+
+import de.rentacar.rental.domain.DamageReport;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC-Batch-Insert für Schadensberichte (IDENTITY-Schlüssel verhindern Hibernate-Batching).
+ * Die erzeugten IDs werden in die Objekte übernommen; diese sind danach nicht im
+ * Persistence Context verwaltet.
+ */
+@Component
+public class JdbcDamageReportBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO damage_reports (rental_id, vehicle_id, description, repair_cost, notes, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDamageReportBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<DamageReport> insertAll(List<DamageReport> damageReports) {
+        if (damageReports.isEmpty()) {
+            return damageReports;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        DamageReport damageReport = damageReports.get(i);
+                        statement.setLong(1, damageReport.getRentalId());
+                        statement.setLong(2, damageReport.getVehicleId());
+                        statement.setString(3, damageReport.getDescription());
+                        statement.setBigDecimal(4, damageReport.getRepairCost());
+                        statement.setString(5, damageReport.getNotes());
+                        statement.setTimestamp(6, Timestamp.valueOf(now));
+                        statement.setTimestamp(7, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return damageReports.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != damageReports.size()) {
+            throw new IllegalStateException("Erzeugte Schadensbericht-IDs unvollständig");
+        }
+        for (int i = 0; i < damageReports.size(); i++) {
+            DamageReport damageReport = damageReports.get(i);
+            damageReport.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            damageReport.setCreatedAt(now);
+            damageReport.setUpdatedAt(now);
+            damageReport.setVersion(0L);
+        }
+        return damageReports;
+    }
+}
@@ -0,0 +1,169 @@
+package de.rentacar.rental.infrastructure;
+
+import de.rentacar.rental.domain.RentalCostItem;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC-Zugriff für das Kosten-Ledger: Positionen als Batch-Insert, Summen per
+ * atomarem UPDATE total = total + ? (Zeilensperre statt Read-Modify-Write und
+ * ohne die Vermietungszeile zu berühren).
+ */
+@Component
+public class JdbcRentalCostStore {
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO rental_cost_items (rental_id, type, amount, description, damage_report_id, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INCREMENT_TOTAL_SQL =
+            "UPDATE rental_cost_totals SET total = total + ?, item_count = item_count + ?, updated_at = ? " +
+            "WHERE rental_id = ?";
+
+    private static final String SELECT_TOTAL_SQL =
+            "SELECT total FROM rental_cost_totals WHERE rental_id = ?";
+
+    private static final String SELECT_TOTALS_SQL =
+            "SELECT rental_id, total FROM rental_cost_totals WHERE rental_id IN (%s)";
+
+    private static final String INSERT_TOTAL_SQL =
+            "INSERT INTO rental_cost_totals (rental_id, total, item_count, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRentalCostStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void openTotal(Long rentalId) {
+        jdbcTemplate.update(INSERT_TOTAL_SQL, rentalId, BigDecimal.ZERO, 0L, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public BigDecimal readTotal(Long rentalId) {
+        List<BigDecimal> totals = jdbcTemplate.queryForList(SELECT_TOTAL_SQL, BigDecimal.class, rentalId);
+        return totals.isEmpty() ? BigDecimal.ZERO : totals.get(0);
+    }
+
+    public Map<Long, BigDecimal> readTotals(Collection<Long> rentalIds) {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        if (rentalIds.isEmpty()) {
+            return totals;
+        }
+        rentalIds.forEach(rentalId -> totals.put(rentalId, BigDecimal.ZERO));
+        String placeholders = rentalIds.stream().map(rentalId -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.query(String.format(SELECT_TOTALS_SQL, placeholders),
+                resultSet -> {
+                    totals.put(resultSet.getLong(1), resultSet.getBigDecimal(2));
+                },
+                rentalIds.toArray());
+        return totals;
+    }
+
+    public List<RentalCostItem> append(List<RentalCostItem> items) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        insertItems(items, now);
+
+        // Sortiert nach Vermietung, damit parallele Sammelbuchungen die Zeilen in gleicher Reihenfolge sperren
+        Map<Long, Increment> increments = new TreeMap<>();
+        for (RentalCostItem item : items) {
+            increments.computeIfAbsent(item.getRentalId(), rentalId -> new Increment()).add(item.getAmount());
+        }
+        List<Map.Entry<Long, Increment>> entries = new ArrayList<>(increments.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_TOTAL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                Map.Entry<Long, Increment> entry = entries.get(i);
+                statement.setBigDecimal(1, entry.getValue().total);
+                statement.setLong(2, entry.getValue().count);
+                statement.setTimestamp(3, Timestamp.valueOf(now));
+                statement.setLong(4, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                // Vermietung ohne angelegte Summe (Altbestand)
+                Map.Entry<Long, Increment> entry = entries.get(i);
+                jdbcTemplate.update(INSERT_TOTAL_SQL, entry.getKey(), entry.getValue().total, entry.getValue().count,
+                        Timestamp.valueOf(now));
+            }
+        }
+        return items;
+    }
+
+    private void insertItems(List<RentalCostItem> items, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ITEM_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        RentalCostItem item = items.get(i);
+                        statement.setLong(1, item.getRentalId());
+                        statement.setString(2, item.getType().name());
+                        statement.setBigDecimal(3, item.getAmount());
+                        statement.setString(4, item.getDescription());
+                        if (item.getDamageReportId() != null) {
+                            statement.setLong(5, item.getDamageReportId());
+                        } else {
+                            statement.setNull(5, Types.BIGINT);
+                        }
+                        statement.setTimestamp(6, Timestamp.valueOf(now));
+                        statement.setTimestamp(7, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != items.size()) {
+            throw new IllegalStateException("Erzeugte Kostenpositions-IDs unvollständig");
+        }
+        for (int i = 0; i < items.size(); i++) {
+            RentalCostItem item = items.get(i);
+            item.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            item.setCreatedAt(now);
+            item.setUpdatedAt(now);
+            item.setVersion(0L);
+        }
+    }
+
+    private static final class Increment {
+        private BigDecimal total = BigDecimal.ZERO;
+        private long count;
+
+        private void add(BigDecimal amount) {
+            total = total.add(amount);
+            count++;
+        }
+    }
+}
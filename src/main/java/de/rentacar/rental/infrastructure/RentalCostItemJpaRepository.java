@@ -0,0 +1,15 @@
+package de.rentacar.rental.infrastructure;
+
+import de.rentacar.rental.domain.RentalCostItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface RentalCostItemJpaRepository extends JpaRepository<RentalCostItem, Long> {
+    List<RentalCostItem> findByRentalIdOrderByIdAsc(Long rentalId);
+}
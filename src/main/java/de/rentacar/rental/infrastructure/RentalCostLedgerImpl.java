@@ -0,0 +1,47 @@
+package de.rentacar.rental.infrastructure;
+
+import de.rentacar.rental.domain.RentalCostItem;
+import de.rentacar.rental.domain.RentalCostLedger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RentalCostLedgerImpl implements RentalCostLedger {
+
+    private final RentalCostItemJpaRepository itemJpaRepository;
+    private final JdbcRentalCostStore costStore;
+
+    @Override
+    public void open(Long rentalId) {
+        costStore.openTotal(rentalId);
+    }
+
+    @Override
+    public List<RentalCostItem> append(List<RentalCostItem> items) {
+        return costStore.append(items);
+    }
+
+    @Override
+    public BigDecimal totalFor(Long rentalId) {
+        return costStore.readTotal(rentalId);
+    }
+
+    @Override
+    public Map<Long, BigDecimal> totalsFor(Collection<Long> rentalIds) {
+        return costStore.readTotals(rentalIds);
+    }
+
+    @Override
+    public List<RentalCostItem> findByRentalId(Long rentalId) {
+        return itemJpaRepository.findByRentalIdOrderByIdAsc(rentalId);
+    }
+}
@@ -2,6 +2,9 @@ package de.rentacar.rental.infrastructure;
 
 import de.rentacar.rental.domain.Rental;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,5 +18,14 @@ public interface RentalJpaRepository extends JpaRepository<Rental, Long> {
     Optional<Rental> findByBookingId(Long bookingId);
     List<Rental> findByCustomerId(Long customerId);
     List<Rental> findByVehicleId(Long vehicleId);
+
+    @Query("SELECT r FROM Rental r WHERE r.actualReturnTime IS NULL")
+    List<Rental> findOpenRentals();
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.reportedOverdueDays = :overdueDays WHERE r.id = :rentalId " +
+           "AND r.actualReturnTime IS NULL " +
+           "AND (r.reportedOverdueDays IS NULL OR r.reportedOverdueDays < :overdueDays)")
+    int markOverdueReported(@Param("rentalId") Long rentalId, @Param("overdueDays") int overdueDays);
 }
 
@@ -5,6 +5,7 @@ import de.rentacar.rental.domain.RentalRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,11 +23,21 @@ public class RentalRepositoryImpl implements RentalRepository {
         return jpaRepository.save(rental);
     }
 
+    @Override
+    public List<Rental> saveAll(Collection<Rental> rentals) {
+        return jpaRepository.saveAll(rentals);
+    }
+
     @Override
     public Optional<Rental> findById(Long id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<Rental> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<Rental> findByBookingId(Long bookingId) {
         return jpaRepository.findByBookingId(bookingId);
@@ -46,5 +57,15 @@ public class RentalRepositoryImpl implements RentalRepository {
     public List<Rental> findByVehicleId(Long vehicleId) {
         return jpaRepository.findByVehicleId(vehicleId);
     }
+
+    @Override
+    public List<Rental> findOpenRentals() {
+        return jpaRepository.findOpenRentals();
+    }
+
+    @Override
+    public boolean markOverdueReported(Long rentalId, int overdueDays) {
+        return jpaRepository.markOverdueReported(rentalId, overdueDays) == 1;
+    }
 }
 
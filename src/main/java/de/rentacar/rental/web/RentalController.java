@@ -1,8 +1,13 @@
 package de.rentacar.rental.web;
 
 import de.rentacar.rental.application.RentalService;
+import de.rentacar.rental.application.RentalService.CheckinItem;
+import de.rentacar.rental.application.RentalService.DamageItem;
 import de.rentacar.rental.domain.DamageReport;
 import de.rentacar.rental.domain.Rental;
+import de.rentacar.rental.domain.RentalCosts;
+import de.rentacar.rental.domain.VehicleDamageHistory;
+import de.rentacar.rental.domain.VehicleDamageSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * REST Controller für Vermietungsprozess
@@ -51,6 +57,20 @@ public class RentalController {
         return ResponseEntity.ok(rental);
     }
 
+    @PostMapping("/checkin/batch")
+    public ResponseEntity<List<Rental>> performBulkCheckin(@RequestBody List<BulkCheckinRequest> request,
+                                                           Authentication authentication,
+                                                           HttpServletRequest httpRequest) {
+        List<Rental> rentals = rentalService.performBulkCheckin(
+                request.stream()
+                        .map(item -> new CheckinItem(item.rentalId(), item.mileage(), item.condition()))
+                        .toList(),
+                authentication.getName(),
+                httpRequest.getRemoteAddr()
+        );
+        return ResponseEntity.ok(rentals);
+    }
+
     @PostMapping("/{id}/damage")
     public ResponseEntity<DamageReport> createDamageReport(@PathVariable Long id,
                                                           @RequestBody DamageReportRequest request,
@@ -67,6 +87,42 @@ public class RentalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(damageReport);
     }
 
+    @PostMapping("/{id}/damages")
+    public ResponseEntity<List<DamageReport>> createDamageReports(@PathVariable Long id,
+                                                                 @RequestBody List<DamageReportRequest> request,
+                                                                 Authentication authentication,
+                                                                 HttpServletRequest httpRequest) {
+        List<DamageReport> damageReports = rentalService.createDamageReports(
+                id,
+                request.stream()
+                        .map(item -> new DamageItem(item.description(), item.repairCost(), item.notes()))
+                        .toList(),
+                authentication.getName(),
+                httpRequest.getRemoteAddr()
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(damageReports);
+    }
+
+    @GetMapping("/{id}/damages")
+    public ResponseEntity<List<DamageReport>> getDamageReports(@PathVariable Long id) {
+        return ResponseEntity.ok(rentalService.getDamageReports(id));
+    }
+
+    @GetMapping("/{id}/costs")
+    public ResponseEntity<RentalCosts> getRentalCosts(@PathVariable Long id) {
+        return ResponseEntity.ok(rentalService.getRentalCosts(id));
+    }
+
+    @GetMapping("/damages/vehicles")
+    public ResponseEntity<List<VehicleDamageSummary>> getFleetDamageSummary() {
+        return ResponseEntity.ok(rentalService.getFleetDamageSummary());
+    }
+
+    @GetMapping("/damages/vehicles/{vehicleId}")
+    public ResponseEntity<VehicleDamageHistory> getVehicleDamageHistory(@PathVariable Long vehicleId) {
+        return ResponseEntity.ok(rentalService.getVehicleDamageHistory(vehicleId));
+    }
+
     public record CheckoutRequest(
             Long bookingId,
             Long mileage,
@@ -78,6 +134,12 @@ public class RentalController {
             String condition
     ) {}
 
+    public record BulkCheckinRequest(
+            Long rentalId,
+            Long mileage,
+            String condition
+    ) {}
+
     public record DamageReportRequest(
             String description,
             BigDecimal repairCost,
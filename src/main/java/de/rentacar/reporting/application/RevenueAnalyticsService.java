@@ -0,0 +1,84 @@
+package de.rentacar.reporting.application;
+
+import de.rentacar.reporting.domain.RevenueColumnStore;
+import de.rentacar.reporting.domain.RevenueHistory;
+import de.rentacar.reporting.domain.RevenueQuery;
+import de.rentacar.reporting.domain.RevenueRow;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Application Service für Umsatzanalysen auf dem spaltenorientierten In-Memory-Speicher.
+ * Abfragen berühren die OLTP-Tabellen nicht; der Speicher wird beim Start und nächtlich
+ * vollständig geladen und dazwischen inkrementell aus Outbox-Events fortgeschrieben.
+ */
+@Service
+@RequiredArgsConstructor
+public class RevenueAnalyticsService {
+
+    /**
+     * So viele IDs unterhalb der Watermark werden auf noch offene Transaktionen geprüft
+     */
+    private static final long IN_FLIGHT_WINDOW = 1_000;
+
+    private final RevenueHistory revenueHistory;
+
+    private volatile RevenueColumnStore store = new RevenueColumnStore();
+    private long eventWatermark = 0L;
+    private Set<Long> inFlightEventIds = Set.of();
+    private final Set<Long> appliedEventIds = new HashSet<>();
+
+    /**
+     * Lädt den Speicher neu. Watermark und Umsatzfakten werden im selben Snapshot gelesen
+     * (REPEATABLE_READ): Events bis zur Watermark sind im Bestand enthalten und werden
+     * nicht erneut angewendet - außer IDs, die im Snapshot fehlten, weil ihre Transaktion
+     * noch offen war. Gemerkte IDs bis zur Watermark werden verworfen.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${rentacar.reporting.revenue-reload-cron:0 30 2 * * *}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public synchronized void reload() {
+        long watermark = revenueHistory.currentEventWatermark();
+        Set<Long> inFlight = revenueHistory.missingEventIds(Math.max(0L, watermark - IN_FLIGHT_WINDOW), watermark);
+        RevenueColumnStore fresh = new RevenueColumnStore();
+        revenueHistory.readRevenueFacts(fact -> fresh.append(fact.day(), fact.location(), fact.vehicleType(),
+                fact.rentalRevenue(), fact.additionalRevenue()));
+        this.store = fresh;
+        this.eventWatermark = watermark;
+        this.inFlightEventIds = inFlight;
+        appliedEventIds.removeIf(eventId -> eventId <= watermark);
+    }
+
+    /**
+     * Schreibt einen Umsatzfakt aus einem Outbox-Event fort. Bereits geladene und bereits
+     * angewendete Events werden ignoriert, damit erneute Zustellungen nicht doppelt zählen.
+     */
+    public synchronized void record(long eventId, LocalDate day, String location, VehicleType vehicleType,
+                                    BigDecimal rentalRevenue, BigDecimal additionalRevenue) {
+        boolean loaded = eventId <= eventWatermark && !inFlightEventIds.contains(eventId);
+        if (loaded || !appliedEventIds.add(eventId)) {
+            return;
+        }
+        store.append(day, location, vehicleType, rentalRevenue, additionalRevenue);
+    }
+
+    public List<RevenueRow> query(RevenueQuery query) {
+        return store.query(query);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,88 @@
+package de.rentacar.reporting.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Schreibt Umsatzfakten aus Vermietungs-Events in den spaltenorientierten Speicher fort.
+ * Standort und Fahrzeugtyp stammen aus dem Payload (Abholstandort der Buchung), nicht aus
+ * dem aktuellen Fahrzeugstand - das Fahrzeug kann inzwischen an einem anderen Standort stehen.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevenueEventSubscriber implements DomainEventSubscriber {
+
+    private final RevenueAnalyticsService revenueAnalyticsService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String aggregateType) {
+        return "Rental".equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        JsonNode payload = parse(event.getPayload());
+        switch (event.getEventType()) {
+            case "RENTAL_CHECKIN" -> revenueAnalyticsService.record(event.getId(), returnDay(payload),
+                    pickupLocation(payload), vehicleType(payload),
+                    amount(payload, "bookingTotalPrice"), amount(payload, "lateFee"));
+            case "DAMAGE_REPORTED" -> revenueAnalyticsService.record(event.getId(), returnDay(payload),
+                    pickupLocation(payload), vehicleType(payload),
+                    BigDecimal.ZERO, amount(payload, "repairCost"));
+            default -> {
+                // kein Umsatz
+            }
+        }
+    }
+
+    private String pickupLocation(JsonNode payload) {
+        return required(payload, "pickupLocation").asText();
+    }
+
+    private VehicleType vehicleType(JsonNode payload) {
+        return VehicleType.valueOf(required(payload, "vehicleType").asText());
+    }
+
+    private JsonNode required(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        if (node == null || node.isNull()) {
+            throw new IllegalArgumentException("Event-Payload ohne Feld " + field);
+        }
+        return node;
+    }
+
+    /**
+     * Zusatzkosten werden wie beim vollständigen Laden dem (geplanten) Rückgabetag zugeordnet
+     */
+    private LocalDate returnDay(JsonNode payload) {
+        JsonNode actualReturn = payload.get("actualReturnTime");
+        if (actualReturn != null && !actualReturn.isNull()) {
+            return LocalDateTime.parse(actualReturn.asText()).toLocalDate();
+        }
+        return LocalDate.parse(payload.get("plannedReturnDate").asText());
+    }
+
+    private BigDecimal amount(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node == null || node.isNull() ? BigDecimal.ZERO : node.decimalValue();
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload ist kein gültiges JSON", e);
+        }
+    }
+}
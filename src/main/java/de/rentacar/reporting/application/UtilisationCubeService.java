@@ -0,0 +1,303 @@
+package de.rentacar.reporting.application;
+
+import de.rentacar.reporting.domain.UtilisationContribution;
+import de.rentacar.reporting.domain.UtilisationContribution.Kind;
+import de.rentacar.reporting.domain.UtilisationContributionRepository;
+import de.rentacar.reporting.domain.UtilisationFact;
+import de.rentacar.reporting.domain.UtilisationFactRepository;
+import de.rentacar.reporting.domain.UtilisationHistory;
+import de.rentacar.reporting.domain.UtilisationHistory.Interval;
+import de.rentacar.reporting.domain.UtilisationKey;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Application Service für den materialisierten Auslastungswürfel
+ * (Fahrzeugtage gebucht / vermietet / in Wartung / außer Betrieb pro Standort, Typ und Tag)
+ */
+@Service
+public class UtilisationCubeService {
+
+    private static final int BOOKED = 0;
+    private static final int RENTED = 1;
+    private static final long MAX_INTERVAL_DAYS = 366;
+
+    private final UtilisationFactRepository factRepository;
+    private final UtilisationHistory utilisationHistory;
+    private final UtilisationContributionRepository contributionRepository;
+    private final int chunkSize;
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+
+    public UtilisationCubeService(UtilisationFactRepository factRepository,
+                                  UtilisationHistory utilisationHistory,
+                                  UtilisationContributionRepository contributionRepository,
+                                  @Value("${rentacar.reporting.rebuild-chunk-size:5000}") int chunkSize) {
+        this.factRepository = factRepository;
+        this.utilisationHistory = utilisationHistory;
+        this.contributionRepository = contributionRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Inkrementelle Anpassung der gebuchten/vermieteten Fahrzeugtage für einen Zeitraum
+     */
+    @Transactional
+    public void adjust(String location, VehicleType vehicleType, LocalDate from, LocalDate to,
+                       long bookedDelta, long rentedDelta) {
+        if (location == null || vehicleType == null || !isValidInterval(from, to)) {
+            return;
+        }
+        Map<LocalDate, UtilisationFact> cells = factRepository.findCells(location, vehicleType, from, to).stream()
+                .collect(Collectors.toMap(UtilisationFact::getDay, fact -> fact));
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            cells.computeIfAbsent(day, d -> UtilisationFact.empty(new UtilisationKey(location, vehicleType, d)))
+                    .adjust(bookedDelta, rentedDelta);
+        }
+        factRepository.saveAll(cells.values());
+    }
+
+    /**
+     * Bestätigte Buchung einmalig als gebuchte Fahrzeugtage zählen
+     */
+    @Transactional
+    public void applyBooking(Long bookingId, String location, VehicleType vehicleType, LocalDate from, LocalDate to) {
+        apply(Kind.GEBUCHT, bookingId, location, vehicleType, from, to);
+    }
+
+    /**
+     * Stornierte Buchung abziehen - mit Standort und Zeitraum der Bestätigung. Buchungen ohne
+     * gezählten Beitrag (Anfragen, bereits stornierte) bleiben unberücksichtigt.
+     */
+    @Transactional
+    public void withdrawBooking(Long bookingId) {
+        if (bookingId == null) {
+            return;
+        }
+        contributionRepository.find(Kind.GEBUCHT, bookingId)
+                .filter(contribution -> !contribution.isClosed())
+                .ifPresent(contribution -> {
+                    adjust(contribution.getLocation(), contribution.getVehicleType(),
+                            contribution.getFromDay(), contribution.getToDay(), -1, 0);
+                    contribution.close(contribution.getToDay());
+                    contributionRepository.save(contribution);
+                });
+    }
+
+    /**
+     * Ausgegebenes Fahrzeug einmalig bis zur geplanten Rückgabe als vermietet zählen
+     */
+    @Transactional
+    public void applyRental(Long rentalId, String location, VehicleType vehicleType, LocalDate from, LocalDate plannedTo) {
+        apply(Kind.VERMIETET, rentalId, location, vehicleType, from, plannedTo);
+    }
+
+    /**
+     * Rückgabe: geplanten Zeitraum durch den tatsächlichen ersetzen (einmalig, am Standort der Ausgabe)
+     */
+    @Transactional
+    public void settleRental(Long rentalId, String location, VehicleType vehicleType, LocalDate from, LocalDate actualTo) {
+        if (rentalId == null) {
+            return;
+        }
+        Optional<UtilisationContribution> existing = contributionRepository.find(Kind.VERMIETET, rentalId);
+        if (existing.isEmpty()) {
+            if (location == null || vehicleType == null) {
+                return;
+            }
+            UtilisationContribution contribution = UtilisationContribution.of(Kind.VERMIETET, rentalId,
+                    location, vehicleType, from, actualTo);
+            contribution.close(actualTo);
+            contributionRepository.save(contribution);
+            adjust(location, vehicleType, from, actualTo, 0, 1);
+            return;
+        }
+        UtilisationContribution contribution = existing.get();
+        if (contribution.isClosed()) {
+            return;
+        }
+        adjust(contribution.getLocation(), contribution.getVehicleType(),
+                contribution.getFromDay(), contribution.getToDay(), 0, -1);
+        adjust(contribution.getLocation(), contribution.getVehicleType(),
+                contribution.getFromDay(), actualTo, 0, 1);
+        contribution.close(actualTo);
+        contributionRepository.save(contribution);
+    }
+
+    private void apply(Kind kind, Long sourceId, String location, VehicleType vehicleType,
+                       LocalDate from, LocalDate to) {
+        if (sourceId == null || location == null || vehicleType == null
+                || contributionRepository.find(kind, sourceId).isPresent()) {
+            return;
+        }
+        contributionRepository.save(UtilisationContribution.of(kind, sourceId, location, vehicleType, from, to));
+        adjust(location, vehicleType, from, to, kind == Kind.GEBUCHT ? 1 : 0, kind == Kind.VERMIETET ? 1 : 0);
+    }
+
+    /**
+     * Abfrage des Würfels; Aufwand proportional zur Ergebnisgröße (Index auf Standort, Typ, Tag)
+     */
+    @Transactional(readOnly = true)
+    public List<UtilisationFact> query(LocalDate from, LocalDate to, String location, VehicleType vehicleType) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Ungültiger Zeitraum");
+        }
+        return factRepository.query(from, to, location, vehicleType);
+    }
+
+    /**
+     * Tagesabschluss: Fahrzeugtage in Wartung und außer Betrieb für heute festschreiben
+     */
+    @Scheduled(cron = "${rentacar.reporting.status-snapshot-cron:0 55 23 * * *}")
+    @Transactional
+    public void snapshotVehicleStatus() {
+        LocalDate today = LocalDate.now();
+        Map<UtilisationKey, UtilisationFact> cells = factRepository.findByDay(today).stream()
+                .collect(Collectors.toMap(UtilisationFact::key, fact -> fact));
+        cells.values().forEach(fact -> {
+            fact.setMaintenanceVehicleDays(0);
+            fact.setOutOfServiceVehicleDays(0);
+        });
+        for (UtilisationHistory.StatusCount statusCount : utilisationHistory.countVehiclesByStatus()) {
+            UtilisationKey key = new UtilisationKey(statusCount.location(), statusCount.vehicleType(), today);
+            switch (statusCount.status()) {
+                case WARTUNG -> cells.computeIfAbsent(key, UtilisationFact::empty)
+                        .setMaintenanceVehicleDays(statusCount.count());
+                case AUSSER_BETRIEB -> cells.computeIfAbsent(key, UtilisationFact::empty)
+                        .setOutOfServiceVehicleDays(statusCount.count());
+                default -> {
+                    // gebuchte und vermietete Tage werden inkrementell gepflegt
+                }
+            }
+        }
+        factRepository.saveAll(cells.values());
+    }
+
+    /**
+     * Vollständiger Neuaufbau der gebuchten/vermieteten Fahrzeugtage aus der Historie.
+     * Die Historie wird in ID-Chunks parallel gelesen und aggregiert; Wartungs- und
+     * Außer-Betrieb-Tage bleiben erhalten, da sie nur per Tagesabschluss erfasst werden.
+     * Die Würfelbeiträge werden in derselben Transaktion ersetzt, damit danach erneut
+     * zugestellte Events weder doppelt zählen noch verloren gehen.
+     *
+     * @return Anzahl geschriebener Zellen
+     */
+    @Transactional
+    public int rebuild() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            throw new IllegalStateException("Neuaufbau läuft bereits");
+        }
+        try {
+            Aggregate aggregate = aggregateInParallel(utilisationHistory.maxBookingId(),
+                    utilisationHistory::readBookedIntervals, Kind.GEBUCHT);
+            merge(aggregate, aggregateInParallel(utilisationHistory.maxRentalId(),
+                    utilisationHistory::readRentedIntervals, Kind.VERMIETET));
+
+            factRepository.resetBookedAndRented();
+            List<UtilisationFact> facts = loadOrCreateCells(aggregate.cube().keySet());
+            for (UtilisationFact fact : facts) {
+                long[] counts = aggregate.cube().get(fact.key());
+                fact.setBookedVehicleDays(counts[BOOKED]);
+                fact.setRentedVehicleDays(counts[RENTED]);
+            }
+            factRepository.saveAll(facts);
+            contributionRepository.deleteAll();
+            contributionRepository.saveAll(aggregate.contributions());
+            return facts.size();
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+
+    private Aggregate aggregateInParallel(long maxId, ChunkReader reader, Kind kind) {
+        long chunks = maxId / chunkSize + 1;
+        return LongStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    Aggregate partial = new Aggregate(new HashMap<>(), new ArrayList<>());
+                    reader.read(chunk * chunkSize, (chunk + 1) * chunkSize,
+                            interval -> addInterval(partial, interval, kind));
+                    return partial;
+                })
+                .reduce(UtilisationCubeService::merge)
+                .orElseGet(() -> new Aggregate(new HashMap<>(), new ArrayList<>()));
+    }
+
+    /**
+     * Stornierte Buchungen werden nur als abgeschlossener Beitrag festgehalten, zurückgegebene
+     * Vermietungen zählen mit ihrem tatsächlichen Zeitraum
+     */
+    private void addInterval(Aggregate aggregate, Interval interval, Kind kind) {
+        if (interval.location() == null || interval.vehicleType() == null) {
+            return;
+        }
+        UtilisationContribution contribution = UtilisationContribution.of(kind, interval.sourceId(),
+                interval.location(), interval.vehicleType(), interval.from(), interval.to());
+        if (interval.closed()) {
+            contribution.close(interval.to());
+        }
+        aggregate.contributions().add(contribution);
+        if ((kind == Kind.GEBUCHT && interval.closed()) || !isValidInterval(interval.from(), interval.to())) {
+            return;
+        }
+        int slot = kind == Kind.GEBUCHT ? BOOKED : RENTED;
+        for (LocalDate day = interval.from(); !day.isAfter(interval.to()); day = day.plusDays(1)) {
+            aggregate.cube().computeIfAbsent(new UtilisationKey(interval.location(), interval.vehicleType(), day),
+                    key -> new long[2])[slot]++;
+        }
+    }
+
+    private static Aggregate merge(Aggregate target, Aggregate source) {
+        source.cube().forEach((key, counts) -> target.cube().merge(key, counts, (left, right) -> {
+            left[BOOKED] += right[BOOKED];
+            left[RENTED] += right[RENTED];
+            return left;
+        }));
+        target.contributions().addAll(source.contributions());
+        return target;
+    }
+
+    private List<UtilisationFact> loadOrCreateCells(Set<UtilisationKey> keys) {
+        Map<String, List<UtilisationKey>> keysBySeries = keys.stream()
+                .collect(Collectors.groupingBy(key -> key.location() + "|" + key.vehicleType()));
+        List<UtilisationFact> facts = new ArrayList<>(keys.size());
+        for (List<UtilisationKey> series : keysBySeries.values()) {
+            UtilisationKey first = series.get(0);
+            LocalDate from = series.stream().map(UtilisationKey::day).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDate to = series.stream().map(UtilisationKey::day).max(Comparator.naturalOrder()).orElseThrow();
+            Map<UtilisationKey, UtilisationFact> existing = factRepository
+                    .findCells(first.location(), first.vehicleType(), from, to).stream()
+                    .collect(Collectors.toMap(UtilisationFact::key, fact -> fact));
+            for (UtilisationKey key : series) {
+                facts.add(existing.computeIfAbsent(key, UtilisationFact::empty));
+            }
+        }
+        return facts;
+    }
+
+    private boolean isValidInterval(LocalDate from, LocalDate to) {
+        return from != null && to != null && !from.isAfter(to)
+                && ChronoUnit.DAYS.between(from, to) < MAX_INTERVAL_DAYS;
+    }
+
+    /**
+     * Zwischenergebnis des Neuaufbaus: Würfelzellen und Beiträge je Buchung bzw. Vermietung
+     */
+    private record Aggregate(Map<UtilisationKey, long[]> cube, List<UtilisationContribution> contributions) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        void read(long fromIdExclusive, long toIdInclusive, Consumer<Interval> consumer);
+    }
+}
@@ -0,0 +1,82 @@
+package de.rentacar.reporting.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Hält den Auslastungswürfel anhand der Buchungs- und Vermietungs-Events aus der Outbox aktuell.
+ * Jede Buchung bzw. Vermietung wird über ihre ID genau einmal am Abholstandort der Buchung
+ * gezählt - wie beim Neuaufbau; Stornierung und Rückgabe korrigieren mit dem bei Bestätigung
+ * bzw. Ausgabe festgehaltenen Beitrag.
+ */
+@Component
+@RequiredArgsConstructor
+public class UtilisationEventSubscriber implements DomainEventSubscriber {
+
+    private final UtilisationCubeService utilisationCubeService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String aggregateType) {
+        return "Booking".equals(aggregateType) || "Rental".equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        JsonNode payload = parse(event.getPayload());
+        String location = text(payload, "pickupLocation");
+        String type = text(payload, "vehicleType");
+        VehicleType vehicleType = type != null ? VehicleType.valueOf(type) : null;
+
+        switch (event.getEventType()) {
+            case "BOOKING_CONFIRMED" -> utilisationCubeService.applyBooking(id(payload, "bookingId"),
+                    location, vehicleType, date(payload, "pickupDate"), date(payload, "returnDate"));
+            case "BOOKING_CANCELLED" -> utilisationCubeService.withdrawBooking(id(payload, "bookingId"));
+            case "RENTAL_CHECKOUT" -> utilisationCubeService.applyRental(id(payload, "rentalId"),
+                    location, vehicleType, date(payload, "actualPickupTime"), date(payload, "plannedReturnDate"));
+            case "RENTAL_CHECKIN" -> utilisationCubeService.settleRental(id(payload, "rentalId"),
+                    location, vehicleType, date(payload, "actualPickupTime"), date(payload, "actualReturnTime"));
+            default -> {
+                // für die Auslastung nicht relevant
+            }
+        }
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload ist kein gültiges JSON", e);
+        }
+    }
+
+    private Long id(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node == null || node.isNull() ? null : node.asLong();
+    }
+
+    private String text(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    /**
+     * Liest ein ISO-Datum oder den Datumsanteil eines ISO-Zeitstempels
+     */
+    private LocalDate date(JsonNode payload, String field) {
+        String value = text(payload, field);
+        if (value == null) {
+            return null;
+        }
+        return value.length() > 10 ? LocalDateTime.parse(value).toLocalDate() : LocalDate.parse(value);
+    }
+}
@@ -0,0 +1,209 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Spaltenorientierter In-Memory-Speicher für Umsatzfakten (Reporting Context)
+ * Jede Spalte ist ein primitives Array; Standorte sind dictionary-kodiert, Tage als Epoch-Day abgelegt.
+ * Der Speicher ist append-only: Abfragen arbeiten auf einem Snapshot (Arrays + Größe) ohne Sperre,
+ * da Zeilen unterhalb der veröffentlichten Größe nie mehr verändert werden.
+ */
+public class RevenueColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PARALLEL_CHUNK_SIZE = 64 * 1024;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final Map<String, Integer> locationCodes = new HashMap<>();
+    private final List<String> locationDictionary = new ArrayList<>();
+
+    private int size = 0;
+    private int[] days = new int[INITIAL_CAPACITY];
+    private int[] months = new int[INITIAL_CAPACITY];
+    private int[] locations = new int[INITIAL_CAPACITY];
+    private byte[] vehicleTypes = new byte[INITIAL_CAPACITY];
+    private long[] rentalCents = new long[INITIAL_CAPACITY];
+    private long[] additionalCents = new long[INITIAL_CAPACITY];
+
+    /**
+     * Fügt einen Umsatzfakt an (Beträge in EUR)
+     */
+    public synchronized void append(LocalDate day, String location, VehicleType vehicleType,
+                                    BigDecimal rentalRevenue, BigDecimal additionalRevenue) {
+        if (day == null || location == null || vehicleType == null) {
+            throw new IllegalArgumentException("Tag, Standort und Fahrzeugtyp sind Pflicht");
+        }
+        ensureCapacity(size + 1);
+        days[size] = (int) day.toEpochDay();
+        months[size] = day.getYear() * 12 + day.getMonthValue() - 1;
+        locations[size] = locationCodes.computeIfAbsent(location, this::registerLocation);
+        vehicleTypes[size] = (byte) vehicleType.ordinal();
+        rentalCents[size] = toCents(rentalRevenue);
+        additionalCents[size] = toCents(additionalRevenue);
+        size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Filtert und gruppiert alle Fakten; große Bestände werden in Chunks parallel aggregiert
+     */
+    public List<RevenueRow> query(RevenueQuery query) {
+        Snapshot snapshot = snapshot(query);
+        int chunks = (snapshot.size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+
+        Map<Long, long[]> groups = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> aggregate(snapshot, query, chunk * PARALLEL_CHUNK_SIZE,
+                        Math.min(snapshot.size, (chunk + 1) * PARALLEL_CHUNK_SIZE)))
+                .reduce(RevenueColumnStore::merge)
+                .orElseGet(HashMap::new);
+
+        return groups.entrySet().stream()
+                .map(entry -> toRow(entry.getKey(), entry.getValue(), query, snapshot.dictionary))
+                .sorted(Comparator.comparing((RevenueRow row) -> Objects.toString(row.period(), ""))
+                        .thenComparing(row -> Objects.toString(row.location(), ""))
+                        .thenComparing(row -> row.vehicleType() != null ? row.vehicleType().ordinal() : -1))
+                .collect(Collectors.toList());
+    }
+
+    private synchronized Snapshot snapshot(RevenueQuery query) {
+        boolean[] locationFilter = null;
+        if (!query.locations().isEmpty()) {
+            locationFilter = new boolean[locationDictionary.size()];
+            for (String location : query.locations()) {
+                Integer code = locationCodes.get(location);
+                if (code != null) {
+                    locationFilter[code] = true;
+                }
+            }
+        }
+        return new Snapshot(size, days, months, locations, vehicleTypes, rentalCents, additionalCents,
+                List.copyOf(locationDictionary), locationFilter);
+    }
+
+    private static Map<Long, long[]> aggregate(Snapshot snapshot, RevenueQuery query, int from, int to) {
+        int dayFrom = (int) query.from().toEpochDay();
+        int dayTo = (int) query.to().toEpochDay();
+        int typeMask = typeMask(query.vehicleTypes());
+        boolean[] locationFilter = snapshot.locationFilter;
+
+        // Selektionsvektor: enge Schleife über primitive Spalten ohne Objektzugriffe
+        int[] selection = new int[to - from];
+        int selected = 0;
+        for (int row = from; row < to; row++) {
+            int day = snapshot.days[row];
+            boolean match = day >= dayFrom & day <= dayTo
+                    & ((typeMask >>> snapshot.vehicleTypes[row]) & 1) != 0
+                    & (locationFilter == null || locationFilter[snapshot.locations[row]]);
+            selection[selected] = row;
+            selected += match ? 1 : 0;
+        }
+
+        Map<Long, long[]> groups = new HashMap<>();
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            long key = groupKey(snapshot, query, row);
+            long[] sums = groups.computeIfAbsent(key, k -> new long[3]);
+            sums[0] += snapshot.rentalCents[row];
+            sums[1] += snapshot.additionalCents[row];
+            sums[2]++;
+        }
+        return groups;
+    }
+
+    /**
+     * Gruppenschlüssel: Periode (32 Bit) | Standortcode (24 Bit) | Fahrzeugtyp (8 Bit)
+     */
+    private static long groupKey(Snapshot snapshot, RevenueQuery query, int row) {
+        long period = 0;
+        if (query.period() != null) {
+            period = switch (query.period()) {
+                case DAY -> snapshot.days[row];
+                case MONTH -> snapshot.months[row];
+                case YEAR -> snapshot.months[row] / 12;
+            };
+        }
+        long location = query.groupByLocation() ? snapshot.locations[row] : 0;
+        long type = query.groupByVehicleType() ? snapshot.vehicleTypes[row] : 0;
+        return (period << 32) | (location << 8) | type;
+    }
+
+    private static RevenueRow toRow(long key, long[] sums, RevenueQuery query, List<String> dictionary) {
+        int periodValue = (int) (key >> 32);
+        String period = null;
+        if (query.period() != null) {
+            period = switch (query.period()) {
+                case DAY -> LocalDate.ofEpochDay(periodValue).toString();
+                case MONTH -> YearMonth.of(periodValue / 12, periodValue % 12 + 1).toString();
+                case YEAR -> String.valueOf(periodValue);
+            };
+        }
+        String location = query.groupByLocation() ? dictionary.get((int) ((key >> 8) & 0xFFFFFF)) : null;
+        VehicleType type = query.groupByVehicleType() ? VEHICLE_TYPES[(int) (key & 0xFF)] : null;
+        BigDecimal rental = BigDecimal.valueOf(sums[0], 2);
+        BigDecimal additional = BigDecimal.valueOf(sums[1], 2);
+        return new RevenueRow(period, location, type, rental, additional, rental.add(additional), sums[2]);
+    }
+
+    private static Map<Long, long[]> merge(Map<Long, long[]> target, Map<Long, long[]> source) {
+        source.forEach((key, sums) -> target.merge(key, sums, (left, right) -> {
+            left[0] += right[0];
+            left[1] += right[1];
+            left[2] += right[2];
+            return left;
+        }));
+        return target;
+    }
+
+    private static int typeMask(Set<VehicleType> types) {
+        if (types.isEmpty()) {
+            return -1;
+        }
+        int mask = 0;
+        for (VehicleType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private Integer registerLocation(String location) {
+        locationDictionary.add(location);
+        return locationDictionary.size() - 1;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= days.length) {
+            return;
+        }
+        int capacity = Math.max(required, days.length * 2);
+        days = Arrays.copyOf(days, capacity);
+        months = Arrays.copyOf(months, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+        vehicleTypes = Arrays.copyOf(vehicleTypes, capacity);
+        rentalCents = Arrays.copyOf(rentalCents, capacity);
+        additionalCents = Arrays.copyOf(additionalCents, capacity);
+    }
+
+    private record Snapshot(int size, int[] days, int[] months, int[] locations, byte[] vehicleTypes,
+                            long[] rentalCents, long[] additionalCents, List<String> dictionary,
+                            boolean[] locationFilter) {
+    }
+}
@@ -0,0 +1,38 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Lesezugriff auf die Umsatzhistorie für das Laden des spaltenorientierten Speichers
+ */
+public interface RevenueHistory {
+
+    /**
+     * Höchste sichtbare Outbox-Event-ID. Im selben Snapshot gelesen, sind Events bis
+     * einschließlich dieser ID im Datenbestand enthalten - außer den fehlenden IDs.
+     */
+    long currentEventWatermark();
+
+    /**
+     * IDs im Bereich (fromIdExclusive, toIdInclusive], die im Snapshot nicht sichtbar sind
+     * (zurückgerollt oder von einer noch offenen Transaktion vergeben)
+     */
+    Set<Long> missingEventIds(long fromIdExclusive, long toIdInclusive);
+
+    /**
+     * Streamt Mietumsätze abgeschlossener Buchungen sowie Zusatzkosten aller Vermietungen
+     */
+    void readRevenueFacts(Consumer<RevenueFact> consumer);
+
+    /**
+     * Value Object: Umsatzfakt (Zusatzkosten werden dem Rückgabetag zugeordnet)
+     */
+    record RevenueFact(LocalDate day, String location, VehicleType vehicleType,
+                       BigDecimal rentalRevenue, BigDecimal additionalRevenue) {
+    }
+}
@@ -0,0 +1,10 @@
+package de.rentacar.reporting.domain;
+
+/**
+ * Value Object: Periodengranularität für Umsatzauswertungen
+ */
+public enum RevenuePeriod {
+    DAY,
+    MONTH,
+    YEAR
+}
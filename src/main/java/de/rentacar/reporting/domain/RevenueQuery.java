@@ -0,0 +1,27 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Value Object: Filter und Gruppierung einer Umsatzabfrage
+ * Leere Filtermengen bedeuten "alle"; period == null bedeutet keine Gruppierung nach Zeit.
+ */
+public record RevenueQuery(LocalDate from,
+                           LocalDate to,
+                           Set<String> locations,
+                           Set<VehicleType> vehicleTypes,
+                           RevenuePeriod period,
+                           boolean groupByLocation,
+                           boolean groupByVehicleType) {
+
+    public RevenueQuery {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Ungültiger Zeitraum");
+        }
+        locations = locations != null ? Set.copyOf(locations) : Set.of();
+        vehicleTypes = vehicleTypes != null ? Set.copyOf(vehicleTypes) : Set.of();
+    }
+}
@@ -0,0 +1,17 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.math.BigDecimal;
+
+/**
+ * Value Object: Ergebniszeile einer Umsatzabfrage (nicht gruppierte Dimensionen sind null)
+ */
+public record RevenueRow(String period,
+                         String location,
+                         VehicleType vehicleType,
+                         BigDecimal rentalRevenue,
+                         BigDecimal additionalRevenue,
+                         BigDecimal totalRevenue,
+                         long facts) {
+}
@@ -0,0 +1,75 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import de.rentacar.vehicle.domain.VehicleType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Beitrag einer Buchung bzw. Vermietung zum Auslastungswürfel (Reporting Context).
+ * Hält Standort, Typ und Zeitraum fest, mit denen der Beitrag angewendet wurde, damit
+ * erneut zugestellte Events nicht doppelt zählen und Stornierung bzw. Rückgabe genau
+ * die ursprünglich gezählten Zellen korrigieren.
+ */
+@Entity
+@Table(name = "utilisation_contributions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_utilisation_contributions_source",
+                columnNames = {"kind", "source_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UtilisationContribution extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Kind kind;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(nullable = false, length = 100)
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_type", nullable = false)
+    private VehicleType vehicleType;
+
+    private LocalDate fromDay;
+
+    private LocalDate toDay;
+
+    /**
+     * Buchung: storniert und wieder abgezogen; Vermietung: auf den tatsächlichen Zeitraum abgerechnet
+     */
+    @Builder.Default
+    private boolean closed = false;
+
+    public static UtilisationContribution of(Kind kind, Long sourceId, String location, VehicleType vehicleType,
+                                             LocalDate fromDay, LocalDate toDay) {
+        return UtilisationContribution.builder()
+                .kind(kind)
+                .sourceId(sourceId)
+                .location(location)
+                .vehicleType(vehicleType)
+                .fromDay(fromDay)
+                .toDay(toDay)
+                .build();
+    }
+
+    /**
+     * Domain-Methode: Beitrag abschließen, optional mit neuem Enddatum
+     */
+    public void close(LocalDate toDay) {
+        this.toDay = toDay;
+        this.closed = true;
+    }
+
+    public enum Kind {
+        GEBUCHT,
+        VERMIETET
+    }
+}
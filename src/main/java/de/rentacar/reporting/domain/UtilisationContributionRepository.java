@@ -0,0 +1,14 @@
+package de.rentacar.reporting.domain;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository Interface für Würfelbeiträge (Domain Layer)
+ */
+public interface UtilisationContributionRepository {
+    UtilisationContribution save(UtilisationContribution contribution);
+    Optional<UtilisationContribution> find(UtilisationContribution.Kind kind, Long sourceId);
+    void saveAll(Collection<UtilisationContribution> contributions);
+    void deleteAll();
+}
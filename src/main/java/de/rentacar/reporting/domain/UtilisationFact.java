@@ -0,0 +1,67 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import de.rentacar.vehicle.domain.VehicleType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Zelle des Auslastungswürfels: Fahrzeugtage pro Standort, Fahrzeugtyp und Tag (Reporting Context)
+ */
+@Entity
+@Table(name = "utilisation_facts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_utilisation_facts_cell",
+                columnNames = {"fact_date", "location", "vehicle_type"}),
+        indexes = @Index(name = "idx_utilisation_facts_location_type_day",
+                columnList = "location, vehicle_type, fact_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UtilisationFact extends BaseEntity {
+
+    @Column(name = "fact_date", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false, length = 100)
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_type", nullable = false)
+    private VehicleType vehicleType;
+
+    @Builder.Default
+    private long bookedVehicleDays = 0;
+
+    @Builder.Default
+    private long rentedVehicleDays = 0;
+
+    @Builder.Default
+    private long maintenanceVehicleDays = 0;
+
+    @Builder.Default
+    private long outOfServiceVehicleDays = 0;
+
+    public static UtilisationFact empty(UtilisationKey key) {
+        return UtilisationFact.builder()
+                .day(key.day())
+                .location(key.location())
+                .vehicleType(key.vehicleType())
+                .build();
+    }
+
+    public UtilisationKey key() {
+        return new UtilisationKey(location, vehicleType, day);
+    }
+
+    /**
+     * Domain-Methode: gebuchte/vermietete Fahrzeugtage inkrementell anpassen
+     */
+    public void adjust(long bookedDelta, long rentedDelta) {
+        this.bookedVehicleDays = Math.max(0, this.bookedVehicleDays + bookedDelta);
+        this.rentedVehicleDays = Math.max(0, this.rentedVehicleDays + rentedDelta);
+    }
+}
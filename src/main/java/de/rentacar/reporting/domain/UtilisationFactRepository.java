@@ -0,0 +1,18 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository Interface für den Auslastungswürfel (Domain Layer)
+ */
+public interface UtilisationFactRepository {
+    List<UtilisationFact> saveAll(Collection<UtilisationFact> facts);
+    List<UtilisationFact> findCells(String location, VehicleType vehicleType, LocalDate from, LocalDate to);
+    List<UtilisationFact> findByDay(LocalDate day);
+    List<UtilisationFact> query(LocalDate from, LocalDate to, String location, VehicleType vehicleType);
+    void resetBookedAndRented();
+}
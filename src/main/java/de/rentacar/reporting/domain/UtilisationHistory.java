@@ -0,0 +1,46 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Lesezugriff auf die Buchungs- und Vermietungshistorie für den Neuaufbau des Auslastungswürfels
+ * Die Historie wird in ID-Bereichen gelesen, damit Chunks parallel verarbeitet werden können.
+ */
+public interface UtilisationHistory {
+
+    long maxBookingId();
+
+    long maxRentalId();
+
+    /**
+     * Streamt bestätigte, abgeschlossene und stornierte Buchungen mit ID in (fromIdExclusive, toIdInclusive];
+     * stornierte sind als abgeschlossen markiert und zählen nicht als gebucht
+     */
+    void readBookedIntervals(long fromIdExclusive, long toIdInclusive, Consumer<Interval> consumer);
+
+    /**
+     * Streamt Vermietungen mit ID in (fromIdExclusive, toIdInclusive]; zurückgegebene sind als
+     * abgeschlossen markiert
+     */
+    void readRentedIntervals(long fromIdExclusive, long toIdInclusive, Consumer<Interval> consumer);
+
+    List<StatusCount> countVehiclesByStatus();
+
+    /**
+     * Value Object: Belegungszeitraum einer Buchung bzw. Vermietung am Abholstandort der Buchung
+     */
+    record Interval(Long sourceId, String location, VehicleType vehicleType, LocalDate from, LocalDate to,
+                    boolean closed) {
+    }
+
+    /**
+     * Value Object: Anzahl Fahrzeuge je Standort, Typ und Status
+     */
+    record StatusCount(String location, VehicleType vehicleType, VehicleStatus status, long count) {
+    }
+}
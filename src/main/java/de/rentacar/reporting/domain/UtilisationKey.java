@@ -0,0 +1,11 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: Koordinate einer Zelle im Auslastungswürfel
+ */
+public record UtilisationKey(String location, VehicleType vehicleType, LocalDate day) {
+}
@@ -0,0 +1,94 @@
+package de.rentacar.reporting.infrastructure;
+
+import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.reporting.domain.RevenueHistory;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * JDBC-basierte Umsatzhistorie (Infrastructure Layer). Umsatz wird dem Abholstandort der
+ * Buchung zugeordnet, nicht dem aktuellen Standort des Fahrzeugs.
+ */
+@Component
+public class JdbcRevenueHistory implements RevenueHistory {
+
+    private static final String RENTAL_REVENUE_SQL =
+            "SELECT COALESCE(CAST(r.actual_return_time AS DATE), b.return_date), l.name, v.type, b.total_price " +
+            "FROM bookings b JOIN vehicles v ON v.id = b.vehicle_id " +
+            "JOIN branches l ON l.id = b.pickup_location_id " +
+            "LEFT JOIN rentals r ON r.booking_id = b.id " +
+            "WHERE b.status = ?";
+
+    private static final String ADDITIONAL_REVENUE_SQL =
+            "SELECT COALESCE(CAST(r.actual_return_time AS DATE), r.planned_return_date), l.name, v.type, " +
+            "t.total FROM rental_cost_totals t JOIN rentals r ON r.id = t.rental_id " +
+            "JOIN bookings b ON b.id = r.booking_id " +
+            "JOIN vehicles v ON v.id = b.vehicle_id " +
+            "JOIN branches l ON l.id = b.pickup_location_id " +
+            "WHERE t.total > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcRevenueHistory(JdbcTemplate jdbcTemplate,
+                              @Value("${rentacar.reporting.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long currentEventWatermark() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM outbox_events", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public Set<Long> missingEventIds(long fromIdExclusive, long toIdInclusive) {
+        Set<Long> missing = new HashSet<>();
+        for (long id = fromIdExclusive + 1; id <= toIdInclusive; id++) {
+            missing.add(id);
+        }
+        jdbcTemplate.query("SELECT id FROM outbox_events WHERE id > ? AND id <= ?",
+                resultSet -> {
+                    missing.remove(resultSet.getLong(1));
+                }, fromIdExclusive, toIdInclusive);
+        return missing;
+    }
+
+    @Override
+    public void readRevenueFacts(Consumer<RevenueFact> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RENTAL_REVENUE_SQL);
+            statement.setFetchSize(fetchSize);
+            statement.setString(1, BookingStatus.ABGESCHLOSSEN.name());
+            return statement;
+        }, resultSet -> {
+            consumer.accept(new RevenueFact(
+                    resultSet.getDate(1).toLocalDate(),
+                    resultSet.getString(2),
+                    VehicleType.valueOf(resultSet.getString(3)),
+                    resultSet.getBigDecimal(4),
+                    BigDecimal.ZERO));
+        });
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ADDITIONAL_REVENUE_SQL);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            consumer.accept(new RevenueFact(
+                    resultSet.getDate(1).toLocalDate(),
+                    resultSet.getString(2),
+                    VehicleType.valueOf(resultSet.getString(3)),
+                    BigDecimal.ZERO,
+                    resultSet.getBigDecimal(4)));
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package de.rentacar.reporting.infrastructure;
+
+import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.reporting.domain.UtilisationHistory;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC-basierte Historie (Infrastructure Layer)
+ * Liest nur die benötigten Spalten mit Fetch-Size, ohne Entities zu laden.
+ */
+@Component
+public class JdbcUtilisationHistory implements UtilisationHistory {
+
+    private static final String BOOKED_SQL =
+            "SELECT b.id, l.name, v.type, b.pickup_date, b.return_date, b.status FROM bookings b " +
+            "JOIN vehicles v ON v.id = b.vehicle_id " +
+            "JOIN branches l ON l.id = b.pickup_location_id " +
+            "WHERE b.id > ? AND b.id <= ? AND b.status IN (?, ?, ?)";
+
+    private static final String RENTED_SQL =
+            "SELECT r.id, l.name, v.type, r.actual_pickup_time, r.planned_pickup_date, " +
+            "r.actual_return_time, r.planned_return_date FROM rentals r " +
+            "JOIN vehicles v ON v.id = r.vehicle_id " +
+            "JOIN bookings b ON b.id = r.booking_id " +
+            "JOIN branches l ON l.id = b.pickup_location_id " +
+            "WHERE r.id > ? AND r.id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcUtilisationHistory(JdbcTemplate jdbcTemplate,
+                                  @Value("${rentacar.reporting.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long maxBookingId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM bookings", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public long maxRentalId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM rentals", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public void readBookedIntervals(long fromIdExclusive, long toIdInclusive, Consumer<Interval> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BOOKED_SQL);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, fromIdExclusive);
+            statement.setLong(2, toIdInclusive);
+            statement.setString(3, BookingStatus.BESTÄTIGT.name());
+            statement.setString(4, BookingStatus.ABGESCHLOSSEN.name());
+            statement.setString(5, BookingStatus.STORNIERT.name());
+            return statement;
+        }, resultSet -> {
+            consumer.accept(new Interval(
+                    resultSet.getLong(1),
+                    resultSet.getString(2),
+                    VehicleType.valueOf(resultSet.getString(3)),
+                    resultSet.getDate(4).toLocalDate(),
+                    resultSet.getDate(5).toLocalDate(),
+                    BookingStatus.STORNIERT.name().equals(resultSet.getString(6))));
+        });
+    }
+
+    @Override
+    public void readRentedIntervals(long fromIdExclusive, long toIdInclusive, Consumer<Interval> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RENTED_SQL);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, fromIdExclusive);
+            statement.setLong(2, toIdInclusive);
+            return statement;
+        }, resultSet -> {
+            LocalDate from = toDate(resultSet.getTimestamp(4), resultSet.getDate(5));
+            LocalDate to = toDate(resultSet.getTimestamp(6), resultSet.getDate(7));
+            consumer.accept(new Interval(
+                    resultSet.getLong(1),
+                    resultSet.getString(2),
+                    VehicleType.valueOf(resultSet.getString(3)),
+                    from,
+                    to,
+                    resultSet.getTimestamp(6) != null));
+        });
+    }
+
+    @Override
+    public List<StatusCount> countVehiclesByStatus() {
+        return jdbcTemplate.query(
+                "SELECT l.name, v.type, v.status, COUNT(*) FROM vehicles v " +
+                "JOIN branches l ON l.id = v.location_id GROUP BY l.name, v.type, v.status",
+                (resultSet, rowNum) -> new StatusCount(
+                        resultSet.getString(1),
+                        VehicleType.valueOf(resultSet.getString(2)),
+                        VehicleStatus.valueOf(resultSet.getString(3)),
+                        resultSet.getLong(4)));
+    }
+
+    private LocalDate toDate(Timestamp actual, Date planned) {
+        return actual != null ? actual.toLocalDateTime().toLocalDate() : planned.toLocalDate();
+    }
+}
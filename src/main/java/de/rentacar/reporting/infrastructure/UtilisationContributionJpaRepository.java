@@ -0,0 +1,25 @@
+package de.rentacar.reporting.infrastructure;
+
+import de.rentacar.reporting.domain.UtilisationContribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface UtilisationContributionJpaRepository extends JpaRepository<UtilisationContribution, Long> {
+
+    Optional<UtilisationContribution> findByKindAndSourceId(UtilisationContribution.Kind kind, Long sourceId);
+
+    /**
+     * Sofortiges Massenlöschen, damit der anschließende Neuaufbau nicht an der Eindeutigkeit scheitert
+     */
+    @Modifying
+    @Query("DELETE FROM UtilisationContribution c")
+    void deleteAllContributions();
+}
@@ -0,0 +1,39 @@
+package de.rentacar.reporting.infrastructure;
+
+import de.rentacar.reporting.domain.UtilisationContribution;
+import de.rentacar.reporting.domain.UtilisationContributionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UtilisationContributionRepositoryImpl implements UtilisationContributionRepository {
+
+    private final UtilisationContributionJpaRepository jpaRepository;
+
+    @Override
+    public UtilisationContribution save(UtilisationContribution contribution) {
+        return jpaRepository.save(contribution);
+    }
+
+    @Override
+    public Optional<UtilisationContribution> find(UtilisationContribution.Kind kind, Long sourceId) {
+        return jpaRepository.findByKindAndSourceId(kind, sourceId);
+    }
+
+    @Override
+    public void saveAll(Collection<UtilisationContribution> contributions) {
+        jpaRepository.saveAll(contributions);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAllContributions();
+    }
+}
@@ -0,0 +1,37 @@
+package de.rentacar.reporting.infrastructure;
+
+import de.rentacar.reporting.domain.UtilisationFact;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface UtilisationFactJpaRepository extends JpaRepository<UtilisationFact, Long> {
+
+    List<UtilisationFact> findByLocationAndVehicleTypeAndDayBetween(String location, VehicleType vehicleType,
+                                                                    LocalDate from, LocalDate to);
+
+    List<UtilisationFact> findByDay(LocalDate day);
+
+    @Query("SELECT f FROM UtilisationFact f WHERE f.day BETWEEN :from AND :to " +
+           "AND (:location IS NULL OR f.location = :location) " +
+           "AND (:vehicleType IS NULL OR f.vehicleType = :vehicleType) " +
+           "ORDER BY f.day, f.location, f.vehicleType")
+    List<UtilisationFact> query(@Param("from") LocalDate from,
+                                @Param("to") LocalDate to,
+                                @Param("location") String location,
+                                @Param("vehicleType") VehicleType vehicleType);
+
+    @Modifying
+    @Query("UPDATE UtilisationFact f SET f.bookedVehicleDays = 0, f.rentedVehicleDays = 0")
+    void resetBookedAndRented();
+}
@@ -0,0 +1,46 @@
+package de.rentacar.reporting.infrastructure;
+
+import de.rentacar.reporting.domain.UtilisationFact;
+import de.rentacar.reporting.domain.UtilisationFactRepository;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UtilisationFactRepositoryImpl implements UtilisationFactRepository {
+
+    private final UtilisationFactJpaRepository jpaRepository;
+
+    @Override
+    public List<UtilisationFact> saveAll(Collection<UtilisationFact> facts) {
+        return jpaRepository.saveAll(facts);
+    }
+
+    @Override
+    public List<UtilisationFact> findCells(String location, VehicleType vehicleType, LocalDate from, LocalDate to) {
+        return jpaRepository.findByLocationAndVehicleTypeAndDayBetween(location, vehicleType, from, to);
+    }
+
+    @Override
+    public List<UtilisationFact> findByDay(LocalDate day) {
+        return jpaRepository.findByDay(day);
+    }
+
+    @Override
+    public List<UtilisationFact> query(LocalDate from, LocalDate to, String location, VehicleType vehicleType) {
+        return jpaRepository.query(from, to, location, vehicleType);
+    }
+
+    @Override
+    public void resetBookedAndRented() {
+        jpaRepository.resetBookedAndRented();
+    }
+}
@@ -0,0 +1,68 @@
+package de.rentacar.reporting.web;
+
+import de.rentacar.reporting.application.RevenueAnalyticsService;
+import de.rentacar.reporting.application.UtilisationCubeService;
+import de.rentacar.reporting.domain.RevenuePeriod;
+import de.rentacar.reporting.domain.RevenueQuery;
+import de.rentacar.reporting.domain.RevenueRow;
+import de.rentacar.reporting.domain.UtilisationFact;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST Controller für Management-Reporting
+ */
+@RestController
+@RequestMapping("/api/reporting")
+@RequiredArgsConstructor
+public class ReportingController {
+
+    private final UtilisationCubeService utilisationCubeService;
+    private final RevenueAnalyticsService revenueAnalyticsService;
+
+    @GetMapping("/utilisation")
+    public ResponseEntity<List<UtilisationFact>> getUtilisation(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) VehicleType vehicleType) {
+        return ResponseEntity.ok(utilisationCubeService.query(from, to, location, vehicleType));
+    }
+
+    @PostMapping("/utilisation/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RebuildResponse> rebuildUtilisation() {
+        return ResponseEntity.ok(new RebuildResponse(utilisationCubeService.rebuild()));
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenueRow>> getRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Set<String> locations,
+            @RequestParam(required = false) Set<VehicleType> vehicleTypes,
+            @RequestParam(required = false) RevenuePeriod period,
+            @RequestParam(defaultValue = "false") boolean groupByLocation,
+            @RequestParam(defaultValue = "false") boolean groupByVehicleType) {
+        RevenueQuery query = new RevenueQuery(from, to, locations, vehicleTypes, period,
+                groupByLocation, groupByVehicleType);
+        return ResponseEntity.ok(revenueAnalyticsService.query(query));
+    }
+
+    @PostMapping("/revenue/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> reloadRevenue() {
+        revenueAnalyticsService.reload();
+        return ResponseEntity.noContent().build();
+    }
+
+    public record RebuildResponse(int cells) {}
+}
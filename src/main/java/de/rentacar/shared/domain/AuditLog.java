@@ -11,9 +11,15 @@ import java.time.LocalDateTime;
 
 /**
  * Audit-Log Entity für sicherheitsrelevante Aktionen (NFR5)
+ * Aktion und Ressourcentyp stammen aus einem kleinen Vokabular und werden als kanonische
+ * Instanzen gehalten, unabhängig davon, ob der Eintrag gebaut, geladen oder gelesen wird.
  */
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_timestamp", columnList = "timestamp, id"),
+        @Index(name = "idx_audit_logs_username_timestamp", columnList = "username, timestamp, id"),
+        @Index(name = "idx_audit_logs_resource", columnList = "resource_type, resource_id, timestamp")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,9 +30,11 @@ public class AuditLog extends BaseEntity {
     @Column(nullable = false)
     private String username;
 
+    @Convert(converter = VocabularyConverter.class)
     @Column(nullable = false)
     private String action;
 
+    @Convert(converter = VocabularyConverter.class)
     @Column(nullable = false)
     private String resourceType;
 
@@ -40,11 +48,31 @@ public class AuditLog extends BaseEntity {
 
     private String ipAddress;
 
+    public void setAction(String action) {
+        this.action = Vocabulary.canonical(action);
+    }
+
+    public void setResourceType(String resourceType) {
+        this.resourceType = Vocabulary.canonical(resourceType);
+    }
+
     @PrePersist
     protected void onCreate() {
         if (timestamp == null) {
             timestamp = LocalDateTime.now();
         }
     }
-}
 
+    public static class AuditLogBuilder {
+
+        public AuditLogBuilder action(String action) {
+            this.action = Vocabulary.canonical(action);
+            return this;
+        }
+
+        public AuditLogBuilder resourceType(String resourceType) {
+            this.resourceType = Vocabulary.canonical(resourceType);
+            return this;
+        }
+    }
+}
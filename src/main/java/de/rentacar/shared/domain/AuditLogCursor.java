@@ -0,0 +1,37 @@
+package de.rentacar.shared.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object: Keyset-Cursor (timestamp, id) für die Audit-Log-Paginierung
+ */
+public record AuditLogCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public static AuditLogCursor before(LocalDateTime from) {
+        return new AuditLogCursor(from, 0L);
+    }
+
+    public static AuditLogCursor after(AuditLog auditLog) {
+        return new AuditLogCursor(auditLog.getTimestamp(), auditLog.getId());
+    }
+
+    public static AuditLogCursor parse(String value) {
+        int separator = value.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Ungültiger Cursor");
+        }
+        try {
+            return new AuditLogCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Ungültiger Cursor", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return timestamp + SEPARATOR + id;
+    }
+}
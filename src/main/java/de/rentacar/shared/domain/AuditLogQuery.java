@@ -0,0 +1,22 @@
+package de.rentacar.shared.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object: Filter für Audit-Log-Abfragen und -Exporte (Zeitraum [from, to))
+ */
+public record AuditLogQuery(LocalDateTime from, LocalDateTime to,
+                            String username, String resourceType, String resourceId) {
+
+    public AuditLogQuery {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Ungültiger Zeitraum");
+        }
+        if ((resourceType == null) != (resourceId == null)) {
+            throw new IllegalArgumentException("Ressourcentyp und Ressourcen-ID nur gemeinsam angeben");
+        }
+        if (username != null && resourceType != null) {
+            throw new IllegalArgumentException("Filter nach Benutzer und Ressource nicht kombinierbar");
+        }
+    }
+}
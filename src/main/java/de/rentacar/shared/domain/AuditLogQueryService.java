@@ -0,0 +1,193 @@
+package de.rentacar.shared.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.infrastructure.AuditJournal;
+import de.rentacar.shared.infrastructure.AuditLogRepository;
+import de.rentacar.shared.infrastructure.AuditSegmentStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Domain Service für Abfrage und Export von Audit-Logs (NFR5, Compliance)
+ * Alle Zugriffe laufen per Keyset-Paginierung über (timestamp, id), damit auch
+ * Exporte über Monate mit konstantem Speicherbedarf auskommen. Archivierte
+ * Monate werden aus den Segmenten gelesen, nur passende Partitionen werden geöffnet.
+ * Ist das Journal als Audit-Speicher aktiv, wird ausschließlich dieses gelesen.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditLogQueryService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditSegmentStore segmentStore;
+    private final Optional<AuditJournal> auditJournal;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Liefert eine Seite ab dem Cursor (exklusiv); ohne Cursor ab Beginn des Zeitraums
+     */
+    public AuditLogPage findPage(AuditLogQuery query, AuditLogCursor cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Seitengröße muss zwischen 1 und " + MAX_PAGE_SIZE + " liegen");
+        }
+        List<AuditLog> entries = fetch(query, cursor != null ? cursor : AuditLogCursor.before(query.from()), limit);
+        AuditLogCursor next = entries.size() == limit ? AuditLogCursor.after(entries.get(entries.size() - 1)) : null;
+        return new AuditLogPage(entries, next != null ? next.toString() : null);
+    }
+
+    /**
+     * Streamt alle Einträge des Zeitraums seitenweise in den Ausgabestrom
+     *
+     * @return Anzahl exportierter Einträge
+     */
+    public long export(AuditLogQuery query, AuditExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == AuditExportFormat.CSV) {
+            writer.write("id,timestamp,username,action,resourceType,resourceId,ipAddress,details\n");
+        }
+        long exported = 0;
+        AuditLogCursor cursor = AuditLogCursor.before(query.from());
+        List<AuditLog> page;
+        do {
+            page = fetch(query, cursor, EXPORT_PAGE_SIZE);
+            for (AuditLog auditLog : page) {
+                writer.write(format == AuditExportFormat.CSV ? toCsv(auditLog) : toJson(auditLog));
+                writer.write('\n');
+                exported++;
+            }
+            if (!page.isEmpty()) {
+                cursor = AuditLogCursor.after(page.get(page.size() - 1));
+                writer.flush();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+        writer.flush();
+        return exported;
+    }
+
+    private List<AuditLog> fetch(AuditLogQuery query, AuditLogCursor cursor, int limit) {
+        if (auditJournal.isPresent()) {
+            LocalDateTime start = cursor.timestamp().isAfter(query.from()) ? cursor.timestamp() : query.from();
+            try (Stream<AuditLog> entries = auditJournal.get().read(start, query.to())) {
+                return entries.filter(entry -> matches(query, cursor, entry)).limit(limit).toList();
+            }
+        }
+
+        LocalDateTime archivedUntil = segmentStore.archivedUntil();
+        if (archivedUntil == null || !query.from().isBefore(archivedUntil)) {
+            return fetchFromTable(query, query.from(), cursor, limit);
+        }
+
+        List<AuditLog> result = new ArrayList<>(limit);
+        LocalDateTime archiveEnd = query.to().isBefore(archivedUntil) ? query.to() : archivedUntil;
+        for (YearMonth month : segmentStore.segmentsBetween(query.from(), archiveEnd)) {
+            if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cursor.timestamp())) {
+                continue;
+            }
+            try (Stream<AuditLog> entries = segmentStore.read(month)) {
+                entries.filter(entry -> matches(query, cursor, entry))
+                        .limit(limit - result.size())
+                        .forEach(result::add);
+            }
+            if (result.size() == limit) {
+                return result;
+            }
+        }
+        if (query.to().isAfter(archivedUntil)) {
+            result.addAll(fetchFromTable(query, archivedUntil, cursor, limit - result.size()));
+        }
+        return result;
+    }
+
+    private List<AuditLog> fetchFromTable(AuditLogQuery query, LocalDateTime start, AuditLogCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (query.username() != null) {
+            return auditLogRepository.findPageByUsername(query.username(), start, query.to(),
+                    cursor.timestamp(), cursor.id(), pageRequest);
+        }
+        if (query.resourceType() != null) {
+            return auditLogRepository.findPageByResource(query.resourceType(), query.resourceId(),
+                    start, query.to(), cursor.timestamp(), cursor.id(), pageRequest);
+        }
+        return auditLogRepository.findPage(start, query.to(), cursor.timestamp(), cursor.id(), pageRequest);
+    }
+
+    private static boolean matches(AuditLogQuery query, AuditLogCursor cursor, AuditLog entry) {
+        LocalDateTime timestamp = entry.getTimestamp();
+        if (timestamp.isBefore(query.from()) || !timestamp.isBefore(query.to())) {
+            return false;
+        }
+        int position = timestamp.compareTo(cursor.timestamp());
+        if (position < 0 || (position == 0 && entry.getId() <= cursor.id())) {
+            return false;
+        }
+        if (query.username() != null) {
+            return query.username().equals(entry.getUsername());
+        }
+        if (query.resourceType() != null) {
+            return query.resourceType().equals(entry.getResourceType())
+                    && query.resourceId().equals(entry.getResourceId());
+        }
+        return true;
+    }
+
+    private String toJson(AuditLog auditLog) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", auditLog.getId());
+        row.put("timestamp", auditLog.getTimestamp() != null ? auditLog.getTimestamp().toString() : null);
+        row.put("username", auditLog.getUsername());
+        row.put("action", auditLog.getAction());
+        row.put("resourceType", auditLog.getResourceType());
+        row.put("resourceId", auditLog.getResourceId());
+        row.put("ipAddress", auditLog.getIpAddress());
+        row.put("details", auditLog.getDetails());
+        return objectMapper.writeValueAsString(row);
+    }
+
+    private String toCsv(AuditLog auditLog) {
+        return String.join(",",
+                csv(auditLog.getId()),
+                csv(auditLog.getTimestamp()),
+                csv(auditLog.getUsername()),
+                csv(auditLog.getAction()),
+                csv(auditLog.getResourceType()),
+                csv(auditLog.getResourceId()),
+                csv(auditLog.getIpAddress()),
+                csv(auditLog.getDetails()));
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    /**
+     * Value Object: Ergebnisseite mit Cursor für die Folgeseite (null = letzte Seite)
+     */
+    public record AuditLogPage(List<AuditLog> entries, String nextCursor) {
+    }
+}
@@ -0,0 +1,12 @@
+package de.rentacar.shared.domain;
+
+/**
+ * Abstraktion des Audit-Speichers (austauschbar, z.B. Datenbank oder Journal)
+ */
+public interface AuditLogStore {
+
+    /**
+     * Persistiert einen Audit-Eintrag dauerhaft
+     */
+    void append(AuditLog auditLog);
+}
@@ -1,18 +1,18 @@
 package de.rentacar.shared.domain;
 
-import de.rentacar.shared.infrastructure.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Domain Service für Audit-Logging (NFR5)
+ * Der Speicher ist über rentacar.audit.backend wählbar (jpa oder journal).
  */
 @Service
 @RequiredArgsConstructor
 public class AuditService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogStore auditLogStore;
 
     @Transactional
     public void logAction(String username, String action, String resourceType, String resourceId, String details, String ipAddress) {
@@ -24,7 +24,7 @@ public class AuditService {
                 .details(details)
                 .ipAddress(ipAddress)
                 .build();
-        auditLogRepository.save(auditLog);
+        auditLogStore.append(auditLog);
     }
 }
 
@@ -0,0 +1,15 @@
+package de.rentacar.shared.domain;
+
+/**
+ * In-Process Empfänger für Domain Events aus der Outbox.
+ * Zustellung erfolgt mindestens einmal (at-least-once) und pro Aggregat in Reihenfolge,
+ * jeweils in einer eigenen Transaktion pro Subscriber. Nach einem Fehler wird nur der
+ * fehlgeschlagene Subscriber erneut beliefert; ein Absturz zwischen Verarbeitung und Vermerk
+ * kann dennoch zu Wiederholungen führen, Implementierungen müssen daher idempotent sein.
+ */
+public interface DomainEventSubscriber {
+
+    boolean supports(String aggregateType);
+
+    void onEvent(OutboxEvent event);
+}
@@ -0,0 +1,13 @@
+package de.rentacar.shared.domain;
+
+/**
+ * Abstraktion des Message Brokers, an den die Outbox Events weiterreicht
+ * (austauschbar, z.B. lokaler Broker oder externer Broker)
+ */
+public interface MessageBroker {
+
+    /**
+     * Stellt ein Event zu; eine Exception führt zur erneuten Zustellung
+     */
+    void publish(OutboxEvent event);
+}
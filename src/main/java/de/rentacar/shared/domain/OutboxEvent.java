@@ -0,0 +1,132 @@
+package de.rentacar.shared.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Outbox-Eintrag für Domain Events (Transactional Outbox)
+ * Wird in derselben Transaktion wie die Zustandsänderung geschrieben und
+ * anschließend asynchron vom OutboxDispatcher zugestellt. Die Zustellung wird pro Subscriber
+ * vermerkt; nach zu vielen Fehlversuchen wird das Event geparkt (Dead Letter) und nicht mehr zugestellt,
+ * bis es erneut eingereiht oder verworfen wird.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_published", columnList = "published_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent extends BaseEntity {
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime publishedAt;
+
+    @Builder.Default
+    private int deliveryAttempts = 0;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    // Subscriber, die das Event bereits erfolgreich verarbeitet haben (kommagetrennt)
+    @Column(length = 1000)
+    private String deliveredTo;
+
+    private LocalDateTime deadLetteredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (occurredAt == null) {
+            occurredAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Domain-Methode: Zustellung erfolgreich
+     */
+    public void markPublished() {
+        this.deliveryAttempts++;
+        this.publishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * Domain-Methode: Zustellung fehlgeschlagen; wird beim nächsten Durchlauf wiederholt,
+     * nach maxAttempts Versuchen geparkt
+     */
+    public void markFailed(String error, int maxAttempts) {
+        this.deliveryAttempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.deliveryAttempts >= maxAttempts) {
+            this.deadLetteredAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Domain-Methode: geparktes Event erneut zustellen (Fehlversuche beginnen von vorn)
+     */
+    public void requeue() {
+        if (!isDeadLettered()) {
+            throw new IllegalStateException("Event " + getId() + " ist nicht geparkt");
+        }
+        this.deadLetteredAt = null;
+        this.deliveryAttempts = 0;
+    }
+
+    /**
+     * Domain-Methode: geparktes Event bewusst verwerfen; gibt das Aggregat wieder frei
+     */
+    public void discard() {
+        if (!isDeadLettered()) {
+            throw new IllegalStateException("Event " + getId() + " ist nicht geparkt");
+        }
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeadLettered() {
+        return deadLetteredAt != null;
+    }
+
+    public boolean isDeliveredTo(String subscriber) {
+        return deliveredTo != null && Arrays.asList(deliveredTo.split(",")).contains(subscriber);
+    }
+
+    /**
+     * Domain-Methode: ein Subscriber hat das Event verarbeitet und erhält es nicht erneut
+     */
+    public void markDeliveredTo(String subscriber) {
+        if (!isDeliveredTo(subscriber)) {
+            this.deliveredTo = deliveredTo == null ? subscriber : deliveredTo + "," + subscriber;
+        }
+    }
+
+    /**
+     * Schlüssel für die Reihenfolge-Garantie pro Aggregat
+     */
+    public String aggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+}
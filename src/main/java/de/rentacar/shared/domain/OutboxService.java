@@ -0,0 +1,115 @@
+package de.rentacar.shared.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.infrastructure.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Domain Service für die Transactional Outbox
+ * Muss innerhalb der Transaktion der Zustandsänderung aufgerufen werden.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Object aggregateId, String eventType, Map<String, ?> payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .build();
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Schreibt gleichartige Events mehrerer Aggregate in einem Aufruf (Massenänderungen)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(String aggregateType, String eventType, Map<?, ? extends Map<String, ?>> payloadsByAggregateId) {
+        List<OutboxEvent> events = new ArrayList<>(payloadsByAggregateId.size());
+        payloadsByAggregateId.forEach((aggregateId, payload) -> events.add(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .build()));
+        outboxEventRepository.saveAll(events);
+    }
+
+    /**
+     * Geparkte Events, die ihr Aggregat blockieren
+     */
+    @Transactional(readOnly = true)
+    public List<DeadLetter> findDeadLetters() {
+        return outboxEventRepository.findDeadLettered().stream()
+                .map(event -> new DeadLetter(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                        event.getEventType(), event.getDeliveryAttempts(), event.getLastError(),
+                        event.getDeadLetteredAt()))
+                .toList();
+    }
+
+    /**
+     * Reiht ein geparktes Event erneut ein; das Aggregat wird mit ihm fortgesetzt
+     */
+    @Transactional
+    public void requeueDeadLetter(Long eventId) {
+        findEvent(eventId).requeue();
+    }
+
+    /**
+     * Verwirft ein geparktes Event; spätere Events des Aggregats werden wieder zugestellt
+     */
+    @Transactional
+    public void discardDeadLetter(Long eventId) {
+        findEvent(eventId).discard();
+    }
+
+    /**
+     * Value Object: geparktes Event für die Administration
+     */
+    public record DeadLetter(Long id, String aggregateType, String aggregateId, String eventType,
+                             int deliveryAttempts, String lastError, LocalDateTime deadLetteredAt) {
+    }
+
+    private OutboxEvent findEvent(Long eventId) {
+        return outboxEventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Outbox-Event nicht gefunden"));
+    }
+
+    /**
+     * Baut einen Payload aus Schlüssel/Wert-Paaren (null-Werte erlaubt)
+     */
+    public static Map<String, Object> payload(Object... keyValues) {
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Payload erwartet Schlüssel/Wert-Paare");
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            payload.put(String.valueOf(keyValues[i]), keyValues[i + 1]);
+        }
+        return payload;
+    }
+
+    private String toJson(Map<String, ?> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload kann nicht serialisiert werden", e);
+        }
+    }
+}
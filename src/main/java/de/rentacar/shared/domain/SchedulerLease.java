@@ -0,0 +1,32 @@
+package de.rentacar.shared.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease-Zeile eines geplanten Jobs: nur der eingetragene Besitzer darf den Job
+ * bis lockedUntil ausführen (Koordination mehrerer Knoten über die Datenbank)
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,19 @@
+package de.rentacar.shared.domain;
+
+import java.time.Duration;
+
+/**
+ * Knotenübergreifende Sperre für geplante Jobs (Lease mit Ablaufzeit)
+ */
+public interface SchedulerLock {
+
+    /**
+     * Erwirbt oder verlängert die Lease; false, wenn ein anderer Knoten sie hält
+     */
+    boolean tryAcquire(String name, Duration leaseTime);
+
+    /**
+     * Gibt die Lease frei, sofern sie von diesem Knoten gehalten wird
+     */
+    void release(String name);
+}
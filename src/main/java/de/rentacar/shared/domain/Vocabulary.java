@@ -0,0 +1,35 @@
+package de.rentacar.shared.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kanonische String-Instanzen für kleine, feste Wertebereiche (Audit-Aktionen, Ressourcentypen).
+ * Gleiche Werte teilen sich eine Instanz statt einer Kopie pro geladenem Eintrag; Vergleiche
+ * enden dadurch meist schon bei der Identitätsprüfung von equals. Die Anzahl der Einträge ist
+ * begrenzt, damit unerwartete freie Texte nicht unbegrenzt im Heap verbleiben.
+ */
+public final class Vocabulary {
+
+    static final int MAX_ENTRIES = 4096;
+
+    private static final Map<String, String> CANONICAL = new ConcurrentHashMap<>();
+
+    private Vocabulary() {
+    }
+
+    public static String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = CANONICAL.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (CANONICAL.size() >= MAX_ENTRIES) {
+            return value;
+        }
+        canonical = CANONICAL.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+}
@@ -0,0 +1,21 @@
+package de.rentacar.shared.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Liefert beim Laden kanonische Instanzen (siehe Vocabulary); die Spalte bleibt unverändert
+ */
+@Converter
+public class VocabularyConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String value) {
+        return value;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String value) {
+        return Vocabulary.canonical(value);
+    }
+}
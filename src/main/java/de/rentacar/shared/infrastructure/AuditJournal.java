@@ -0,0 +1,347 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.AuditLog;
+import de.rentacar.shared.domain.AuditLogStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only Audit-Journal auf Basis segmentierter, memory-mapped Dateien.
+ * Jeder Eintrag wird als [Länge][CRC32C][Payload] abgelegt; Segmente rotieren
+ * bei Erreichen der konfigurierten Größe. Die Dauerhaftigkeit wird durch
+ * periodisches force() hergestellt, ein Absturz kann also die Einträge des
+ * letzten Flush-Intervalls kosten. Beim Start wird ein angerissener Eintrag
+ * am Ende des letzten Segments per CRC erkannt und verworfen.
+ * Innerhalb einer Transaktion wird erst nach dem Commit geschrieben, damit wie beim
+ * JPA-Backend kein Eintrag einer zurückgerollten Geschäftstransaktion übrig bleibt.
+ */
+@Component
+@ConditionalOnProperty(name = "rentacar.audit.backend", havingValue = "journal")
+public class AuditJournal implements AuditLogStore {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private final CRC32C checksum = new CRC32C();
+
+    private Segment active;
+    private MappedByteBuffer writeBuffer;
+    private long nextSequence = 1;
+    private LocalDateTime lastTimestamp = LocalDateTime.MIN;
+    private boolean dirty;
+
+    public AuditJournal(@Value("${rentacar.audit.journal.dir:./data/audit-journal}") String directory,
+                        @Value("${rentacar.audit.journal.segment-bytes:67108864}") int segmentSize) {
+        if (segmentSize < HEADER_SIZE + MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Segmentgröße muss mindestens " + (HEADER_SIZE + MAX_RECORD_SIZE) + " Bytes betragen");
+        }
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Öffnet vorhandene Segmente und setzt die Schreibposition hinter den letzten gültigen Eintrag
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().startsWith(PREFIX)
+                            && path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            Segment segment = new Segment(file);
+            RecordIterator records = new RecordIterator(map(file, FileChannel.MapMode.READ_ONLY), segmentSize);
+            if (records.hasNext()) {
+                segment.firstTimestamp = records.next().getTimestamp();
+            }
+            segments.add(segment);
+        }
+
+        if (segments.isEmpty()) {
+            roll();
+            return;
+        }
+
+        active = segments.get(segments.size() - 1);
+        writeBuffer = map(active.path, FileChannel.MapMode.READ_WRITE);
+        RecordIterator records = new RecordIterator(writeBuffer.duplicate(), segmentSize);
+        while (records.hasNext()) {
+            AuditLog last = records.next();
+            nextSequence = last.getId() + 1;
+            lastTimestamp = last.getTimestamp();
+        }
+        int end = records.position();
+        for (int position = end; position < Math.min(segmentSize, end + HEADER_SIZE + MAX_RECORD_SIZE); position++) {
+            writeBuffer.put(position, (byte) 0);
+        }
+        writeBuffer.position(end);
+        active.end = end;
+    }
+
+    @Override
+    public void append(AuditLog auditLog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(auditLog);
+                }
+            });
+            return;
+        }
+        write(auditLog);
+    }
+
+    private synchronized void write(AuditLog auditLog) {
+        LocalDateTime now = LocalDateTime.now();
+        lastTimestamp = now.isAfter(lastTimestamp) ? now : lastTimestamp;
+        auditLog.setTimestamp(lastTimestamp);
+        auditLog.setId(nextSequence);
+
+        int size = encode(auditLog);
+        if (writeBuffer.remaining() < size) {
+            roll();
+        }
+        if (active.firstTimestamp == null) {
+            active.firstTimestamp = lastTimestamp;
+        }
+        writeBuffer.put(scratch.array(), 0, size);
+        active.end = writeBuffer.position();
+        nextSequence++;
+        dirty = true;
+    }
+
+    /**
+     * Schreibt geänderte Seiten des aktiven Segments auf die Platte
+     */
+    @Scheduled(fixedDelayString = "${rentacar.audit.journal.flush-interval-ms:1000}")
+    public void flush() {
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            buffer = writeBuffer;
+        }
+        buffer.force();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (writeBuffer != null) {
+            writeBuffer.force();
+        }
+    }
+
+    /**
+     * Liefert alle Einträge im Zeitraum [from, to) in Schreibreihenfolge.
+     * Segmente außerhalb des Zeitraums werden nicht gelesen.
+     */
+    public Stream<AuditLog> read(LocalDateTime from, LocalDateTime to) {
+        List<Segment> snapshot = List.copyOf(segments);
+        List<Segment> selected = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            Segment segment = snapshot.get(i);
+            if (segment.firstTimestamp == null || !segment.firstTimestamp.isBefore(to)) {
+                break;
+            }
+            Segment next = i + 1 < snapshot.size() ? snapshot.get(i + 1) : null;
+            if (next == null || next.firstTimestamp == null || !next.firstTimestamp.isBefore(from)) {
+                selected.add(segment);
+            }
+        }
+
+        return selected.stream()
+                .flatMap(segment -> StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                        new RecordIterator(map(segment.path, FileChannel.MapMode.READ_ONLY), segment.end),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false))
+                .dropWhile(entry -> entry.getTimestamp().isBefore(from))
+                .takeWhile(entry -> entry.getTimestamp().isBefore(to));
+    }
+
+    private void roll() {
+        if (writeBuffer != null) {
+            writeBuffer.force();
+        }
+        Segment segment = new Segment(directory.resolve(String.format("%s%020d%s", PREFIX, nextSequence, SUFFIX)));
+        writeBuffer = map(segment.path, FileChannel.MapMode.READ_WRITE);
+        segment.end = 0;
+        segments.add(segment);
+        active = segment;
+    }
+
+    private MappedByteBuffer map(Path path, FileChannel.MapMode mode) {
+        try (FileChannel channel = mode == FileChannel.MapMode.READ_ONLY
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(mode, 0, mode == FileChannel.MapMode.READ_ONLY ? channel.size() : segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Audit-Journal-Segment " + path + " nicht verfügbar", e);
+        }
+    }
+
+    private int encode(AuditLog auditLog) {
+        scratch.clear();
+        scratch.position(HEADER_SIZE);
+        try {
+            scratch.putLong(auditLog.getId());
+            scratch.putLong(auditLog.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            scratch.putInt(auditLog.getTimestamp().getNano());
+            putString(auditLog.getUsername());
+            putString(auditLog.getAction());
+            putString(auditLog.getResourceType());
+            putString(auditLog.getResourceId());
+            putString(auditLog.getDetails());
+            putString(auditLog.getIpAddress());
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("Audit-Eintrag überschreitet " + MAX_RECORD_SIZE + " Bytes", e);
+        }
+        int length = scratch.position() - HEADER_SIZE;
+        checksum.reset();
+        checksum.update(scratch.array(), HEADER_SIZE, length);
+        scratch.putInt(0, length);
+        scratch.putInt(4, (int) checksum.getValue());
+        return HEADER_SIZE + length;
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            scratch.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        scratch.putInt(bytes.length);
+        scratch.put(bytes);
+    }
+
+    private static AuditLog decode(ByteBuffer payload) {
+        long sequence = payload.getLong();
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        AuditLog auditLog = AuditLog.builder()
+                .timestamp(timestamp)
+                .username(getString(payload))
+                .action(getString(payload))
+                .resourceType(getString(payload))
+                .resourceId(getString(payload))
+                .details(getString(payload))
+                .ipAddress(getString(payload))
+                .build();
+        auditLog.setId(sequence);
+        return auditLog;
+    }
+
+    private static String getString(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private volatile LocalDateTime firstTimestamp;
+        private volatile int end = Integer.MAX_VALUE;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Liest Einträge bis zum ersten leeren oder beschädigten Eintrag
+     */
+    private static final class RecordIterator implements Iterator<AuditLog> {
+
+        private final ByteBuffer buffer;
+        private final int limit;
+        private final CRC32C checksum = new CRC32C();
+        private int position;
+        private AuditLog next;
+
+        private RecordIterator(ByteBuffer buffer, int end) {
+            this.buffer = buffer;
+            this.limit = Math.min(end, buffer.capacity());
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (position + HEADER_SIZE > limit) {
+                return false;
+            }
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > MAX_RECORD_SIZE || position + HEADER_SIZE + length > limit) {
+                return false;
+            }
+            ByteBuffer payload = buffer.slice(position + HEADER_SIZE, length);
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if ((int) checksum.getValue() != buffer.getInt(position + 4)) {
+                return false;
+            }
+            next = decode(payload);
+            position += HEADER_SIZE + length;
+            return true;
+        }
+
+        @Override
+        public AuditLog next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            AuditLog result = next;
+            next = null;
+            return result;
+        }
+
+        private int position() {
+            return position;
+        }
+    }
+}
@@ -1,16 +1,85 @@
 package de.rentacar.shared.infrastructure;
 
 import de.rentacar.shared.domain.AuditLog;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     List<AuditLog> findByUsername(String username);
     List<AuditLog> findByResourceTypeAndResourceId(String resourceType, String resourceId);
     List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end);
-}
 
+    /**
+     * Keyset-Seite nach (timestamp, id), nutzt idx_audit_logs_timestamp
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp >= :start AND a.timestamp < :end " +
+           "AND (a.timestamp > :afterTimestamp OR (a.timestamp = :afterTimestamp AND a.id > :afterId)) " +
+           "ORDER BY a.timestamp ASC, a.id ASC")
+    List<AuditLog> findPage(@Param("start") LocalDateTime start,
+                            @Param("end") LocalDateTime end,
+                            @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                            @Param("afterId") Long afterId,
+                            Pageable pageable);
+
+    /**
+     * Keyset-Seite pro Benutzer, nutzt idx_audit_logs_username_timestamp
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT a FROM AuditLog a WHERE a.username = :username " +
+           "AND a.timestamp >= :start AND a.timestamp < :end " +
+           "AND (a.timestamp > :afterTimestamp OR (a.timestamp = :afterTimestamp AND a.id > :afterId)) " +
+           "ORDER BY a.timestamp ASC, a.id ASC")
+    List<AuditLog> findPageByUsername(@Param("username") String username,
+                                      @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end,
+                                      @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    /**
+     * Keyset-Seite pro Ressource, nutzt idx_audit_logs_resource
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT a FROM AuditLog a WHERE a.resourceType = :resourceType AND a.resourceId = :resourceId " +
+           "AND a.timestamp >= :start AND a.timestamp < :end " +
+           "AND (a.timestamp > :afterTimestamp OR (a.timestamp = :afterTimestamp AND a.id > :afterId)) " +
+           "ORDER BY a.timestamp ASC, a.id ASC")
+    List<AuditLog> findPageByResource(@Param("resourceType") String resourceType,
+                                      @Param("resourceId") String resourceId,
+                                      @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end,
+                                      @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    Optional<AuditLog> findFirstByOrderByTimestampAscIdAsc();
+
+    /**
+     * Entfernt archivierte Einträge einer Partition bis einschließlich (lastTimestamp, lastId);
+     * später eingefügte Zeilen bleiben für den nächsten Lauf stehen
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AuditLog a WHERE a.timestamp >= :start AND a.timestamp < :end " +
+           "AND (a.timestamp < :lastTimestamp OR (a.timestamp = :lastTimestamp AND a.id <= :lastId))")
+    int deleteArchived(@Param("start") LocalDateTime start,
+                       @Param("end") LocalDateTime end,
+                       @Param("lastTimestamp") LocalDateTime lastTimestamp,
+                       @Param("lastId") Long lastId);
+}
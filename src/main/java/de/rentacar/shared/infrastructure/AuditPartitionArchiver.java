@@ -0,0 +1,127 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Rollover der Audit-Partitionen: In der Tabelle audit_logs bleiben nur die
+ * letzten hotMonths Monate, ältere Monate werden als Segment archiviert und
+ * anschließend aus der Tabelle entfernt. Einfüge- und Indexkosten bleiben so
+ * unabhängig von der Länge der Historie.
+ */
+@Component
+public class AuditPartitionArchiver {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final Comparator<AuditLog> ORDER =
+            Comparator.comparing(AuditLog::getTimestamp).thenComparing(AuditLog::getId);
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditSegmentStore segmentStore;
+    private final int hotMonths;
+
+    public AuditPartitionArchiver(AuditLogRepository auditLogRepository,
+                                  AuditSegmentStore segmentStore,
+                                  @Value("${rentacar.audit.hot-months:3}") int hotMonths) {
+        if (hotMonths < 1) {
+            throw new IllegalArgumentException("Mindestens ein Monat muss in der Tabelle verbleiben");
+        }
+        this.auditLogRepository = auditLogRepository;
+        this.segmentStore = segmentStore;
+        this.hotMonths = hotMonths;
+    }
+
+    /**
+     * Archiviert alle abgeschlossenen Monate vor dem heißen Fenster.
+     * Läuft bewusst ohne umschließende Transaktion: jede Seite wird in einem eigenen,
+     * kurzen Persistenzkontext gelesen, der Speicherbedarf hängt also nur von PAGE_SIZE
+     * ab. Gelöscht wird erst, nachdem die Zeilen in einem Segment stehen.
+     *
+     * @return Anzahl neu archivierter Einträge
+     */
+    @Scheduled(cron = "${rentacar.audit.archive-cron:0 15 3 * * *}")
+    public synchronized long archiveClosedPartitions() {
+        YearMonth firstHotMonth = YearMonth.now().minusMonths(hotMonths - 1L);
+        Optional<AuditLog> oldest = auditLogRepository.findFirstByOrderByTimestampAscIdAsc();
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+
+        long archived = 0;
+        for (YearMonth month = YearMonth.from(oldest.get().getTimestamp());
+             month.isBefore(firstHotMonth); month = month.plusMonths(1)) {
+            archived += archive(month);
+        }
+        return archived;
+    }
+
+    /**
+     * Schreibt die Tabellenzeilen eines Monats in sein Segment. Existiert das Segment
+     * bereits (Abbruch vor dem Löschen oder nachträglich eingefügte Zeilen), wird es mit
+     * den Zeilen zu einer Neufassung zusammengeführt; schon enthaltene Einträge werden
+     * dabei nicht doppelt geschrieben.
+     */
+    private long archive(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        boolean merge = segmentStore.contains(month);
+
+        try (AuditSegmentStore.SegmentWriter writer = merge ? segmentStore.rewrite(month) : segmentStore.create(month);
+             Stream<AuditLog> archivedEntries = merge ? segmentStore.read(month) : Stream.empty()) {
+            Iterator<AuditLog> archived = archivedEntries.iterator();
+            AuditLog pending = archived.hasNext() ? archived.next() : null;
+            LocalDateTime afterTimestamp = start;
+            Long afterId = 0L;
+            long written = 0;
+            List<AuditLog> page;
+            do {
+                page = auditLogRepository.findPage(start, end, afterTimestamp, afterId, PageRequest.of(0, PAGE_SIZE));
+                for (AuditLog auditLog : page) {
+                    while (pending != null && ORDER.compare(pending, auditLog) < 0) {
+                        writer.append(pending);
+                        pending = archived.hasNext() ? archived.next() : null;
+                    }
+                    if (pending != null && ORDER.compare(pending, auditLog) == 0) {
+                        pending = archived.hasNext() ? archived.next() : null;
+                    } else {
+                        written++;
+                    }
+                    writer.append(auditLog);
+                }
+                if (!page.isEmpty()) {
+                    AuditLog last = page.get(page.size() - 1);
+                    afterTimestamp = last.getTimestamp();
+                    afterId = last.getId();
+                }
+            } while (page.size() == PAGE_SIZE);
+
+            if (afterId == 0L) {
+                return 0;
+            }
+            if (written > 0) {
+                while (pending != null) {
+                    writer.append(pending);
+                    pending = archived.hasNext() ? archived.next() : null;
+                }
+                writer.commit();
+            }
+            auditLogRepository.deleteArchived(start, end, afterTimestamp, afterId);
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archivierung der Audit-Partition " + month + " fehlgeschlagen", e);
+        }
+    }
+}
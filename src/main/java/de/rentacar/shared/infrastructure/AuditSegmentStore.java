@@ -0,0 +1,213 @@
+package de.rentacar.shared.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.rentacar.shared.domain.AuditLog;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archiv für abgeschlossene Audit-Partitionen (ein Monat = ein Segment).
+ * Segmente sind gzip-komprimierte NDJSON-Dateien, sortiert nach (timestamp, id),
+ * und werden nach dem Schreiben nicht mehr verändert.
+ */
+@Component
+public class AuditSegmentStore {
+
+    private static final String SUFFIX = ".ndjson.gz";
+    private static final String PREFIX = "audit-";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final NavigableSet<YearMonth> segments = new ConcurrentSkipListSet<>();
+
+    public AuditSegmentStore(ObjectMapper objectMapper,
+                             @Value("${rentacar.audit.archive-dir:./data/audit-archive}") String directory) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+    }
+
+    @PostConstruct
+    public void scan() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> YearMonth.parse(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .forEach(segments::add);
+        }
+    }
+
+    public boolean contains(YearMonth month) {
+        return segments.contains(month);
+    }
+
+    /**
+     * Beginn des ersten nicht archivierten Monats, null wenn noch nichts archiviert ist.
+     * Alle Einträge davor liegen ausschließlich in Segmenten.
+     */
+    public LocalDateTime archivedUntil() {
+        return segments.isEmpty() ? null : segments.last().plusMonths(1).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Segmente, die den Zeitraum [from, to) überschneiden (Partition Pruning)
+     */
+    public List<YearMonth> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        YearMonth last = YearMonth.from(to.minusNanos(1));
+        return List.copyOf(segments.subSet(YearMonth.from(from), true, last, true));
+    }
+
+    /**
+     * Liest ein Segment in Ablagereihenfolge; der Stream muss geschlossen werden
+     */
+    public Stream<AuditLog> read(YearMonth month) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(segmentPath(month)), 64 * 1024),
+                    StandardCharsets.UTF_8));
+            return reader.lines().map(this::fromJson).onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Audit-Segment " + month + " nicht lesbar", e);
+        }
+    }
+
+    /**
+     * Öffnet ein neues Segment; erst commit() macht es sichtbar
+     */
+    public SegmentWriter create(YearMonth month) throws IOException {
+        if (contains(month)) {
+            throw new IllegalStateException("Audit-Segment " + month + " existiert bereits");
+        }
+        return new SegmentWriter(month);
+    }
+
+    /**
+     * Öffnet eine Neufassung eines vorhandenen Segments; commit() ersetzt das alte
+     * Segment atomar, bis dahin bleibt es unverändert lesbar
+     */
+    public SegmentWriter rewrite(YearMonth month) throws IOException {
+        if (!contains(month)) {
+            throw new IllegalStateException("Audit-Segment " + month + " existiert nicht");
+        }
+        return new SegmentWriter(month);
+    }
+
+    private Path segmentPath(YearMonth month) {
+        return directory.resolve(PREFIX + month + SUFFIX);
+    }
+
+    private String toJson(AuditLog auditLog) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", auditLog.getId());
+        node.put("timestamp", auditLog.getTimestamp().toString());
+        node.put("username", auditLog.getUsername());
+        node.put("action", auditLog.getAction());
+        node.put("resourceType", auditLog.getResourceType());
+        node.put("resourceId", auditLog.getResourceId());
+        node.put("details", auditLog.getDetails());
+        node.put("ipAddress", auditLog.getIpAddress());
+        return objectMapper.writeValueAsString(node);
+    }
+
+    private AuditLog fromJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            AuditLog auditLog = AuditLog.builder()
+                    .timestamp(LocalDateTime.parse(node.get("timestamp").asText()))
+                    .username(text(node, "username"))
+                    .action(text(node, "action"))
+                    .resourceType(text(node, "resourceType"))
+                    .resourceId(text(node, "resourceId"))
+                    .details(text(node, "details"))
+                    .ipAddress(text(node, "ipAddress"))
+                    .build();
+            auditLog.setId(node.get("id").asLong());
+            return auditLog;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ungültiger Eintrag im Audit-Segment", e);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Schreibt ein Segment in eine temporäre Datei und verschiebt es beim Commit atomar
+     */
+    public final class SegmentWriter implements Closeable {
+
+        private final YearMonth month;
+        private final Path tempFile;
+        private final Writer writer;
+        private long count;
+        private boolean committed;
+
+        private SegmentWriter(YearMonth month) throws IOException {
+            this.month = month;
+            this.tempFile = Files.createTempFile(directory, PREFIX + month, ".tmp");
+            this.writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile), 64 * 1024), StandardCharsets.UTF_8));
+        }
+
+        public void append(AuditLog auditLog) throws IOException {
+            writer.write(toJson(auditLog));
+            writer.write('\n');
+            count++;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void commit() throws IOException {
+            writer.close();
+            Files.move(tempFile, segmentPath(month), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            segments.add(month);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                writer.close();
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+}
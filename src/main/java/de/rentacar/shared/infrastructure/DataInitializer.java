@@ -3,6 +3,8 @@ package de.rentacar.shared.infrastructure;
 import de.rentacar.shared.security.Role;
 import de.rentacar.shared.security.User;
 import de.rentacar.shared.security.UserRepository;
+import de.rentacar.vehicle.domain.Branch;
+import de.rentacar.vehicle.domain.BranchRepository;
 import de.rentacar.vehicle.domain.LicensePlate;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
@@ -24,6 +26,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
+    private final BranchRepository branchRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Override
@@ -59,6 +62,14 @@ public class DataInitializer implements CommandLineRunner {
             userRepository.save(customer);
         }
 
+        // Filialen mit Koordinaten (Umkreissuche)
+        if (branchRepository.findAll().isEmpty()) {
+            branchRepository.save(Branch.of("Berlin", 52.5200, 13.4050));
+            branchRepository.save(Branch.of("Potsdam", 52.3906, 13.0645));
+            branchRepository.save(Branch.of("Hamburg", 53.5511, 9.9937));
+            branchRepository.save(Branch.of("München", 48.1374, 11.5755));
+        }
+
         // Test-Fahrzeuge erstellen
         if (vehicleRepository.findAll().isEmpty()) {
             vehicleRepository.save(Vehicle.builder()
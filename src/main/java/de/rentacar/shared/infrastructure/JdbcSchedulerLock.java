@@ -0,0 +1,59 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.SchedulerLock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lease-Sperre über die Tabelle scheduler_leases.
+ * Erwerb und Verlängerung sind ein einziges bedingtes UPDATE (abgelaufen oder eigene
+ * Lease); existiert die Zeile noch nicht, gewinnt genau ein Knoten das INSERT.
+ * Muss außerhalb einer fachlichen Transaktion aufgerufen werden.
+ */
+@Component
+public class JdbcSchedulerLock implements SchedulerLock {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduler_leases SET owner = ?, locked_until = ? " +
+            "WHERE name = ? AND (locked_until <= ? OR owner = ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduler_leases (name, owner, locked_until) VALUES (?, ?, ?)";
+
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_leases SET locked_until = ? WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    public JdbcSchedulerLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(leaseTime));
+        if (jdbcTemplate.update(ACQUIRE_SQL, owner, lockedUntil, name, Timestamp.valueOf(now), owner) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, lockedUntil) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // Zeile existiert bereits: ein anderer Knoten hält die Lease
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, owner);
+    }
+}
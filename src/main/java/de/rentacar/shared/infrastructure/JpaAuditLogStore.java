@@ -0,0 +1,23 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.AuditLog;
+import de.rentacar.shared.domain.AuditLogStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Standard-Audit-Speicher: eine Zeile pro Eintrag in audit_logs
+ */
+@Component
+@ConditionalOnProperty(name = "rentacar.audit.backend", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaAuditLogStore implements AuditLogStore {
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Override
+    public void append(AuditLog auditLog) {
+        auditLogRepository.save(auditLog);
+    }
+}
@@ -0,0 +1,44 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.MessageBroker;
+import de.rentacar.shared.domain.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Lokaler Broker (Stand-in): stellt Events direkt an alle In-Process Subscriber zu.
+ * Jeder Subscriber verarbeitet das Event in einer eigenen Transaktion; erfolgreiche Zustellungen
+ * werden am Event vermerkt, sodass nach einem Fehler nur die noch offenen Subscriber erneut
+ * beliefert werden und ein fehlschlagender Subscriber die Arbeit der anderen nicht zurückrollt.
+ */
+@Component
+@ConditionalOnProperty(name = "rentacar.outbox.broker", havingValue = "local", matchIfMissing = true)
+public class LocalMessageBroker implements MessageBroker {
+
+    private final List<DomainEventSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+
+    public LocalMessageBroker(List<DomainEventSubscriber> subscribers, PlatformTransactionManager transactionManager) {
+        this.subscribers = subscribers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void publish(OutboxEvent event) {
+        for (DomainEventSubscriber subscriber : subscribers) {
+            String name = ClassUtils.getUserClass(subscriber).getSimpleName();
+            if (subscriber.supports(event.getAggregateType()) && !event.isDeliveredTo(name)) {
+                transactionTemplate.executeWithoutResult(status -> subscriber.onEvent(event));
+                event.markDeliveredTo(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.MessageBroker;
+import de.rentacar.shared.domain.OutboxEvent;
+import de.rentacar.shared.domain.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Poller der Transactional Outbox: stellt unveröffentlichte Events in Batches zu.
+ * Schlägt die Zustellung fehl, werden alle weiteren Events desselben Aggregats
+ * im Batch zurückgehalten, damit die Reihenfolge pro Aggregat erhalten bleibt.
+ * Der Poller hat keine eigene Transaktion: der Broker stellt in eigenen Transaktionen zu,
+ * der Zustellstatus wird pro Event sofort gespeichert. Nach max-attempts Fehlversuchen
+ * wird ein Event geparkt; sein Aggregat bleibt blockiert, bis das Event erneut eingereiht
+ * oder verworfen wird (OutboxService). Zugestellt wird nur von dem Knoten, der die Lease
+ * hält, damit mehrere Instanzen dieselben Events nicht parallel ausliefern.
+ */
+@Component
+public class OutboxDispatcher {
+
+    static final String LEASE_NAME = "outbox-dispatcher";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageBroker messageBroker;
+    private final int batchSize;
+    private final int retentionDays;
+    private final int maxAttempts;
+    private final SchedulerLock schedulerLock;
+    private final Duration leaseTime;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            MessageBroker messageBroker,
+                            SchedulerLock schedulerLock,
+                            @Value("${rentacar.outbox.batch-size:200}") int batchSize,
+                            @Value("${rentacar.outbox.retention-days:7}") int retentionDays,
+                            @Value("${rentacar.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${rentacar.outbox.lease-seconds:60}") long leaseSeconds) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Mindestens ein Zustellversuch erforderlich");
+        }
+        if (leaseSeconds < 1) {
+            throw new IllegalArgumentException("Lease-Dauer muss positiv sein");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.messageBroker = messageBroker;
+        this.schedulerLock = schedulerLock;
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+        this.maxAttempts = maxAttempts;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Stellt einen Batch zu und liefert die Anzahl erfolgreich veröffentlichter Events;
+     * 0, wenn ein anderer Knoten die Lease hält. Läuft die halbe Lease ab, wird sie
+     * verlängert und bei Verlust abgebrochen.
+     */
+    @Scheduled(fixedDelayString = "${rentacar.outbox.interval-ms:500}")
+    public synchronized int dispatchPendingEvents() {
+        if (!schedulerLock.tryAcquire(LEASE_NAME, leaseTime)) {
+            return 0;
+        }
+        try {
+            long renewAt = System.nanoTime() + leaseTime.toNanos() / 2;
+            List<OutboxEvent> batch = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+            Set<String> blockedAggregates = new HashSet<>(outboxEventRepository.findDeadLetteredAggregateKeys());
+            int published = 0;
+
+            for (OutboxEvent event : batch) {
+                if (blockedAggregates.contains(event.aggregateKey())) {
+                    continue;
+                }
+                if (System.nanoTime() - renewAt >= 0) {
+                    if (!schedulerLock.tryAcquire(LEASE_NAME, leaseTime)) {
+                        return published;
+                    }
+                    renewAt = System.nanoTime() + leaseTime.toNanos() / 2;
+                }
+                try {
+                    messageBroker.publish(event);
+                    event.markPublished();
+                    published++;
+                } catch (RuntimeException e) {
+                    event.markFailed(e.getMessage(), maxAttempts);
+                    blockedAggregates.add(event.aggregateKey());
+                }
+                outboxEventRepository.save(event);
+            }
+            return published;
+        } finally {
+            schedulerLock.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * Entfernt zugestellte Events nach Ablauf der Aufbewahrungsfrist
+     */
+    @Scheduled(cron = "${rentacar.outbox.cleanup-cron:0 0 3 * * *}")
+    @Transactional
+    public int purgePublishedEvents() {
+        return outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+}
@@ -0,0 +1,33 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadLetteredAt IS NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadLetteredAt IS NOT NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findDeadLettered();
+
+    /**
+     * Aggregate mit ungelöstem Dead Letter; ihre späteren Events bleiben zurückgehalten
+     */
+    @Query("SELECT DISTINCT CONCAT(e.aggregateType, ':', e.aggregateId) FROM OutboxEvent e " +
+           "WHERE e.publishedAt IS NULL AND e.deadLetteredAt IS NOT NULL")
+    List<String> findDeadLetteredAggregateKeys();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :threshold")
+    int deletePublishedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,15 @@
+package de.rentacar.shared.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Passwort-Hashing wegen Überlast abgelehnt (Admission Control)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingRejectedException extends IllegalStateException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,173 @@
+package de.rentacar.shared.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PasswordEncoder mit eigenem, begrenztem Worker-Pool für BCrypt (NFR3)
+ * Hashing und Prüfung laufen auf höchstens {@code threads} Kernen; ist die
+ * Warteschlange voll oder wird das Zeitlimit überschritten, wird die Anfrage
+ * sofort abgelehnt statt alle Request-Threads auf der CPU zu binden.
+ * Erfolgreiche Prüfungen können über einen VerifiedCredentialCache zwischengespeichert
+ * werden, damit zustandslose Basic-Auth-Anfragen den Pool nicht bei jedem Aufruf belasten.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private static final String CALIBRATION_INPUT = "calibration-password";
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final VerifiedCredentialCache verifiedCredentials;
+    private final AtomicLong cachedMatches = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int strength, int threads,
+                                 int queueCapacity, long timeoutMillis) {
+        this(delegate, strength, threads, queueCapacity, timeoutMillis, null);
+    }
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int strength, int threads,
+                                 int queueCapacity, long timeoutMillis, VerifiedCredentialCache verifiedCredentials) {
+        if (threads < 1 || queueCapacity < 1 || timeoutMillis < 1) {
+            throw new IllegalArgumentException("Pool-Größe, Warteschlange und Zeitlimit müssen positiv sein");
+        }
+        this.delegate = delegate;
+        this.strength = strength;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.verifiedCredentials = verifiedCredentials;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Erstellt einen BCrypt-Encoder mit auf das Latenzbudget kalibrierter Stärke. Bestehende
+     * Hashes werden weiter mit ihrer eigenen Stärke geprüft; schwächere meldet upgradeEncoding(),
+     * sodass sie beim nächsten Login neu gehasht werden.
+     */
+    public static PooledPasswordEncoder bcrypt(Duration latencyBudget, int minStrength, int maxStrength,
+                                               int threads, int queueCapacity, long timeoutMillis,
+                                               VerifiedCredentialCache verifiedCredentials) {
+        int strength = calibrateStrength(latencyBudget, minStrength, maxStrength);
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), strength,
+                threads, queueCapacity, timeoutMillis, verifiedCredentials);
+    }
+
+    /**
+     * Höchste Stärke, deren Hash-Dauer auf dieser Hardware im Budget liegt (mindestens minStrength).
+     * Jede Stufe verdoppelt den Aufwand, daher wird ab der ersten Überschreitung abgebrochen.
+     */
+    static int calibrateStrength(Duration latencyBudget, int minStrength, int maxStrength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("Ungültiger BCrypt-Stärkebereich");
+        }
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(candidate).encode(CALIBRATION_INPUT);
+            if (System.nanoTime() - start > latencyBudget.toNanos()) {
+                break;
+            }
+            strength = candidate;
+        }
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (verifiedCredentials != null && verifiedCredentials.contains(rawPassword, encodedPassword)) {
+            cachedMatches.incrementAndGet();
+            return true;
+        }
+        boolean matches = execute(() -> delegate.matches(rawPassword, encodedPassword));
+        if (matches && verifiedCredentials != null) {
+            verifiedCredentials.put(rawPassword, encodedPassword);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                T result = task.call();
+                totalNanos.addAndGet(System.nanoTime() - start);
+                completed.incrementAndGet();
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingRejectedException("Passwort-Hashing ausgelastet, bitte später erneut versuchen");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new PasswordHashingRejectedException("Zeitlimit für Passwort-Hashing überschritten");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Passwort-Hashing unterbrochen", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Passwort-Hashing fehlgeschlagen", e.getCause());
+        }
+    }
+
+    public HashingStatistics getStatistics() {
+        long done = completed.get();
+        return new HashingStatistics(strength, executor.getMaximumPoolSize(), executor.getActiveCount(),
+                executor.getQueue().size(), queueCapacity, done, rejected.get(),
+                done == 0 ? 0.0 : totalNanos.get() / 1_000_000.0 / done, cachedMatches.get());
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Value Object: Kennzahlen des Hashing-Pools
+     */
+    public record HashingStatistics(int strength, int poolSize, int activeThreads, int queueDepth,
+                                    int queueCapacity, long completed, long rejected, double averageMillis,
+                                    long cachedMatches) {
+    }
+}
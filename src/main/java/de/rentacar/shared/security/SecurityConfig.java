@@ -1,16 +1,17 @@
 package de.rentacar.shared.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 /**
  * Spring Security Konfiguration für RBAC (NFR3, NFR4)
  */
@@ -22,9 +23,27 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * BCrypt auf begrenztem Worker-Pool; die Stärke wird beim Start auf das Latenzbudget kalibriert.
+     * Bestehende Hashes bleiben gültig, da BCrypt die Stärke im Hash mitführt, und werden beim
+     * nächsten Login mit der neuen Stärke gespeichert (CustomUserDetailsService.updatePassword).
+     * Erfolgreiche Basic-Auth-Prüfungen werden kurz zwischengespeichert, damit nicht jede
+     * zustandslose Anfrage den Pool belastet.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordEncoder passwordEncoder(
+            @Value("${rentacar.security.bcrypt.latency-budget-ms:250}") long latencyBudgetMillis,
+            @Value("${rentacar.security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${rentacar.security.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${rentacar.security.bcrypt.threads:0}") int threads,
+            @Value("${rentacar.security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${rentacar.security.bcrypt.timeout-ms:5000}") long timeoutMillis,
+            @Value("${rentacar.security.bcrypt.verified-cache.max-entries:10000}") int verifiedCacheEntries,
+            @Value("${rentacar.security.bcrypt.verified-cache.ttl-seconds:300}") long verifiedCacheTtlSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return PooledPasswordEncoder.bcrypt(Duration.ofMillis(latencyBudgetMillis), minStrength, maxStrength,
+                poolSize, queueCapacity, timeoutMillis,
+                new VerifiedCredentialCache(verifiedCacheEntries, Duration.ofSeconds(verifiedCacheTtlSeconds)));
     }
 
     @Bean
@@ -53,6 +72,9 @@ public class SecurityConfig {
                 // Vermietungs-Endpunkte (nur Mitarbeiter und Admin)
                 .requestMatchers("/api/rentals/**").hasAnyRole("EMPLOYEE", "ADMIN")
                 
+                // Reporting-Endpunkte (nur Mitarbeiter und Admin)
+                .requestMatchers("/api/reporting/**").hasAnyRole("EMPLOYEE", "ADMIN")
+                
                 // Admin-Endpunkte
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 
@@ -0,0 +1,90 @@
+package de.rentacar.shared.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Größenbeschränkter Cache erfolgreich geprüfter Zugangsdaten für zustandslose
+ * HTTP-Basic-Anfragen, damit nicht jede Anfrage erneut BCrypt auf dem Pool rechnet.
+ * Gehalten wird nur ein HMAC des Klartexts mit einem zufälligen, nie gespeicherten
+ * Prozessschlüssel; der Eintrag ist an den gespeicherten Hash gebunden, eine
+ * Passwortänderung macht ihn also sofort ungültig.
+ */
+public class VerifiedCredentialCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final SecretKeySpec key;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public VerifiedCredentialCache(int maxEntries, Duration ttl) {
+        if (maxEntries < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache-Größe und TTL müssen positiv sein");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    /**
+     * Wurde diese Kombination aus Klartext und Hash innerhalb der TTL bereits erfolgreich geprüft?
+     */
+    public boolean contains(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        String cacheKey = cacheKey(rawPassword, encodedPassword);
+        synchronized (this) {
+            Long expiresAt = entries.get(cacheKey);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (System.nanoTime() - expiresAt >= 0) {
+                entries.remove(cacheKey);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    public void put(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return;
+        }
+        String cacheKey = cacheKey(rawPassword, encodedPassword);
+        synchronized (this) {
+            entries.put(cacheKey, System.nanoTime() + ttlNanos);
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private String cacheKey(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            return encodedPassword + ':' + Base64.getEncoder().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC für Zugangsdaten-Cache nicht verfügbar", e);
+        }
+    }
+}
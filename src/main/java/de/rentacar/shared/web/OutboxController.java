@@ -0,0 +1,41 @@
+package de.rentacar.shared.web;
+
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.shared.domain.OutboxService.DeadLetter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller für geparkte Outbox-Events (nur Admin)
+ */
+@RestController
+@RequestMapping("/api/admin/outbox/dead-letters")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    @GetMapping
+    public ResponseEntity<List<DeadLetter>> getDeadLetters() {
+        return ResponseEntity.ok(outboxService.findDeadLetters());
+    }
+
+    @PostMapping("/{id}/requeue")
+    public ResponseEntity<Void> requeue(@PathVariable Long id) {
+        outboxService.requeueDeadLetter(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/discard")
+    public ResponseEntity<Void> discard(@PathVariable Long id) {
+        outboxService.discardDeadLetter(id);
+        return ResponseEntity.noContent().build();
+    }
+}
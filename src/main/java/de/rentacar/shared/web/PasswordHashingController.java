@@ -0,0 +1,25 @@
+package de.rentacar.shared.web;
+
+import de.rentacar.shared.security.PooledPasswordEncoder;
+import de.rentacar.shared.security.PooledPasswordEncoder.HashingStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller für Kennzahlen des Passwort-Hashing-Pools (nur Admin)
+ */
+@RestController
+@RequestMapping("/api/admin/password-hashing")
+@RequiredArgsConstructor
+public class PasswordHashingController {
+
+    private final PooledPasswordEncoder passwordEncoder;
+
+    @GetMapping
+    public ResponseEntity<HashingStatistics> getStatistics() {
+        return ResponseEntity.ok(passwordEncoder.getStatistics());
+    }
+}
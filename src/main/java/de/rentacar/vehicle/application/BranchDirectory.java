@@ -0,0 +1,77 @@
+package de.rentacar.vehicle.application;
+
+import de.rentacar.shared.domain.AuditService;
+import de.rentacar.vehicle.domain.Branch;
+import de.rentacar.vehicle.domain.BranchGeoIndex;
+import de.rentacar.vehicle.domain.BranchGeoIndex.NearbyBranch;
+import de.rentacar.vehicle.domain.BranchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Application Service für Filialen und die Umkreissuche.
+ * Der räumliche Index wird bei Änderungen komplett neu aufgebaut und atomar ersetzt;
+ * Filialen ändern sich selten, Leser greifen ohne Sperre auf den aktuellen Index zu.
+ */
+@Service
+@RequiredArgsConstructor
+public class BranchDirectory {
+
+    private final BranchRepository branchRepository;
+    private final AuditService auditService;
+
+    private volatile BranchGeoIndex index = BranchGeoIndex.of(List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        index = BranchGeoIndex.of(branchRepository.findAll());
+    }
+
+    /**
+     * Use Case: Filiale anlegen oder Koordinaten aktualisieren (Admin)
+     */
+    @Transactional
+    public Branch saveBranch(String name, double latitude, double longitude, String username, String ipAddress) {
+        Branch branch = branchRepository.findByName(name)
+                .map(existing -> {
+                    existing.moveTo(latitude, longitude);
+                    return existing;
+                })
+                .orElseGet(() -> Branch.of(name, latitude, longitude));
+        Branch saved = branchRepository.save(branch);
+
+        auditService.logAction(username, "BRANCH_SAVED", "Branch",
+                saved.getId().toString(),
+                String.format("Filiale %s (%.5f, %.5f)", name, latitude, longitude),
+                ipAddress);
+
+        reload();
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Branch> getAllBranches() {
+        return branchRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Branch> findBranch(String name) {
+        return branchRepository.findByName(name);
+    }
+
+    /**
+     * Filialen im Umkreis, aufsteigend nach Entfernung
+     */
+    public List<NearbyBranch> findNearby(double latitude, double longitude, double radiusKm) {
+        if (radiusKm <= 0) {
+            throw new IllegalArgumentException("Umkreis muss positiv sein");
+        }
+        return index.within(latitude, longitude, radiusKm);
+    }
+}
@@ -0,0 +1,48 @@
+package de.rentacar.vehicle.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Markiert bei Buchungs-, Vermietungs- und Fahrzeug-Events den betroffenen Fahrzeugtyp
+ * für die nächste inkrementelle Neuplanung der Flotten-Umverteilung (idempotent)
+ */
+@Component
+@RequiredArgsConstructor
+public class FleetRebalancingEventSubscriber implements DomainEventSubscriber {
+
+    private final FleetRebalancingService fleetRebalancingService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String aggregateType) {
+        return "Booking".equals(aggregateType) || "Rental".equals(aggregateType) || "Vehicle".equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        if ("Vehicle".equals(event.getAggregateType())) {
+            // Fahrzeugänderungen sind selten und können den Typ wechseln: alle Typen neu planen
+            fleetRebalancingService.markAllDirty();
+            return;
+        }
+        JsonNode type = parse(event.getPayload()).get("vehicleType");
+        if (type != null && !type.isNull()) {
+            fleetRebalancingService.markDirty(VehicleType.valueOf(type.asText()));
+        }
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload ist kein gültiges JSON", e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package de.rentacar.vehicle.application;
+
+import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.vehicle.domain.RebalancingPlan;
+import de.rentacar.vehicle.domain.Transfer;
+import de.rentacar.vehicle.domain.TransferCostModel;
+import de.rentacar.vehicle.domain.TransferPlanner;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application Service für die Flotten-Umverteilung bei Einwegmieten.
+ * Prognostiziert pro Standort und Fahrzeugtyp Angebot und Bedarf aus den aktiven
+ * Buchungen im Horizont und berechnet einen kostenminimalen Überführungsplan.
+ * Buchungs- und Vermietungs-Events markieren nur den betroffenen Fahrzeugtyp;
+ * neu geplant werden periodisch ausschließlich markierte Typen (parallel, da die
+ * Typen voneinander unabhängig sind).
+ */
+@Service
+public class FleetRebalancingService {
+
+    private final VehicleRepository vehicleRepository;
+    private final BookingRepository bookingRepository;
+    private final TransferCostModel costModel;
+    private final int horizonDays;
+    private final Set<VehicleType> dirtyTypes = ConcurrentHashMap.newKeySet();
+    private final Map<VehicleType, RebalancingPlan> plans = new ConcurrentHashMap<>();
+
+    public FleetRebalancingService(VehicleRepository vehicleRepository,
+                                   BookingRepository bookingRepository,
+                                   TransferCostModel costModel,
+                                   @Value("${rentacar.fleet.rebalancing.horizon-days:7}") int horizonDays) {
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("Prognosehorizont muss mindestens einen Tag betragen");
+        }
+        this.vehicleRepository = vehicleRepository;
+        this.bookingRepository = bookingRepository;
+        this.costModel = costModel;
+        this.horizonDays = horizonDays;
+    }
+
+    public void markDirty(VehicleType vehicleType) {
+        dirtyTypes.add(vehicleType);
+    }
+
+    /**
+     * Beim Start und täglich (Horizont verschiebt sich) werden alle Typen neu geplant
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${rentacar.fleet.rebalancing.full-replan-cron:0 0 1 * * *}")
+    public void markAllDirty() {
+        dirtyTypes.addAll(EnumSet.allOf(VehicleType.class));
+    }
+
+    /**
+     * Plant alle seit dem letzten Lauf betroffenen Fahrzeugtypen neu
+     */
+    @Scheduled(fixedDelayString = "${rentacar.fleet.rebalancing.interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void replanDirtyTypes() {
+        Set<VehicleType> types = EnumSet.noneOf(VehicleType.class);
+        for (VehicleType type : VehicleType.values()) {
+            if (dirtyTypes.remove(type)) {
+                types.add(type);
+            }
+        }
+        replan(types);
+    }
+
+    /**
+     * Use Case: Überführungsplan sofort neu berechnen (alle Typen, wenn keiner angegeben)
+     */
+    @Transactional(readOnly = true)
+    public List<RebalancingPlan> replanNow(VehicleType vehicleType) {
+        Set<VehicleType> types = vehicleType != null ? EnumSet.of(vehicleType) : EnumSet.allOf(VehicleType.class);
+        types.forEach(dirtyTypes::remove);
+        replan(types);
+        return getPlans(vehicleType);
+    }
+
+    public List<RebalancingPlan> getPlans(VehicleType vehicleType) {
+        if (vehicleType != null) {
+            RebalancingPlan plan = plans.get(vehicleType);
+            return plan != null ? List.of(plan) : List.of();
+        }
+        return plans.values().stream()
+                .sorted(Comparator.comparing(RebalancingPlan::vehicleType))
+                .toList();
+    }
+
+    private void replan(Set<VehicleType> types) {
+        if (types.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+
+        // Daten im aufrufenden Thread (Transaktion) laden, nur das Lösen läuft parallel
+        Map<VehicleType, Map<String, Integer>> balances = new EnumMap<>(VehicleType.class);
+        for (VehicleType type : types) {
+            balances.put(type, forecastBalances(vehicleRepository.findByType(type),
+                    bookingRepository.findActiveBookingsByVehicleType(type, today, horizonEnd), today, horizonEnd));
+        }
+        balances.entrySet().parallelStream().forEach(entry ->
+                plans.put(entry.getKey(), solve(entry.getKey(), entry.getValue(), horizonEnd)));
+    }
+
+    private RebalancingPlan solve(VehicleType type, Map<String, Integer> balances, LocalDate horizonEnd) {
+        List<Transfer> transfers = TransferPlanner.plan(type, balances, costModel);
+        int surplus = balances.values().stream().filter(balance -> balance > 0).mapToInt(Integer::intValue).sum();
+        int deficit = -balances.values().stream().filter(balance -> balance < 0).mapToInt(Integer::intValue).sum();
+        int moved = transfers.stream().mapToInt(Transfer::vehicles).sum();
+        long totalCost = transfers.stream().mapToLong(Transfer::cost).sum();
+        return new RebalancingPlan(type, horizonEnd, LocalDateTime.now(), surplus, deficit, deficit - moved,
+                totalCost, transfers);
+    }
+
+    /**
+     * Bilanz pro Standort: Tagesbestand = Fahrzeuge vor Ort − Abholungen + Rückgaben (ab dem Folgetag).
+     * Das Minimum über den Horizont ist als Überschuss frei verfügbar bzw. als Defizit zu decken.
+     * Einwegmieten wirken damit als Abgang am Abhol- und Zugang am Rückgabestandort.
+     */
+    static Map<String, Integer> forecastBalances(List<Vehicle> vehicles, List<Booking> bookings,
+                                                 LocalDate today, LocalDate horizonEnd) {
+        int days = (int) ChronoUnit.DAYS.between(today, horizonEnd) + 1;
+        Map<String, int[]> deltas = new HashMap<>();
+        for (Vehicle vehicle : vehicles) {
+            if (vehicle.getStatus() != VehicleStatus.WARTUNG && vehicle.getStatus() != VehicleStatus.AUSSER_BETRIEB) {
+                deltas.computeIfAbsent(vehicle.getLocation(), location -> new int[days])[0]++;
+            }
+        }
+        for (Booking booking : bookings) {
+            int departure = (int) Math.max(0, ChronoUnit.DAYS.between(today, booking.getPickupDate()));
+            if (departure < days) {
+                deltas.computeIfAbsent(booking.getPickupLocation(), location -> new int[days])[departure]--;
+            }
+            int arrival = (int) ChronoUnit.DAYS.between(today, booking.getReturnDate()) + 1;
+            if (arrival > 0 && arrival < days) {
+                deltas.computeIfAbsent(booking.getReturnLocation(), location -> new int[days])[arrival]++;
+            }
+        }
+
+        Map<String, Integer> balances = new HashMap<>();
+        deltas.forEach((location, delta) -> {
+            int level = 0;
+            int minimum = Integer.MAX_VALUE;
+            for (int value : delta) {
+                level += value;
+                minimum = Math.min(minimum, level);
+            }
+            if (minimum != 0) {
+                balances.put(location, minimum);
+            }
+        });
+        return balances;
+    }
+}
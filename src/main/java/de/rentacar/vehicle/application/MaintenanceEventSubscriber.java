@@ -0,0 +1,55 @@
+package de.rentacar.vehicle.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Hält den MaintenancePlanner über Check-in- und Fahrzeug-Events aktuell (idempotent)
+ */
+@Component
+@RequiredArgsConstructor
+public class MaintenanceEventSubscriber implements DomainEventSubscriber {
+
+    private final MaintenancePlanner maintenancePlanner;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String aggregateType) {
+        return "Rental".equals(aggregateType) || "Vehicle".equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case "RENTAL_CHECKIN" -> {
+                JsonNode payload = parse(event.getPayload());
+                maintenancePlanner.recordMileage(
+                        payload.get("vehicleId").asLong(),
+                        payload.get("mileage").asLong(),
+                        LocalDateTime.parse(payload.get("actualReturnTime").asText())
+                                .atZone(ZoneId.systemDefault()).toInstant());
+            }
+            case "VEHICLE_ADDED" -> maintenancePlanner.track(Long.valueOf(event.getAggregateId()));
+            case "VEHICLE_OUT_OF_SERVICE" -> maintenancePlanner.untrack(Long.valueOf(event.getAggregateId()));
+            default -> {
+                // für die Wartungsplanung nicht relevant
+            }
+        }
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload ist kein gültiges JSON", e);
+        }
+    }
+}
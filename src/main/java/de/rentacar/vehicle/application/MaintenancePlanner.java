@@ -0,0 +1,426 @@
+package de.rentacar.vehicle.application;
+
+import de.rentacar.booking.application.VehicleAssignmentIndex;
+import de.rentacar.booking.application.VehicleAssignmentIndex.MaintenanceSlot;
+import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.shared.domain.SchedulerLock;
+import de.rentacar.vehicle.domain.MaintenanceWindow;
+import de.rentacar.vehicle.domain.MaintenanceWindowRepository;
+import de.rentacar.vehicle.domain.ServiceIntervalPolicy;
+import de.rentacar.vehicle.domain.TelemetryReading;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Application Service für die vorausschauende Wartungsplanung.
+ * Hält pro Fahrzeug Kilometerstand, letzte Wartung und geglättete Tagesfahrleistung und
+ * daraus das prognostizierte Fälligkeitsdatum in einer Priority Queue. Kilometerstände aus
+ * Telemetrie und Check-in aktualisieren nur das betroffene Fahrzeug (O(log n)); ein neuer
+ * Queue-Eintrag entsteht nur, wenn sich das Fälligkeitsdatum verschiebt, veraltete Einträge
+ * werden beim Entnehmen verworfen. Für Fahrzeuge, die innerhalb der Vorlaufzeit fällig
+ * werden, wird ein Wartungsfenster mit minimalem Umsatzausfall gewählt, persistiert und im
+ * Zuweisungsindex blockiert. Die Planung läuft über eine Lease auf höchstens einem Knoten.
+ */
+@Service
+public class MaintenancePlanner {
+
+    static final String LEASE_NAME = "maintenance-planner";
+    private static final String SYSTEM_USER = "system";
+    private static final double MINUTES_PER_DAY = 24 * 60;
+    private static final double RATE_SMOOTHING = 0.3;
+    private static final Comparator<Due> DUE_ORDER = Comparator.comparing(Due::dueDate).thenComparing(Due::vehicleId);
+
+    private final VehicleRepository vehicleRepository;
+    private final MaintenanceWindowRepository maintenanceWindowRepository;
+    private final BookingRepository bookingRepository;
+    private final VehicleAssignmentIndex assignmentIndex;
+    private final ServiceIntervalPolicy serviceIntervalPolicy;
+    private final OutboxService outboxService;
+    private final AuditService auditService;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int leadDays;
+    private final int durationDays;
+    private final int maxPerRun;
+    private final Duration leaseTime;
+
+    // Zugriff nur unter der Sperre auf this
+    private Map<Long, ServiceState> states = new HashMap<>();
+    private PriorityQueue<Due> queue = new PriorityQueue<>(DUE_ORDER);
+
+    public MaintenancePlanner(VehicleRepository vehicleRepository,
+                              MaintenanceWindowRepository maintenanceWindowRepository,
+                              BookingRepository bookingRepository,
+                              VehicleAssignmentIndex assignmentIndex,
+                              ServiceIntervalPolicy serviceIntervalPolicy,
+                              OutboxService outboxService,
+                              AuditService auditService,
+                              SchedulerLock schedulerLock,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${rentacar.maintenance.lead-days:14}") int leadDays,
+                              @Value("${rentacar.maintenance.duration-days:1}") int durationDays,
+                              @Value("${rentacar.maintenance.max-per-run:500}") int maxPerRun,
+                              @Value("${rentacar.maintenance.lease-seconds:300}") long leaseSeconds) {
+        if (leadDays < 1 || durationDays < 1 || maxPerRun < 1 || leaseSeconds < 1) {
+            throw new IllegalArgumentException("Ungültige Konfiguration der Wartungsplanung");
+        }
+        this.vehicleRepository = vehicleRepository;
+        this.maintenanceWindowRepository = maintenanceWindowRepository;
+        this.bookingRepository = bookingRepository;
+        this.assignmentIndex = assignmentIndex;
+        this.serviceIntervalPolicy = serviceIntervalPolicy;
+        this.outboxService = outboxService;
+        this.auditService = auditService;
+        this.schedulerLock = schedulerLock;
+        this.transactionTemplate = transactionTemplate;
+        this.leadDays = leadDays;
+        this.durationDays = durationDays;
+        this.maxPerRun = maxPerRun;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Baut Zustand und Queue aus der Datenbank neu auf (beim Start und nächtlich, verwirft veraltete Einträge)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${rentacar.maintenance.rebuild-cron:0 30 1 * * *}")
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        Map<Long, MaintenanceWindow> openWindows = new HashMap<>();
+        for (MaintenanceWindow window : maintenanceWindowRepository.findOpen()) {
+            openWindows.put(window.getVehicleId(), window);
+            assignmentIndex.blockMaintenance(window.getVehicleId(), window.getId(),
+                    window.getStartDate(), window.getEndDate());
+        }
+
+        Map<Long, ServiceState> rebuilt = new HashMap<>();
+        PriorityQueue<Due> rebuiltQueue = new PriorityQueue<>(DUE_ORDER);
+        for (Vehicle vehicle : vehicleRepository.findAll()) {
+            if (vehicle.getStatus() == VehicleStatus.AUSSER_BETRIEB) {
+                continue;
+            }
+            ServiceState state = newState(vehicle, today);
+            state.planned = openWindows.containsKey(vehicle.getId());
+            rebuilt.put(vehicle.getId(), state);
+            if (!state.planned) {
+                state.due = new Due(vehicle.getId(), dueDate(state, today));
+                rebuiltQueue.add(state.due);
+            }
+        }
+        synchronized (this) {
+            states = rebuilt;
+            queue = rebuiltQueue;
+        }
+    }
+
+    /**
+     * Nimmt ein (neues) Fahrzeug in die Planung auf
+     */
+    public void track(Long vehicleId) {
+        vehicleRepository.findById(vehicleId).ifPresent(vehicle -> {
+            LocalDate today = LocalDate.now();
+            ServiceState state = newState(vehicle, today);
+            synchronized (this) {
+                states.put(vehicleId, state);
+                reschedule(vehicleId, state, today);
+            }
+        });
+    }
+
+    public synchronized void untrack(Long vehicleId) {
+        states.remove(vehicleId);
+    }
+
+    /**
+     * Inkrementelle Aktualisierung bei neuem Kilometerstand (Check-in)
+     */
+    public synchronized void recordMileage(Long vehicleId, long mileage, Instant observedAt) {
+        update(vehicleId, mileage, observedAt, LocalDate.now());
+    }
+
+    /**
+     * Inkrementelle Aktualisierung aus einem Telemetrie-Flush (eine Sperre für den ganzen Batch)
+     */
+    public synchronized void recordTelemetry(List<TelemetryReading> latestStates) {
+        LocalDate today = LocalDate.now();
+        for (TelemetryReading reading : latestStates) {
+            if (reading.odometer() != null) {
+                update(reading.vehicleId(), reading.odometer(), reading.recordedAt(), today);
+            }
+        }
+    }
+
+    /**
+     * Startet fällige Wartungsfenster und plant Fenster für Fahrzeuge, die innerhalb der Vorlaufzeit
+     * fällig werden; 0, wenn ein anderer Knoten die Lease hält
+     */
+    @Scheduled(fixedDelayString = "${rentacar.maintenance.plan-interval-ms:600000}",
+            initialDelayString = "${rentacar.maintenance.plan-interval-ms:600000}")
+    public int plan() {
+        if (!schedulerLock.tryAcquire(LEASE_NAME, leaseTime)) {
+            return 0;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            startDueWindows(today);
+
+            List<MaintenanceWindow> planned = new ArrayList<>();
+            for (Due due : pollDue(today.plusDays(leadDays))) {
+                Optional<MaintenanceWindow> window = planWindow(due, today);
+                if (window.isPresent()) {
+                    planned.add(window.get());
+                } else {
+                    requeue(due);
+                }
+            }
+            if (!planned.isEmpty()) {
+                auditService.logAction(SYSTEM_USER, "MAINTENANCE_PLANNED", "Vehicle", null,
+                        String.format("Wartung geplant: %d Fahrzeuge, erwarteter Umsatzausfall %.2f EUR",
+                                planned.size(),
+                                planned.stream().mapToDouble(MaintenanceWindow::getRevenueImpact).sum()), null);
+            }
+            return planned.size();
+        } finally {
+            schedulerLock.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * Use Case: Wartung abschließen (Mitarbeiter); das Intervall beginnt neu
+     */
+    public Vehicle completeMaintenance(Long vehicleId, String username, String ipAddress) {
+        LocalDate today = LocalDate.now();
+        Vehicle vehicle = transactionTemplate.execute(status -> {
+            Vehicle serviced = vehicleRepository.findById(vehicleId)
+                    .orElseThrow(() -> new IllegalArgumentException("Fahrzeug nicht gefunden"));
+            maintenanceWindowRepository.findOpenByVehicleId(vehicleId).ifPresent(window -> {
+                window.complete();
+                maintenanceWindowRepository.save(window);
+                assignmentIndex.unblockMaintenance(vehicleId, window.getId());
+            });
+            serviced.completeService(today);
+            Vehicle saved = vehicleRepository.save(serviced);
+            outboxService.record("Vehicle", vehicleId, "MAINTENANCE_COMPLETED", OutboxService.payload(
+                    "vehicleId", vehicleId,
+                    "vehicleType", saved.getType(),
+                    "mileage", saved.getMileage(),
+                    "serviceDate", today));
+            auditService.logAction(username, "MAINTENANCE_COMPLETED", "Vehicle",
+                    vehicleId.toString(),
+                    String.format("Wartung abgeschlossen: %s bei %d km", saved.getLicensePlate(), saved.getMileage()),
+                    ipAddress);
+            return saved;
+        });
+
+        ServiceState state = newState(vehicle, today);
+        synchronized (this) {
+            states.put(vehicleId, state);
+            reschedule(vehicleId, state, today);
+        }
+        return vehicle;
+    }
+
+    public List<MaintenanceWindow> getOpenWindows() {
+        return maintenanceWindowRepository.findOpen();
+    }
+
+    /**
+     * Prognostiziertes Fälligkeitsdatum eines Fahrzeugs (leer, wenn nicht geplant wird)
+     */
+    public synchronized Optional<LocalDate> getDueDate(Long vehicleId) {
+        ServiceState state = states.get(vehicleId);
+        return state == null || state.due == null ? Optional.empty() : Optional.of(state.due.dueDate());
+    }
+
+    private void update(Long vehicleId, long mileage, Instant observedAt, LocalDate today) {
+        ServiceState state = states.get(vehicleId);
+        if (state == null || mileage <= state.mileage) {
+            return;
+        }
+        state.mileage = mileage;
+        // Fahrleistung erst über mindestens einen Tag messen, sonst dominieren Einzelfahrten
+        double days = Duration.between(state.sampledAt, observedAt).toMinutes() / MINUTES_PER_DAY;
+        if (days >= 1.0) {
+            double sample = (mileage - state.sampleMileage) / days;
+            state.dailyKm = RATE_SMOOTHING * sample + (1 - RATE_SMOOTHING) * state.dailyKm;
+            state.sampleMileage = mileage;
+            state.sampledAt = observedAt;
+        }
+        if (!state.planned) {
+            reschedule(vehicleId, state, today);
+        }
+    }
+
+    private void reschedule(Long vehicleId, ServiceState state, LocalDate today) {
+        LocalDate dueDate = dueDate(state, today);
+        if (state.due == null || !state.due.dueDate().equals(dueDate)) {
+            state.due = new Due(vehicleId, dueDate);
+            queue.add(state.due);
+        }
+    }
+
+    private synchronized List<Due> pollDue(LocalDate horizon) {
+        List<Due> due = new ArrayList<>();
+        while (due.size() < maxPerRun && !queue.isEmpty() && !queue.peek().dueDate().isAfter(horizon)) {
+            Due next = queue.poll();
+            ServiceState state = states.get(next.vehicleId());
+            if (state != null && state.due == next && !state.planned) {
+                due.add(next);
+            }
+        }
+        return due;
+    }
+
+    private synchronized void requeue(Due due) {
+        ServiceState state = states.get(due.vehicleId());
+        if (state != null && state.due == due && !state.planned) {
+            queue.add(due);
+        }
+    }
+
+    private synchronized void markPlanned(Long vehicleId) {
+        ServiceState state = states.get(vehicleId);
+        if (state != null) {
+            state.planned = true;
+            state.due = null;
+        }
+    }
+
+    private Optional<MaintenanceWindow> planWindow(Due due, LocalDate today) {
+        Long vehicleId = due.vehicleId();
+        Optional<Vehicle> found = vehicleRepository.findById(vehicleId);
+        if (found.isEmpty() || found.get().getStatus() == VehicleStatus.AUSSER_BETRIEB) {
+            untrack(vehicleId);
+            return Optional.empty();
+        }
+        if (maintenanceWindowRepository.findOpenByVehicleId(vehicleId).isPresent()) {
+            markPlanned(vehicleId);
+            return Optional.empty();
+        }
+        Vehicle vehicle = found.get();
+
+        // Bis zur Fälligkeit suchen; ist dort nichts frei, das kleinste Übel danach
+        LocalDate earliest = today.plusDays(1);
+        LocalDate latest = due.dueDate().isAfter(earliest) ? due.dueDate() : earliest;
+        Optional<MaintenanceSlot> slot = findSlot(vehicle, earliest, latest)
+                .or(() -> findSlot(vehicle, latest.plusDays(1), latest.plusDays(leadDays)));
+        if (slot.isEmpty()
+                || !bookingRepository.findOverlappingBookings(vehicleId, slot.get().startDate(), slot.get().endDate())
+                        .isEmpty()) {
+            return Optional.empty();
+        }
+
+        long serviceMileage = serviceIntervalPolicy.serviceMileage(vehicle);
+        MaintenanceWindow window = transactionTemplate.execute(status -> {
+            MaintenanceWindow saved = maintenanceWindowRepository.save(MaintenanceWindow.builder()
+                    .vehicleId(vehicleId)
+                    .startDate(slot.get().startDate())
+                    .endDate(slot.get().endDate())
+                    .dueDate(due.dueDate())
+                    .dueMileage(serviceIntervalPolicy.dueMileage(serviceMileage))
+                    .revenueImpact(slot.get().revenueImpact())
+                    .build());
+            outboxService.record("Vehicle", vehicleId, "MAINTENANCE_PLANNED", windowPayload(saved, vehicle));
+            return saved;
+        });
+        assignmentIndex.blockMaintenance(vehicleId, window.getId(), window.getStartDate(), window.getEndDate());
+        markPlanned(vehicleId);
+        return Optional.of(window);
+    }
+
+    private Optional<MaintenanceSlot> findSlot(Vehicle vehicle, LocalDate earliest, LocalDate latest) {
+        return assignmentIndex.findMaintenanceSlot(vehicle.getId(), vehicle.getType(), vehicle.getLocation(),
+                vehicle.getDailyPrice(), earliest, latest, durationDays);
+    }
+
+    /**
+     * Setzt verfügbare Fahrzeuge mit begonnenem Wartungsfenster in Wartung; vermietete Fahrzeuge
+     * werden nach der Rückgabe im nächsten Lauf übernommen
+     */
+    private void startDueWindows(LocalDate today) {
+        for (MaintenanceWindow window : maintenanceWindowRepository.findPlannedStartingBy(today)) {
+            Boolean started = transactionTemplate.execute(status -> {
+                Vehicle vehicle = vehicleRepository.findById(window.getVehicleId()).orElse(null);
+                if (vehicle == null || vehicle.getStatus() != VehicleStatus.VERFÜGBAR) {
+                    return false;
+                }
+                vehicle.markAsMaintenance();
+                vehicleRepository.save(vehicle);
+                window.start();
+                maintenanceWindowRepository.save(window);
+                outboxService.record("Vehicle", vehicle.getId(), "MAINTENANCE_STARTED", windowPayload(window, vehicle));
+                return true;
+            });
+            if (Boolean.TRUE.equals(started)) {
+                assignmentIndex.removeVehicle(window.getVehicleId());
+            }
+        }
+    }
+
+    private ServiceState newState(Vehicle vehicle, LocalDate today) {
+        ServiceState state = new ServiceState();
+        state.serviceMileage = serviceIntervalPolicy.serviceMileage(vehicle);
+        state.serviceDate = serviceIntervalPolicy.serviceDate(vehicle, today);
+        state.mileage = vehicle.getMileage();
+        state.sampleMileage = vehicle.getMileage();
+        state.sampledAt = Instant.now();
+        state.dailyKm = serviceIntervalPolicy.initialDailyKm(state.serviceMileage, state.serviceDate,
+                state.mileage, today);
+        return state;
+    }
+
+    private LocalDate dueDate(ServiceState state, LocalDate today) {
+        return serviceIntervalPolicy.dueDate(state.serviceMileage, state.serviceDate, state.mileage,
+                state.dailyKm, today);
+    }
+
+    private static Map<String, Object> windowPayload(MaintenanceWindow window, Vehicle vehicle) {
+        return OutboxService.payload(
+                "vehicleId", vehicle.getId(),
+                "vehicleType", vehicle.getType(),
+                "location", vehicle.getLocation(),
+                "windowId", window.getId(),
+                "startDate", window.getStartDate(),
+                "endDate", window.getEndDate(),
+                "dueDate", window.getDueDate(),
+                "dueMileage", window.getDueMileage(),
+                "revenueImpact", window.getRevenueImpact());
+    }
+
+    /**
+     * Queue-Eintrag; gültig nur, solange er der aktuelle Eintrag des Fahrzeugs ist
+     */
+    private record Due(Long vehicleId, LocalDate dueDate) {
+    }
+
+    private static final class ServiceState {
+        private long serviceMileage;
+        private LocalDate serviceDate;
+        private long mileage;
+        private long sampleMileage;
+        private Instant sampledAt;
+        private double dailyKm;
+        private Due due;
+        private boolean planned;
+    }
+}
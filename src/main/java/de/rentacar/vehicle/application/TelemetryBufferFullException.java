@@ -0,0 +1,15 @@
+package de.rentacar.vehicle.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Telemetrie-Puffer voll, Meldungen werden bis zum nächsten Flush abgewiesen (Backpressure)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TelemetryBufferFullException extends IllegalStateException {
+
+    public TelemetryBufferFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,138 @@
+package de.rentacar.vehicle.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.vehicle.domain.TelemetryArchive;
+import de.rentacar.vehicle.domain.TelemetryReading;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.infrastructure.TelemetryCodec;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application Service für die Ingestion von Fahrzeugtelemetrie.
+ * Eingehende Meldungen werden ohne Datenbankzugriff gepuffert: pro Fahrzeug wird nur der
+ * zusammengefasste aktuellste Stand gehalten, die Rohdaten laufen in eine Queue für das Archiv.
+ * Ein periodischer Flush schreibt alle Fahrzeugstände in einem JDBC-Batch fort und hängt die
+ * Rohdaten an das Archiv an; neue Kilometerstände gehen an die Wartungsplanung. Ist der Puffer voll, werden Meldungen abgewiesen statt den
+ * Heap zu füllen; schlägt ein Flush fehl, bleiben die Daten für den nächsten Lauf im Puffer.
+ */
+@Service
+public class TelemetryIngestionService {
+
+    private final VehicleRepository vehicleRepository;
+    private final TelemetryArchive telemetryArchive;
+    private final MaintenancePlanner maintenancePlanner;
+    private final ObjectMapper objectMapper;
+    private final int bufferCapacity;
+    private final int maxBatchSize;
+    private final Map<Long, TelemetryReading> latestStates = new ConcurrentHashMap<>();
+    private final Queue<TelemetryReading> rawReadings = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    public TelemetryIngestionService(VehicleRepository vehicleRepository,
+                                     TelemetryArchive telemetryArchive,
+                                     MaintenancePlanner maintenancePlanner,
+                                     ObjectMapper objectMapper,
+                                     @Value("${rentacar.telemetry.buffer-capacity:200000}") int bufferCapacity,
+                                     @Value("${rentacar.telemetry.max-batch-size:10000}") int maxBatchSize) {
+        if (maxBatchSize < 1 || bufferCapacity < maxBatchSize) {
+            throw new IllegalArgumentException("Puffergröße muss mindestens der maximalen Batchgröße entsprechen");
+        }
+        this.vehicleRepository = vehicleRepository;
+        this.telemetryArchive = telemetryArchive;
+        this.maintenancePlanner = maintenancePlanner;
+        this.objectMapper = objectMapper;
+        this.bufferCapacity = bufferCapacity;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int ingestNdjson(InputStream input) throws IOException {
+        return ingest(TelemetryCodec.readNdjson(input, objectMapper, maxBatchSize));
+    }
+
+    public int ingestBinary(InputStream input) throws IOException {
+        return ingest(TelemetryCodec.readBinary(input, maxBatchSize));
+    }
+
+    /**
+     * Nimmt einen Batch vollständig an oder weist ihn vollständig ab
+     */
+    public int ingest(List<TelemetryReading> readings) {
+        if (buffered.addAndGet(readings.size()) > bufferCapacity) {
+            buffered.addAndGet(-readings.size());
+            throw new TelemetryBufferFullException("Telemetrie-Puffer ist voll, bitte später erneut senden");
+        }
+        for (TelemetryReading reading : readings) {
+            latestStates.merge(reading.vehicleId(), reading, TelemetryReading::coalesce);
+            rawReadings.add(reading);
+        }
+        return readings.size();
+    }
+
+    /**
+     * Schreibt die gepufferten Fahrzeugstände und Rohdaten fort
+     */
+    @Scheduled(fixedDelayString = "${rentacar.telemetry.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<TelemetryReading> states = new ArrayList<>(latestStates.size());
+        for (Long vehicleId : latestStates.keySet()) {
+            TelemetryReading state = latestStates.remove(vehicleId);
+            if (state != null) {
+                states.add(state);
+            }
+        }
+        List<TelemetryReading> raw = new ArrayList<>();
+        TelemetryReading reading;
+        while ((reading = rawReadings.poll()) != null) {
+            raw.add(reading);
+        }
+        if (states.isEmpty() && raw.isEmpty()) {
+            return;
+        }
+
+        try {
+            vehicleRepository.applyTelemetry(states);
+        } catch (RuntimeException e) {
+            states.forEach(state -> latestStates.merge(state.vehicleId(), state, TelemetryReading::coalesce));
+            rawReadings.addAll(raw);
+            throw e;
+        }
+        maintenancePlanner.recordTelemetry(states);
+        try {
+            telemetryArchive.append(raw);
+        } catch (RuntimeException e) {
+            rawReadings.addAll(raw);
+            throw e;
+        }
+        buffered.addAndGet(-raw.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public List<TelemetryReading> getHistory(Long vehicleId, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Beginn muss vor dem Ende des Zeitraums liegen");
+        }
+        return telemetryArchive.read(vehicleId, from, to);
+    }
+
+    public int getBufferedCount() {
+        return buffered.get();
+    }
+}
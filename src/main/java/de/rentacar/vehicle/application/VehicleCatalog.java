@@ -0,0 +1,106 @@
+package de.rentacar.vehicle.application;
+
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleCatalogIndex;
+import de.rentacar.vehicle.domain.VehicleCatalogIndex.Facets;
+import de.rentacar.vehicle.domain.VehicleCatalogIndex.SearchResult;
+import de.rentacar.vehicle.domain.VehicleFilter;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Application Service für die Katalogsuche über Fahrzeuge (Volltext mit Präfix, Facetten)
+ * und für kombinierte Attributfilter (Typ, Status, Standort, Preis).
+ * Die Fahrzeugverwaltung schreibt angelegte und geänderte Fahrzeuge direkt in den Index;
+ * Status- und Standortwechsel durch Buchungen, Mieten und Wartung kommen über Domain Events
+ * (VehicleCatalogEventSubscriber). Der periodische Neuaufbau ersetzt den Index komplett und
+ * gleicht verbleibende Abweichungen ab.
+ */
+@Service
+public class VehicleCatalog {
+
+    static final int MAX_RESULTS = 100;
+
+    private final VehicleRepository vehicleRepository;
+    private final double priceBandWidth;
+
+    private volatile VehicleCatalogIndex index;
+
+    public VehicleCatalog(VehicleRepository vehicleRepository,
+                          @Value("${rentacar.vehicle.catalog.price-band-width:25}") double priceBandWidth) {
+        this.vehicleRepository = vehicleRepository;
+        this.priceBandWidth = priceBandWidth;
+        this.index = new VehicleCatalogIndex(priceBandWidth);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${rentacar.vehicle.catalog.rebuild-interval-ms:300000}",
+            initialDelayString = "${rentacar.vehicle.catalog.rebuild-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        VehicleCatalogIndex fresh = new VehicleCatalogIndex(priceBandWidth);
+        vehicleRepository.findAll().forEach(fresh::put);
+        index = fresh;
+    }
+
+    public void index(Vehicle vehicle) {
+        index.put(vehicle);
+    }
+
+    public void remove(Long vehicleId) {
+        index.remove(vehicleId);
+    }
+
+    /**
+     * Übernimmt den aktuellen gespeicherten Stand eines Fahrzeugs (idempotent)
+     */
+    @Transactional(readOnly = true)
+    public void refresh(Long vehicleId) {
+        vehicleRepository.findById(vehicleId)
+                .ifPresentOrElse(this::index, () -> remove(vehicleId));
+    }
+
+    /**
+     * Use Case: Fahrzeugkatalog durchsuchen; liefert höchstens limit Fahrzeuge, die Facetten
+     * und die Gesamtzahl beziehen sich auf alle Treffer
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage search(String text, VehicleType type, String location, int limit) {
+        return page(index.search(text, type, location), limit);
+    }
+
+    /**
+     * Use Case: Fahrzeuge nach kombinierten Attributen filtern (z. B. verfügbare Kompaktklasse
+     * in Hamburg oder Berlin unter 50 EUR), ohne Datenbankabfrage pro Kriterium
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage find(VehicleFilter filter, int limit) {
+        return page(index.search(null, filter), limit);
+    }
+
+    private CatalogPage page(SearchResult result, int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("Limit muss zwischen 1 und " + MAX_RESULTS + " liegen");
+        }
+        List<Long> page = result.vehicleIds().subList(0, Math.min(limit, result.vehicleIds().size()));
+        List<Vehicle> vehicles = vehicleRepository.findAllById(page).stream()
+                .sorted(Comparator.comparing(Vehicle::getId))
+                .toList();
+        return new CatalogPage(vehicles, result.vehicleIds().size(), result.facets());
+    }
+
+    /**
+     * Ergebnisseite der Katalogsuche
+     */
+    public record CatalogPage(List<Vehicle> vehicles, int total, Facets facets) {
+    }
+}
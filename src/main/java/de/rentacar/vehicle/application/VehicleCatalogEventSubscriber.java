@@ -0,0 +1,54 @@
+package de.rentacar.vehicle.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Hält den Fahrzeugkatalog bei Status- und Standortwechseln aktuell: das betroffene Fahrzeug
+ * wird mit seinem gespeicherten Stand neu indiziert (idempotent, unabhängig von der Reihenfolge)
+ */
+@Component
+@RequiredArgsConstructor
+public class VehicleCatalogEventSubscriber implements DomainEventSubscriber {
+
+    private static final Set<String> VEHICLE_STATE_EVENTS = Set.of(
+            "BOOKING_CONFIRMED", "BOOKING_CANCELLED", "RENTAL_CHECKOUT", "RENTAL_CHECKIN");
+
+    private final VehicleCatalog vehicleCatalog;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String aggregateType) {
+        return "Booking".equals(aggregateType) || "Rental".equals(aggregateType) || "Vehicle".equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        if ("Vehicle".equals(event.getAggregateType())) {
+            vehicleCatalog.refresh(Long.valueOf(event.getAggregateId()));
+            return;
+        }
+        if (!VEHICLE_STATE_EVENTS.contains(event.getEventType())) {
+            return;
+        }
+        JsonNode vehicleId = parse(event.getPayload()).get("vehicleId");
+        if (vehicleId != null && !vehicleId.isNull()) {
+            vehicleCatalog.refresh(vehicleId.asLong());
+        }
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event-Payload ist kein gültiges JSON", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package de.rentacar.vehicle.application;
 
 import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
 import de.rentacar.vehicle.domain.LicensePlate;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Application Service für Fahrzeugverwaltung (Use Cases)
@@ -20,7 +22,9 @@ import java.util.List;
 public class VehicleManagementService {
 
     private final VehicleRepository vehicleRepository;
+    private final OutboxService outboxService;
     private final AuditService auditService;
+    private final VehicleCatalog vehicleCatalog;
 
     /**
      * Use Case: Fahrzeug hinzufügen (Mitarbeiter)
@@ -49,6 +53,8 @@ public class VehicleManagementService {
                 .build();
 
         Vehicle savedVehicle = vehicleRepository.save(vehicle);
+        outboxService.record("Vehicle", savedVehicle.getId(), "VEHICLE_ADDED", vehiclePayload(savedVehicle));
+        vehicleCatalog.index(savedVehicle);
 
         auditService.logAction(username, "VEHICLE_ADDED", "Vehicle", 
                 savedVehicle.getId().toString(), 
@@ -75,6 +81,8 @@ public class VehicleManagementService {
         if (dailyPrice != null) vehicle.setDailyPrice(dailyPrice);
 
         Vehicle savedVehicle = vehicleRepository.save(vehicle);
+        outboxService.record("Vehicle", vehicleId, "VEHICLE_UPDATED", vehiclePayload(vehicle));
+        vehicleCatalog.index(savedVehicle);
 
         auditService.logAction(username, "VEHICLE_UPDATED", "Vehicle", 
                 vehicleId.toString(), 
@@ -94,6 +102,7 @@ public class VehicleManagementService {
 
         vehicle.markAsOutOfService();
         vehicleRepository.save(vehicle);
+        outboxService.record("Vehicle", vehicleId, "VEHICLE_OUT_OF_SERVICE", vehiclePayload(vehicle));
 
         auditService.logAction(username, "VEHICLE_OUT_OF_SERVICE", "Vehicle", 
                 vehicleId.toString(), 
@@ -117,5 +126,13 @@ public class VehicleManagementService {
         return vehicleRepository.findById(vehicleId)
                 .orElseThrow(() -> new IllegalArgumentException("Fahrzeug nicht gefunden"));
     }
-}
 
+    private Map<String, Object> vehiclePayload(Vehicle vehicle) {
+        return OutboxService.payload(
+                "vehicleId", vehicle.getId(),
+                "type", vehicle.getType(),
+                "location", vehicle.getLocation(),
+                "status", vehicle.getStatus(),
+                "dailyPrice", vehicle.getDailyPrice());
+    }
+}
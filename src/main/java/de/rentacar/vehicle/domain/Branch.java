@@ -0,0 +1,52 @@
+package de.rentacar.vehicle.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entity für Filialen/Standorte mit Koordinaten (WGS84)
+ * Die Tabelle ist zugleich das Standort-Wörterbuch: Fahrzeuge und Buchungen verweisen über
+ * den Schlüssel auf die Filiale (siehe LocationConverter). Standorte, die nur über Fahrzeuge
+ * oder Buchungen bekannt wurden, haben noch keine Koordinaten.
+ */
+@Entity
+@Table(name = "branches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Branch extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    public static Branch of(String name, double latitude, double longitude) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Standort darf nicht leer sein");
+        }
+        Branch branch = Branch.builder().name(name).build();
+        branch.moveTo(latitude, longitude);
+        return branch;
+    }
+
+    public boolean hasPosition() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * Domain-Methode: Koordinaten setzen
+     */
+    public void moveTo(double latitude, double longitude) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new IllegalArgumentException("Ungültige Koordinaten für Standort " + name);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
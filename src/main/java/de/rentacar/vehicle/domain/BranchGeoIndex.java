@@ -0,0 +1,127 @@
+package de.rentacar.vehicle.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Unveränderlicher räumlicher Index über die Filialen (k-d-Baum über Breite/Länge).
+ * Der Baum ist implizit in Arrays abgelegt: jeder Teilbereich ist nach der Achse seiner
+ * Tiefe sortiert, der Median ist der Knoten. Eine Umkreissuche verwirft Teilbäume über
+ * das Begrenzungsrechteck des Suchkreises und prüft nur die Kandidaten per Haversine.
+ * Überschreitet das Rechteck die Datumsgrenze oder einen Pol, wird nicht nach Länge beschnitten.
+ */
+public final class BranchGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final String[] names;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private BranchGeoIndex(List<Branch> branches) {
+        List<Branch> ordered = new ArrayList<>(branches);
+        build(ordered, 0, ordered.size(), 0);
+        names = new String[ordered.size()];
+        latitudes = new double[ordered.size()];
+        longitudes = new double[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            names[i] = ordered.get(i).getName();
+            latitudes[i] = ordered.get(i).getLatitude();
+            longitudes[i] = ordered.get(i).getLongitude();
+        }
+    }
+
+    /**
+     * Baut den Index über alle Filialen mit Koordinaten auf
+     */
+    public static BranchGeoIndex of(List<Branch> branches) {
+        return new BranchGeoIndex(branches.stream().filter(Branch::hasPosition).toList());
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Filialen im Umkreis, aufsteigend nach Entfernung
+     */
+    public List<NearbyBranch> within(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double maxAbsLatitude = Math.abs(latitude) + latDelta;
+        double lonDelta = maxAbsLatitude >= 90
+                ? Double.POSITIVE_INFINITY
+                : radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLatitude)));
+        if (longitude - lonDelta < -180 || longitude + lonDelta > 180) {
+            lonDelta = Double.POSITIVE_INFINITY;
+        }
+        Box box = new Box(latitude - latDelta, latitude + latDelta, longitude - lonDelta, longitude + lonDelta);
+
+        List<NearbyBranch> result = new ArrayList<>();
+        search(0, names.length, 0, box, latitude, longitude, radiusKm, result);
+        result.sort(Comparator.comparingDouble(NearbyBranch::distanceKm));
+        return result;
+    }
+
+    /**
+     * Großkreisentfernung in Kilometern
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void search(int from, int to, int depth, Box box, double latitude, double longitude,
+                        double radiusKm, List<NearbyBranch> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        double lat = latitudes[mid];
+        double lon = longitudes[mid];
+        if (box.contains(lat, lon)) {
+            double distance = distanceKm(latitude, longitude, lat, lon);
+            if (distance <= radiusKm) {
+                result.add(new NearbyBranch(names[mid], distance));
+            }
+        }
+        double value = depth % 2 == 0 ? lat : lon;
+        double min = depth % 2 == 0 ? box.minLat() : box.minLon();
+        double max = depth % 2 == 0 ? box.maxLat() : box.maxLon();
+        if (min <= value) {
+            search(from, mid, depth + 1, box, latitude, longitude, radiusKm, result);
+        }
+        if (max >= value) {
+            search(mid + 1, to, depth + 1, box, latitude, longitude, radiusKm, result);
+        }
+    }
+
+    private static void build(List<Branch> branches, int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        branches.subList(from, to).sort(depth % 2 == 0
+                ? Comparator.comparingDouble(Branch::getLatitude)
+                : Comparator.comparingDouble(Branch::getLongitude));
+        int mid = (from + to) >>> 1;
+        build(branches, from, mid, depth + 1);
+        build(branches, mid + 1, to, depth + 1);
+    }
+
+    /**
+     * Treffer einer Umkreissuche
+     */
+    public record NearbyBranch(String name, double distanceKm) {
+    }
+
+    private record Box(double minLat, double maxLat, double minLon, double maxLon) {
+        boolean contains(double lat, double lon) {
+            return lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon;
+        }
+    }
+}
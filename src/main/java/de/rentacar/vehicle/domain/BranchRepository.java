@@ -0,0 +1,13 @@
+package de.rentacar.vehicle.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository Interface für Filialen (Domain Layer)
+ */
+public interface BranchRepository {
+    Branch save(Branch branch);
+    List<Branch> findAll();
+    Optional<Branch> findByName(String name);
+}
@@ -0,0 +1,31 @@
+package de.rentacar.vehicle.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Speichert Standorte als Schlüssel der Filialtabelle statt als Text.
+ * Wird von Hibernate über den Spring-Bean-Container beim Aufbau der EntityManagerFactory erzeugt;
+ * das Wörterbuch hängt über den Transaktionsmanager selbst von ihr ab und wird daher erst bei der
+ * ersten Konvertierung aufgelöst.
+ */
+@Converter
+public class LocationConverter implements AttributeConverter<String, Long> {
+
+    private final ObjectProvider<LocationDictionary> locationDictionary;
+
+    public LocationConverter(ObjectProvider<LocationDictionary> locationDictionary) {
+        this.locationDictionary = locationDictionary;
+    }
+
+    @Override
+    public Long convertToDatabaseColumn(String location) {
+        return location != null ? locationDictionary.getObject().idOf(location) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long id) {
+        return id != null ? locationDictionary.getObject().nameOf(id) : null;
+    }
+}
@@ -0,0 +1,26 @@
+package de.rentacar.vehicle.domain;
+
+import java.util.Optional;
+
+/**
+ * Wörterbuch der Standorte (Filialtabelle): bildet Standortnamen auf ganzzahlige Schlüssel ab.
+ * Zu jedem Schlüssel wird genau eine kanonische String-Instanz geliefert, die sich alle
+ * Fahrzeuge und Buchungen desselben Standorts teilen.
+ */
+public interface LocationDictionary {
+
+    /**
+     * Schlüssel des Standorts; unbekannte Standorte werden als Filiale ohne Koordinaten angelegt
+     */
+    Long idOf(String name);
+
+    /**
+     * Schlüssel des Standorts, ohne unbekannte Standorte anzulegen
+     */
+    Optional<Long> findId(String name);
+
+    /**
+     * Kanonischer Name zum Schlüssel
+     */
+    String nameOf(Long id);
+}
@@ -0,0 +1,10 @@
+package de.rentacar.vehicle.domain;
+
+/**
+ * Status eines Wartungsfensters
+ */
+public enum MaintenanceStatus {
+    GEPLANT,
+    IN_ARBEIT,
+    ABGESCHLOSSEN
+}
@@ -0,0 +1,69 @@
+package de.rentacar.vehicle.domain;
+
+import de.rentacar.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Entity für geplante Wartungsfenster.
+ * Geplante und laufende Fenster blockieren das Fahrzeug für Buchungen im Zeitraum
+ * [startDate, endDate]; pro Fahrzeug ist höchstens ein Fenster offen.
+ */
+@Entity
+@Table(name = "maintenance_windows", indexes = {
+        @Index(name = "idx_maintenance_windows_vehicle", columnList = "vehicle_id, status"),
+        @Index(name = "idx_maintenance_windows_start", columnList = "status, start_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaintenanceWindow extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long vehicleId;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private Long dueMileage;
+
+    // Erwarteter Umsatzausfall im Fenster (Tagespreis × prognostizierte Auslastung)
+    @Column(nullable = false)
+    private Double revenueImpact;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private MaintenanceStatus status = MaintenanceStatus.GEPLANT;
+
+    /**
+     * Domain-Methode: Wartung beginnt (Fahrzeug steht in der Werkstatt)
+     */
+    public void start() {
+        if (this.status != MaintenanceStatus.GEPLANT) {
+            throw new IllegalStateException("Nur geplante Wartungen können begonnen werden");
+        }
+        this.status = MaintenanceStatus.IN_ARBEIT;
+    }
+
+    /**
+     * Domain-Methode: Wartung abschließen
+     */
+    public void complete() {
+        if (this.status == MaintenanceStatus.ABGESCHLOSSEN) {
+            throw new IllegalStateException("Wartung ist bereits abgeschlossen");
+        }
+        this.status = MaintenanceStatus.ABGESCHLOSSEN;
+    }
+}
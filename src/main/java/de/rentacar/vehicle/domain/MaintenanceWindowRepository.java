@@ -0,0 +1,18 @@
+package de.rentacar.vehicle.domain;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository Interface für Wartungsfenster (Domain Layer)
+ */
+public interface MaintenanceWindowRepository {
+    MaintenanceWindow save(MaintenanceWindow window);
+    List<MaintenanceWindow> findOpen();
+    Optional<MaintenanceWindow> findOpenByVehicleId(Long vehicleId);
+    List<MaintenanceWindow> findPlannedStartingBy(LocalDate date);
+    boolean existsBlocking(Long vehicleId, LocalDate startDate, LocalDate endDate);
+    List<Long> findBlockedVehicleIds(Collection<Long> vehicleIds, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,17 @@
+package de.rentacar.vehicle.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Value Object: Überführungsplan eines Fahrzeugtyps für den Prognosehorizont
+ *
+ * @param surplus      Fahrzeuge, die im gesamten Horizont an ihrem Standort nicht benötigt werden
+ * @param deficit      an Standorten fehlende Fahrzeuge (Spitzenbedarf)
+ * @param unmetDeficit Defizit, das auch nach allen Überführungen bleibt
+ */
+public record RebalancingPlan(VehicleType vehicleType, LocalDate horizonEnd, LocalDateTime computedAt,
+                              int surplus, int deficit, int unmetDeficit, long totalCost,
+                              List<Transfer> transfers) {
+}
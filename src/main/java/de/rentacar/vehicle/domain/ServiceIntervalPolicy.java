@@ -0,0 +1,84 @@
+package de.rentacar.vehicle.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Domain Service für Wartungsintervalle: fällig ist eine Wartung nach einer festen
+ * Laufleistung oder Zeit seit der letzten Wartung, je nachdem, was zuerst eintritt.
+ * Das Fälligkeitsdatum nach Laufleistung wird aus der durchschnittlichen Tagesfahrleistung
+ * prognostiziert. Fahrzeuge ohne bekannte Wartungshistorie gelten als beim letzten vollen
+ * Intervall bzw. bei Aufnahme in die Flotte gewartet.
+ */
+@Service
+public class ServiceIntervalPolicy {
+
+    private static final long MIN_OBSERVATION_DAYS = 7;
+    private static final double MIN_DAILY_KM = 1.0;
+
+    private final long intervalKm;
+    private final long intervalDays;
+    private final double defaultDailyKm;
+
+    public ServiceIntervalPolicy(@Value("${rentacar.maintenance.interval-km:15000}") long intervalKm,
+                                 @Value("${rentacar.maintenance.interval-days:365}") long intervalDays,
+                                 @Value("${rentacar.maintenance.default-daily-km:60}") double defaultDailyKm) {
+        if (intervalKm < 1 || intervalDays < 1 || defaultDailyKm < MIN_DAILY_KM) {
+            throw new IllegalArgumentException("Ungültige Konfiguration der Wartungsintervalle");
+        }
+        this.intervalKm = intervalKm;
+        this.intervalDays = intervalDays;
+        this.defaultDailyKm = defaultDailyKm;
+    }
+
+    /**
+     * Kilometerstand bei der letzten Wartung
+     */
+    public long serviceMileage(Vehicle vehicle) {
+        if (vehicle.getLastServiceMileage() != null) {
+            return vehicle.getLastServiceMileage();
+        }
+        return vehicle.getMileage() - vehicle.getMileage() % intervalKm;
+    }
+
+    /**
+     * Datum der letzten Wartung
+     */
+    public LocalDate serviceDate(Vehicle vehicle, LocalDate today) {
+        if (vehicle.getLastServiceDate() != null) {
+            return vehicle.getLastServiceDate();
+        }
+        return vehicle.getCreatedAt() != null ? vehicle.getCreatedAt().toLocalDate() : today;
+    }
+
+    public long dueMileage(long serviceMileage) {
+        return serviceMileage + intervalKm;
+    }
+
+    /**
+     * Tagesfahrleistung seit der letzten Wartung; Standardwert bei zu kurzem Beobachtungszeitraum
+     */
+    public double initialDailyKm(long serviceMileage, LocalDate serviceDate, long mileage, LocalDate today) {
+        long days = ChronoUnit.DAYS.between(serviceDate, today);
+        if (days < MIN_OBSERVATION_DAYS || mileage <= serviceMileage) {
+            return defaultDailyKm;
+        }
+        return Math.max(MIN_DAILY_KM, (double) (mileage - serviceMileage) / days);
+    }
+
+    /**
+     * Prognostiziertes Fälligkeitsdatum (frühestens heute)
+     */
+    public LocalDate dueDate(long serviceMileage, LocalDate serviceDate, long mileage, double dailyKm, LocalDate today) {
+        LocalDate byTime = serviceDate.plusDays(intervalDays);
+        long remainingKm = dueMileage(serviceMileage) - mileage;
+        LocalDate byMileage = remainingKm <= 0
+                ? today
+                : today.plusDays((long) (remainingKm / Math.max(MIN_DAILY_KM, dailyKm)));
+        LocalDate due = byTime.isBefore(byMileage) ? byTime : byMileage;
+        return due.isBefore(today) ? today : due;
+    }
+}
@@ -0,0 +1,17 @@
+package de.rentacar.vehicle.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rohdaten-Zeitreihe der Fahrzeugtelemetrie (Domain Layer)
+ */
+public interface TelemetryArchive {
+
+    void append(List<TelemetryReading> readings);
+
+    /**
+     * Meldungen eines Fahrzeugs im Zeitraum [from, to), aufsteigend nach Zeitpunkt
+     */
+    List<TelemetryReading> read(Long vehicleId, Instant from, Instant to);
+}
@@ -0,0 +1,46 @@
+package de.rentacar.vehicle.domain;
+
+import java.time.Instant;
+
+/**
+ * Telemetriemeldung eines Fahrzeugs (Value Object); nicht gemeldete Werte sind null
+ */
+public record TelemetryReading(Long vehicleId, Instant recordedAt, Long odometer,
+                               Double latitude, Double longitude, Double fuelLevel) {
+
+    public TelemetryReading {
+        if (vehicleId == null || recordedAt == null) {
+            throw new IllegalArgumentException("Fahrzeug und Zeitpunkt der Telemetrie müssen angegeben werden");
+        }
+        if (odometer != null && odometer < 0) {
+            throw new IllegalArgumentException("Kilometerstand darf nicht negativ sein");
+        }
+        if ((latitude == null) != (longitude == null)
+                || latitude != null && (Math.abs(latitude) > 90 || Math.abs(longitude) > 180)) {
+            throw new IllegalArgumentException("Ungültige GPS-Position");
+        }
+        if (fuelLevel != null && (fuelLevel < 0 || fuelLevel > 100)) {
+            throw new IllegalArgumentException("Tankfüllstand muss zwischen 0 und 100 Prozent liegen");
+        }
+    }
+
+    /**
+     * Fasst zwei Meldungen desselben Fahrzeugs zum aktuellsten Stand zusammen:
+     * Werte der neueren Meldung haben Vorrang, fehlende Werte bleiben aus der älteren
+     * erhalten, der Kilometerstand kann nicht sinken.
+     */
+    public static TelemetryReading coalesce(TelemetryReading current, TelemetryReading reading) {
+        if (current == null) {
+            return reading;
+        }
+        TelemetryReading older = current.recordedAt.isAfter(reading.recordedAt) ? reading : current;
+        TelemetryReading newer = older == current ? reading : current;
+        Long odometer = older.odometer == null ? newer.odometer
+                : newer.odometer == null ? older.odometer : Math.max(older.odometer, newer.odometer);
+        boolean newerPosition = newer.latitude != null;
+        return new TelemetryReading(newer.vehicleId, newer.recordedAt, odometer,
+                newerPosition ? newer.latitude : older.latitude,
+                newerPosition ? newer.longitude : older.longitude,
+                newer.fuelLevel != null ? newer.fuelLevel : older.fuelLevel);
+    }
+}
@@ -0,0 +1,7 @@
+package de.rentacar.vehicle.domain;
+
+/**
+ * Value Object: geplante Überführung von Fahrzeugen eines Typs zwischen zwei Standorten
+ */
+public record Transfer(VehicleType vehicleType, String fromLocation, String toLocation, int vehicles, long cost) {
+}
@@ -0,0 +1,8 @@
+package de.rentacar.vehicle.domain;
+
+/**
+ * Kosten einer Überführung eines Fahrzeugs zwischen zwei Standorten (Domain Layer)
+ */
+public interface TransferCostModel {
+    long cost(String fromLocation, String toLocation, VehicleType vehicleType);
+}
@@ -0,0 +1,262 @@
+package de.rentacar.vehicle.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Domain-Algorithmus: kostenminimaler Überführungsplan als Min-Cost-Flow.
+ * Netz: Quelle → Überschuss-Standorte (Kapazität = Überschuss) → Defizit-Standorte
+ * (Kosten laut Kostenmodell) → Senke (Kapazität = Defizit). Gelöst mit
+ * Successive Shortest Paths und Dijkstra auf reduzierten Kosten (Potentiale),
+ * d.h. es wird so viel Defizit wie möglich zu minimalen Gesamtkosten gedeckt.
+ */
+public final class TransferPlanner {
+
+    private static final long INFINITE = Long.MAX_VALUE / 4;
+
+    private TransferPlanner() {
+    }
+
+    /**
+     * @param balances Bilanz pro Standort: positiv = Überschuss, negativ = Defizit
+     */
+    public static List<Transfer> plan(VehicleType type, Map<String, Integer> balances, TransferCostModel costModel) {
+        List<String> sources = new ArrayList<>();
+        List<String> sinks = new ArrayList<>();
+        List<Integer> supply = new ArrayList<>();
+        List<Integer> demand = new ArrayList<>();
+        balances.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    if (entry.getValue() > 0) {
+                        sources.add(entry.getKey());
+                        supply.add(entry.getValue());
+                    } else if (entry.getValue() < 0) {
+                        sinks.add(entry.getKey());
+                        demand.add(-entry.getValue());
+                    }
+                });
+        if (sources.isEmpty() || sinks.isEmpty()) {
+            return List.of();
+        }
+
+        int s = sources.size();
+        int t = sinks.size();
+        int source = s + t;
+        int sink = source + 1;
+        Network network = new Network(sink + 1, s + t + s * t);
+        for (int i = 0; i < s; i++) {
+            network.addEdge(source, i, supply.get(i), 0);
+        }
+        for (int j = 0; j < t; j++) {
+            network.addEdge(s + j, sink, demand.get(j), 0);
+        }
+        int[][] transferEdges = new int[s][t];
+        for (int i = 0; i < s; i++) {
+            for (int j = 0; j < t; j++) {
+                long cost = costModel.cost(sources.get(i), sinks.get(j), type);
+                if (cost < 0) {
+                    throw new IllegalArgumentException("Überführungskosten dürfen nicht negativ sein");
+                }
+                transferEdges[i][j] = network.addEdge(i, s + j, INFINITE, cost);
+            }
+        }
+
+        network.solve(source, sink);
+
+        List<Transfer> transfers = new ArrayList<>();
+        for (int i = 0; i < s; i++) {
+            for (int j = 0; j < t; j++) {
+                long flow = network.flow(transferEdges[i][j]);
+                if (flow > 0) {
+                    transfers.add(new Transfer(type, sources.get(i), sinks.get(j), (int) flow,
+                            flow * network.edgeCost[transferEdges[i][j]]));
+                }
+            }
+        }
+        return transfers;
+    }
+
+    /**
+     * Residualnetz in CSR-Darstellung (Kanten eines Knotens liegen zusammenhängend im Speicher);
+     * rev verweist auf die jeweilige Rückkante
+     */
+    private static final class Network {
+
+        private final int nodes;
+        private final int[] edgeFrom;
+        private final int[] edgeTo;
+        private final long[] edgeCapacity;
+        private final long[] edgeCost;
+        private int edgeCount;
+
+        private int[] start;
+        private int[] head;
+        private int[] rev;
+        private long[] capacity;
+        private long[] cost;
+        private int[] forwardSlot;
+
+        private Network(int nodes, int edges) {
+            this.nodes = nodes;
+            this.edgeFrom = new int[edges];
+            this.edgeTo = new int[edges];
+            this.edgeCapacity = new long[edges];
+            this.edgeCost = new long[edges];
+        }
+
+        private int addEdge(int from, int to, long capacity, long cost) {
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeCapacity[edgeCount] = capacity;
+            edgeCost[edgeCount] = cost;
+            return edgeCount++;
+        }
+
+        private long flow(int edge) {
+            return capacity[rev[forwardSlot[edge]]];
+        }
+
+        private void build() {
+            start = new int[nodes + 1];
+            for (int edge = 0; edge < edgeCount; edge++) {
+                start[edgeFrom[edge] + 1]++;
+                start[edgeTo[edge] + 1]++;
+            }
+            for (int node = 0; node < nodes; node++) {
+                start[node + 1] += start[node];
+            }
+            int slots = 2 * edgeCount;
+            head = new int[slots];
+            rev = new int[slots];
+            capacity = new long[slots];
+            cost = new long[slots];
+            forwardSlot = new int[edgeCount];
+            int[] position = Arrays.copyOf(start, nodes);
+            for (int edge = 0; edge < edgeCount; edge++) {
+                int forward = position[edgeFrom[edge]]++;
+                int backward = position[edgeTo[edge]]++;
+                head[forward] = edgeTo[edge];
+                capacity[forward] = edgeCapacity[edge];
+                cost[forward] = edgeCost[edge];
+                rev[forward] = backward;
+                head[backward] = edgeFrom[edge];
+                cost[backward] = -edgeCost[edge];
+                rev[backward] = forward;
+                forwardSlot[edge] = forward;
+            }
+        }
+
+        /**
+         * Nach jedem Dijkstra-Lauf wird ein blockierender Fluss über alle Kanten mit
+         * reduzierten Kosten 0 geschickt (Primal-Dual), statt nur einen Pfad zu augmentieren
+         */
+        private void solve(int source, int sink) {
+            build();
+            long[] potential = new long[nodes];
+            long[] distance = new long[nodes];
+            int[] level = new int[nodes];
+            int[] cursor = new int[nodes];
+            int[] queue = new int[nodes];
+            boolean[] settled = new boolean[nodes];
+            while (true) {
+                shortestPaths(source, potential, distance, settled);
+                if (distance[sink] >= INFINITE) {
+                    return;
+                }
+                for (int node = 0; node < nodes; node++) {
+                    if (distance[node] < INFINITE) {
+                        potential[node] += distance[node];
+                    }
+                }
+                while (levels(source, sink, potential, distance, level, queue)) {
+                    System.arraycopy(start, 0, cursor, 0, nodes);
+                    while (augment(source, sink, INFINITE, potential, distance, level, cursor) > 0) {
+                        // weiter bis der Fluss blockiert ist
+                    }
+                }
+            }
+        }
+
+        /**
+         * Dijkstra in O(V²) ohne Heap: das Netz ist nahezu vollständig bipartit, daher
+         * ist die lineare Minimumsuche günstiger als eine Prioritätswarteschlange
+         */
+        private void shortestPaths(int source, long[] potential, long[] distance, boolean[] settled) {
+            Arrays.fill(distance, INFINITE);
+            Arrays.fill(settled, false);
+            distance[source] = 0;
+            for (int round = 0; round < nodes; round++) {
+                int node = -1;
+                for (int candidate = 0; candidate < nodes; candidate++) {
+                    if (!settled[candidate] && distance[candidate] < INFINITE
+                            && (node < 0 || distance[candidate] < distance[node])) {
+                        node = candidate;
+                    }
+                }
+                if (node < 0) {
+                    return;
+                }
+                settled[node] = true;
+                long base = distance[node] + potential[node];
+                for (int edge = start[node]; edge < start[node + 1]; edge++) {
+                    if (capacity[edge] > 0) {
+                        int target = head[edge];
+                        long candidate = base + cost[edge] - potential[target];
+                        if (candidate < distance[target]) {
+                            distance[target] = candidate;
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean admissible(int edge, int node, long[] potential, long[] distance) {
+            int target = head[edge];
+            return capacity[edge] > 0 && distance[target] < INFINITE
+                    && cost[edge] + potential[node] - potential[target] == 0;
+        }
+
+        private boolean levels(int source, int sink, long[] potential, long[] distance, int[] level, int[] queue) {
+            Arrays.fill(level, -1);
+            int read = 0;
+            int write = 0;
+            level[source] = 0;
+            queue[write++] = source;
+            while (read < write) {
+                int node = queue[read++];
+                for (int edge = start[node]; edge < start[node + 1]; edge++) {
+                    int target = head[edge];
+                    if (level[target] < 0 && admissible(edge, node, potential, distance)) {
+                        level[target] = level[node] + 1;
+                        queue[write++] = target;
+                    }
+                }
+            }
+            return level[sink] >= 0;
+        }
+
+        private long augment(int node, int sink, long limit, long[] potential, long[] distance,
+                             int[] level, int[] cursor) {
+            if (node == sink) {
+                return limit;
+            }
+            for (; cursor[node] < start[node + 1]; cursor[node]++) {
+                int edge = cursor[node];
+                int target = head[edge];
+                if (level[target] == level[node] + 1 && admissible(edge, node, potential, distance)) {
+                    long pushed = augment(target, sink, Math.min(limit, capacity[edge]), potential, distance,
+                            level, cursor);
+                    if (pushed > 0) {
+                        capacity[edge] -= pushed;
+                        capacity[rev[edge]] += pushed;
+                        return pushed;
+                    }
+                }
+            }
+            return 0;
+        }
+    }
+}
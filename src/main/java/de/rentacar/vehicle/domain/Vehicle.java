@@ -4,6 +4,9 @@ import de.rentacar.shared.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 /**
  * Aggregate Root für Fahrzeuge (Vehicle Context)
  */
@@ -33,8 +36,9 @@ public class Vehicle extends BaseEntity {
     @Column(nullable = false)
     private Long mileage;
 
-    @Column(nullable = false, length = 100)
-    private String location; // Filiale/Standort
+    @Convert(converter = LocationConverter.class)
+    @Column(name = "location_id", nullable = false)
+    private String location; // Filiale/Standort, gespeichert als Schlüssel der Filialtabelle
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -44,6 +48,16 @@ public class Vehicle extends BaseEntity {
     @Column(nullable = false)
     private Double dailyPrice;
 
+    // Letzter Telemetrie-Stand (wird gebündelt per JDBC fortgeschrieben, nicht über das Aggregat)
+    private Double latitude;
+    private Double longitude;
+    private Double fuelLevel;
+    private LocalDateTime telemetryAt;
+
+    // Letzte Wartung (Grundlage der Wartungsplanung, null = unbekannt)
+    private Long lastServiceMileage;
+    private LocalDate lastServiceDate;
+
     /**
      * Domain-Methode: Fahrzeug als vermietet markieren
      */
@@ -68,6 +82,17 @@ public class Vehicle extends BaseEntity {
         this.status = VehicleStatus.WARTUNG;
     }
 
+    /**
+     * Domain-Methode: Wartung abgeschlossen, Intervall beginnt beim aktuellen Kilometerstand neu
+     */
+    public void completeService(LocalDate serviceDate) {
+        this.lastServiceMileage = this.mileage;
+        this.lastServiceDate = serviceDate;
+        if (this.status == VehicleStatus.WARTUNG) {
+            this.status = VehicleStatus.VERFÜGBAR;
+        }
+    }
+
     /**
      * Domain-Methode: Fahrzeug außer Betrieb setzen
      */
@@ -75,6 +100,16 @@ public class Vehicle extends BaseEntity {
         this.status = VehicleStatus.AUSSER_BETRIEB;
     }
 
+    /**
+     * Domain-Methode: Fahrzeug an einen anderen Standort versetzen (Einwegmiete, Überführung)
+     */
+    public void relocateTo(String newLocation) {
+        if (newLocation == null || newLocation.isBlank()) {
+            throw new IllegalArgumentException("Standort darf nicht leer sein");
+        }
+        this.location = newLocation;
+    }
+
     /**
      * Domain-Methode: Kilometerstand aktualisieren
      */
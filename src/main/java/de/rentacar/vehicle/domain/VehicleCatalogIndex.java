@@ -0,0 +1,331 @@
+package de.rentacar.vehicle.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Invertierter Index über den Fahrzeugkatalog für Volltextsuche und Facetten.
+ * Jedes Fahrzeug erhält eine dichte Ordinalzahl; Postings sind Bitmaps über diese Ordinalzahlen.
+ * Die Texte aus Marke, Modell, Typ und Standort werden in Kleinbuchstaben-Tokens zerlegt und in
+ * einem sortierten Wörterbuch geführt, sodass eine Präfixsuche die Postings eines Teilbaums vereinigt.
+ * Mehrere Suchbegriffe werden verknüpft (UND), Facetten zählen die Schnittmenge der Treffer mit
+ * den Bitmaps pro Typ, Standort und Preisband. Freigewordene Ordinalzahlen werden wiederverwendet.
+ * Zusätzlich wertet der Index Attributfilter (VehicleFilter) über Bitmaps pro Typ, Status, Standort
+ * und Preisband aus; nur das Preisband an einer Preisgrenze wird pro Fahrzeug exakt geprüft.
+ */
+public final class VehicleCatalogIndex {
+
+    private final double priceBandWidth;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final NavigableMap<String, BitSet> terms = new TreeMap<>();
+    private final Map<VehicleType, BitSet> types = new EnumMap<>(VehicleType.class);
+    private final Map<VehicleStatus, BitSet> statuses = new EnumMap<>(VehicleStatus.class);
+    private final Map<String, BitSet> locations = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> priceBands = new TreeMap<>();
+
+    public VehicleCatalogIndex(double priceBandWidth) {
+        if (priceBandWidth <= 0) {
+            throw new IllegalArgumentException("Breite der Preisbänder muss positiv sein");
+        }
+        this.priceBandWidth = priceBandWidth;
+    }
+
+    /**
+     * Nimmt ein Fahrzeug auf oder ersetzt seinen bisherigen Eintrag
+     */
+    public void put(Vehicle vehicle) {
+        Entry entry = new Entry(vehicle.getId(), tokens(vehicle), vehicle.getType(), vehicle.getStatus(),
+                vehicle.getLocation(), vehicle.getDailyPrice(), priceBand(vehicle.getDailyPrice()));
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(entry.vehicleId());
+            if (ordinal != null) {
+                unlink(ordinal, entries.get(ordinal));
+            } else {
+                ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.pop();
+                if (ordinal == entries.size()) {
+                    entries.add(null);
+                }
+                ordinals.put(entry.vehicleId(), ordinal);
+            }
+            entries.set(ordinal, entry);
+            link(ordinal, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long vehicleId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(vehicleId);
+            if (ordinal != null) {
+                unlink(ordinal, entries.get(ordinal));
+                entries.set(ordinal, null);
+                freeOrdinals.push(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sucht per Präfix über alle Begriffe von text; type und location schränken optional ein.
+     * Liefert alle Treffer-IDs aufsteigend sowie die Facetten über die Treffermenge.
+     */
+    public SearchResult search(String text, VehicleType type, String location) {
+        List<VehicleFilter> filters = new ArrayList<>();
+        if (type != null) {
+            filters.add(VehicleFilter.type(type));
+        }
+        if (location != null) {
+            filters.add(VehicleFilter.location(location));
+        }
+        return search(text, VehicleFilter.and(filters));
+    }
+
+    /**
+     * Wie oben, eingeschränkt durch einen beliebigen Attributfilter
+     */
+    public SearchResult search(String text, VehicleFilter filter) {
+        lock.readLock().lock();
+        try {
+            BitSet hits = evaluate(filter);
+            for (String prefix : tokenize(text)) {
+                hits.and(prefixPostings(prefix));
+            }
+
+            Map<VehicleType, Integer> typeCounts = new EnumMap<>(VehicleType.class);
+            types.forEach((value, postings) -> count(hits, postings, value, typeCounts));
+            Map<String, Integer> locationCounts = new TreeMap<>();
+            locations.forEach((value, postings) -> count(hits, postings, value, locationCounts));
+            Map<Integer, Integer> priceBandCounts = new TreeMap<>();
+            priceBands.forEach((band, postings) -> count(hits, postings, (int) (band * priceBandWidth),
+                    priceBandCounts));
+            return new SearchResult(vehicleIds(hits), new Facets(typeCounts, locationCounts, priceBandCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fahrzeug-IDs aller Fahrzeuge, auf die der Filter zutrifft, aufsteigend
+     */
+    public List<Long> filter(VehicleFilter filter) {
+        lock.readLock().lock();
+        try {
+            return vehicleIds(evaluate(filter));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> vehicleIds(BitSet hits) {
+        List<Long> vehicleIds = new ArrayList<>(hits.cardinality());
+        for (int ordinal = hits.nextSetBit(0); ordinal >= 0; ordinal = hits.nextSetBit(ordinal + 1)) {
+            vehicleIds.add(entries.get(ordinal).vehicleId());
+        }
+        vehicleIds.sort(null);
+        return vehicleIds;
+    }
+
+    /**
+     * Wertet den Filter zu einer neuen Bitmap aus (Aufrufer hält die Lesesperre)
+     */
+    private BitSet evaluate(VehicleFilter filter) {
+        if (filter instanceof VehicleFilter.OfType ofType) {
+            return copy(types.get(ofType.type()));
+        }
+        if (filter instanceof VehicleFilter.InStatus inStatus) {
+            return copy(statuses.get(inStatus.status()));
+        }
+        if (filter instanceof VehicleFilter.AtLocation atLocation) {
+            return copy(locations.get(atLocation.location()));
+        }
+        if (filter instanceof VehicleFilter.PriceBelow priceBelow) {
+            return priceBelow(priceBelow.maxPrice());
+        }
+        if (filter instanceof VehicleFilter.And and) {
+            BitSet result = (BitSet) live.clone();
+            for (VehicleFilter part : and.filters()) {
+                if (result.isEmpty()) {
+                    break;
+                }
+                result.and(evaluate(part));
+            }
+            return result;
+        }
+        if (filter instanceof VehicleFilter.Or or) {
+            BitSet result = new BitSet();
+            for (VehicleFilter part : or.filters()) {
+                result.or(evaluate(part));
+            }
+            return result;
+        }
+        if (filter instanceof VehicleFilter.Not not) {
+            BitSet result = (BitSet) live.clone();
+            result.andNot(evaluate(not.filter()));
+            return result;
+        }
+        throw new IllegalArgumentException("Unbekannter Filter: " + filter);
+    }
+
+    /**
+     * Vollständig darunterliegende Preisbänder werden vereinigt, das Band der Grenze exakt geprüft
+     */
+    private BitSet priceBelow(double maxPrice) {
+        int boundaryBand = priceBand(maxPrice);
+        BitSet result = new BitSet();
+        for (BitSet postings : priceBands.headMap(boundaryBand, false).values()) {
+            result.or(postings);
+        }
+        BitSet boundary = priceBands.get(boundaryBand);
+        if (boundary != null) {
+            for (int ordinal = boundary.nextSetBit(0); ordinal >= 0; ordinal = boundary.nextSetBit(ordinal + 1)) {
+                Double dailyPrice = entries.get(ordinal).dailyPrice();
+                if (dailyPrice != null && dailyPrice < maxPrice) {
+                    result.set(ordinal);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static BitSet copy(BitSet postings) {
+        return postings != null ? (BitSet) postings.clone() : new BitSet();
+    }
+
+    /**
+     * Zerlegt Text in Suchbegriffe: Kleinbuchstaben, getrennt an allem außer Buchstaben und Ziffern
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> tokens(Vehicle vehicle) {
+        Set<String> tokens = tokenize(vehicle.getBrand());
+        tokens.addAll(tokenize(vehicle.getModel()));
+        tokens.addAll(tokenize(vehicle.getType() != null ? vehicle.getType().name() : null));
+        tokens.addAll(tokenize(vehicle.getLocation()));
+        return tokens;
+    }
+
+    private BitSet prefixPostings(String prefix) {
+        BitSet union = new BitSet();
+        for (BitSet postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            union.or(postings);
+        }
+        return union;
+    }
+
+    private int priceBand(Double dailyPrice) {
+        return dailyPrice != null ? (int) Math.floor(dailyPrice / priceBandWidth) : 0;
+    }
+
+    private void link(int ordinal, Entry entry) {
+        live.set(ordinal);
+        for (String term : entry.terms()) {
+            terms.computeIfAbsent(term, key -> new BitSet()).set(ordinal);
+        }
+        if (entry.type() != null) {
+            types.computeIfAbsent(entry.type(), key -> new BitSet()).set(ordinal);
+        }
+        if (entry.status() != null) {
+            statuses.computeIfAbsent(entry.status(), key -> new BitSet()).set(ordinal);
+        }
+        if (entry.location() != null) {
+            locations.computeIfAbsent(entry.location(), key -> new BitSet()).set(ordinal);
+        }
+        priceBands.computeIfAbsent(entry.priceBand(), key -> new BitSet()).set(ordinal);
+    }
+
+    private void unlink(int ordinal, Entry entry) {
+        live.clear(ordinal);
+        for (String term : entry.terms()) {
+            clear(terms, term, ordinal);
+        }
+        if (entry.type() != null) {
+            clear(types, entry.type(), ordinal);
+        }
+        if (entry.status() != null) {
+            clear(statuses, entry.status(), ordinal);
+        }
+        if (entry.location() != null) {
+            clear(locations, entry.location(), ordinal);
+        }
+        clear(priceBands, entry.priceBand(), ordinal);
+    }
+
+    /**
+     * Entfernt das Bit und verwirft leere Postings, damit Wörterbuch und Facetten nicht wachsen
+     */
+    private static <K> void clear(Map<K, BitSet> postings, K key, int ordinal) {
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static <K> void count(BitSet hits, BitSet postings, K value, Map<K, Integer> counts) {
+        BitSet matching = (BitSet) postings.clone();
+        matching.and(hits);
+        if (!matching.isEmpty()) {
+            counts.put(value, matching.cardinality());
+        }
+    }
+
+    /**
+     * Treffer einer Katalogsuche (Fahrzeug-IDs aufsteigend) mit Facetten
+     */
+    public record SearchResult(List<Long> vehicleIds, Facets facets) {
+    }
+
+    /**
+     * Trefferzahlen pro Typ, Standort und Preisband (Schlüssel ist die Untergrenze in EUR)
+     */
+    public record Facets(Map<VehicleType, Integer> types, Map<String, Integer> locations,
+                         Map<Integer, Integer> priceBands) {
+    }
+
+    private record Entry(Long vehicleId, Set<String> terms, VehicleType type, VehicleStatus status,
+                         String location, Double dailyPrice, int priceBand) {
+    }
+}
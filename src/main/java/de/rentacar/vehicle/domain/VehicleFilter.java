@@ -0,0 +1,76 @@
+package de.rentacar.vehicle.domain;
+
+import java.util.List;
+
+/**
+ * Filterausdruck über Fahrzeugattribute (Typ, Status, Standort, Tagespreis), beliebig
+ * mit UND, ODER und NICHT kombinierbar. Ausgewertet wird im VehicleCatalogIndex über Bitmaps.
+ */
+public sealed interface VehicleFilter {
+
+    static VehicleFilter type(VehicleType type) {
+        return new OfType(type);
+    }
+
+    static VehicleFilter status(VehicleStatus status) {
+        return new InStatus(status);
+    }
+
+    static VehicleFilter location(String location) {
+        return new AtLocation(location);
+    }
+
+    /**
+     * Tagespreis echt kleiner als maxPrice
+     */
+    static VehicleFilter priceBelow(double maxPrice) {
+        return new PriceBelow(maxPrice);
+    }
+
+    static VehicleFilter and(List<VehicleFilter> filters) {
+        return new And(List.copyOf(filters));
+    }
+
+    static VehicleFilter and(VehicleFilter... filters) {
+        return and(List.of(filters));
+    }
+
+    static VehicleFilter or(List<VehicleFilter> filters) {
+        return new Or(List.copyOf(filters));
+    }
+
+    static VehicleFilter or(VehicleFilter... filters) {
+        return or(List.of(filters));
+    }
+
+    static VehicleFilter not(VehicleFilter filter) {
+        return new Not(filter);
+    }
+
+    record OfType(VehicleType type) implements VehicleFilter {
+    }
+
+    record InStatus(VehicleStatus status) implements VehicleFilter {
+    }
+
+    record AtLocation(String location) implements VehicleFilter {
+    }
+
+    record PriceBelow(double maxPrice) implements VehicleFilter {
+    }
+
+    /**
+     * Alle Teilfilter müssen zutreffen; ohne Teilfilter trifft jedes Fahrzeug zu
+     */
+    record And(List<VehicleFilter> filters) implements VehicleFilter {
+    }
+
+    /**
+     * Mindestens ein Teilfilter muss zutreffen; ohne Teilfilter trifft kein Fahrzeug zu
+     */
+    record Or(List<VehicleFilter> filters) implements VehicleFilter {
+    }
+
+    record Not(VehicleFilter filter) implements VehicleFilter {
+    }
+}
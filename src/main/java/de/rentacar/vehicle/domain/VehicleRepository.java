@@ -1,6 +1,7 @@
 package de.rentacar.vehicle.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,7 +10,9 @@ import java.util.Optional;
  */
 public interface VehicleRepository {
     Vehicle save(Vehicle vehicle);
+    List<Vehicle> saveAll(Collection<Vehicle> vehicles);
     Optional<Vehicle> findById(Long id);
+    List<Vehicle> findAllById(Collection<Long> ids);
     Optional<Vehicle> findByLicensePlate(LicensePlate licensePlate);
     List<Vehicle> findAll();
     List<Vehicle> findByType(VehicleType type);
@@ -17,5 +20,11 @@ public interface VehicleRepository {
     List<Vehicle> findByLocation(String location);
     List<Vehicle> findAvailableVehicles(VehicleType type, String location, LocalDate startDate, LocalDate endDate);
     void deleteById(Long id);
+    int releaseReservedVehicles(Collection<Long> vehicleIds);
+
+    /**
+     * Schreibt den zusammengefassten Telemetrie-Stand fort (ältere Stände werden ignoriert)
+     */
+    int applyTelemetry(Collection<TelemetryReading> latestStates);
 }
 
@@ -0,0 +1,15 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.Branch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface BranchJpaRepository extends JpaRepository<Branch, Long> {
+    Optional<Branch> findByName(String name);
+}
@@ -0,0 +1,34 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.Branch;
+import de.rentacar.vehicle.domain.BranchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BranchRepositoryImpl implements BranchRepository {
+
+    private final BranchJpaRepository jpaRepository;
+
+    @Override
+    public Branch save(Branch branch) {
+        return jpaRepository.save(branch);
+    }
+
+    @Override
+    public List<Branch> findAll() {
+        return jpaRepository.findAll();
+    }
+
+    @Override
+    public Optional<Branch> findByName(String name) {
+        return jpaRepository.findByName(name);
+    }
+}
@@ -0,0 +1,100 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.LocationDictionary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Standort-Wörterbuch über die Tabelle branches mit Cache in beide Richtungen.
+ * Einträge sind unveränderlich (Filialen werden nicht umbenannt oder gelöscht), daher
+ * wird der Cache nie invalidiert. Unbekannte Standorte werden in einer eigenen Transaktion
+ * angelegt, damit der Schlüssel auch bei einem Rollback der fachlichen Transaktion gültig bleibt;
+ * legt ein anderer Knoten denselben Standort gleichzeitig an, gewinnt dessen Zeile.
+ */
+@Component
+public class JdbcLocationDictionary implements LocationDictionary {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO branches (name, created_at, updated_at, version) VALUES (?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public JdbcLocationDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Long idOf(String name) {
+        return findId(name).orElseGet(() -> {
+            try {
+                return register(newTransaction.execute(status -> insert(name)), name);
+            } catch (DataIntegrityViolationException e) {
+                // gleichzeitig von einem anderen Knoten angelegt
+                return findId(name).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Long> findId(String name) {
+        Long id = idsByName.get(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM branches WHERE name = ?", Long.class, name);
+        return ids.isEmpty() ? Optional.empty() : Optional.of(register(ids.get(0), name));
+    }
+
+    @Override
+    public String nameOf(Long id) {
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM branches WHERE id = ?", String.class, id);
+        if (names.isEmpty()) {
+            throw new IllegalStateException("Unbekannter Standortschlüssel: " + id);
+        }
+        register(id, names.get(0));
+        return namesById.get(id);
+    }
+
+    private Long insert(String name) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            statement.setTimestamp(2, now);
+            statement.setTimestamp(3, now);
+            return statement;
+        }, keyHolder);
+        return ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue();
+    }
+
+    private Long register(Long id, String name) {
+        String canonical = namesById.computeIfAbsent(id, key -> name);
+        idsByName.putIfAbsent(canonical, id);
+        return id;
+    }
+}
@@ -0,0 +1,87 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.TelemetryReading;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC-Batch-Update des Telemetrie-Stands der Fahrzeuge.
+ * Version und Aggregat bleiben unberührt, damit Telemetrie keine optimistischen
+ * Sperrkonflikte mit Check-out/Check-in erzeugt; der Kilometerstand kann nur steigen,
+ * ältere Stände (verspätet zugestellte Meldungen) werden über telemetry_at verworfen.
+ */
+@Component
+public class JdbcVehicleTelemetryWriter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE vehicles SET mileage = CASE WHEN ? > mileage THEN ? ELSE mileage END, " +
+            "latitude = COALESCE(?, latitude), longitude = COALESCE(?, longitude), " +
+            "fuel_level = COALESCE(?, fuel_level), telemetry_at = ? " +
+            "WHERE id = ? AND (telemetry_at IS NULL OR telemetry_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcVehicleTelemetryWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int apply(Collection<TelemetryReading> latestStates) {
+        if (latestStates.isEmpty()) {
+            return 0;
+        }
+        // Sortiert nach Fahrzeug, damit parallele Schreiber die Zeilen in gleicher Reihenfolge sperren
+        List<TelemetryReading> states = new ArrayList<>(latestStates);
+        states.sort(Comparator.comparing(TelemetryReading::vehicleId));
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                TelemetryReading state = states.get(i);
+                Timestamp recordedAt = Timestamp.from(state.recordedAt());
+                setLong(statement, 1, state.odometer());
+                setLong(statement, 2, state.odometer());
+                setDouble(statement, 3, state.latitude());
+                setDouble(statement, 4, state.longitude());
+                setDouble(statement, 5, state.fuelLevel());
+                statement.setTimestamp(6, recordedAt);
+                statement.setLong(7, state.vehicleId());
+                statement.setTimestamp(8, recordedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return states.size();
+            }
+        });
+        int total = 0;
+        for (int count : updated) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static void setLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value != null) {
+            statement.setLong(index, value);
+        } else {
+            statement.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static void setDouble(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value != null) {
+            statement.setDouble(index, value);
+        } else {
+            statement.setNull(index, Types.DOUBLE);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.MaintenanceStatus;
+import de.rentacar.vehicle.domain.MaintenanceWindow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+public interface MaintenanceWindowJpaRepository extends JpaRepository<MaintenanceWindow, Long> {
+    List<MaintenanceWindow> findByStatusInOrderByStartDateAsc(Collection<MaintenanceStatus> statuses);
+
+    Optional<MaintenanceWindow> findFirstByVehicleIdAndStatusIn(Long vehicleId, Collection<MaintenanceStatus> statuses);
+
+    List<MaintenanceWindow> findByStatusAndStartDateLessThanEqualOrderByStartDateAsc(MaintenanceStatus status,
+                                                                                     LocalDate date);
+
+    boolean existsByVehicleIdAndStatusInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+            Long vehicleId, Collection<MaintenanceStatus> statuses, LocalDate endDate, LocalDate startDate);
+
+    @Query("SELECT DISTINCT m.vehicleId FROM MaintenanceWindow m WHERE m.vehicleId IN :vehicleIds " +
+           "AND m.status IN :statuses AND m.startDate <= :endDate AND m.endDate >= :startDate")
+    List<Long> findOverlappingVehicleIds(@Param("vehicleIds") Collection<Long> vehicleIds,
+                                         @Param("statuses") Collection<MaintenanceStatus> statuses,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+}
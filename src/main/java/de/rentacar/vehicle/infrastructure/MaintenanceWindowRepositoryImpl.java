@@ -0,0 +1,60 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.MaintenanceStatus;
+import de.rentacar.vehicle.domain.MaintenanceWindow;
+import de.rentacar.vehicle.domain.MaintenanceWindowRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository Implementation (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MaintenanceWindowRepositoryImpl implements MaintenanceWindowRepository {
+
+    private static final Set<MaintenanceStatus> OPEN = EnumSet.of(MaintenanceStatus.GEPLANT, MaintenanceStatus.IN_ARBEIT);
+
+    private final MaintenanceWindowJpaRepository jpaRepository;
+
+    @Override
+    public MaintenanceWindow save(MaintenanceWindow window) {
+        return jpaRepository.save(window);
+    }
+
+    @Override
+    public List<MaintenanceWindow> findOpen() {
+        return jpaRepository.findByStatusInOrderByStartDateAsc(OPEN);
+    }
+
+    @Override
+    public Optional<MaintenanceWindow> findOpenByVehicleId(Long vehicleId) {
+        return jpaRepository.findFirstByVehicleIdAndStatusIn(vehicleId, OPEN);
+    }
+
+    @Override
+    public List<MaintenanceWindow> findPlannedStartingBy(LocalDate date) {
+        return jpaRepository.findByStatusAndStartDateLessThanEqualOrderByStartDateAsc(MaintenanceStatus.GEPLANT, date);
+    }
+
+    @Override
+    public boolean existsBlocking(Long vehicleId, LocalDate startDate, LocalDate endDate) {
+        return jpaRepository.existsByVehicleIdAndStatusInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                vehicleId, OPEN, endDate, startDate);
+    }
+
+    @Override
+    public List<Long> findBlockedVehicleIds(Collection<Long> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        if (vehicleIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findOverlappingVehicleIds(vehicleIds, OPEN, startDate, endDate);
+    }
+}
@@ -0,0 +1,106 @@
+package de.rentacar.vehicle.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.vehicle.domain.TelemetryReading;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kodierung von Telemetriemeldungen für Ingestion und Segmentdateien.
+ * Binärformat (big-endian, feste Satzlänge 44 Bytes):
+ * vehicleId (long), recordedAt in Epoch-Millisekunden (long), Kilometerstand (long, -1 = keiner),
+ * Breite und Länge (double, NaN = keine Position), Tankfüllstand in Prozent (float, NaN = keiner).
+ * NDJSON: ein Objekt pro Zeile mit vehicleId, recordedAt (ISO-8601), odometer, latitude,
+ * longitude und fuelLevel; fehlende Felder gelten als nicht gemeldet.
+ */
+public final class TelemetryCodec {
+
+    public static final int RECORD_SIZE = 44;
+
+    private TelemetryCodec() {
+    }
+
+    public static void write(DataOutputStream out, TelemetryReading reading) throws IOException {
+        out.writeLong(reading.vehicleId());
+        out.writeLong(reading.recordedAt().toEpochMilli());
+        out.writeLong(reading.odometer() != null ? reading.odometer() : -1L);
+        out.writeDouble(reading.latitude() != null ? reading.latitude() : Double.NaN);
+        out.writeDouble(reading.longitude() != null ? reading.longitude() : Double.NaN);
+        out.writeFloat(reading.fuelLevel() != null ? reading.fuelLevel().floatValue() : Float.NaN);
+    }
+
+    /**
+     * Liest den nächsten Satz; null am Ende des Datenstroms
+     */
+    public static TelemetryReading read(DataInputStream in) throws IOException {
+        long vehicleId;
+        try {
+            vehicleId = in.readLong();
+        } catch (EOFException e) {
+            return null;
+        }
+        long recordedAt = in.readLong();
+        long odometer = in.readLong();
+        double latitude = in.readDouble();
+        double longitude = in.readDouble();
+        float fuelLevel = in.readFloat();
+        return new TelemetryReading(vehicleId, Instant.ofEpochMilli(recordedAt),
+                odometer >= 0 ? odometer : null,
+                Double.isNaN(latitude) ? null : latitude,
+                Double.isNaN(longitude) ? null : longitude,
+                Float.isNaN(fuelLevel) ? null : (double) fuelLevel);
+    }
+
+    public static List<TelemetryReading> readBinary(InputStream input, int maxReadings) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        List<TelemetryReading> readings = new ArrayList<>();
+        TelemetryReading reading;
+        while ((reading = read(in)) != null) {
+            checkLimit(readings, maxReadings);
+            readings.add(reading);
+        }
+        return readings;
+    }
+
+    public static List<TelemetryReading> readNdjson(InputStream input, ObjectMapper objectMapper, int maxReadings)
+            throws IOException {
+        List<TelemetryReading> readings = new ArrayList<>();
+        try (MappingIterator<JsonNode> lines = objectMapper.readerFor(JsonNode.class).readValues(input)) {
+            while (lines.hasNextValue()) {
+                JsonNode line = lines.nextValue();
+                checkLimit(readings, maxReadings);
+                readings.add(new TelemetryReading(
+                        longValue(line, "vehicleId"),
+                        line.hasNonNull("recordedAt") ? Instant.parse(line.get("recordedAt").asText()) : null,
+                        longValue(line, "odometer"),
+                        doubleValue(line, "latitude"),
+                        doubleValue(line, "longitude"),
+                        doubleValue(line, "fuelLevel")));
+            }
+        }
+        return readings;
+    }
+
+    private static void checkLimit(List<TelemetryReading> readings, int maxReadings) {
+        if (readings.size() >= maxReadings) {
+            throw new IllegalArgumentException("Maximal " + maxReadings + " Telemetriemeldungen pro Batch");
+        }
+    }
+
+    private static Long longValue(JsonNode line, String field) {
+        return line.hasNonNull(field) ? line.get(field).asLong() : null;
+    }
+
+    private static Double doubleValue(JsonNode line, String field) {
+        return line.hasNonNull(field) ? line.get(field).asDouble() : null;
+    }
+}
@@ -0,0 +1,133 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.TelemetryArchive;
+import de.rentacar.vehicle.domain.TelemetryReading;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Lokale Segmentdateien für die Telemetrie-Rohdaten (eine Datei pro Stunde, UTC).
+ * Jeder Flush hängt ein gzip-Member mit Binärsätzen (siehe TelemetryCodec) an die Datei
+ * der jeweiligen Stunde an; aufeinanderfolgende Member ergeben wieder einen gültigen
+ * gzip-Strom. Ein bei einem Absturz angerissenes letztes Member wird beim Lesen verworfen.
+ */
+@Component
+public class TelemetrySegmentStore implements TelemetryArchive {
+
+    private static final String PREFIX = "telemetry-";
+    private static final String SUFFIX = ".bin.gz";
+    private static final DateTimeFormatter HOUR = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final int retentionDays;
+
+    public TelemetrySegmentStore(@Value("${rentacar.telemetry.dir:./data/telemetry}") String directory,
+                                 @Value("${rentacar.telemetry.retention-days:90}") int retentionDays) {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("Aufbewahrungsdauer muss mindestens einen Tag betragen");
+        }
+        this.directory = Paths.get(directory);
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+    }
+
+    @Override
+    public synchronized void append(List<TelemetryReading> readings) {
+        Map<String, List<TelemetryReading>> byHour = new TreeMap<>();
+        for (TelemetryReading reading : readings) {
+            byHour.computeIfAbsent(HOUR.format(reading.recordedAt()), hour -> new ArrayList<>()).add(reading);
+        }
+        byHour.forEach((hour, hourReadings) -> {
+            try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(segment(hour), StandardOpenOption.CREATE, StandardOpenOption.APPEND))))) {
+                for (TelemetryReading reading : hourReadings) {
+                    TelemetryCodec.write(out, reading);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Telemetrie-Segment konnte nicht geschrieben werden: " + hour, e);
+            }
+        });
+    }
+
+    @Override
+    public List<TelemetryReading> read(Long vehicleId, Instant from, Instant to) {
+        List<TelemetryReading> readings = new ArrayList<>();
+        for (Instant hour = from.truncatedTo(ChronoUnit.HOURS); hour.isBefore(to); hour = hour.plus(1, ChronoUnit.HOURS)) {
+            Path segment = segment(HOUR.format(hour));
+            if (Files.exists(segment)) {
+                readSegment(segment, vehicleId, from, to, readings);
+            }
+        }
+        readings.sort(Comparator.comparing(TelemetryReading::recordedAt));
+        return readings;
+    }
+
+    /**
+     * Löscht Segmente außerhalb der Aufbewahrungsdauer
+     */
+    @Scheduled(cron = "${rentacar.telemetry.purge-cron:0 45 3 * * *}")
+    public void purgeExpired() throws IOException {
+        String cutoff = HOUR.format(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(PREFIX) && name.endsWith(SUFFIX)
+                        && name.substring(PREFIX.length(), name.length() - SUFFIX.length()).compareTo(cutoff) < 0) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private void readSegment(Path segment, Long vehicleId, Instant from, Instant to, List<TelemetryReading> readings) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(
+                Files.newInputStream(segment))))) {
+            TelemetryReading reading;
+            while ((reading = TelemetryCodec.read(in)) != null) {
+                if (reading.vehicleId().equals(vehicleId)
+                        && !reading.recordedAt().isBefore(from) && reading.recordedAt().isBefore(to)) {
+                    readings.add(reading);
+                }
+            }
+        } catch (EOFException | ZipException e) {
+            // angerissenes letztes Member: bis dahin gelesene Sätze bleiben gültig
+        } catch (IOException e) {
+            throw new UncheckedIOException("Telemetrie-Segment konnte nicht gelesen werden: " + segment, e);
+        }
+    }
+
+    private Path segment(String hour) {
+        return directory.resolve(PREFIX + hour + SUFFIX);
+    }
+}
@@ -0,0 +1,27 @@
+package de.rentacar.vehicle.infrastructure;
+
+import de.rentacar.vehicle.domain.TransferCostModel;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Einheitliche Überführungskosten zwischen allen Standorten (keine Entfernungsdaten vorhanden)
+ */
+@Component
+public class UniformTransferCostModel implements TransferCostModel {
+
+    private final long transferCost;
+
+    public UniformTransferCostModel(@Value("${rentacar.fleet.rebalancing.transfer-cost:1}") long transferCost) {
+        if (transferCost < 0) {
+            throw new IllegalArgumentException("Überführungskosten dürfen nicht negativ sein");
+        }
+        this.transferCost = transferCost;
+    }
+
+    @Override
+    public long cost(String fromLocation, String toLocation, VehicleType vehicleType) {
+        return fromLocation.equals(toLocation) ? 0 : transferCost;
+    }
+}
@@ -1,14 +1,18 @@
 package de.rentacar.vehicle.infrastructure;
 
+import de.rentacar.rental.domain.RentalStatus;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleStatus;
 import de.rentacar.vehicle.domain.VehicleType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,10 +34,27 @@ public interface VehicleJpaRepository extends JpaRepository<Vehicle, Long> {
            "AND v.id NOT IN " +
            "(SELECT b.vehicle.id FROM de.rentacar.booking.domain.Booking b " +
            "WHERE b.status = 'BESTÄTIGT' " +
-           "AND ((b.pickupDate <= :endDate AND b.returnDate >= :startDate)))")
+           "AND ((b.pickupDate <= :endDate AND b.returnDate >= :startDate))) " +
+           "AND v.id NOT IN " +
+           "(SELECT m.vehicleId FROM de.rentacar.vehicle.domain.MaintenanceWindow m " +
+           "WHERE m.status <> 'ABGESCHLOSSEN' " +
+           "AND m.startDate <= :endDate AND m.endDate >= :startDate)")
     List<Vehicle> findAvailableVehicles(@Param("type") VehicleType type,
                                         @Param("location") String location,
                                         @Param("startDate") LocalDate startDate,
                                         @Param("endDate") LocalDate endDate);
-}
 
+    /**
+     * Gibt bei Bestätigung reservierte Fahrzeuge wieder frei, sofern keine Vermietung läuft
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Vehicle v SET v.status = :available, v.updatedAt = :updatedAt, v.version = v.version + 1 " +
+           "WHERE v.id IN :vehicleIds AND v.status = :reserved " +
+           "AND NOT EXISTS (SELECT r.id FROM de.rentacar.rental.domain.Rental r " +
+           "WHERE r.vehicleId = v.id AND r.status = :rented)")
+    int updateStatusWithoutActiveRental(@Param("vehicleIds") Collection<Long> vehicleIds,
+                                        @Param("reserved") VehicleStatus reserved,
+                                        @Param("available") VehicleStatus available,
+                                        @Param("rented") RentalStatus rented,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
+}
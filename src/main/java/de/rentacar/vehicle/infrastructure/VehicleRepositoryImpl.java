@@ -1,6 +1,9 @@
 package de.rentacar.vehicle.infrastructure;
 
+import de.rentacar.rental.domain.RentalStatus;
 import de.rentacar.vehicle.domain.LicensePlate;
+import de.rentacar.vehicle.domain.LocationDictionary;
+import de.rentacar.vehicle.domain.TelemetryReading;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
 import de.rentacar.vehicle.domain.VehicleStatus;
@@ -9,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,17 +25,29 @@ import java.util.Optional;
 public class VehicleRepositoryImpl implements VehicleRepository {
 
     private final VehicleJpaRepository jpaRepository;
+    private final JdbcVehicleTelemetryWriter telemetryWriter;
+    private final LocationDictionary locationDictionary;
 
     @Override
     public Vehicle save(Vehicle vehicle) {
         return jpaRepository.save(vehicle);
     }
 
+    @Override
+    public List<Vehicle> saveAll(Collection<Vehicle> vehicles) {
+        return jpaRepository.saveAll(vehicles);
+    }
+
     @Override
     public Optional<Vehicle> findById(Long id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<Vehicle> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<Vehicle> findByLicensePlate(LicensePlate licensePlate) {
         return jpaRepository.findByLicensePlateValue(licensePlate.getValue());
@@ -53,11 +70,18 @@ public class VehicleRepositoryImpl implements VehicleRepository {
 
     @Override
     public List<Vehicle> findByLocation(String location) {
+        // Suchen mit unbekanntem Standort dürfen keinen Wörterbucheintrag anlegen
+        if (locationDictionary.findId(location).isEmpty()) {
+            return List.of();
+        }
         return jpaRepository.findByLocation(location);
     }
 
     @Override
     public List<Vehicle> findAvailableVehicles(VehicleType type, String location, LocalDate startDate, LocalDate endDate) {
+        if (locationDictionary.findId(location).isEmpty()) {
+            return List.of();
+        }
         return jpaRepository.findAvailableVehicles(type, location, startDate, endDate);
     }
 
@@ -65,5 +89,18 @@ public class VehicleRepositoryImpl implements VehicleRepository {
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
     }
-}
 
+    @Override
+    public int releaseReservedVehicles(Collection<Long> vehicleIds) {
+        if (vehicleIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.updateStatusWithoutActiveRental(vehicleIds, VehicleStatus.VERMIETET,
+                VehicleStatus.VERFÜGBAR, RentalStatus.AUSGEGEBEN, LocalDateTime.now());
+    }
+
+    @Override
+    public int applyTelemetry(Collection<TelemetryReading> latestStates) {
+        return telemetryWriter.apply(latestStates);
+    }
+}
@@ -0,0 +1,40 @@
+package de.rentacar.vehicle.web;
+
+import de.rentacar.vehicle.application.BranchDirectory;
+import de.rentacar.vehicle.domain.Branch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+
+/**
+ * REST Controller für Filialen (Standorte mit Koordinaten)
+ */
+@RestController
+@RequestMapping("/api/vehicles/branches")
+@RequiredArgsConstructor
+public class BranchController {
+
+    private final BranchDirectory branchDirectory;
+
+    @GetMapping
+    public ResponseEntity<List<Branch>> getAllBranches() {
+        return ResponseEntity.ok(branchDirectory.getAllBranches());
+    }
+
+    @PutMapping("/{name}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Branch> saveBranch(@PathVariable String name,
+                                             @RequestBody BranchRequest request,
+                                             Authentication authentication,
+                                             HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(branchDirectory.saveBranch(name, request.latitude(), request.longitude(),
+                authentication.getName(), httpRequest.getRemoteAddr()));
+    }
+
+    public record BranchRequest(double latitude, double longitude) {}
+}
@@ -0,0 +1,33 @@
+package de.rentacar.vehicle.web;
+
+import de.rentacar.vehicle.application.FleetRebalancingService;
+import de.rentacar.vehicle.domain.RebalancingPlan;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller für die Flotten-Umverteilung (Überführungspläne)
+ */
+@RestController
+@RequestMapping("/api/vehicles/rebalancing")
+@RequiredArgsConstructor
+public class FleetRebalancingController {
+
+    private final FleetRebalancingService fleetRebalancingService;
+
+    @GetMapping
+    public ResponseEntity<List<RebalancingPlan>> getPlans(@RequestParam(required = false) VehicleType vehicleType) {
+        return ResponseEntity.ok(fleetRebalancingService.getPlans(vehicleType));
+    }
+
+    @PostMapping("/replan")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RebalancingPlan>> replan(@RequestParam(required = false) VehicleType vehicleType) {
+        return ResponseEntity.ok(fleetRebalancingService.replanNow(vehicleType));
+    }
+}
@@ -0,0 +1,43 @@
+package de.rentacar.vehicle.web;
+
+import de.rentacar.vehicle.application.MaintenancePlanner;
+import de.rentacar.vehicle.domain.MaintenanceWindow;
+import de.rentacar.vehicle.domain.Vehicle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+
+/**
+ * REST Controller für die Wartungsplanung
+ */
+@RestController
+@RequestMapping("/api/vehicles")
+@RequiredArgsConstructor
+public class MaintenanceController {
+
+    private final MaintenancePlanner maintenancePlanner;
+
+    @GetMapping("/maintenance")
+    public ResponseEntity<List<MaintenanceWindow>> getOpenWindows() {
+        return ResponseEntity.ok(maintenancePlanner.getOpenWindows());
+    }
+
+    @PostMapping("/maintenance/plan")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> planNow() {
+        return ResponseEntity.ok(maintenancePlanner.plan());
+    }
+
+    @PostMapping("/{id}/maintenance/complete")
+    public ResponseEntity<Vehicle> completeMaintenance(@PathVariable Long id,
+                                                       Authentication authentication,
+                                                       HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(maintenancePlanner.completeMaintenance(id, authentication.getName(),
+                httpRequest.getRemoteAddr()));
+    }
+}
@@ -0,0 +1,48 @@
+package de.rentacar.vehicle.web;
+
+import de.rentacar.vehicle.application.TelemetryIngestionService;
+import de.rentacar.vehicle.domain.TelemetryReading;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST Controller für die Fahrzeugtelemetrie (NDJSON oder Binärformat, siehe TelemetryCodec)
+ */
+@RestController
+@RequestMapping("/api/vehicles")
+@RequiredArgsConstructor
+public class TelemetryController {
+
+    private final TelemetryIngestionService telemetryIngestionService;
+
+    @PostMapping(value = "/telemetry", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TelemetryAcceptedResponse> ingestNdjson(HttpServletRequest httpRequest) throws IOException {
+        int accepted = telemetryIngestionService.ingestNdjson(httpRequest.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new TelemetryAcceptedResponse(accepted));
+    }
+
+    @PostMapping(value = "/telemetry", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<TelemetryAcceptedResponse> ingestBinary(HttpServletRequest httpRequest) throws IOException {
+        int accepted = telemetryIngestionService.ingestBinary(httpRequest.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new TelemetryAcceptedResponse(accepted));
+    }
+
+    @GetMapping("/{id}/telemetry")
+    public ResponseEntity<List<TelemetryReading>> getTelemetry(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return ResponseEntity.ok(telemetryIngestionService.getHistory(id, from, to));
+    }
+
+    public record TelemetryAcceptedResponse(int accepted) {}
+}
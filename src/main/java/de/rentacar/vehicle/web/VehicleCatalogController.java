@@ -0,0 +1,60 @@
+package de.rentacar.vehicle.web;
+
+import de.rentacar.vehicle.application.VehicleCatalog;
+import de.rentacar.vehicle.application.VehicleCatalog.CatalogPage;
+import de.rentacar.vehicle.domain.VehicleFilter;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * REST Controller für die Katalogsuche (Volltext und Facetten) und kombinierte Attributfilter
+ */
+@RestController
+@RequestMapping("/api/vehicles/catalog")
+@RequiredArgsConstructor
+public class VehicleCatalogController {
+
+    private final VehicleCatalog vehicleCatalog;
+
+    @GetMapping
+    public ResponseEntity<CatalogPage> search(@RequestParam(required = false) String q,
+                                              @RequestParam(required = false) VehicleType type,
+                                              @RequestParam(required = false) String location,
+                                              @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(vehicleCatalog.search(q, type, location, limit));
+    }
+
+    /**
+     * Mehrfach angegebene Werte eines Parameters werden mit ODER, die Parameter untereinander
+     * mit UND verknüpft, z. B. type=KOMPAKTKLASSE&status=VERFÜGBAR&location=Hamburg&location=Berlin&maxPrice=50
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<CatalogPage> filter(@RequestParam(required = false) List<VehicleType> type,
+                                              @RequestParam(required = false) List<VehicleStatus> status,
+                                              @RequestParam(required = false) List<String> location,
+                                              @RequestParam(required = false) Double maxPrice,
+                                              @RequestParam(defaultValue = "20") int limit) {
+        List<VehicleFilter> filters = new ArrayList<>();
+        addAnyOf(filters, type, VehicleFilter::type);
+        addAnyOf(filters, status, VehicleFilter::status);
+        addAnyOf(filters, location, VehicleFilter::location);
+        if (maxPrice != null) {
+            filters.add(VehicleFilter.priceBelow(maxPrice));
+        }
+        return ResponseEntity.ok(vehicleCatalog.find(VehicleFilter.and(filters), limit));
+    }
+
+    private static <T> void addAnyOf(List<VehicleFilter> filters, List<T> values,
+                                     Function<T, VehicleFilter> toFilter) {
+        if (values != null && !values.isEmpty()) {
+            filters.add(VehicleFilter.or(values.stream().map(toFilter).toList()));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package de.rentacar;
+
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Smoke-Test: Anwendungskontext startet vollständig (inkl. DataInitializer)
+ */
+@SpringBootTest(properties = {
+        "rentacar.audit.journal.dir=build/test-data/audit-journal",
+        "rentacar.telemetry.dir=build/test-data/telemetry"
+})
+@DisplayName("RentACarApplication Kontext-Tests")
+class RentACarApplicationTest {
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Test
+    @DisplayName("Sollte Kontext laden und Standorte über die Filialtabelle speichern")
+    void shouldLoadContextAndPersistLocations() {
+        // When: Testdaten wurden beim Start angelegt
+        List<Vehicle> vehicles = vehicleRepository.findAll();
+
+        // Then
+        assertThat(vehicles).isNotEmpty();
+        assertThat(vehicles).extracting(Vehicle::getLocation).contains("Berlin", "München", "Hamburg");
+        assertThat(vehicleRepository.findByLocation("Berlin")).hasSize(2);
+        assertThat(vehicleRepository.findByLocation("Atlantis")).isEmpty();
+    }
+}
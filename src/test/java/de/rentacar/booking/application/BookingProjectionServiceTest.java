@@ -0,0 +1,148 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventRepository;
+import de.rentacar.booking.domain.BookingEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für BookingProjectionService und die Buchungs-Read-Models
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingProjectionService Tests")
+class BookingProjectionServiceTest {
+
+    @Mock
+    private BookingEventRepository bookingEventRepository;
+
+    private CustomerBookingStatisticsProjection statisticsProjection;
+    private VehicleOccupancyProjection occupancyProjection;
+    private BookingProjectionService projectionService;
+
+    private LocalDate tomorrow;
+    private LocalDate nextWeek;
+
+    @BeforeEach
+    void setUp() {
+        tomorrow = LocalDate.now().plusDays(1);
+        nextWeek = LocalDate.now().plusDays(7);
+        statisticsProjection = new CustomerBookingStatisticsProjection();
+        occupancyProjection = new VehicleOccupancyProjection();
+        projectionService = new BookingProjectionService(bookingEventRepository,
+                List.of(statisticsProjection, occupancyProjection), 10, 5);
+    }
+
+    @Test
+    @DisplayName("Sollte Ereignisse in Reihenfolge auf alle Read-Models anwenden")
+    void shouldProjectEventsInOrder() {
+        // Given
+        when(bookingEventRepository.findEventsAfter(0L, 10)).thenReturn(List.of(
+                event(1L, BookingEventType.BOOKING_REQUESTED, LocalDateTime.now()),
+                event(2L, BookingEventType.BOOKING_CONFIRMED, LocalDateTime.now())));
+
+        // When
+        projectionService.processPendingEvents();
+
+        // Then
+        assertThat(projectionService.getLastProcessedEventId()).isEqualTo(2L);
+        assertThat(statisticsProjection.getStatistics(7L).requested()).isEqualTo(1);
+        assertThat(statisticsProjection.getStatistics(7L).confirmed()).isEqualTo(1);
+        assertThat(occupancyProjection.isOccupied(3L, tomorrow, tomorrow)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sollte Belegung nach Stornierung wieder freigeben")
+    void shouldReleaseOccupancyOnCancellation() {
+        // Given
+        when(bookingEventRepository.findEventsAfter(0L, 10)).thenReturn(List.of(
+                event(1L, BookingEventType.BOOKING_CONFIRMED, LocalDateTime.now()),
+                event(2L, BookingEventType.BOOKING_CANCELLED, LocalDateTime.now())));
+
+        // When
+        projectionService.processPendingEvents();
+
+        // Then
+        assertThat(occupancyProjection.isOccupied(3L, tomorrow, nextWeek)).isFalse();
+        assertThat(statisticsProjection.getStatistics(7L).cancelled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte bei frischer Lücke in der Event-Folge auf offene Transaktion warten")
+    void shouldWaitOnRecentGap() {
+        // Given
+        when(bookingEventRepository.findEventsAfter(0L, 10)).thenReturn(List.of(
+                event(1L, BookingEventType.BOOKING_REQUESTED, LocalDateTime.now()),
+                event(3L, BookingEventType.BOOKING_REQUESTED, LocalDateTime.now())));
+
+        // When
+        projectionService.processPendingEvents();
+
+        // Then
+        assertThat(projectionService.getLastProcessedEventId()).isEqualTo(1L);
+        assertThat(statisticsProjection.getStatistics(7L).requested()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte alte Lücke in der Event-Folge überspringen")
+    void shouldSkipSettledGap() {
+        // Given
+        when(bookingEventRepository.findEventsAfter(0L, 10)).thenReturn(List.of(
+                event(1L, BookingEventType.BOOKING_REQUESTED, LocalDateTime.now().minusMinutes(1)),
+                event(3L, BookingEventType.BOOKING_REQUESTED, LocalDateTime.now().minusMinutes(1))));
+
+        // When
+        projectionService.processPendingEvents();
+
+        // Then
+        assertThat(projectionService.getLastProcessedEventId()).isEqualTo(3L);
+        assertThat(statisticsProjection.getStatistics(7L).requested()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Sollte bei verspätet committeter Bestätigung vor der Stornierung in Log-Reihenfolge projizieren")
+    void shouldKeepLogOrderWhenConfirmationCommitsAfterCancellation() {
+        // Given
+        when(bookingEventRepository.findEventsAfter(0L, 10)).thenReturn(List.of(
+                event(1L, BookingEventType.BOOKING_REQUESTED, LocalDateTime.now()),
+                event(3L, BookingEventType.BOOKING_CANCELLED, LocalDateTime.now())));
+        when(bookingEventRepository.findEventsAfter(1L, 10)).thenReturn(List.of(
+                event(2L, BookingEventType.BOOKING_CONFIRMED, LocalDateTime.now()),
+                event(3L, BookingEventType.BOOKING_CANCELLED, LocalDateTime.now())));
+        projectionService.processPendingEvents();
+
+        // When
+        projectionService.processPendingEvents();
+
+        // Then
+        assertThat(projectionService.getLastProcessedEventId()).isEqualTo(3L);
+        assertThat(occupancyProjection.isOccupied(3L, tomorrow, nextWeek)).isFalse();
+        assertThat(statisticsProjection.getStatistics(7L).confirmed()).isEqualTo(1);
+        assertThat(statisticsProjection.getStatistics(7L).cancelled()).isEqualTo(1);
+    }
+
+    private BookingEvent event(Long id, BookingEventType type, LocalDateTime occurredAt) {
+        BookingEvent event = BookingEvent.builder()
+                .bookingId(5L)
+                .vehicleId(3L)
+                .customerId(7L)
+                .type(type)
+                .pickupDate(tomorrow)
+                .returnDate(nextWeek)
+                .occurredAt(occurredAt)
+                .build();
+        event.setId(id);
+        return event;
+    }
+}
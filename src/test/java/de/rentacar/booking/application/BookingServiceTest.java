@@ -1,9 +1,14 @@
 package de.rentacar.booking.application;
 
+import de.rentacar.booking.application.BookingService.NearbyVehicle;
+import de.rentacar.booking.application.VehicleAssignmentIndex.Assignment;
 import de.rentacar.booking.domain.*;
 import de.rentacar.customer.domain.Customer;
 import de.rentacar.customer.domain.CustomerRepository;
 import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.vehicle.application.BranchDirectory;
+import de.rentacar.vehicle.domain.BranchGeoIndex.NearbyBranch;
 import de.rentacar.vehicle.domain.LicensePlate;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
@@ -20,7 +25,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,9 +59,21 @@ class BookingServiceTest {
     @Mock
     private AvailabilityService availabilityService;
 
+    @Mock
+    private BookingEventRepository bookingEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private VehicleAssignmentIndex assignmentIndex;
+
+    @Mock
+    private BranchDirectory branchDirectory;
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -106,6 +126,31 @@ class BookingServiceTest {
                 VehicleType.MITTELKLASSE, "Berlin", tomorrow, nextWeek);
     }
 
+    @Test
+    @DisplayName("Sollte Filialen nach Entfernung abfragen und bei genug Treffern abbrechen")
+    void shouldSearchNearbyBranchesInDistanceOrderAndStopEarly() {
+        // Given: Berlin liefert nur ein Fahrzeug, Potsdam das zweite, Hamburg wird nicht mehr gebraucht
+        Vehicle potsdamVehicle = Vehicle.builder().type(VehicleType.MITTELKLASSE).location("Potsdam").build();
+        when(branchDirectory.findNearby(52.37, 13.50, 30)).thenReturn(List.of(
+                new NearbyBranch("Berlin", 18.3),
+                new NearbyBranch("Potsdam", 29.8),
+                new NearbyBranch("Hamburg", 29.9)));
+        when(vehicleRepository.findAvailableVehicles(VehicleType.MITTELKLASSE, "Berlin", tomorrow, nextWeek))
+                .thenReturn(List.of(testVehicle));
+        when(vehicleRepository.findAvailableVehicles(VehicleType.MITTELKLASSE, "Potsdam", tomorrow, nextWeek))
+                .thenReturn(List.of(potsdamVehicle, potsdamVehicle));
+
+        // When
+        List<NearbyVehicle> result = bookingService.searchAvailableVehiclesNearby(
+                VehicleType.MITTELKLASSE, 52.37, 13.50, 30, tomorrow, nextWeek, 2);
+
+        // Then
+        assertThat(result).extracting(NearbyVehicle::location).containsExactly("Berlin", "Potsdam");
+        assertThat(result.get(1).distanceKm()).isEqualTo(29.8);
+        verify(vehicleRepository, never()).findAvailableVehicles(VehicleType.MITTELKLASSE, "Hamburg",
+                tomorrow, nextWeek);
+    }
+
     @Test
     @DisplayName("Sollte Buchung erstellen wenn Fahrzeug verfügbar ist")
     void shouldCreateBookingWhenVehicleIsAvailable() {
@@ -134,6 +179,7 @@ class BookingServiceTest {
 
         verify(availabilityService).isVehicleAvailable(1L, tomorrow, nextWeek);
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingEventRepository).append(argThat(event -> event.getType() == BookingEventType.BOOKING_REQUESTED));
         verify(auditService).logAction(anyString(), eq("BOOKING_CREATED"), anyString(), anyString(), anyString(), anyString());
     }
 
@@ -153,6 +199,7 @@ class BookingServiceTest {
 
         verify(availabilityService).isVehicleAvailable(1L, tomorrow, nextWeek);
         verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingEventRepository, never()).append(any(BookingEvent.class));
     }
 
     @Test
@@ -236,6 +283,8 @@ class BookingServiceTest {
         assertThat(booking.getVehicle().getStatus()).isEqualTo(VehicleStatus.VERMIETET);
         verify(bookingRepository).save(booking);
         verify(vehicleRepository).save(testVehicle);
+        verify(bookingEventRepository).append(argThat(event -> event.getType() == BookingEventType.BOOKING_CONFIRMED
+                && event.getBookingId().equals(1L) && event.getVehicleId().equals(1L)));
         verify(auditService).logAction(anyString(), eq("BOOKING_CONFIRMED"), anyString(), anyString(), anyString(), anyString());
     }
 
@@ -290,6 +339,8 @@ class BookingServiceTest {
         assertThat(booking.getVehicle().getStatus()).isEqualTo(VehicleStatus.VERFÜGBAR);
         verify(bookingRepository).save(booking);
         verify(vehicleRepository).save(testVehicle);
+        verify(bookingEventRepository).append(argThat(event -> event.getType() == BookingEventType.BOOKING_CANCELLED));
+        verify(outboxService).record(eq("Booking"), eq(1L), eq("BOOKING_CANCELLED"), anyMap());
         verify(auditService).logAction(anyString(), eq("BOOKING_CANCELLED"), anyString(), anyString(), anyString(), anyString());
     }
 
@@ -352,5 +403,216 @@ class BookingServiceTest {
         // Then
         assertThat(result).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("Sollte Sammelbuchung mit einer Verfügbarkeitsabfrage und einem Audit-Eintrag erstellen")
+    void shouldCreateBatchBookingWhenAllVehiclesAvailable() {
+        // Given
+        Vehicle secondVehicle = Vehicle.builder()
+                .licensePlate(LicensePlate.of("B-CD 5678"))
+                .brand("BMW")
+                .model("320d")
+                .type(VehicleType.MITTELKLASSE)
+                .mileage(20000L)
+                .location("Berlin")
+                .status(VehicleStatus.VERFÜGBAR)
+                .dailyPrice(60.0)
+                .build();
+        secondVehicle.setId(2L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(secondVehicle, testVehicle));
+        when(availabilityService.findUnavailableVehicleIds(Set.of(1L, 2L), tomorrow, nextWeek)).thenReturn(Set.of());
+        when(priceCalculationService.calculateTotalPrices(anyCollection(), eq(tomorrow), eq(nextWeek)))
+                .thenReturn(Map.of(VehicleType.MITTELKLASSE, BigDecimal.valueOf(420.00)));
+        when(bookingRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            for (int i = 0; i < bookings.size(); i++) {
+                bookings.get(i).setId(100L + i);
+            }
+            return bookings;
+        });
+
+        // When
+        List<Booking> bookings = bookingService.createBatchBooking(
+                1L, List.of(1L, 2L), tomorrow, nextWeek, "Berlin", "Berlin", "testuser", "127.0.0.1");
+
+        // Then
+        assertThat(bookings).extracting(booking -> booking.getVehicle().getId()).containsExactly(1L, 2L);
+        assertThat(bookings).allSatisfy(booking -> {
+            assertThat(booking.getStatus()).isEqualTo(BookingStatus.ANFRAGE);
+            assertThat(booking.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(420.00));
+        });
+        verify(customerRepository, times(1)).findById(1L);
+        verify(vehicleRepository, never()).findById(any());
+        verify(availabilityService, never()).isVehicleAvailable(any(), any(), any());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingEventRepository).appendAll(argThat(events -> events.size() == 2));
+        verify(outboxService, times(2)).record(eq("Booking"), any(), eq("BOOKING_CREATED"), anyMap());
+        verify(auditService, times(1)).logAction(anyString(), eq("BOOKING_BATCH_CREATED"), anyString(), isNull(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Sollte Audit-Einträge einer großen Sammelbuchung in Blöcke aufteilen")
+    void shouldChunkAuditEntriesOfLargeBatchBooking() {
+        // Given: 120 Fahrzeuge
+        List<Long> vehicleIds = LongStream.rangeClosed(1, 120).boxed().toList();
+        List<Vehicle> vehicles = vehicleIds.stream().map(id -> {
+            Vehicle vehicle = Vehicle.builder()
+                    .licensePlate(LicensePlate.of("B-X " + id))
+                    .brand("VW")
+                    .model("Golf")
+                    .type(VehicleType.KOMPAKTKLASSE)
+                    .mileage(10000L)
+                    .location("Berlin")
+                    .status(VehicleStatus.VERFÜGBAR)
+                    .dailyPrice(45.0)
+                    .build();
+            vehicle.setId(id);
+            return vehicle;
+        }).toList();
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findAllById(anyCollection())).thenReturn(vehicles);
+        when(availabilityService.findUnavailableVehicleIds(anyCollection(), eq(tomorrow), eq(nextWeek)))
+                .thenReturn(Set.of());
+        when(priceCalculationService.calculateTotalPrices(anyCollection(), eq(tomorrow), eq(nextWeek)))
+                .thenReturn(Map.of(VehicleType.KOMPAKTKLASSE, BigDecimal.valueOf(270.00)));
+        when(bookingRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            for (int i = 0; i < bookings.size(); i++) {
+                bookings.get(i).setId(1000L + i);
+            }
+            return bookings;
+        });
+
+        // When
+        List<Booking> bookings = bookingService.createBatchBooking(
+                1L, vehicleIds, tomorrow, nextWeek, "Berlin", "Berlin", "testuser", "127.0.0.1");
+
+        // Then: Blöcke zu 50, 50 und 20 Buchungen, jeweils innerhalb der Spaltenlänge
+        assertThat(bookings).hasSize(120);
+        verify(auditService, times(3)).logAction(eq("testuser"), eq("BOOKING_BATCH_CREATED"), eq("Booking"),
+                isNull(), argThat(details -> details.length() <= 1000), eq("127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Sollte keine Sammelbuchung anlegen wenn ein Fahrzeug nicht verfügbar ist")
+    void shouldRejectBatchBookingWhenAnyVehicleUnavailable() {
+        // Given
+        Vehicle secondVehicle = Vehicle.builder()
+                .licensePlate(LicensePlate.of("B-CD 5678"))
+                .type(VehicleType.SUV)
+                .build();
+        secondVehicle.setId(2L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(testVehicle, secondVehicle));
+        when(availabilityService.findUnavailableVehicleIds(Set.of(1L, 2L), tomorrow, nextWeek)).thenReturn(Set.of(2L));
+
+        // When/Then
+        assertThatThrownBy(() -> bookingService.createBatchBooking(
+                1L, List.of(1L, 2L), tomorrow, nextWeek, "Berlin", "Berlin", "testuser", "127.0.0.1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("nicht verfügbar")
+                .hasMessageContaining("[2]");
+
+        verify(bookingRepository, never()).insertAll(anyList());
+        verify(bookingEventRepository, never()).appendAll(anyList());
+        verify(auditService, never()).logAction(anyString(), anyString(), anyString(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Sollte Exception werfen wenn Fahrzeuge der Sammelbuchung fehlen oder doppelt sind")
+    void shouldRejectBatchBookingWithMissingOrDuplicateVehicles() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findAllById(Set.of(1L, 3L))).thenReturn(List.of(testVehicle));
+
+        // When/Then
+        assertThatThrownBy(() -> bookingService.createBatchBooking(
+                1L, List.of(1L, 3L), tomorrow, nextWeek, "Berlin", "Berlin", "testuser", "127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Fahrzeug nicht gefunden: [3]");
+        assertThatThrownBy(() -> bookingService.createBatchBooking(
+                1L, List.of(1L, 1L), tomorrow, nextWeek, "Berlin", "Berlin", "testuser", "127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mehrfach");
+
+        verify(bookingRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Sollte bei Buchung auf Typ-Ebene das zugewiesene Fahrzeug buchen")
+    void shouldCreateBookingForTypeWithAssignedVehicle() {
+        // Given
+        Assignment assignment = new Assignment(1L, -1L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(assignmentIndex.assign(VehicleType.MITTELKLASSE, "Berlin", tomorrow, nextWeek))
+                .thenReturn(Optional.of(assignment));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(testVehicle));
+        when(availabilityService.isVehicleAvailable(1L, tomorrow, nextWeek)).thenReturn(true);
+        when(priceCalculationService.calculateTotalPrice(VehicleType.MITTELKLASSE, tomorrow, nextWeek))
+                .thenReturn(BigDecimal.valueOf(420.00));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(42L);
+            return booking;
+        });
+
+        // When
+        Booking booking = bookingService.createBookingForType(
+                1L, VehicleType.MITTELKLASSE, "Berlin", tomorrow, nextWeek, "Berlin", "testuser", "127.0.0.1");
+
+        // Then
+        assertThat(booking.getVehicle()).isEqualTo(testVehicle);
+        assertThat(booking.getPickupLocation()).isEqualTo("Berlin");
+        verify(assignmentIndex).bind(assignment, 42L);
+        verify(assignmentIndex, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Sollte veraltete Zuweisung verwerfen und nächstes Fahrzeug versuchen")
+    void shouldRetryAssignmentWhenVehicleNoLongerSuitable() {
+        // Given
+        Vehicle maintenanceVehicle = Vehicle.builder()
+                .type(VehicleType.MITTELKLASSE)
+                .location("Berlin")
+                .status(VehicleStatus.WARTUNG)
+                .build();
+        maintenanceVehicle.setId(2L);
+        Assignment stale = new Assignment(2L, -1L);
+        Assignment next = new Assignment(1L, -2L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(assignmentIndex.assign(VehicleType.MITTELKLASSE, "Berlin", tomorrow, nextWeek))
+                .thenReturn(Optional.of(stale), Optional.of(next));
+        when(vehicleRepository.findById(2L)).thenReturn(Optional.of(maintenanceVehicle));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(testVehicle));
+        when(availabilityService.isVehicleAvailable(1L, tomorrow, nextWeek)).thenReturn(true);
+        when(priceCalculationService.calculateTotalPrice(VehicleType.MITTELKLASSE, tomorrow, nextWeek))
+                .thenReturn(BigDecimal.valueOf(420.00));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Booking booking = bookingService.createBookingForType(
+                1L, VehicleType.MITTELKLASSE, "Berlin", tomorrow, nextWeek, "Berlin", "testuser", "127.0.0.1");
+
+        // Then
+        assertThat(booking.getVehicle().getId()).isEqualTo(1L);
+        verify(assignmentIndex).release(stale);
+        verify(assignmentIndex).removeVehicle(2L);
+    }
+
+    @Test
+    @DisplayName("Sollte Exception werfen wenn kein Fahrzeug des Typs verfügbar ist")
+    void shouldThrowExceptionWhenNoVehicleOfTypeAssignable() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(assignmentIndex.assign(VehicleType.SUV, "Berlin", tomorrow, nextWeek)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> bookingService.createBookingForType(
+                1L, VehicleType.SUV, "Berlin", tomorrow, nextWeek, "Berlin", "testuser", "127.0.0.1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Kein Fahrzeug vom Typ SUV");
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+}
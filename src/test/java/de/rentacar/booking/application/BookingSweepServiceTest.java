@@ -0,0 +1,179 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.application.BookingSweepService.SweepResult;
+import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventRepository;
+import de.rentacar.booking.domain.BookingEventType;
+import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.shared.domain.SchedulerLock;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für BookingSweepService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingSweepService Tests")
+class BookingSweepServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private BookingEventRepository bookingEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookingSweepService service;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        service = new BookingSweepService(bookingRepository, vehicleRepository, bookingEventRepository,
+                outboxService, auditService, schedulerLock, new TransactionTemplate(transactionManager), 2, 1, 300);
+    }
+
+    @Test
+    @DisplayName("Sollte nichts tun, wenn ein anderer Knoten die Lease hält")
+    void shouldSkipWithoutLease() {
+        // Given
+        when(schedulerLock.tryAcquire(eq(BookingSweepService.LEASE_NAME), any())).thenReturn(false);
+
+        // When
+        assertThat(service.sweep()).isEmpty();
+
+        // Then
+        verifyNoInteractions(bookingRepository, bookingEventRepository, outboxService, auditService);
+        verify(schedulerLock, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("Sollte verfallene Anfragen batchweise stornieren und Events gesammelt schreiben")
+    @SuppressWarnings("unchecked")
+    void shouldExpireRequestsInBatches() {
+        // Given
+        when(schedulerLock.tryAcquire(eq(BookingSweepService.LEASE_NAME), any())).thenReturn(true);
+        when(bookingRepository.findExpiredRequestsForUpdate(today, 2)).thenReturn(
+                List.of(booking(1L, BookingStatus.ANFRAGE), booking(2L, BookingStatus.ANFRAGE)),
+                List.of(booking(3L, BookingStatus.ANFRAGE)));
+        when(bookingRepository.updateStatus(anyCollection(), eq(BookingStatus.ANFRAGE), eq(BookingStatus.STORNIERT), any()))
+                .thenReturn(2, 1);
+
+        // When
+        SweepResult result = service.sweep().orElseThrow();
+
+        // Then
+        assertThat(result).isEqualTo(new SweepResult(3, 0, 0));
+        ArgumentCaptor<List<BookingEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(bookingEventRepository, times(2)).appendAll(events.capture());
+        assertThat(events.getAllValues().get(0)).extracting(BookingEvent::getType)
+                .containsOnly(BookingEventType.BOOKING_CANCELLED);
+        verify(outboxService, times(2)).recordAll(eq("Booking"), eq("BOOKING_CANCELLED"), any());
+        verify(auditService, times(2)).logAction(eq("system"), eq("BOOKING_REQUESTS_EXPIRED"), eq("Booking"),
+                isNull(), anyString(), isNull());
+        verify(vehicleRepository, never()).releaseReservedVehicles(any());
+        verify(schedulerLock).release(BookingSweepService.LEASE_NAME);
+    }
+
+    @Test
+    @DisplayName("Sollte No-Shows stornieren und das reservierte Fahrzeug freigeben")
+    @SuppressWarnings("unchecked")
+    void shouldCancelNoShowsAndReleaseVehicles() {
+        // Given
+        when(schedulerLock.tryAcquire(eq(BookingSweepService.LEASE_NAME), any())).thenReturn(true);
+        when(bookingRepository.findNoShowsForUpdate(today.minusDays(1), 2))
+                .thenReturn(List.of(booking(4L, BookingStatus.BESTÄTIGT)));
+        when(bookingRepository.updateStatus(eq(List.of(4L)), eq(BookingStatus.BESTÄTIGT), eq(BookingStatus.STORNIERT),
+                any())).thenReturn(1);
+
+        // When
+        SweepResult result = service.sweep().orElseThrow();
+
+        // Then
+        assertThat(result).isEqualTo(new SweepResult(0, 1, 0));
+        verify(vehicleRepository).releaseReservedVehicles(List.of(40L));
+        ArgumentCaptor<Map<Long, Map<String, Object>>> payloads = ArgumentCaptor.forClass(Map.class);
+        verify(outboxService).recordAll(eq("Booking"), eq("BOOKING_CANCELLED"), payloads.capture());
+        assertThat(payloads.getValue().get(4L))
+                .containsEntry("previousStatus", BookingStatus.BESTÄTIGT)
+                .containsEntry("status", BookingStatus.STORNIERT)
+                .containsEntry("reason", "NO_SHOW");
+    }
+
+    @Test
+    @DisplayName("Sollte den Batch verwerfen, wenn sich der Status zwischenzeitlich geändert hat")
+    void shouldRollBackBatchOnConcurrentChange() {
+        // Given
+        when(schedulerLock.tryAcquire(eq(BookingSweepService.LEASE_NAME), any())).thenReturn(true);
+        when(bookingRepository.findExpiredRequestsForUpdate(today, 2))
+                .thenReturn(List.of(booking(1L, BookingStatus.ANFRAGE), booking(2L, BookingStatus.ANFRAGE)));
+        when(bookingRepository.updateStatus(anyCollection(), any(), any(), any())).thenReturn(1);
+
+        // When/Then
+        assertThatThrownBy(() -> service.sweep())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("während des Sweeps");
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(bookingEventRepository, outboxService, auditService);
+        verify(schedulerLock).release(BookingSweepService.LEASE_NAME);
+    }
+
+    private Booking booking(Long id, BookingStatus status) {
+        Vehicle vehicle = Vehicle.builder().type(VehicleType.SUV).location("Berlin").build();
+        vehicle.setId(id * 10);
+        Booking booking = Booking.builder()
+                .customerId(7L)
+                .vehicle(vehicle)
+                .pickupDate(today.minusDays(2))
+                .returnDate(today.plusDays(2))
+                .pickupLocation("Berlin")
+                .returnLocation("Berlin")
+                .status(status)
+                .totalPrice(BigDecimal.valueOf(100))
+                .build();
+        booking.setId(id);
+        return booking;
+    }
+}
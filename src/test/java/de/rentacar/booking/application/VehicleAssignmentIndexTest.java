@@ -0,0 +1,174 @@
+package de.rentacar.booking.application;
+
+import de.rentacar.booking.application.VehicleAssignmentIndex.Assignment;
+import de.rentacar.booking.application.VehicleAssignmentIndex.MaintenanceSlot;
+import de.rentacar.booking.domain.BookingEvent;
+import de.rentacar.booking.domain.BookingEventType;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für VehicleAssignmentIndex (Best-Fit-Zuweisung auf Typ-Ebene)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleAssignmentIndex Tests")
+class VehicleAssignmentIndexTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private VehicleAssignmentIndex index;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        index = new VehicleAssignmentIndex(vehicleRepository, 365, 300);
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(1L, VehicleType.SUV, "Berlin", VehicleStatus.VERFÜGBAR),
+                vehicle(2L, VehicleType.SUV, "Berlin", VehicleStatus.VERFÜGBAR),
+                vehicle(3L, VehicleType.SUV, "Berlin", VehicleStatus.WARTUNG),
+                vehicle(4L, VehicleType.SUV, "München", VehicleStatus.VERFÜGBAR)));
+        index.refresh();
+    }
+
+    @Test
+    @DisplayName("Sollte das Fahrzeug mit der knappsten freien Lücke wählen")
+    void shouldChooseBestFittingGap() {
+        // Given: Fahrzeug 2 ist bis zwei Tage vor dem Zeitraum belegt
+        index.project(event(10L, 2L, BookingEventType.BOOKING_CONFIRMED, today.plusDays(1), today.plusDays(4)));
+
+        // When
+        Optional<Assignment> assignment = index.assign(VehicleType.SUV, "Berlin", today.plusDays(5), today.plusDays(8));
+
+        // Then
+        assertThat(assignment).map(Assignment::vehicleId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Sollte belegte, gewartete und fremde Fahrzeuge nicht zuweisen")
+    void shouldSkipOccupiedAndUnsuitableVehicles() {
+        // Given
+        index.project(event(10L, 1L, BookingEventType.BOOKING_REQUESTED, today.plusDays(2), today.plusDays(6)));
+        index.project(event(11L, 2L, BookingEventType.BOOKING_CONFIRMED, today.plusDays(5), today.plusDays(9)));
+
+        // When/Then
+        assertThat(index.assign(VehicleType.SUV, "Berlin", today.plusDays(3), today.plusDays(5))).isEmpty();
+        assertThat(index.assign(VehicleType.KLEINWAGEN, "Berlin", today.plusDays(3), today.plusDays(5))).isEmpty();
+
+        index.project(event(10L, 1L, BookingEventType.BOOKING_CANCELLED, today.plusDays(2), today.plusDays(6)));
+        assertThat(index.assign(VehicleType.SUV, "Berlin", today.plusDays(3), today.plusDays(5)))
+                .map(Assignment::vehicleId).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Sollte freigegebene Reservierungen wieder zuweisbar machen")
+    void shouldReleaseHold() {
+        // Given
+        Assignment first = index.assign(VehicleType.SUV, "München", today.plusDays(1), today.plusDays(2)).orElseThrow();
+        assertThat(index.assign(VehicleType.SUV, "München", today.plusDays(1), today.plusDays(2))).isEmpty();
+
+        // When
+        index.release(first);
+
+        // Then
+        assertThat(index.assign(VehicleType.SUV, "München", today.plusDays(1), today.plusDays(2)))
+                .map(Assignment::vehicleId).contains(4L);
+    }
+
+    @Test
+    @DisplayName("Sollte bei parallelen Anfragen kein Fahrzeug doppelt zuweisen")
+    void shouldNotAssignVehicleTwiceUnderConcurrency() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Assignment> assignments = new ConcurrentLinkedQueue<>();
+
+        // When
+        for (int i = 0; i < 16; i++) {
+            executor.submit(() -> {
+                start.await();
+                index.assign(VehicleType.SUV, "Berlin", today.plusDays(1), today.plusDays(3)).ifPresent(assignments::add);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(assignments).extracting(Assignment::vehicleId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Sollte Wartung an Tagen mit geringster Auslastung der übrigen Fahrzeuge planen")
+    void shouldChooseMaintenanceSlotWithLeastRevenueImpact() {
+        // Given: Fahrzeug 2 ist an den ersten drei Tagen gebucht, Fahrzeug 1 selbst am fünften Tag
+        index.project(event(10L, 2L, BookingEventType.BOOKING_CONFIRMED, today.plusDays(1), today.plusDays(3)));
+        index.project(event(11L, 1L, BookingEventType.BOOKING_CONFIRMED, today.plusDays(5), today.plusDays(5)));
+
+        // When
+        Optional<MaintenanceSlot> slot = index.findMaintenanceSlot(1L, VehicleType.SUV, "Berlin", 80.0,
+                today.plusDays(1), today.plusDays(5), 1);
+        Optional<MaintenanceSlot> busySlot = index.findMaintenanceSlot(1L, VehicleType.SUV, "Berlin", 80.0,
+                today.plusDays(2), today.plusDays(3), 1);
+
+        // Then: einziger freier Tag ohne Nachfrage ist der vierte
+        assertThat(slot).contains(new MaintenanceSlot(today.plusDays(4), today.plusDays(4), 0.0));
+        assertThat(busySlot).contains(new MaintenanceSlot(today.plusDays(3), today.plusDays(3), 80.0));
+    }
+
+    @Test
+    @DisplayName("Sollte blockierte Wartungsfenster bei der Zuweisung berücksichtigen")
+    void shouldRespectMaintenanceBlocks() {
+        // Given
+        index.blockMaintenance(4L, 99L, today.plusDays(1), today.plusDays(2));
+
+        // When/Then
+        assertThat(index.assign(VehicleType.SUV, "München", today.plusDays(2), today.plusDays(3))).isEmpty();
+
+        index.unblockMaintenance(4L, 99L);
+        assertThat(index.assign(VehicleType.SUV, "München", today.plusDays(2), today.plusDays(3)))
+                .map(Assignment::vehicleId).contains(4L);
+    }
+
+    private static Vehicle vehicle(Long id, VehicleType type, String location, VehicleStatus status) {
+        Vehicle vehicle = Vehicle.builder().type(type).location(location).status(status).build();
+        vehicle.setId(id);
+        return vehicle;
+    }
+
+    private static BookingEvent event(Long bookingId, Long vehicleId, BookingEventType type,
+                                      LocalDate pickupDate, LocalDate returnDate) {
+        return BookingEvent.builder()
+                .bookingId(bookingId)
+                .vehicleId(vehicleId)
+                .customerId(7L)
+                .type(type)
+                .pickupDate(pickupDate)
+                .returnDate(returnDate)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package de.rentacar.booking.domain;
 
+import de.rentacar.vehicle.domain.MaintenanceWindowRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ class AvailabilityServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private MaintenanceWindowRepository maintenanceWindowRepository;
+
     @InjectMocks
     private AvailabilityService availabilityService;
 
@@ -136,5 +140,19 @@ class AvailabilityServiceTest {
         // Then
         assertThat(available).isFalse();
     }
-}
 
+    @Test
+    @DisplayName("Sollte false zurückgeben wenn ein Wartungsfenster den Zeitraum blockiert")
+    void shouldReturnFalseWhenMaintenanceWindowBlocks() {
+        // Given
+        when(bookingRepository.findOverlappingBookings(1L, tomorrow, nextWeek))
+                .thenReturn(Collections.emptyList());
+        when(maintenanceWindowRepository.existsBlocking(1L, tomorrow, nextWeek)).thenReturn(true);
+
+        // When
+        boolean available = availabilityService.isVehicleAvailable(1L, tomorrow, nextWeek);
+
+        // Then
+        assertThat(available).isFalse();
+    }
+}
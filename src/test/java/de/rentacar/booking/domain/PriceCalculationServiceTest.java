@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -114,5 +116,17 @@ class PriceCalculationServiceTest {
         // Then (14 Tage * 60 EUR = 840 EUR, da ChronoUnit.DAYS.between + 1)
         assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(840.00));
     }
-}
 
+    @Test
+    @DisplayName("Sollte Preise für mehrere Fahrzeuge je Typ einmal berechnen")
+    void shouldCalculatePricesPerTypeInBulk() {
+        // When
+        Map<VehicleType, BigDecimal> prices = priceCalculationService.calculateTotalPrices(
+                List.of(VehicleType.KLEINWAGEN, VehicleType.SUV, VehicleType.KLEINWAGEN), tomorrow, nextWeek);
+
+        // Then
+        assertThat(prices).hasSize(2);
+        assertThat(prices.get(VehicleType.KLEINWAGEN)).isEqualByComparingTo(BigDecimal.valueOf(210.00));
+        assertThat(prices.get(VehicleType.SUV)).isEqualByComparingTo(BigDecimal.valueOf(560.00));
+    }
+}
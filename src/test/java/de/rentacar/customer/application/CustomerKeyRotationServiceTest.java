@@ -0,0 +1,159 @@
+package de.rentacar.customer.application;
+
+import de.rentacar.customer.domain.KeyRotationCheckpoint;
+import de.rentacar.customer.domain.KeyRotationCheckpointRepository;
+import de.rentacar.customer.infrastructure.BlindIndexService;
+import de.rentacar.customer.infrastructure.EncryptionService;
+import de.rentacar.customer.infrastructure.JdbcCustomerCipherStore;
+import de.rentacar.customer.infrastructure.JdbcCustomerCipherStore.CipherRow;
+import de.rentacar.shared.domain.AuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für CustomerKeyRotationService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerKeyRotationService Tests")
+class CustomerKeyRotationServiceTest {
+
+    @Mock
+    private JdbcCustomerCipherStore cipherStore;
+
+    @Mock
+    private KeyRotationCheckpointRepository checkpointRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final EncryptionService oldKey = new EncryptionService("old-password");
+    private final EncryptionService rotatingKey =
+            new EncryptionService("new-password", "k2", "old-password", "k1", 2);
+    private final BlindIndexService blindIndexService = new BlindIndexService("test-blind-index-key");
+
+    private CustomerKeyRotationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CustomerKeyRotationService(cipherStore, checkpointRepository, rotatingKey,
+                blindIndexService, new TransactionTemplate(transactionManager), auditService, 2, 2, false);
+    }
+
+    @Test
+    @DisplayName("Sollte Altdaten mit neuem Schlüssel verschlüsseln und Checkpoints fortschreiben")
+    @SuppressWarnings("unchecked")
+    void shouldReEncryptInChunks() {
+        // Given
+        when(checkpointRepository.findByKeyId("k2")).thenReturn(Optional.empty());
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cipherStore.readChunk(0L, 2)).thenReturn(List.of(legacyRow(1L), legacyRow(2L)));
+        when(cipherStore.readChunk(2L, 2)).thenReturn(List.of(legacyRow(3L)));
+        when(cipherStore.writeBatch(anyList())).thenAnswer(invocation -> ((List<CipherRow>) invocation.getArgument(0)).size());
+
+        // When
+        CustomerKeyRotationService.KeyRotationStatus status = service.rotate("admin");
+
+        // Then
+        assertThat(status.processedCount()).isEqualTo(3);
+        assertThat(status.rewrittenCount()).isEqualTo(3);
+        assertThat(status.lastCustomerId()).isEqualTo(3L);
+        assertThat(status.completedAt()).isNotNull();
+
+        ArgumentCaptor<List<CipherRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cipherStore, times(2)).writeBatch(captor.capture());
+        CipherRow rewritten = captor.getAllValues().get(0).get(0);
+        assertThat(rewritten.email()).startsWith("k2:");
+        assertThat(rotatingKey.decrypt(rewritten.email())).isEqualTo("kunde1@example.com");
+        assertThat(rewritten.licenseBlindIndex()).isEqualTo(blindIndexService.licenseIndex("B1"));
+        verify(auditService).logAction(eq("admin"), eq("CUSTOMER_KEY_ROTATED"), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Sollte ab dem letzten Checkpoint fortsetzen und aktuelle Zeilen überspringen")
+    void shouldResumeFromCheckpoint() {
+        // Given
+        KeyRotationCheckpoint checkpoint = KeyRotationCheckpoint.start("k2");
+        checkpoint.advance(10L, 10, 10);
+        CipherRow current = new CipherRow(11L, 0L,
+                rotatingKey.encrypt("a@example.com"), rotatingKey.encrypt("1"), rotatingKey.encrypt("x"),
+                rotatingKey.encrypt("B11"), "email-index", "license-index");
+        when(checkpointRepository.findByKeyId("k2")).thenReturn(Optional.of(checkpoint));
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cipherStore.readChunk(10L, 2)).thenReturn(List.of(current));
+        when(cipherStore.writeBatch(List.of())).thenReturn(0);
+
+        // When
+        CustomerKeyRotationService.KeyRotationStatus status = service.rotate("admin");
+
+        // Then
+        assertThat(status.processedCount()).isEqualTo(11);
+        assertThat(status.rewrittenCount()).isEqualTo(10);
+        verify(cipherStore, never()).readChunk(eq(0L), anyInt());
+    }
+
+    @Test
+    @DisplayName("Sollte Chunk nach parallelem Update erneut lesen")
+    void shouldRetryChunkAfterConcurrentUpdate() {
+        // Given
+        when(checkpointRepository.findByKeyId("k2")).thenReturn(Optional.empty());
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cipherStore.readChunk(0L, 2)).thenReturn(List.of(legacyRow(1L)), List.of(legacyRow(1L)));
+        when(cipherStore.writeBatch(anyList())).thenReturn(0, 1);
+
+        // When
+        CustomerKeyRotationService.KeyRotationStatus status = service.rotate("admin");
+
+        // Then
+        assertThat(status.processedCount()).isEqualTo(1);
+        verify(cipherStore, times(2)).readChunk(0L, 2);
+    }
+
+    @Test
+    @DisplayName("Sollte abgeschlossene Rotation nicht erneut ausführen")
+    void shouldSkipCompletedRotation() {
+        // Given
+        KeyRotationCheckpoint checkpoint = KeyRotationCheckpoint.start("k2");
+        checkpoint.complete();
+        when(checkpointRepository.findByKeyId("k2")).thenReturn(Optional.of(checkpoint));
+
+        // When
+        service.rotate("admin");
+
+        // Then
+        verifyNoInteractions(cipherStore);
+    }
+
+    private CipherRow legacyRow(long id) {
+        return new CipherRow(id, 0L,
+                stripKeyId(oldKey.encrypt("kunde" + id + "@example.com")),
+                stripKeyId(oldKey.encrypt("0123")),
+                stripKeyId(oldKey.encrypt("Teststraße " + id)),
+                stripKeyId(oldKey.encrypt("B" + id)),
+                null, null);
+    }
+
+    // Chiffrate aus der Zeit vor Einführung der Schlüssel-ID
+    private static String stripKeyId(String encrypted) {
+        return encrypted.substring(encrypted.indexOf(':') + 1);
+    }
+}
@@ -1,8 +1,11 @@
 package de.rentacar.customer.application;
 
 import de.rentacar.customer.domain.Customer;
+import de.rentacar.customer.domain.CustomerContactData;
 import de.rentacar.customer.domain.CustomerRepository;
 import de.rentacar.customer.domain.EncryptedString;
+import de.rentacar.customer.infrastructure.BlindIndexService;
+import de.rentacar.customer.infrastructure.DecryptedContactCache;
 import de.rentacar.customer.infrastructure.EncryptionService;
 import de.rentacar.shared.domain.AuditService;
 import de.rentacar.shared.security.Role;
@@ -17,8 +20,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,6 +47,12 @@ class CustomerServiceTest {
     @Mock
     private EncryptionService encryptionService;
 
+    @Mock
+    private BlindIndexService blindIndexService;
+
+    @Mock
+    private DecryptedContactCache contactCache;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -230,5 +241,118 @@ class CustomerServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("nicht gefunden");
     }
-}
 
+    @Test
+    @DisplayName("Sollte Registrierung mit bereits registrierter Führerscheinnummer ablehnen")
+    void shouldRejectDuplicateDriverLicense() {
+        // Given
+        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+        when(blindIndexService.licenseIndex("B123456")).thenReturn("license-index");
+        when(customerRepository.findByLicenseBlindIndex("license-index")).thenReturn(Optional.of(testCustomer));
+
+        // When/Then
+        assertThatThrownBy(() -> customerService.registerCustomer(
+                "newuser", "password123", "John", "Doe",
+                "john@example.com", "0123456789", "Teststraße 1",
+                "B123456", "127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bereits registriert");
+
+        verify(userRepository, never()).save(any(User.class));
+        verify(encryptionService, never()).encrypt(anyString());
+    }
+
+    @Test
+    @DisplayName("Sollte Blind-Indizes bei Registrierung setzen")
+    void shouldStoreBlindIndexesOnRegistration() {
+        // Given
+        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+        when(blindIndexService.licenseIndex("B123456")).thenReturn("license-index");
+        when(blindIndexService.emailIndex("john@example.com")).thenReturn("email-index");
+        when(customerRepository.findByLicenseBlindIndex("license-index")).thenReturn(Optional.empty());
+        when(encryptionService.encrypt(anyString())).thenReturn("encrypted-value");
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> {
+            Customer customer = invocation.getArgument(0);
+            customer.setId(2L);
+            return customer;
+        });
+
+        // When
+        Customer result = customerService.registerCustomer(
+                "newuser", "password123", "John", "Doe",
+                "john@example.com", "0123456789", "Teststraße 1",
+                "B123456", "127.0.0.1");
+
+        // Then
+        assertThat(result.getEmailBlindIndex()).isEqualTo("email-index");
+        assertThat(result.getLicenseBlindIndex()).isEqualTo("license-index");
+    }
+
+    @Test
+    @DisplayName("Sollte Kunden per E-Mail-Blind-Index ohne Entschlüsselung finden")
+    void shouldFindCustomersByEmail() {
+        // Given
+        when(blindIndexService.emailIndex("max@example.com")).thenReturn("email-index");
+        when(customerRepository.findByEmailBlindIndex("email-index")).thenReturn(List.of(testCustomer));
+
+        // When
+        List<Customer> result = customerService.findCustomersByEmail("max@example.com");
+
+        // Then
+        assertThat(result).containsExactly(testCustomer);
+        verify(encryptionService, never()).decrypt(anyString());
+    }
+
+    @Test
+    @DisplayName("Sollte Kontaktdaten über den Cache entschlüsseln")
+    @SuppressWarnings("unchecked")
+    void shouldDecryptContactDataThroughCache() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(encryptionService.decrypt(anyString())).thenAnswer(invocation ->
+                ((String) invocation.getArgument(0)).replace("encrypted-", ""));
+        when(contactCache.get(eq(1L), any(), any())).thenAnswer(invocation ->
+                ((Supplier<CustomerContactData>) invocation.getArgument(2)).get());
+
+        // When
+        CustomerContactData result = customerService.getCustomerContactData(1L);
+
+        // Then
+        assertThat(result.email()).isEqualTo("email");
+        assertThat(result.driverLicenseNumber()).isEqualTo("license");
+        verify(encryptionService, times(4)).decrypt(anyString());
+    }
+
+    @Test
+    @DisplayName("Sollte Cache-Eintrag bei Führerscheinänderung verwerfen")
+    void shouldEvictCacheOnDriverLicenseUpdate() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(blindIndexService.licenseIndex("C999")).thenReturn("new-license-index");
+        when(customerRepository.findByLicenseBlindIndex("new-license-index")).thenReturn(Optional.empty());
+        when(encryptionService.encrypt("C999")).thenReturn("encrypted-new-license");
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Customer result = customerService.updateDriverLicense(1L, "C999", "employee", "127.0.0.1");
+
+        // Then
+        assertThat(result.getDriverLicenseNumber().getEncryptedValue()).isEqualTo("encrypted-new-license");
+        assertThat(result.getLicenseBlindIndex()).isEqualTo("new-license-index");
+        verify(contactCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("Sollte Cache-Eintrag bei Änderung der Kundendaten verwerfen")
+    void shouldEvictCacheOnPersonalDataUpdate() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        customerService.updateCustomerData(1L, "John", null, null, null, null, "testuser", "127.0.0.1");
+
+        // Then
+        verify(contactCache).evict(1L);
+    }
+}
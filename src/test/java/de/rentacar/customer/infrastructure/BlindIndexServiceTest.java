@@ -0,0 +1,54 @@
+package de.rentacar.customer.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für BlindIndexService
+ */
+@DisplayName("BlindIndexService Tests")
+class BlindIndexServiceTest {
+
+    private BlindIndexService blindIndexService;
+
+    @BeforeEach
+    void setUp() {
+        blindIndexService = new BlindIndexService("test-blind-index-key");
+    }
+
+    @Test
+    @DisplayName("Sollte deterministischen Index unabhängig von Groß-/Kleinschreibung liefern")
+    void shouldNormalizeEmail() {
+        assertThat(blindIndexService.emailIndex(" Max@Example.com "))
+                .isEqualTo(blindIndexService.emailIndex("max@example.com"))
+                .doesNotContain("example");
+    }
+
+    @Test
+    @DisplayName("Sollte Führerscheinnummer ohne Leerzeichen und Bindestriche normalisieren")
+    void shouldNormalizeLicense() {
+        assertThat(blindIndexService.licenseIndex("b12-34 56"))
+                .isEqualTo(blindIndexService.licenseIndex("B123456"));
+    }
+
+    @Test
+    @DisplayName("Sollte Felder und Schlüssel voneinander trennen")
+    void shouldSeparateFieldsAndKeys() {
+        assertThat(blindIndexService.emailIndex("B123456"))
+                .isNotEqualTo(blindIndexService.licenseIndex("B123456"));
+        assertThat(new BlindIndexService("other-blind-index-key").emailIndex("max@example.com"))
+                .isNotEqualTo(blindIndexService.emailIndex("max@example.com"));
+    }
+
+    @Test
+    @DisplayName("Sollte null ohne Index zurückgeben und kurze Schlüssel ablehnen")
+    void shouldHandleNullAndShortKey() {
+        assertThat(blindIndexService.emailIndex(null)).isNull();
+        assertThatThrownBy(() -> new BlindIndexService("kurz"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package de.rentacar.customer.infrastructure;
+
+import de.rentacar.customer.domain.CustomerContactData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-Tests für DecryptedContactCache
+ */
+@DisplayName("DecryptedContactCache Tests")
+class DecryptedContactCacheTest {
+
+    @Test
+    @DisplayName("Sollte wiederholte Abfragen ohne erneute Entschlüsselung bedienen")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        DecryptedContactCache cache = new DecryptedContactCache(true, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        CustomerContactData first = cache.get(1L, 0L, loader(1L, loads));
+        CustomerContactData second = cache.get(1L, 0L, loader(1L, loads));
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.email()).isEqualTo("kunde1@example.com");
+        assertThat(cache.getStatistics().hits()).isEqualTo(1);
+        assertThat(cache.getStatistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte nach Versionswechsel oder evict neu entschlüsseln")
+    void shouldReloadAfterVersionChangeOrEvict() {
+        // Given
+        DecryptedContactCache cache = new DecryptedContactCache(true, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, 0L, loader(1L, loads));
+
+        // When
+        cache.get(1L, 1L, loader(1L, loads));
+        cache.evict(1L);
+        cache.get(1L, 1L, loader(1L, loads));
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Sollte älteste Einträge bei Erreichen der Größe verdrängen")
+    void shouldEvictEldestWhenFull() {
+        // Given
+        DecryptedContactCache cache = new DecryptedContactCache(true, 2, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, 0L, loader(1L, loads));
+        cache.get(2L, 0L, loader(2L, loads));
+        cache.get(3L, 0L, loader(3L, loads));
+
+        // Then
+        assertThat(cache.getStatistics().size()).isEqualTo(2);
+        assertThat(cache.getStatistics().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte deaktiviert immer den Loader verwenden")
+    void shouldBypassWhenDisabled() {
+        // Given
+        DecryptedContactCache cache = new DecryptedContactCache(false, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, 0L, loader(1L, loads));
+        cache.get(1L, 0L, loader(1L, loads));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getStatistics().size()).isZero();
+    }
+
+    private Supplier<CustomerContactData> loader(Long customerId, AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return new CustomerContactData(customerId, "kunde" + customerId + "@example.com",
+                    "0123", "Teststraße 1", "B123");
+        };
+    }
+}
@@ -101,5 +101,35 @@ class EncryptionServiceTest {
         assertThat(encryptionService.decrypt(encrypted1)).isEqualTo(text);
         assertThat(encryptionService.decrypt(encrypted2)).isEqualTo(text);
     }
-}
 
+    @Test
+    @DisplayName("Sollte während einer Rotation alte und neue Chiffrate entschlüsseln")
+    void shouldDecryptWithBothKeysDuringRotation() {
+        // Given
+        String legacy = encryptionService.encrypt("alt@example.com");
+        EncryptionService rotating = new EncryptionService("new-password", "k2", "test-password", "k1", 1);
+
+        // When
+        String current = rotating.encrypt("neu@example.com");
+
+        // Then
+        assertThat(current).startsWith("k2:");
+        assertThat(rotating.decrypt(legacy)).isEqualTo("alt@example.com");
+        assertThat(rotating.decrypt(current)).isEqualTo("neu@example.com");
+        assertThat(rotating.needsReEncryption(legacy)).isTrue();
+        assertThat(rotating.needsReEncryption(current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte Chiffrate ohne Schlüssel-ID dem vorherigen Schlüssel zuordnen")
+    void shouldDecryptLegacyValuesWithoutKeyId() {
+        // Given
+        String encrypted = encryptionService.encrypt("alt@example.com");
+        String legacy = encrypted.substring(encrypted.indexOf(':') + 1);
+        EncryptionService rotating = new EncryptionService("new-password", "k2", "test-password", "k1", 1);
+
+        // When/Then
+        assertThat(encryptionService.decrypt(legacy)).isEqualTo("alt@example.com");
+        assertThat(rotating.decrypt(legacy)).isEqualTo("alt@example.com");
+    }
+}
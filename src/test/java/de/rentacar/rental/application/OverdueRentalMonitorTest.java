@@ -0,0 +1,143 @@
+package de.rentacar.rental.application;
+
+import de.rentacar.rental.domain.LateFeePolicy;
+import de.rentacar.rental.domain.Rental;
+import de.rentacar.rental.domain.RentalRepository;
+import de.rentacar.shared.domain.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für OverdueRentalMonitor
+ * Die Rückgabedaten liegen in der Zukunft, damit der echte Timer nicht auslöst;
+ * der Zeitpunkt wird fireDue explizit übergeben.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OverdueRentalMonitor Tests")
+class OverdueRentalMonitorTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OverdueRentalMonitor monitor;
+    private LocalDate plannedReturnDate;
+
+    @BeforeEach
+    void setUp() {
+        plannedReturnDate = LocalDate.now().plusDays(30);
+        monitor = new OverdueRentalMonitor(rentalRepository,
+                new LateFeePolicy(BigDecimal.valueOf(50), 0, BigDecimal.ZERO),
+                outboxService, new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Sollte nach Neuaufbau nur fällige Vermietungen mit aufgelaufener Gebühr melden")
+    void shouldReportDueRentalsAfterRebuild() {
+        // Given
+        when(rentalRepository.findOpenRentals()).thenReturn(List.of(
+                rental(1L, plannedReturnDate, null),
+                rental(2L, plannedReturnDate.plusDays(5), null)));
+        when(rentalRepository.markOverdueReported(1L, 3)).thenReturn(true);
+        monitor.rebuild();
+
+        // When: drei Verspätungstage auf einmal (z.B. nach Stillstand) werden als ein Event gemeldet
+        int fired = monitor.fireDue(plannedReturnDate.plusDays(3).atTime(12, 0));
+
+        // Then
+        assertThat(fired).isEqualTo(1);
+        verify(outboxService).record(eq("Rental"), eq(1L), eq("RENTAL_OVERDUE"), argThat(payload ->
+                Integer.valueOf(3).equals(payload.get("overdueDays"))
+                        && BigDecimal.valueOf(150).compareTo((BigDecimal) payload.get("accruedLateFee")) == 0));
+        assertThat(monitor.fireDue(plannedReturnDate.plusDays(3).atTime(18, 0))).isZero();
+        verify(rentalRepository, times(1)).markOverdueReported(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Sollte bereits gemeldete Tage beim Neuaufbau überspringen")
+    void shouldSkipReportedDaysOnRebuild() {
+        // Given
+        when(rentalRepository.findOpenRentals()).thenReturn(List.of(rental(1L, plannedReturnDate, 2)));
+        monitor.rebuild();
+
+        // When/Then
+        assertThat(monitor.fireDue(plannedReturnDate.plusDays(2).atTime(12, 0))).isZero();
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("Sollte zurückgegebene Vermietungen nicht mehr melden")
+    void shouldNotReportUntrackedRental() {
+        // Given
+        monitor.track(1L, 10L, 7L, plannedReturnDate);
+        monitor.untrack(1L);
+
+        // When
+        int fired = monitor.fireDue(plannedReturnDate.plusDays(2).atStartOfDay());
+
+        // Then
+        assertThat(fired).isZero();
+        assertThat(monitor.trackedCount()).isZero();
+        verifyNoInteractions(rentalRepository, outboxService);
+    }
+
+    @Test
+    @DisplayName("Sollte kein Event schreiben, wenn ein anderer Knoten den Tag bereits gemeldet hat")
+    void shouldNotDuplicateEventReportedByOtherNode() {
+        // Given
+        monitor.track(1L, 10L, 7L, plannedReturnDate);
+        when(rentalRepository.markOverdueReported(1L, 1)).thenReturn(false);
+
+        // When
+        int fired = monitor.fireDue(plannedReturnDate.plusDays(1).atTime(0, 30));
+
+        // Then
+        assertThat(fired).isZero();
+        verify(outboxService, never()).record(any(), any(), any(), any());
+        assertThat(monitor.trackedCount()).isEqualTo(1);
+    }
+
+    private static Rental rental(Long id, LocalDate plannedReturnDate, Integer reportedOverdueDays) {
+        Rental rental = Rental.builder()
+                .bookingId(id)
+                .vehicleId(id * 10)
+                .customerId(7L)
+                .plannedPickupDate(plannedReturnDate.minusDays(3))
+                .plannedReturnDate(plannedReturnDate)
+                .pickupMileage(1000L)
+                .reportedOverdueDays(reportedOverdueDays)
+                .build();
+        rental.setId(id);
+        return rental;
+    }
+}
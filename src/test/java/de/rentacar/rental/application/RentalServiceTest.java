@@ -1,13 +1,25 @@
 package de.rentacar.rental.application;
 
 import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingEventRepository;
+import de.rentacar.booking.domain.BookingEventType;
 import de.rentacar.booking.domain.BookingRepository;
 import de.rentacar.booking.domain.BookingStatus;
+import de.rentacar.rental.application.RentalService.CheckinItem;
+import de.rentacar.rental.application.RentalService.DamageItem;
 import de.rentacar.rental.domain.DamageReport;
+import de.rentacar.rental.domain.DamageReportRepository;
+import de.rentacar.rental.domain.LateFeePolicy;
 import de.rentacar.rental.domain.Rental;
+import de.rentacar.rental.domain.RentalCostItem;
+import de.rentacar.rental.domain.RentalCostLedger;
+import de.rentacar.rental.domain.RentalCostType;
+import de.rentacar.rental.domain.RentalCosts;
 import de.rentacar.rental.domain.RentalRepository;
 import de.rentacar.rental.domain.RentalStatus;
+import de.rentacar.rental.domain.VehicleDamageHistory;
 import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
 import de.rentacar.vehicle.domain.LicensePlate;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
@@ -17,18 +29,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,12 +61,27 @@ class RentalServiceTest {
     @Mock
     private RentalRepository rentalRepository;
 
+    @Mock
+    private DamageReportRepository damageReportRepository;
+
+    @Mock
+    private RentalCostLedger costLedger;
+
+    @Spy
+    private LateFeePolicy lateFeePolicy = new LateFeePolicy(BigDecimal.valueOf(50.00), 0, BigDecimal.ZERO);
+
     @Mock
     private BookingRepository bookingRepository;
 
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private BookingEventRepository bookingEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
     @Mock
     private AuditService auditService;
 
@@ -126,6 +161,7 @@ class RentalServiceTest {
         assertThat(testVehicle.getStatus()).isEqualTo(VehicleStatus.VERMIETET);
         
         verify(rentalRepository).save(any(Rental.class));
+        verify(costLedger).open(1L);
         verify(vehicleRepository).save(testVehicle);
         verify(auditService).logAction(anyString(), eq("RENTAL_CHECKOUT"), anyString(), anyString(), anyString(), anyString());
     }
@@ -176,15 +212,41 @@ class RentalServiceTest {
         assertThat(result.getStatus()).isEqualTo(RentalStatus.ZURÜCKGEKEHRT);
         assertThat(testVehicle.getStatus()).isEqualTo(VehicleStatus.VERFÜGBAR);
         assertThat(testBooking.getStatus()).isEqualTo(BookingStatus.ABGESCHLOSSEN);
+        assertThat(testVehicle.getLocation()).isEqualTo("Berlin");
         
         verify(rentalRepository).save(testRental);
         verify(vehicleRepository).save(testVehicle);
         verify(bookingRepository).save(testBooking);
+        verify(bookingEventRepository).append(argThat(event -> event.getType() == BookingEventType.BOOKING_COMPLETED));
         verify(auditService).logAction(anyString(), eq("RENTAL_CHECKIN"), anyString(), anyString(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("Sollte Fahrzeug bei Einwegmiete an den Rückgabestandort versetzen")
+    void shouldRelocateVehicleOnOneWayCheckin() {
+        // Given
+        testBooking.setReturnLocation("Hamburg");
+        testRental.performCheckout(50000L, "Gut");
+        when(rentalRepository.findById(1L)).thenReturn(Optional.of(testRental));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(testVehicle));
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+        when(rentalRepository.save(any(Rental.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vehicleRepository.save(any(Vehicle.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        rentalService.performCheckin(1L, 50100L, "Gut", "employee", "127.0.0.1");
+
+        // Then
+        assertThat(testVehicle.getLocation()).isEqualTo("Hamburg");
+        verify(outboxService).record(eq("Rental"), eq(1L), eq("RENTAL_CHECKIN"), argThat(payload ->
+                "Berlin".equals(payload.get("vehicleLocation")) && "Berlin".equals(payload.get("pickupLocation"))
+                        && "Hamburg".equals(payload.get("returnLocation"))));
+    }
+
     @Test
     @DisplayName("Sollte Verspätungsgebühr bei verspäteter Rückgabe berechnen")
+    @SuppressWarnings("unchecked")
     void shouldCalculateLateFeeForLateReturn() {
         // Given
         testRental.performCheckout(50000L, "Gut");
@@ -201,8 +263,100 @@ class RentalServiceTest {
         Rental result = rentalService.performCheckin(1L, 50100L, "Gut", "employee", "127.0.0.1");
 
         // Then
-        assertThat(result.getAdditionalCosts()).isGreaterThan(BigDecimal.ZERO);
-        assertThat(result.getAdditionalCostsDescription()).contains("Verspätung");
+        ArgumentCaptor<List<RentalCostItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(costLedger).append(items.capture());
+        assertThat(items.getValue()).singleElement().satisfies(item -> {
+            assertThat(item.getRentalId()).isEqualTo(1L);
+            assertThat(item.getType()).isEqualTo(RentalCostType.VERSPÄTUNG);
+            assertThat(item.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(50.00));
+            assertThat(item.getDescription()).contains("Verspätung");
+        });
+    }
+
+    @Test
+    @DisplayName("Sollte mehrere Rückgaben mit Sammelabfragen und gesammelten Events einchecken")
+    @SuppressWarnings("unchecked")
+    void shouldPerformBulkCheckin() {
+        // Given: Vermietung 1 pünktlich, Vermietung 2 einen Tag verspätet
+        testRental.performCheckout(50000L, "Gut");
+        Vehicle secondVehicle = Vehicle.builder()
+                .licensePlate(LicensePlate.of("B-CD 5678"))
+                .type(VehicleType.SUV)
+                .mileage(30000L)
+                .location("Berlin")
+                .status(VehicleStatus.VERMIETET)
+                .build();
+        secondVehicle.setId(2L);
+        Booking secondBooking = Booking.builder()
+                .customerId(2L)
+                .vehicle(secondVehicle)
+                .pickupDate(LocalDate.now().minusDays(5))
+                .returnDate(LocalDate.now().minusDays(1))
+                .pickupLocation("Berlin")
+                .returnLocation("Hamburg")
+                .status(BookingStatus.BESTÄTIGT)
+                .totalPrice(BigDecimal.valueOf(300.00))
+                .build();
+        secondBooking.setId(2L);
+        Rental secondRental = Rental.builder()
+                .bookingId(2L)
+                .vehicleId(2L)
+                .customerId(2L)
+                .plannedPickupDate(LocalDate.now().minusDays(5))
+                .plannedReturnDate(LocalDate.now().minusDays(1))
+                .status(RentalStatus.AUSGEGEBEN)
+                .build();
+        secondRental.setId(2L);
+        secondRental.performCheckout(30000L, "Gut");
+
+        when(rentalRepository.findAllById(any())).thenReturn(List.of(testRental, secondRental));
+        when(vehicleRepository.findAllById(any())).thenReturn(List.of(testVehicle, secondVehicle));
+        when(bookingRepository.findAllById(any())).thenReturn(List.of(testBooking, secondBooking));
+        when(costLedger.totalsFor(any())).thenReturn(Map.of(1L, BigDecimal.ZERO, 2L, BigDecimal.valueOf(50)));
+
+        // When
+        List<Rental> result = rentalService.performBulkCheckin(List.of(
+                new CheckinItem(1L, 50100L, "Gut"),
+                new CheckinItem(2L, 30400L, "Verschmutzt")), "employee", "127.0.0.1");
+
+        // Then
+        assertThat(result).extracting(Rental::getStatus).containsOnly(RentalStatus.ZURÜCKGEKEHRT);
+        assertThat(secondVehicle.getLocation()).isEqualTo("Hamburg");
+        assertThat(secondBooking.getStatus()).isEqualTo(BookingStatus.ABGESCHLOSSEN);
+        verify(rentalRepository, never()).findById(any());
+        verify(rentalRepository).saveAll(List.of(testRental, secondRental));
+
+        ArgumentCaptor<List<RentalCostItem>> fees = ArgumentCaptor.forClass(List.class);
+        verify(costLedger).append(fees.capture());
+        assertThat(fees.getValue()).singleElement().satisfies(fee -> {
+            assertThat(fee.getRentalId()).isEqualTo(2L);
+            assertThat(fee.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(50.00));
+        });
+
+        ArgumentCaptor<Map<Long, Map<String, Object>>> payloads = ArgumentCaptor.forClass(Map.class);
+        verify(outboxService).recordAll(eq("Rental"), eq("RENTAL_CHECKIN"), payloads.capture());
+        assertThat(payloads.getValue().get(2L))
+                .containsEntry("vehicleLocation", "Berlin")
+                .containsEntry("returnLocation", "Hamburg")
+                .containsEntry("additionalCosts", BigDecimal.valueOf(50));
+        verify(bookingEventRepository).appendAll(argThat(events -> events.size() == 2));
+        verify(auditService, times(1)).logAction(eq("employee"), eq("RENTAL_BULK_CHECKIN"), eq("Rental"),
+                isNull(), contains("2 Fahrzeuge"), eq("127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Sollte Sammel-Check-in komplett ablehnen, wenn eine Vermietung fehlt")
+    void shouldRejectBulkCheckinWithUnknownRental() {
+        // Given
+        when(rentalRepository.findAllById(any())).thenReturn(List.of(testRental));
+
+        // When/Then
+        assertThatThrownBy(() -> rentalService.performBulkCheckin(List.of(
+                new CheckinItem(1L, 50100L, "Gut"),
+                new CheckinItem(99L, 10L, "Gut")), "employee", "127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[99]");
+        verifyNoInteractions(costLedger, bookingEventRepository, outboxService, auditService);
     }
 
     @Test
@@ -210,7 +364,9 @@ class RentalServiceTest {
     void shouldCreateDamageReport() {
         // Given
         when(rentalRepository.findById(1L)).thenReturn(Optional.of(testRental));
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
         when(rentalRepository.save(any(Rental.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(damageReportRepository.insertAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
 
         // When
         DamageReport result = rentalService.createDamageReport(
@@ -221,12 +377,76 @@ class RentalServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getDescription()).isEqualTo("Kratzer an der Tür");
         assertThat(result.getRepairCost()).isEqualByComparingTo(BigDecimal.valueOf(250.00));
+        assertThat(result.getVehicleId()).isEqualTo(1L);
         assertThat(testRental.getStatus()).isEqualTo(RentalStatus.MIT_SCHADEN);
         
         verify(rentalRepository).save(testRental);
+        verify(damageReportRepository).insertAll(List.of(result));
         verify(auditService).logAction(anyString(), eq("DAMAGE_REPORT_CREATED"), anyString(), anyString(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("Sollte mehrere Schäden in einem Batch speichern und als Kostenpositionen buchen")
+    @SuppressWarnings("unchecked")
+    void shouldCreateMultipleDamageReportsInOneBatch() {
+        // Given
+        when(rentalRepository.findById(1L)).thenReturn(Optional.of(testRental));
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+        when(rentalRepository.save(any(Rental.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(damageReportRepository.insertAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        // When
+        List<DamageReport> result = rentalService.createDamageReports(1L, List.of(
+                new DamageItem("Kratzer an der Tür", BigDecimal.valueOf(250.00), null),
+                new DamageItem("Steinschlag", BigDecimal.valueOf(120.00), "Frontscheibe")), "employee", "127.0.0.1");
+
+        // Then
+        assertThat(result).extracting(DamageReport::getDescription).containsExactly("Kratzer an der Tür", "Steinschlag");
+        verify(damageReportRepository, times(1)).insertAll(anyList());
+        ArgumentCaptor<List<RentalCostItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(costLedger, times(1)).append(items.capture());
+        assertThat(items.getValue()).extracting(RentalCostItem::getType).containsOnly(RentalCostType.SCHADEN);
+        assertThat(items.getValue()).extracting(RentalCostItem::getAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.valueOf(250.00), BigDecimal.valueOf(120.00));
+        assertThat(items.getValue()).extracting(RentalCostItem::getDamageReportId).containsExactly(100L, 101L);
+        verify(outboxService, times(2)).record(eq("Rental"), eq(1L), eq("DAMAGE_REPORTED"), argThat(payload ->
+                "Berlin".equals(payload.get("pickupLocation"))
+                        && VehicleType.MITTELKLASSE.equals(payload.get("vehicleType"))));
+    }
+
+    @Test
+    @DisplayName("Sollte leere Schadensbeschreibung ablehnen")
+    void shouldRejectBlankDamageDescription() {
+        // Given
+        when(rentalRepository.findById(1L)).thenReturn(Optional.of(testRental));
+
+        // When/Then
+        assertThatThrownBy(() -> rentalService.createDamageReport(
+                1L, " ", BigDecimal.valueOf(100), null, "employee", "127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Schadensbeschreibung");
+        verifyNoInteractions(damageReportRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte Schadenshistorie eines Fahrzeugs mit Kennzahlen liefern")
+    void shouldBuildVehicleDamageHistory() {
+        // Given
+        DamageReport older = damageReport(1L, BigDecimal.valueOf(100), LocalDateTime.now().minusDays(30));
+        DamageReport newer = damageReport(2L, BigDecimal.valueOf(80), LocalDateTime.now().minusDays(1));
+        when(damageReportRepository.findByVehicleId(1L)).thenReturn(List.of(older, newer));
+
+        // When
+        VehicleDamageHistory history = rentalService.getVehicleDamageHistory(1L);
+
+        // Then
+        assertThat(history.reports()).containsExactly(newer, older);
+        assertThat(history.summary().reportCount()).isEqualTo(2L);
+        assertThat(history.summary().totalRepairCost()).isEqualByComparingTo(BigDecimal.valueOf(180));
+        assertThat(history.summary().lastReportedAt()).isEqualTo(newer.getCreatedAt());
+    }
+
     @Test
     @DisplayName("Sollte Exception werfen wenn Vermietung nicht gefunden wird")
     void shouldThrowExceptionWhenRentalNotFound() {
@@ -270,8 +490,43 @@ class RentalServiceTest {
         Rental result = rentalService.performCheckin(1L, 50100L, "Gut", "employee", "127.0.0.1");
 
         // Then - keine zusätzlichen Kosten wenn pünktlich
-        // (kann nicht direkt getestet werden, da actualReturnTime in performCheckin gesetzt wird)
         assertThat(result.getReturnMileage()).isEqualTo(50100L);
+        verify(costLedger, never()).append(anyList());
     }
-}
 
+    @Test
+    @DisplayName("Sollte Zusatzkosten einer Vermietung aus dem Ledger liefern")
+    void shouldReturnRentalCostsFromLedger() {
+        // Given
+        RentalCostItem item = RentalCostItem.of(1L, RentalCostType.SCHADEN, BigDecimal.valueOf(250), "Kratzer");
+        when(rentalRepository.findById(1L)).thenReturn(Optional.of(testRental));
+        when(costLedger.totalFor(1L)).thenReturn(BigDecimal.valueOf(250));
+        when(costLedger.findByRentalId(1L)).thenReturn(List.of(item));
+
+        // When
+        RentalCosts costs = rentalService.getRentalCosts(1L);
+
+        // Then
+        assertThat(costs.total()).isEqualByComparingTo(BigDecimal.valueOf(250));
+        assertThat(costs.items()).containsExactly(item);
+    }
+
+    private static List<DamageReport> withIds(List<DamageReport> damageReports) {
+        for (int i = 0; i < damageReports.size(); i++) {
+            damageReports.get(i).setId(100L + i);
+        }
+        return damageReports;
+    }
+
+    private static DamageReport damageReport(Long id, BigDecimal repairCost, LocalDateTime createdAt) {
+        DamageReport damageReport = DamageReport.builder()
+                .rentalId(1L)
+                .vehicleId(1L)
+                .description("Schaden " + id)
+                .repairCost(repairCost)
+                .build();
+        damageReport.setId(id);
+        damageReport.setCreatedAt(createdAt);
+        return damageReport;
+    }
+}
@@ -0,0 +1,64 @@
+package de.rentacar.rental.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für LateFeePolicy
+ */
+@DisplayName("LateFeePolicy Tests")
+class LateFeePolicyTest {
+
+    private static final LocalDate PLANNED = LocalDate.of(2026, 3, 10);
+
+    @Test
+    @DisplayName("Sollte Rückgabe am geplanten Tag nicht berechnen")
+    void shouldNotChargeOnPlannedDay() {
+        // Given
+        LateFeePolicy policy = new LateFeePolicy(BigDecimal.valueOf(50), 0, BigDecimal.ZERO);
+
+        // When/Then
+        assertThat(policy.overdueAt(PLANNED)).isEqualTo(LocalDateTime.of(2026, 3, 11, 0, 0));
+        assertThat(policy.feeFor(PLANNED, PLANNED.atTime(23, 59))).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Sollte pro angefangenem Verspätungstag die Tagesgebühr berechnen")
+    void shouldChargePerStartedDay() {
+        // Given
+        LateFeePolicy policy = new LateFeePolicy(BigDecimal.valueOf(50), 0, BigDecimal.ZERO);
+
+        // When/Then
+        assertThat(policy.daysLate(PLANNED, LocalDateTime.of(2026, 3, 11, 0, 0))).isEqualTo(1);
+        assertThat(policy.feeFor(PLANNED, LocalDateTime.of(2026, 3, 13, 8, 0))).isEqualByComparingTo(BigDecimal.valueOf(150));
+    }
+
+    @Test
+    @DisplayName("Sollte Kulanzzeit und Deckelung berücksichtigen")
+    void shouldApplyGracePeriodAndCap() {
+        // Given
+        LateFeePolicy policy = new LateFeePolicy(BigDecimal.valueOf(50), 2, BigDecimal.valueOf(120));
+
+        // When/Then
+        assertThat(policy.overdueAt(PLANNED)).isEqualTo(LocalDateTime.of(2026, 3, 11, 2, 0));
+        assertThat(policy.daysLate(PLANNED, LocalDateTime.of(2026, 3, 11, 1, 30))).isZero();
+        assertThat(policy.daysLate(PLANNED, LocalDateTime.of(2026, 3, 12, 1, 30))).isEqualTo(1);
+        assertThat(policy.feeFor(PLANNED, LocalDateTime.of(2026, 3, 20, 12, 0))).isEqualByComparingTo(BigDecimal.valueOf(120));
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Konfiguration ablehnen")
+    void shouldRejectInvalidConfiguration() {
+        // When/Then
+        assertThatThrownBy(() -> new LateFeePolicy(BigDecimal.valueOf(-1), 0, BigDecimal.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Verspätungsgebühr");
+    }
+}
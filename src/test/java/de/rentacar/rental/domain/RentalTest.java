@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,8 +30,8 @@ class RentalTest {
                 .plannedReturnDate(LocalDate.now().plusDays(7))
                 .pickupMileage(50000L)
                 .status(RentalStatus.AUSGEGEBEN)
-                .additionalCosts(BigDecimal.ZERO)
                 .build();
+        rental.setId(42L);
     }
 
     @Test
@@ -97,30 +98,32 @@ class RentalTest {
     void shouldRegisterDamage() {
         // Given
         BigDecimal repairCost = BigDecimal.valueOf(250.00);
-        String description = "Kratzer an der Tür";
 
         // When
-        rental.registerDamage(repairCost, description);
+        RentalCostItem item = rental.registerDamage(repairCost, "Kratzer");
 
-        // Then
+        // Then: Kosten werden als Ledger-Position zurückgegeben, nicht auf der Vermietung summiert
         assertThat(rental.getStatus()).isEqualTo(RentalStatus.MIT_SCHADEN);
-        assertThat(rental.getAdditionalCosts()).isEqualByComparingTo(repairCost);
-        assertThat(rental.getAdditionalCostsDescription()).contains(description);
+        assertThat(item.getRentalId()).isEqualTo(42L);
+        assertThat(item.getType()).isEqualTo(RentalCostType.SCHADEN);
+        assertThat(item.getAmount()).isEqualByComparingTo(repairCost);
+        assertThat(item.getDescription()).isEqualTo("Kratzer");
     }
 
     @Test
-    @DisplayName("Sollte mehrere Schäden akkumulieren")
+    @DisplayName("Sollte für mehrere Schäden je eine Position liefern")
     void shouldAccumulateMultipleDamages() {
         // Given
         BigDecimal cost1 = BigDecimal.valueOf(100.00);
         BigDecimal cost2 = BigDecimal.valueOf(150.00);
 
         // When
-        rental.registerDamage(cost1, "Schaden 1");
-        rental.registerDamage(cost2, "Schaden 2");
+        List<RentalCostItem> items = List.of(rental.registerDamage(cost1, "Delle"),
+                rental.registerDamage(cost2, "Kratzer"));
 
         // Then
-        assertThat(rental.getAdditionalCosts()).isEqualByComparingTo(BigDecimal.valueOf(250.00));
+        assertThat(total(items)).isEqualByComparingTo(BigDecimal.valueOf(250.00));
+        assertThat(rental.getStatus()).isEqualTo(RentalStatus.MIT_SCHADEN);
     }
 
     @Test
@@ -131,18 +134,20 @@ class RentalTest {
         String description = "Verspätung um 1 Tag";
 
         // When
-        rental.addLateReturnFee(fee, description);
+        RentalCostItem item = rental.addLateReturnFee(fee, description);
 
         // Then
-        assertThat(rental.getAdditionalCosts()).isEqualByComparingTo(fee);
-        assertThat(rental.getAdditionalCostsDescription()).contains(description);
+        assertThat(item.getType()).isEqualTo(RentalCostType.VERSPÄTUNG);
+        assertThat(item.getAmount()).isEqualByComparingTo(fee);
+        assertThat(item.getDescription()).isEqualTo(description);
+        assertThat(rental.getStatus()).isEqualTo(RentalStatus.AUSGEGEBEN);
     }
 
     @Test
     @DisplayName("Sollte Exception werfen wenn Reparaturkosten negativ sind")
     void shouldThrowExceptionWhenRepairCostIsNegative() {
         // When/Then
-        assertThatThrownBy(() -> rental.registerDamage(BigDecimal.valueOf(-100), "Schaden"))
+        assertThatThrownBy(() -> rental.registerDamage(BigDecimal.valueOf(-100), "Delle"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("gültig sein");
     }
@@ -157,18 +162,18 @@ class RentalTest {
     }
 
     @Test
-    @DisplayName("Sollte mehrere Verspätungsgebühren akkumulieren")
+    @DisplayName("Sollte für mehrere Verspätungsgebühren je eine Position liefern")
     void shouldAccumulateMultipleLateFees() {
         // Given
         BigDecimal fee1 = BigDecimal.valueOf(50.00);
         BigDecimal fee2 = BigDecimal.valueOf(75.00);
 
         // When
-        rental.addLateReturnFee(fee1, "Verspätung 1");
-        rental.addLateReturnFee(fee2, "Verspätung 2");
+        List<RentalCostItem> items = List.of(rental.addLateReturnFee(fee1, "Verspätung 1"),
+                rental.addLateReturnFee(fee2, "Verspätung 2"));
 
         // Then
-        assertThat(rental.getAdditionalCosts()).isEqualByComparingTo(BigDecimal.valueOf(125.00));
+        assertThat(total(items)).isEqualByComparingTo(BigDecimal.valueOf(125.00));
     }
 
     @Test
@@ -179,11 +184,13 @@ class RentalTest {
         BigDecimal lateFee = BigDecimal.valueOf(50.00);
 
         // When
-        rental.registerDamage(damageCost, "Schaden");
-        rental.addLateReturnFee(lateFee, "Verspätung");
+        List<RentalCostItem> items = List.of(rental.registerDamage(damageCost, "Delle"),
+                rental.addLateReturnFee(lateFee, "Verspätung"));
 
         // Then
-        assertThat(rental.getAdditionalCosts()).isEqualByComparingTo(BigDecimal.valueOf(250.00));
+        assertThat(total(items)).isEqualByComparingTo(BigDecimal.valueOf(250.00));
+        assertThat(items).extracting(RentalCostItem::getType)
+                .containsExactly(RentalCostType.SCHADEN, RentalCostType.VERSPÄTUNG);
     }
 
     @Test
@@ -197,7 +204,6 @@ class RentalTest {
                 .plannedPickupDate(LocalDate.now().plusDays(1))
                 .plannedReturnDate(LocalDate.now().plusDays(7))
                 .status(RentalStatus.AUSGEGEBEN)
-                .additionalCosts(BigDecimal.ZERO)
                 .build();
         // pickupMileage ist null, da kein Check-out durchgeführt wurde
         
@@ -229,5 +235,8 @@ class RentalTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("angegeben werden");
     }
-}
 
+    private static BigDecimal total(List<RentalCostItem> items) {
+        return items.stream().map(RentalCostItem::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
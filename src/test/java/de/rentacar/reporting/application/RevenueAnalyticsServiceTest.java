@@ -0,0 +1,83 @@
+package de.rentacar.reporting.application;
+
+import de.rentacar.reporting.domain.RevenueHistory;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für RevenueAnalyticsService (inkrementelle Fortschreibung)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevenueAnalyticsService Tests")
+class RevenueAnalyticsServiceTest {
+
+    @Mock
+    private RevenueHistory revenueHistory;
+
+    private RevenueAnalyticsService revenueAnalyticsService;
+
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        revenueAnalyticsService = new RevenueAnalyticsService(revenueHistory);
+        day = LocalDate.of(2026, 3, 1);
+    }
+
+    @Test
+    @DisplayName("Sollte erneut zugestellte Events nicht doppelt zählen")
+    void shouldIgnoreRedeliveredEvent() {
+        // When
+        revenueAnalyticsService.record(7L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+        revenueAnalyticsService.record(7L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+        revenueAnalyticsService.record(8L, day, "Berlin", VehicleType.SUV, BigDecimal.ZERO, BigDecimal.valueOf(50));
+
+        // Then
+        assertThat(revenueAnalyticsService.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Sollte beim Neuladen noch offene Events unterhalb der Watermark später anwenden")
+    void shouldApplyInFlightEventBelowWatermark() {
+        // Given
+        when(revenueHistory.currentEventWatermark()).thenReturn(10L);
+        when(revenueHistory.missingEventIds(0L, 10L)).thenReturn(Set.of(8L));
+        revenueAnalyticsService.reload();
+
+        // When
+        revenueAnalyticsService.record(8L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+        revenueAnalyticsService.record(8L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+        revenueAnalyticsService.record(9L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+
+        // Then
+        assertThat(revenueAnalyticsService.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte Events bis zur Watermark des Neuladens ignorieren")
+    void shouldIgnoreEventsContainedInReload() {
+        // Given
+        when(revenueHistory.currentEventWatermark()).thenReturn(10L);
+        revenueAnalyticsService.reload();
+
+        // When
+        revenueAnalyticsService.record(9L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+        revenueAnalyticsService.record(11L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+        revenueAnalyticsService.record(11L, day, "Berlin", VehicleType.SUV, BigDecimal.valueOf(300), BigDecimal.ZERO);
+
+        // Then
+        assertThat(revenueAnalyticsService.size()).isEqualTo(1);
+    }
+}
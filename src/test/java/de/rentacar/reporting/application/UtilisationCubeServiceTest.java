@@ -0,0 +1,238 @@
+package de.rentacar.reporting.application;
+
+import de.rentacar.reporting.domain.UtilisationContribution;
+import de.rentacar.reporting.domain.UtilisationContribution.Kind;
+import de.rentacar.reporting.domain.UtilisationContributionRepository;
+import de.rentacar.reporting.domain.UtilisationFact;
+import de.rentacar.reporting.domain.UtilisationFactRepository;
+import de.rentacar.reporting.domain.UtilisationHistory;
+import de.rentacar.reporting.domain.UtilisationHistory.Interval;
+import de.rentacar.reporting.domain.UtilisationKey;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für UtilisationCubeService (Auslastungswürfel)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UtilisationCubeService Tests")
+class UtilisationCubeServiceTest {
+
+    @Mock
+    private UtilisationFactRepository factRepository;
+
+    @Mock
+    private UtilisationHistory utilisationHistory;
+
+    @Mock
+    private UtilisationContributionRepository contributionRepository;
+
+    private UtilisationCubeService cubeService;
+
+    private LocalDate day1;
+    private LocalDate day3;
+
+    @BeforeEach
+    void setUp() {
+        cubeService = new UtilisationCubeService(factRepository, utilisationHistory, contributionRepository, 2);
+        day1 = LocalDate.of(2026, 3, 1);
+        day3 = LocalDate.of(2026, 3, 3);
+    }
+
+    @Test
+    @DisplayName("Sollte fehlende Zellen anlegen und bestehende inkrementell anpassen")
+    @SuppressWarnings("unchecked")
+    void shouldAdjustExistingAndCreateMissingCells() {
+        // Given
+        UtilisationFact existing = UtilisationFact.empty(new UtilisationKey("Berlin", VehicleType.SUV, day1));
+        existing.setBookedVehicleDays(2);
+        when(factRepository.findCells("Berlin", VehicleType.SUV, day1, day3)).thenReturn(List.of(existing));
+
+        // When
+        cubeService.adjust("Berlin", VehicleType.SUV, day1, day3, 1, 0);
+
+        // Then
+        ArgumentCaptor<Collection<UtilisationFact>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(factRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(existing.getBookedVehicleDays()).isEqualTo(3);
+        assertThat(captor.getValue()).filteredOn(fact -> fact != existing)
+                .allMatch(fact -> fact.getBookedVehicleDays() == 1);
+    }
+
+    @Test
+    @DisplayName("Sollte eine erneut zugestellte Bestätigung nicht doppelt zählen")
+    void shouldApplyBookingOnlyOnce() {
+        // Given
+        when(contributionRepository.find(Kind.GEBUCHT, 42L)).thenReturn(Optional.of(
+                UtilisationContribution.of(Kind.GEBUCHT, 42L, "Berlin", VehicleType.SUV, day1, day3)));
+
+        // When
+        cubeService.applyBooking(42L, "Berlin", VehicleType.SUV, day1, day3);
+
+        // Then
+        verify(contributionRepository, never()).save(any());
+        verifyNoInteractions(factRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte Stornierung am Standort der Bestätigung genau einmal abziehen")
+    @SuppressWarnings("unchecked")
+    void shouldWithdrawBookingAtConfirmedLocationOnce() {
+        // Given
+        UtilisationContribution contribution =
+                UtilisationContribution.of(Kind.GEBUCHT, 42L, "Berlin", VehicleType.SUV, day1, day1);
+        UtilisationFact cell = UtilisationFact.empty(new UtilisationKey("Berlin", VehicleType.SUV, day1));
+        cell.setBookedVehicleDays(1);
+        when(contributionRepository.find(Kind.GEBUCHT, 42L)).thenReturn(Optional.of(contribution));
+        when(factRepository.findCells("Berlin", VehicleType.SUV, day1, day1)).thenReturn(List.of(cell));
+
+        // When
+        cubeService.withdrawBooking(42L);
+        cubeService.withdrawBooking(42L);
+
+        // Then
+        assertThat(cell.getBookedVehicleDays()).isZero();
+        assertThat(contribution.isClosed()).isTrue();
+        verify(factRepository, times(1)).saveAll(any(Collection.class));
+        verify(contributionRepository, times(1)).save(contribution);
+    }
+
+    @Test
+    @DisplayName("Sollte Rückgabe den geplanten durch den tatsächlichen Zeitraum ersetzen")
+    void shouldSettleRentalOnce() {
+        // Given
+        UtilisationContribution contribution =
+                UtilisationContribution.of(Kind.VERMIETET, 7L, "Berlin", VehicleType.SUV, day1, day3);
+        when(contributionRepository.find(Kind.VERMIETET, 7L)).thenReturn(Optional.of(contribution));
+        when(factRepository.findCells(eq("Berlin"), eq(VehicleType.SUV), any(), any())).thenReturn(new ArrayList<>());
+
+        // When
+        cubeService.settleRental(7L, "Hamburg", VehicleType.SUV, day1, day1.plusDays(1));
+        cubeService.settleRental(7L, "Hamburg", VehicleType.SUV, day1, day1.plusDays(1));
+
+        // Then
+        verify(factRepository).findCells("Berlin", VehicleType.SUV, day1, day3);
+        verify(factRepository).findCells("Berlin", VehicleType.SUV, day1, day1.plusDays(1));
+        verify(factRepository, never()).findCells(eq("Hamburg"), any(), any(), any());
+        assertThat(contribution.getToDay()).isEqualTo(day1.plusDays(1));
+        assertThat(contribution.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Zeiträume ignorieren")
+    void shouldIgnoreInvalidInterval() {
+        // When
+        cubeService.adjust("Berlin", VehicleType.SUV, day3, day1, 1, 0);
+
+        // Then
+        verifyNoInteractions(factRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte Würfel aus Historie in parallelen Chunks neu aufbauen")
+    @SuppressWarnings("unchecked")
+    void shouldRebuildFromHistoryInChunks() {
+        // Given
+        when(utilisationHistory.maxBookingId()).thenReturn(5L);
+        when(utilisationHistory.maxRentalId()).thenReturn(0L);
+        doAnswer(invocation -> {
+            long fromId = invocation.getArgument(0);
+            Consumer<Interval> consumer = invocation.getArgument(2);
+            if (fromId == 0L || fromId == 2L) {
+                consumer.accept(new Interval(fromId + 1, "Hamburg", VehicleType.VAN, day1, day1.plusDays(1), false));
+            }
+            return null;
+        }).when(utilisationHistory).readBookedIntervals(anyLong(), anyLong(), any());
+        when(factRepository.findCells(eq("Hamburg"), eq(VehicleType.VAN), any(), any())).thenReturn(new ArrayList<>());
+
+        // When
+        int cells = cubeService.rebuild();
+
+        // Then
+        assertThat(cells).isEqualTo(2);
+        verify(factRepository).resetBookedAndRented();
+        verify(utilisationHistory, times(3)).readBookedIntervals(anyLong(), anyLong(), any());
+        ArgumentCaptor<Collection<UtilisationFact>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(factRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).allMatch(fact -> fact.getBookedVehicleDays() == 2);
+        ArgumentCaptor<Collection<UtilisationContribution>> contributions = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(contributionRepository);
+        inOrder.verify(contributionRepository).deleteAll();
+        inOrder.verify(contributionRepository).saveAll(contributions.capture());
+        assertThat(contributions.getValue()).extracting(UtilisationContribution::getSourceId)
+                .containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Sollte stornierte Buchungen beim Neuaufbau nur als abgeschlossenen Beitrag festhalten")
+    @SuppressWarnings("unchecked")
+    void shouldRecordCancelledBookingAsClosedContributionOnRebuild() {
+        // Given
+        when(utilisationHistory.maxBookingId()).thenReturn(1L);
+        when(utilisationHistory.maxRentalId()).thenReturn(0L);
+        doAnswer(invocation -> {
+            Consumer<Interval> consumer = invocation.getArgument(2);
+            consumer.accept(new Interval(1L, "Berlin", VehicleType.SUV, day1, day3, true));
+            return null;
+        }).when(utilisationHistory).readBookedIntervals(eq(0L), eq(2L), any());
+
+        // When
+        int cells = cubeService.rebuild();
+
+        // Then
+        assertThat(cells).isZero();
+        ArgumentCaptor<Collection<UtilisationContribution>> contributions = ArgumentCaptor.forClass(Collection.class);
+        verify(contributionRepository).saveAll(contributions.capture());
+        assertThat(contributions.getValue()).singleElement()
+                .satisfies(contribution -> assertThat(contribution.isClosed()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Sollte Wartungs- und Außer-Betrieb-Tage im Tagesabschluss festschreiben")
+    @SuppressWarnings("unchecked")
+    void shouldSnapshotVehicleStatus() {
+        // Given
+        when(factRepository.findByDay(any())).thenReturn(List.of());
+        when(utilisationHistory.countVehiclesByStatus()).thenReturn(List.of(
+                new UtilisationHistory.StatusCount("Berlin", VehicleType.SUV, VehicleStatus.WARTUNG, 2),
+                new UtilisationHistory.StatusCount("Berlin", VehicleType.SUV, VehicleStatus.VERFÜGBAR, 5)));
+
+        // When
+        cubeService.snapshotVehicleStatus();
+
+        // Then
+        ArgumentCaptor<Collection<UtilisationFact>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(factRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(fact -> assertThat(fact.getMaintenanceVehicleDays()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Sollte Exception bei ungültigem Abfragezeitraum werfen")
+    void shouldRejectInvalidQueryRange() {
+        assertThatThrownBy(() -> cubeService.query(day3, day1, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Zeitraum");
+    }
+}
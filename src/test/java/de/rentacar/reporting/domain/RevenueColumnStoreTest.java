@@ -0,0 +1,101 @@
+package de.rentacar.reporting.domain;
+
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für den spaltenorientierten Umsatzspeicher
+ */
+@DisplayName("RevenueColumnStore Tests")
+class RevenueColumnStoreTest {
+
+    private RevenueColumnStore store;
+    private LocalDate march1;
+    private LocalDate april1;
+
+    @BeforeEach
+    void setUp() {
+        store = new RevenueColumnStore();
+        march1 = LocalDate.of(2026, 3, 1);
+        april1 = LocalDate.of(2026, 4, 1);
+        store.append(march1, "Berlin", VehicleType.SUV, BigDecimal.valueOf(400), BigDecimal.valueOf(50));
+        store.append(march1.plusDays(5), "Berlin", VehicleType.SUV, BigDecimal.valueOf(240), BigDecimal.ZERO);
+        store.append(march1, "Hamburg", VehicleType.VAN, BigDecimal.valueOf(210), BigDecimal.ZERO);
+        store.append(april1, "Berlin", VehicleType.KLEINWAGEN, BigDecimal.valueOf(90), BigDecimal.valueOf(12.5));
+    }
+
+    @Test
+    @DisplayName("Sollte Umsatz nach Monat und Standort gruppieren")
+    void shouldGroupByMonthAndLocation() {
+        // When
+        List<RevenueRow> rows = store.query(new RevenueQuery(march1, april1.plusDays(10), null, null,
+                RevenuePeriod.MONTH, true, false));
+
+        // Then
+        assertThat(rows).hasSize(3);
+        RevenueRow berlinMarch = rows.get(0);
+        assertThat(berlinMarch.period()).isEqualTo("2026-03");
+        assertThat(berlinMarch.location()).isEqualTo("Berlin");
+        assertThat(berlinMarch.rentalRevenue()).isEqualByComparingTo("640.00");
+        assertThat(berlinMarch.additionalRevenue()).isEqualByComparingTo("50.00");
+        assertThat(berlinMarch.totalRevenue()).isEqualByComparingTo("690.00");
+        assertThat(berlinMarch.facts()).isEqualTo(2);
+        assertThat(rows.get(2).period()).isEqualTo("2026-04");
+        assertThat(rows.get(2).additionalRevenue()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    @DisplayName("Sollte nach Zeitraum, Standort und Fahrzeugtyp filtern")
+    void shouldFilterByRangeLocationAndType() {
+        // When
+        List<RevenueRow> rows = store.query(new RevenueQuery(march1, march1.plusDays(30),
+                Set.of("Berlin", "Unbekannt"), Set.of(VehicleType.SUV), null, false, true));
+
+        // Then
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.vehicleType()).isEqualTo(VehicleType.SUV);
+            assertThat(row.period()).isNull();
+            assertThat(row.location()).isNull();
+            assertThat(row.totalRevenue()).isEqualByComparingTo("690.00");
+        });
+    }
+
+    @Test
+    @DisplayName("Sollte leeres Ergebnis liefern wenn nichts passt")
+    void shouldReturnEmptyResultWhenNothingMatches() {
+        assertThat(store.query(new RevenueQuery(march1.minusYears(1), march1.minusDays(1),
+                null, null, RevenuePeriod.DAY, false, false))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sollte über die Anfangskapazität hinaus wachsen")
+    void shouldGrowBeyondInitialCapacity() {
+        // When
+        for (int i = 0; i < 5000; i++) {
+            store.append(march1, "Köln", VehicleType.VAN, BigDecimal.ONE, BigDecimal.ZERO);
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(5004);
+        assertThat(store.query(new RevenueQuery(march1, march1, Set.of("Köln"), null, null, false, false)))
+                .singleElement()
+                .satisfies(row -> assertThat(row.rentalRevenue()).isEqualByComparingTo("5000.00"));
+    }
+
+    @Test
+    @DisplayName("Sollte ungültigen Zeitraum ablehnen")
+    void shouldRejectInvalidRange() {
+        assertThatThrownBy(() -> new RevenueQuery(april1, march1, null, null, null, false, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
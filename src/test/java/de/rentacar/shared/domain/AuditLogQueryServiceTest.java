@@ -0,0 +1,169 @@
+package de.rentacar.shared.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.infrastructure.AuditLogRepository;
+import de.rentacar.shared.infrastructure.AuditSegmentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für AuditLogQueryService (Keyset-Paginierung, Export)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogQueryService Tests")
+class AuditLogQueryServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private AuditSegmentStore segmentStore;
+
+    private AuditLogQueryService auditLogQueryService;
+
+    @BeforeEach
+    void setUp() {
+        auditLogQueryService = new AuditLogQueryService(auditLogRepository, segmentStore, Optional.empty(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Sollte Cursor der letzten Zeile zurückgeben, wenn die Seite voll ist")
+    void shouldReturnCursorForFullPage() {
+        // Given
+        AuditLogQuery query = new AuditLogQuery(FROM, TO, null, null, null);
+        List<AuditLog> entries = List.of(entry(1L, "admin", "a"), entry(2L, "admin", "b"));
+        when(auditLogRepository.findPage(eq(FROM), eq(TO), eq(FROM), eq(0L), any())).thenReturn(entries);
+
+        // When
+        AuditLogQueryService.AuditLogPage page = auditLogQueryService.findPage(query, null, 2);
+
+        // Then
+        assertThat(page.entries()).hasSize(2);
+        assertThat(AuditLogCursor.parse(page.nextCursor()))
+                .isEqualTo(new AuditLogCursor(entries.get(1).getTimestamp(), 2L));
+    }
+
+    @Test
+    @DisplayName("Sollte nach Benutzer filtern und ohne Folgecursor enden")
+    void shouldFilterByUsername() {
+        // Given
+        AuditLogQuery query = new AuditLogQuery(FROM, TO, "employee", null, null);
+        AuditLogCursor cursor = new AuditLogCursor(FROM.plusDays(1), 42L);
+        when(auditLogRepository.findPageByUsername(eq("employee"), eq(FROM), eq(TO),
+                eq(cursor.timestamp()), eq(42L), any())).thenReturn(List.of(entry(43L, "employee", "x")));
+
+        // When
+        AuditLogQueryService.AuditLogPage page = auditLogQueryService.findPage(query, cursor, 10);
+
+        // Then
+        assertThat(page.entries()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+        verify(auditLogRepository, never()).findPage(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Sollte CSV seitenweise exportieren und Sonderzeichen maskieren")
+    void shouldExportCsvAcrossPages() throws Exception {
+        // Given
+        AuditLogQuery query = new AuditLogQuery(FROM, TO, null, null, null);
+        List<AuditLog> firstPage = IntStream.rangeClosed(1, 500)
+                .mapToObj(i -> entry((long) i, "admin", "d" + i))
+                .toList();
+        List<AuditLog> secondPage = List.of(entry(501L, "admin", "Kratzer, \"vorne\""));
+        when(auditLogRepository.findPage(eq(FROM), eq(TO), any(), any(), any()))
+                .thenReturn(firstPage, secondPage);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = auditLogQueryService.export(query, AuditExportFormat.CSV, out);
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(exported).isEqualTo(501);
+        assertThat(csv.lines()).hasSize(502);
+        assertThat(csv).endsWith("\"Kratzer, \"\"vorne\"\"\"\n");
+        verify(auditLogRepository, times(2)).findPage(eq(FROM), eq(TO), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Sollte archivierte Monate aus Segmenten und den Rest aus der Tabelle lesen")
+    void shouldCombineSegmentsAndTable() {
+        // Given
+        LocalDateTime archivedUntil = LocalDateTime.of(2024, 1, 16, 0, 0);
+        AuditLogQuery query = new AuditLogQuery(FROM, TO, "admin", null, null);
+        when(segmentStore.archivedUntil()).thenReturn(archivedUntil);
+        when(segmentStore.segmentsBetween(FROM, archivedUntil)).thenReturn(List.of(YearMonth.of(2024, 1)));
+        when(segmentStore.read(YearMonth.of(2024, 1)))
+                .thenReturn(Stream.of(entry(1L, "admin", "a"), entry(2L, "other", "b"), entry(3L, "admin", "c")));
+        AuditLog fromTable = entry(4L, "admin", "d");
+        when(auditLogRepository.findPageByUsername(eq("admin"), eq(archivedUntil), eq(TO), eq(FROM), eq(0L), any()))
+                .thenReturn(List.of(fromTable));
+
+        // When
+        AuditLogQueryService.AuditLogPage page = auditLogQueryService.findPage(query, null, 3);
+
+        // Then
+        assertThat(page.entries()).extracting(AuditLog::getId).containsExactly(1L, 3L, 4L);
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Sollte Segmente außerhalb des Zeitraums nicht öffnen")
+    void shouldPruneSegmentsOutsideRange() {
+        // Given
+        LocalDateTime archivedUntil = LocalDateTime.of(2023, 12, 1, 0, 0);
+        AuditLogQuery query = new AuditLogQuery(FROM, TO, null, null, null);
+        when(segmentStore.archivedUntil()).thenReturn(archivedUntil);
+        when(auditLogRepository.findPage(eq(FROM), eq(TO), eq(FROM), eq(0L), any())).thenReturn(List.of());
+
+        // When
+        auditLogQueryService.findPage(query, null, 10);
+
+        // Then
+        verify(segmentStore, never()).read(any());
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Filterkombination ablehnen")
+    void shouldRejectInvalidQuery() {
+        assertThatThrownBy(() -> new AuditLogQuery(TO, FROM, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AuditLogQuery(FROM, TO, null, "Booking", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AuditLog entry(Long id, String username, String details) {
+        AuditLog auditLog = AuditLog.builder()
+                .username(username)
+                .action("TEST")
+                .resourceType("Booking")
+                .resourceId("1")
+                .details(details)
+                .timestamp(FROM.plusMinutes(id))
+                .build();
+        auditLog.setId(id);
+        return auditLog;
+    }
+}
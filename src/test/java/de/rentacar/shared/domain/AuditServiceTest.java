@@ -1,6 +1,5 @@
 package de.rentacar.shared.domain;
 
-import de.rentacar.shared.infrastructure.AuditLogRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +21,7 @@ import static org.mockito.Mockito.verify;
 class AuditServiceTest {
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private AuditLogStore auditLogStore;
 
     @InjectMocks
     private AuditService auditService;
@@ -43,7 +42,7 @@ class AuditServiceTest {
 
         // Then
         ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
+        verify(auditLogStore).append(captor.capture());
         
         AuditLog savedLog = captor.getValue();
         assertThat(savedLog.getUsername()).isEqualTo(username);
@@ -64,7 +63,7 @@ class AuditServiceTest {
 
         // Then
         ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
+        verify(auditLogStore).append(captor.capture());
         
         assertThat(captor.getValue().getResourceId()).isNull();
     }
@@ -0,0 +1,44 @@
+package de.rentacar.shared.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-Tests für Vocabulary (kanonische Instanzen für Audit-Aktionen und Ressourcentypen)
+ */
+@DisplayName("Vocabulary Tests")
+class VocabularyTest {
+
+    @Test
+    @DisplayName("Sollte gleiche Werte auf dieselbe Instanz abbilden")
+    void shouldReturnSameInstanceForEqualValues() {
+        // Given: zwei getrennt erzeugte, gleiche Strings
+        String first = new String("VEHICLE_ADDED");
+        String second = new String("VEHICLE_ADDED");
+
+        // When / Then
+        assertThat(Vocabulary.canonical(first)).isSameAs(Vocabulary.canonical(second));
+        assertThat(Vocabulary.canonical(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Sollte Aktion und Ressourcentyp im Audit-Eintrag kanonisieren")
+    void shouldCanonicaliseAuditLogVocabulary() {
+        // When
+        AuditLog built = AuditLog.builder()
+                .action(new String("BOOKING_CREATED"))
+                .resourceType(new String("Booking"))
+                .build();
+        AuditLog updated = new AuditLog();
+        updated.setAction(new String("BOOKING_CREATED"));
+        updated.setResourceType(new String("Booking"));
+
+        // Then
+        assertThat(built.getAction()).isSameAs(updated.getAction());
+        assertThat(built.getResourceType()).isSameAs(updated.getResourceType());
+        assertThat(new VocabularyConverter().convertToEntityAttribute(new String("Booking")))
+                .isSameAs(built.getResourceType());
+    }
+}
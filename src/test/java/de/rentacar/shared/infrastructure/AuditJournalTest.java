@@ -0,0 +1,164 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.AuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-Tests für AuditJournal (memory-mapped, segmentiert, CRC pro Eintrag)
+ */
+@DisplayName("AuditJournal Tests")
+class AuditJournalTest {
+
+    private static final int SEGMENT_SIZE = 70_000;
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    @DisplayName("Sollte Einträge mit fortlaufender Sequenz und Zeitstempel ablegen und lesen")
+    void shouldAppendAndReadEntries() throws IOException {
+        // Given
+        AuditJournal journal = openJournal();
+
+        // When
+        journal.append(entry("admin", "Kratzer vorne"));
+        journal.append(entry("employee", null));
+
+        // Then
+        List<AuditLog> entries = readAll(journal);
+        assertThat(entries).extracting(AuditLog::getId).containsExactly(1L, 2L);
+        assertThat(entries).extracting(AuditLog::getUsername).containsExactly("admin", "employee");
+        assertThat(entries.get(1).getDetails()).isNull();
+        assertThat(entries.get(1).getTimestamp()).isAfterOrEqualTo(entries.get(0).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Sollte bei voller Datei ein neues Segment beginnen")
+    void shouldRotateSegments() throws IOException {
+        // Given
+        AuditJournal journal = openJournal();
+
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            journal.append(entry("admin", "Eintrag " + i));
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+        assertThat(readAll(journal)).hasSize(2_000);
+    }
+
+    @Test
+    @DisplayName("Sollte nach Neustart hinter dem letzten gültigen Eintrag fortsetzen")
+    void shouldRecoverAfterRestart() throws IOException {
+        // Given
+        AuditJournal journal = openJournal();
+        journal.append(entry("admin", "vorher"));
+        journal.close();
+
+        // When
+        AuditJournal reopened = openJournal();
+        reopened.append(entry("admin", "nachher"));
+
+        // Then
+        assertThat(readAll(reopened)).extracting(AuditLog::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Sollte nur Einträge im Zeitraum liefern")
+    void shouldFilterByTimeRange() throws IOException {
+        // Given
+        AuditJournal journal = openJournal();
+        journal.append(entry("admin", "a"));
+
+        // When / Then
+        assertThat(journal.read(LocalDateTime.now().plusMinutes(1), LocalDateTime.now().plusMinutes(2)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sollte Eintrag einer zurückgerollten Transaktion verwerfen")
+    void shouldDiscardEntryOnRollback() throws IOException {
+        // Given
+        AuditJournal journal = openJournal();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            journal.append(entry("admin", "zurückgerollt"));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            journal.append(entry("admin", "committet"));
+            assertThat(readAll(journal)).isEmpty();
+        });
+
+        // Then
+        assertThat(readAll(journal)).extracting(AuditLog::getDetails).containsExactly("committet");
+        assertThat(readAll(journal)).extracting(AuditLog::getId).containsExactly(1L);
+    }
+
+    private AuditJournal openJournal() throws IOException {
+        AuditJournal journal = new AuditJournal(journalDir.toString(), SEGMENT_SIZE);
+        journal.open();
+        return journal;
+    }
+
+    private List<AuditLog> readAll(AuditJournal journal) {
+        return journal.read(LocalDateTime.MIN, LocalDateTime.MAX).toList();
+    }
+
+    private AuditLog entry(String username, String details) {
+        return AuditLog.builder()
+                .username(username)
+                .action("TEST")
+                .resourceType("Booking")
+                .resourceId("1")
+                .details(details)
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+
+    /**
+     * Transaktionsmanager ohne Ressource, nur für den Synchronisations-Lebenszyklus
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            // keine Ressource
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            // keine Ressource
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            // keine Ressource
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package de.rentacar.shared.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.shared.domain.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für AuditPartitionArchiver (Rollover in komprimierte Segmente)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditPartitionArchiver Tests")
+class AuditPartitionArchiverTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    Path archiveDir;
+
+    private AuditSegmentStore segmentStore;
+    private AuditPartitionArchiver archiver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        segmentStore = new AuditSegmentStore(new ObjectMapper(), archiveDir.toString());
+        segmentStore.scan();
+        archiver = new AuditPartitionArchiver(auditLogRepository, segmentStore, 1);
+    }
+
+    @Test
+    @DisplayName("Sollte abgeschlossenen Monat als Segment schreiben und aus der Tabelle entfernen")
+    void shouldArchiveClosedMonth() {
+        // Given
+        YearMonth month = YearMonth.now().minusMonths(1);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        AuditLog first = entry(1L, start.plusHours(1), "Kratzer, \"vorne\"");
+        AuditLog second = entry(2L, start.plusHours(2), null);
+        when(auditLogRepository.findFirstByOrderByTimestampAscIdAsc()).thenReturn(Optional.of(first));
+        when(auditLogRepository.findPage(eq(start), any(), any(), any(), any())).thenReturn(List.of(first, second));
+
+        // When
+        long archived = archiver.archiveClosedPartitions();
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        assertThat(segmentStore.archivedUntil()).isEqualTo(month.plusMonths(1).atDay(1).atStartOfDay());
+        verify(auditLogRepository).deleteArchived(start, month.plusMonths(1).atDay(1).atStartOfDay(), start.plusHours(2), 2L);
+        try (Stream<AuditLog> entries = segmentStore.read(month)) {
+            assertThat(entries.toList())
+                    .extracting(AuditLog::getId, AuditLog::getDetails)
+                    .containsExactly(
+                            tuple(1L, "Kratzer, \"vorne\""),
+                            tuple(2L, null));
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte verbliebene Zeilen in vorhandenes Segment einmischen, bevor sie entfernt werden")
+    void shouldMergeRemainingRowsIntoExistingSegment() throws Exception {
+        // Given
+        YearMonth month = YearMonth.now().minusMonths(1);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        try (AuditSegmentStore.SegmentWriter writer = segmentStore.create(month)) {
+            writer.append(entry(1L, start, "alt"));
+            writer.append(entry(3L, start.plusHours(3), "alt"));
+            writer.commit();
+        }
+        AuditLog leftover = entry(1L, start, "alt");
+        AuditLog late = entry(2L, start.plusHours(1), "nachgetragen");
+        when(auditLogRepository.findFirstByOrderByTimestampAscIdAsc()).thenReturn(Optional.of(leftover));
+        when(auditLogRepository.findPage(eq(start), any(), any(), any(), any())).thenReturn(List.of(leftover, late));
+
+        // When
+        long archived = archiver.archiveClosedPartitions();
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        verify(auditLogRepository).deleteArchived(start, end, start.plusHours(1), 2L);
+        try (Stream<AuditLog> entries = segmentStore.read(month)) {
+            assertThat(entries.toList())
+                    .extracting(AuditLog::getId, AuditLog::getDetails)
+                    .containsExactly(
+                            tuple(1L, "alt"),
+                            tuple(2L, "nachgetragen"),
+                            tuple(3L, "alt"));
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte bereits archivierte Zeilen entfernen, ohne das Segment neu zu schreiben")
+    void shouldDeleteAlreadyArchivedRowsWithoutRewrite() throws Exception {
+        // Given
+        YearMonth month = YearMonth.now().minusMonths(1);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        try (AuditSegmentStore.SegmentWriter writer = segmentStore.create(month)) {
+            writer.append(entry(1L, start, "x"));
+            writer.commit();
+        }
+        AuditLog leftover = entry(1L, start, "x");
+        when(auditLogRepository.findFirstByOrderByTimestampAscIdAsc()).thenReturn(Optional.of(leftover));
+        when(auditLogRepository.findPage(eq(start), any(), any(), any(), any())).thenReturn(List.of(leftover));
+
+        // When
+        long archived = archiver.archiveClosedPartitions();
+
+        // Then
+        assertThat(archived).isZero();
+        verify(auditLogRepository).deleteArchived(start, month.plusMonths(1).atDay(1).atStartOfDay(), start, 1L);
+        try (Stream<AuditLog> entries = segmentStore.read(month)) {
+            assertThat(entries.toList()).extracting(AuditLog::getId).containsExactly(1L);
+        }
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            assertThat(files.toList()).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte aktuellen Monat nicht archivieren")
+    void shouldKeepCurrentMonth() {
+        // Given
+        when(auditLogRepository.findFirstByOrderByTimestampAscIdAsc())
+                .thenReturn(Optional.of(entry(1L, LocalDateTime.now(), "x")));
+
+        // When
+        long archived = archiver.archiveClosedPartitions();
+
+        // Then
+        assertThat(archived).isZero();
+        verify(auditLogRepository, never()).deleteArchived(any(), any(), any(), any());
+    }
+
+    private AuditLog entry(Long id, LocalDateTime timestamp, String details) {
+        AuditLog auditLog = AuditLog.builder()
+                .username("admin")
+                .action("TEST")
+                .resourceType("Booking")
+                .resourceId("1")
+                .details(details)
+                .timestamp(timestamp)
+                .build();
+        auditLog.setId(id);
+        return auditLog;
+    }
+}
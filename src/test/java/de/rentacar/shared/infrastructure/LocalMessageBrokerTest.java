@@ -0,0 +1,78 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.DomainEventSubscriber;
+import de.rentacar.shared.domain.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit-Tests für LocalMessageBroker (Zustellvermerk pro Subscriber)
+ */
+@DisplayName("LocalMessageBroker Tests")
+class LocalMessageBrokerTest {
+
+    @Test
+    @DisplayName("Sollte nach Fehler nur noch offene Subscriber erneut beliefern")
+    void shouldRedeliverOnlyToPendingSubscribers() {
+        // Given: der zweite Subscriber schlägt beim ersten Versuch fehl
+        RecordingSubscriber first = new RecordingSubscriber(0);
+        FlakySubscriber second = new FlakySubscriber(1);
+        LocalMessageBroker broker = new LocalMessageBroker(List.of(first, second),
+                mock(PlatformTransactionManager.class));
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType("Booking")
+                .aggregateId("10")
+                .eventType("BOOKING_CONFIRMED")
+                .payload("{}")
+                .build();
+
+        // When
+        assertThatThrownBy(() -> broker.publish(event)).isInstanceOf(IllegalStateException.class);
+        broker.publish(event);
+
+        // Then
+        assertThat(first.received).hasSize(1);
+        assertThat(second.received).hasSize(1);
+        assertThat(event.isDeliveredTo("RecordingSubscriber")).isTrue();
+        assertThat(event.isDeliveredTo("FlakySubscriber")).isTrue();
+    }
+
+    private static class RecordingSubscriber implements DomainEventSubscriber {
+
+        final List<OutboxEvent> received = new ArrayList<>();
+        private int failures;
+
+        RecordingSubscriber(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public boolean supports(String aggregateType) {
+            return "Booking".equals(aggregateType);
+        }
+
+        @Override
+        public void onEvent(OutboxEvent event) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("vorübergehender Fehler");
+            }
+            received.add(event);
+        }
+    }
+
+    private static class FlakySubscriber extends RecordingSubscriber {
+
+        FlakySubscriber(int failures) {
+            super(failures);
+        }
+    }
+}
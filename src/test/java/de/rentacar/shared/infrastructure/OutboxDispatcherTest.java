@@ -0,0 +1,174 @@
+package de.rentacar.shared.infrastructure;
+
+import de.rentacar.shared.domain.MessageBroker;
+import de.rentacar.shared.domain.OutboxEvent;
+import de.rentacar.shared.domain.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für OutboxDispatcher (Reihenfolge pro Aggregat, at-least-once, Dead Letter)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher Tests")
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private MessageBroker messageBroker;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxEventRepository, messageBroker, schedulerLock, 100, 7, 3, 60);
+        lenient().when(schedulerLock.tryAcquire(eq(OutboxDispatcher.LEASE_NAME), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Sollte alle unveröffentlichten Events zustellen und markieren")
+    void shouldPublishPendingEvents() {
+        // Given
+        OutboxEvent first = event(1L, "Booking", "10");
+        OutboxEvent second = event(2L, "Vehicle", "3");
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(first, second));
+
+        // When
+        int published = dispatcher.dispatchPendingEvents();
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        assertThat(first.getPublishedAt()).isNotNull();
+        assertThat(second.getPublishedAt()).isNotNull();
+        verify(messageBroker).publish(first);
+        verify(messageBroker).publish(second);
+    }
+
+    @Test
+    @DisplayName("Sollte nach Fehler weitere Events desselben Aggregats zurückhalten")
+    void shouldHoldBackEventsOfFailedAggregate() {
+        // Given
+        OutboxEvent failing = event(1L, "Booking", "10");
+        OutboxEvent sameAggregate = event(2L, "Booking", "10");
+        OutboxEvent otherAggregate = event(3L, "Booking", "11");
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(failing, sameAggregate, otherAggregate));
+        doThrow(new IllegalStateException("Subscriber nicht erreichbar")).when(messageBroker).publish(failing);
+
+        // When
+        int published = dispatcher.dispatchPendingEvents();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        assertThat(failing.getPublishedAt()).isNull();
+        assertThat(failing.getDeliveryAttempts()).isEqualTo(1);
+        assertThat(failing.getLastError()).contains("nicht erreichbar");
+        assertThat(sameAggregate.getPublishedAt()).isNull();
+        assertThat(otherAggregate.getPublishedAt()).isNotNull();
+        verify(messageBroker, never()).publish(sameAggregate);
+        verify(outboxEventRepository).save(failing);
+    }
+
+    @Test
+    @DisplayName("Sollte Event nach maximalen Fehlversuchen parken und Aggregat weiter zurückhalten")
+    void shouldDeadLetterEventAfterMaxAttempts() {
+        // Given: zwei Versuche sind bereits fehlgeschlagen
+        OutboxEvent failing = event(1L, "Booking", "10");
+        failing.setDeliveryAttempts(2);
+        OutboxEvent sameAggregate = event(2L, "Booking", "10");
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(failing, sameAggregate));
+        doThrow(new IllegalStateException("Subscriber defekt")).when(messageBroker).publish(failing);
+
+        // When
+        int published = dispatcher.dispatchPendingEvents();
+
+        // Then
+        assertThat(published).isZero();
+        assertThat(failing.isDeadLettered()).isTrue();
+        assertThat(failing.getPublishedAt()).isNull();
+        assertThat(sameAggregate.getPublishedAt()).isNull();
+        verify(messageBroker, never()).publish(sameAggregate);
+        verify(outboxEventRepository).save(failing);
+    }
+
+    @Test
+    @DisplayName("Sollte Aggregat mit ungelöstem Dead Letter aus früheren Läufen zurückhalten")
+    void shouldHoldBackAggregateWithUnresolvedDeadLetter() {
+        // Given
+        OutboxEvent blocked = event(5L, "Booking", "10");
+        OutboxEvent other = event(6L, "Booking", "11");
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(blocked, other));
+        when(outboxEventRepository.findDeadLetteredAggregateKeys()).thenReturn(List.of("Booking:10"));
+
+        // When
+        int published = dispatcher.dispatchPendingEvents();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        assertThat(blocked.getPublishedAt()).isNull();
+        verify(messageBroker, never()).publish(blocked);
+        verify(messageBroker).publish(other);
+    }
+
+    @Test
+    @DisplayName("Sollte nichts zustellen, wenn ein anderer Knoten die Lease hält")
+    void shouldSkipWhenLeaseHeldElsewhere() {
+        // Given
+        when(schedulerLock.tryAcquire(eq(OutboxDispatcher.LEASE_NAME), any())).thenReturn(false);
+
+        // When
+        int published = dispatcher.dispatchPendingEvents();
+
+        // Then
+        assertThat(published).isZero();
+        verifyNoInteractions(outboxEventRepository, messageBroker);
+        verify(schedulerLock, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Sollte Aggregat nach erneutem Einreihen des Dead Letters fortsetzen")
+    void shouldResumeAggregateAfterRequeue() {
+        // Given
+        OutboxEvent failing = event(1L, "Booking", "10");
+        failing.setDeliveryAttempts(3);
+        failing.setDeadLetteredAt(LocalDateTime.now());
+        OutboxEvent sameAggregate = event(2L, "Booking", "10");
+        failing.requeue();
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(failing, sameAggregate));
+
+        // When
+        int published = dispatcher.dispatchPendingEvents();
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        assertThat(failing.getDeliveryAttempts()).isEqualTo(1);
+        verify(schedulerLock).release(OutboxDispatcher.LEASE_NAME);
+    }
+
+    private OutboxEvent event(Long id, String aggregateType, String aggregateId) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType("TEST_EVENT")
+                .payload("{}")
+                .build();
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,151 @@
+package de.rentacar.shared.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für PooledPasswordEncoder
+ */
+@DisplayName("PooledPasswordEncoder Tests")
+class PooledPasswordEncoderTest {
+
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Passwort auf dem Pool hashen und prüfen")
+    void shouldEncodeAndMatch() {
+        // Given
+        encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), 4, 2, 4, 5_000);
+
+        // When
+        String hash = encoder.encode("geheim123");
+
+        // Then
+        assertThat(encoder.matches("geheim123", hash)).isTrue();
+        assertThat(encoder.matches("falsch", hash)).isFalse();
+        assertThat(encoder.getStatistics().completed()).isEqualTo(3);
+        assertThat(encoder.getStatistics().strength()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Sollte Anfragen bei voller Warteschlange sofort ablehnen")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new PooledPasswordEncoder(blockingEncoder(started, release), 10, 1, 1, 5_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (encoder.getStatistics().queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When/Then
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(encoder.getStatistics().rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash-a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash-b");
+    }
+
+    @Test
+    @DisplayName("Sollte Stärke innerhalb des Bereichs kalibrieren")
+    void shouldCalibrateStrengthWithinBounds() {
+        assertThat(PooledPasswordEncoder.calibrateStrength(Duration.ZERO, 4, 6)).isEqualTo(4);
+        assertThat(PooledPasswordEncoder.calibrateStrength(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+        assertThatThrownBy(() -> PooledPasswordEncoder.calibrateStrength(Duration.ZERO, 8, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte schwächere gespeicherte Hashes zur Neuberechnung melden")
+    void shouldRequestUpgradeOfWeakerHashes() {
+        // Given
+        encoder = PooledPasswordEncoder.bcrypt(Duration.ofMinutes(1), 5, 5, 1, 1, 5_000, null);
+        String weakHash = new BCryptPasswordEncoder(4).encode("geheim123");
+
+        // When/Then
+        assertThat(encoder.getStatistics().strength()).isEqualTo(5);
+        assertThat(encoder.matches("geheim123", weakHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("geheim123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte erfolgreiche Prüfungen ohne erneutes Hashing aus dem Cache bestätigen")
+    void shouldServeRepeatedMatchFromCache() {
+        // Given
+        encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), 4, 1, 1, 5_000,
+                new VerifiedCredentialCache(10, Duration.ofMinutes(5)));
+        String hash = encoder.encode("geheim123");
+
+        // When
+        boolean first = encoder.matches("geheim123", hash);
+        boolean second = encoder.matches("geheim123", hash);
+        boolean wrong = encoder.matches("falsch", hash);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(wrong).isFalse();
+        assertThat(encoder.getStatistics().cachedMatches()).isEqualTo(1);
+        assertThat(encoder.getStatistics().completed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sollte Cache-Eintrag an den gespeicherten Hash binden")
+    void shouldNotReuseCachedMatchForOtherHash() {
+        // Given
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(1, Duration.ofMinutes(5));
+        cache.put("geheim123", "hash-1");
+
+        // When/Then
+        assertThat(cache.contains("geheim123", "hash-1")).isTrue();
+        assertThat(cache.contains("geheim123", "hash-2")).isFalse();
+        assertThat(cache.contains("falsch", "hash-1")).isFalse();
+        cache.put("anderes", "hash-3");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.contains("geheim123", "hash-1")).isFalse();
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hash-" + rawPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package de.rentacar.vehicle.application;
+
+import de.rentacar.booking.domain.Booking;
+import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.vehicle.domain.RebalancingPlan;
+import de.rentacar.vehicle.domain.Transfer;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für FleetRebalancingService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FleetRebalancingService Tests")
+class FleetRebalancingServiceTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private FleetRebalancingService service;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        service = new FleetRebalancingService(vehicleRepository, bookingRepository,
+                (from, to, type) -> from.equals(to) ? 0 : 1, 7);
+    }
+
+    @Test
+    @DisplayName("Sollte Einwegmieten als Abgang am Abhol- und Zugang am Rückgabestandort prognostizieren")
+    void shouldForecastOneWayRentals() {
+        // Given: zwei Fahrzeuge in Berlin, eines in Wartung; zwei Einwegmieten Berlin → Hamburg
+        List<Vehicle> vehicles = List.of(
+                vehicle("Berlin", VehicleStatus.VERFÜGBAR),
+                vehicle("Berlin", VehicleStatus.VERFÜGBAR),
+                vehicle("Berlin", VehicleStatus.WARTUNG));
+        List<Booking> bookings = List.of(
+                booking("Berlin", "Hamburg", today.plusDays(1), today.plusDays(2)),
+                booking("Berlin", "Hamburg", today.plusDays(1), today.plusDays(2)),
+                booking("München", "München", today.plusDays(3), today.plusDays(4)));
+
+        // When
+        Map<String, Integer> balances = FleetRebalancingService.forecastBalances(vehicles, bookings,
+                today, today.plusDays(7));
+
+        // Then: Berlin und Hamburg sind ausgeglichen (Rückgaben zählen erst ab dem Folgetag), München fehlt ein Fahrzeug
+        assertThat(balances).containsOnly(Map.entry("München", -1));
+    }
+
+    @Test
+    @DisplayName("Sollte Überschuss aus Rückgaben an Defizit-Standorte überführen")
+    void shouldPlanTransferFromSurplusToDeficit() {
+        // Given: Hamburg hat zwei Fahrzeuge ohne Buchung, München eine Buchung ohne Fahrzeug
+        when(vehicleRepository.findByType(VehicleType.SUV)).thenReturn(List.of(
+                vehicle("Hamburg", VehicleStatus.VERFÜGBAR),
+                vehicle("Hamburg", VehicleStatus.VERFÜGBAR)));
+        when(bookingRepository.findActiveBookingsByVehicleType(eq(VehicleType.SUV), any(), any())).thenReturn(List.of(
+                booking("München", "Berlin", today.plusDays(2), today.plusDays(5))));
+
+        // When
+        List<RebalancingPlan> plans = service.replanNow(VehicleType.SUV);
+
+        // Then
+        assertThat(plans).hasSize(1);
+        RebalancingPlan plan = plans.get(0);
+        assertThat(plan.surplus()).isEqualTo(2);
+        assertThat(plan.deficit()).isEqualTo(1);
+        assertThat(plan.unmetDeficit()).isZero();
+        assertThat(plan.transfers()).containsExactly(new Transfer(VehicleType.SUV, "Hamburg", "München", 1, 1));
+        assertThat(service.getPlans(null)).containsExactly(plan);
+    }
+
+    private static Vehicle vehicle(String location, VehicleStatus status) {
+        return Vehicle.builder().type(VehicleType.SUV).location(location).status(status).build();
+    }
+
+    private static Booking booking(String pickupLocation, String returnLocation,
+                                   LocalDate pickupDate, LocalDate returnDate) {
+        return Booking.builder()
+                .customerId(7L)
+                .pickupLocation(pickupLocation)
+                .returnLocation(returnLocation)
+                .pickupDate(pickupDate)
+                .returnDate(returnDate)
+                .build();
+    }
+}
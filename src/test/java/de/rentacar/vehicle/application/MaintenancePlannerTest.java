@@ -0,0 +1,212 @@
+package de.rentacar.vehicle.application;
+
+import de.rentacar.booking.application.VehicleAssignmentIndex;
+import de.rentacar.booking.application.VehicleAssignmentIndex.MaintenanceSlot;
+import de.rentacar.booking.domain.BookingRepository;
+import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
+import de.rentacar.shared.domain.SchedulerLock;
+import de.rentacar.vehicle.domain.MaintenanceStatus;
+import de.rentacar.vehicle.domain.MaintenanceWindow;
+import de.rentacar.vehicle.domain.MaintenanceWindowRepository;
+import de.rentacar.vehicle.domain.ServiceIntervalPolicy;
+import de.rentacar.vehicle.domain.Vehicle;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import de.rentacar.vehicle.domain.VehicleStatus;
+import de.rentacar.vehicle.domain.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für MaintenancePlanner
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaintenancePlanner Tests")
+class MaintenancePlannerTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private MaintenanceWindowRepository maintenanceWindowRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private VehicleAssignmentIndex assignmentIndex;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MaintenancePlanner planner;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        planner = new MaintenancePlanner(vehicleRepository, maintenanceWindowRepository, bookingRepository,
+                assignmentIndex, new ServiceIntervalPolicy(15000, 365, 60), outboxService, auditService,
+                schedulerLock, new TransactionTemplate(transactionManager), 14, 1, 500, 300);
+    }
+
+    @Test
+    @DisplayName("Sollte nur bald fällige Fahrzeuge einplanen und das Fenster blockieren")
+    void shouldPlanVehiclesDueWithinLeadTime() {
+        // Given: Fahrzeug 1 hat noch 500 km bei 145 km/Tag, Fahrzeug 2 ist erst in Monaten fällig
+        Vehicle dueSoon = vehicle(1L, 14500L, today.minusDays(100), VehicleStatus.VERFÜGBAR);
+        Vehicle dueLater = vehicle(2L, 1000L, today.minusDays(10), VehicleStatus.VERFÜGBAR);
+        when(vehicleRepository.findAll()).thenReturn(List.of(dueSoon, dueLater));
+        planner.rebuild();
+        assertThat(planner.getDueDate(1L)).contains(today.plusDays(3));
+
+        when(schedulerLock.tryAcquire(eq(MaintenancePlanner.LEASE_NAME), any())).thenReturn(true);
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(dueSoon));
+        when(assignmentIndex.findMaintenanceSlot(1L, VehicleType.SUV, "Berlin", 50.0,
+                today.plusDays(1), today.plusDays(3), 1))
+                .thenReturn(Optional.of(new MaintenanceSlot(today.plusDays(2), today.plusDays(2), 12.5)));
+        when(maintenanceWindowRepository.save(any(MaintenanceWindow.class))).thenAnswer(invocation -> {
+            MaintenanceWindow window = invocation.getArgument(0);
+            window.setId(7L);
+            return window;
+        });
+
+        // When
+        int planned = planner.plan();
+        int plannedAgain = planner.plan();
+
+        // Then
+        assertThat(planned).isEqualTo(1);
+        assertThat(plannedAgain).isZero();
+        ArgumentCaptor<MaintenanceWindow> window = ArgumentCaptor.forClass(MaintenanceWindow.class);
+        verify(maintenanceWindowRepository).save(window.capture());
+        assertThat(window.getValue().getStartDate()).isEqualTo(today.plusDays(2));
+        assertThat(window.getValue().getDueMileage()).isEqualTo(15000L);
+        assertThat(window.getValue().getRevenueImpact()).isEqualTo(12.5);
+        verify(assignmentIndex).blockMaintenance(1L, 7L, today.plusDays(2), today.plusDays(2));
+        verify(outboxService).record(eq("Vehicle"), eq(1L), eq("MAINTENANCE_PLANNED"), anyMap());
+        verify(vehicleRepository, times(1)).findById(any());
+        assertThat(planner.getDueDate(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sollte die Fälligkeit bei neuem Kilometerstand inkrementell vorziehen")
+    void shouldRescheduleOnMileageUpdate() {
+        // Given: 100 km/Tag, fällig in 140 Tagen
+        when(vehicleRepository.findAll()).thenReturn(List.of(
+                vehicle(2L, 1000L, today.minusDays(10), VehicleStatus.VERFÜGBAR)));
+        planner.rebuild();
+        assertThat(planner.getDueDate(2L)).contains(today.plusDays(140));
+
+        // When: ein Tag später meldet die Telemetrie fast das gesamte Intervall
+        planner.recordMileage(2L, 14950L, Instant.now().plus(Duration.ofDays(1)));
+        planner.recordMileage(2L, 14000L, Instant.now().plus(Duration.ofDays(1)));
+
+        // Then: fällig heute, ältere Stände werden ignoriert
+        assertThat(planner.getDueDate(2L)).contains(today);
+    }
+
+    @Test
+    @DisplayName("Sollte verfügbare Fahrzeuge zu Beginn des Fensters in Wartung setzen")
+    void shouldStartDueWindows() {
+        // Given
+        Vehicle vehicle = vehicle(1L, 15100L, today.minusDays(200), VehicleStatus.VERFÜGBAR);
+        MaintenanceWindow window = window(7L, 1L, MaintenanceStatus.GEPLANT);
+        when(schedulerLock.tryAcquire(eq(MaintenancePlanner.LEASE_NAME), any())).thenReturn(true);
+        when(maintenanceWindowRepository.findPlannedStartingBy(today)).thenReturn(List.of(window));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(vehicle));
+
+        // When
+        planner.plan();
+
+        // Then
+        assertThat(vehicle.getStatus()).isEqualTo(VehicleStatus.WARTUNG);
+        assertThat(window.getStatus()).isEqualTo(MaintenanceStatus.IN_ARBEIT);
+        verify(assignmentIndex).removeVehicle(1L);
+        verify(schedulerLock).release(MaintenancePlanner.LEASE_NAME);
+    }
+
+    @Test
+    @DisplayName("Sollte nach abgeschlossener Wartung das Intervall neu beginnen")
+    void shouldRestartIntervalAfterCompletion() {
+        // Given
+        Vehicle vehicle = vehicle(1L, 15200L, today.minusDays(200), VehicleStatus.WARTUNG);
+        MaintenanceWindow window = window(7L, 1L, MaintenanceStatus.IN_ARBEIT);
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(vehicle));
+        when(maintenanceWindowRepository.findOpenByVehicleId(1L)).thenReturn(Optional.of(window));
+        when(vehicleRepository.save(vehicle)).thenReturn(vehicle);
+
+        // When
+        Vehicle serviced = planner.completeMaintenance(1L, "mitarbeiter", "127.0.0.1");
+
+        // Then: neues Intervall mit Standard-Fahrleistung (15.000 km / 60 km pro Tag)
+        assertThat(serviced.getStatus()).isEqualTo(VehicleStatus.VERFÜGBAR);
+        assertThat(serviced.getLastServiceMileage()).isEqualTo(15200L);
+        assertThat(serviced.getLastServiceDate()).isEqualTo(today);
+        assertThat(window.getStatus()).isEqualTo(MaintenanceStatus.ABGESCHLOSSEN);
+        verify(assignmentIndex).unblockMaintenance(1L, 7L);
+        verify(auditService).logAction(eq("mitarbeiter"), eq("MAINTENANCE_COMPLETED"), eq("Vehicle"), eq("1"),
+                anyString(), eq("127.0.0.1"));
+        assertThat(planner.getDueDate(1L)).contains(today.plusDays(250));
+    }
+
+    private static Vehicle vehicle(Long id, Long mileage, LocalDate lastServiceDate, VehicleStatus status) {
+        Vehicle vehicle = Vehicle.builder()
+                .type(VehicleType.SUV)
+                .location("Berlin")
+                .mileage(mileage)
+                .dailyPrice(50.0)
+                .lastServiceMileage(0L)
+                .lastServiceDate(lastServiceDate)
+                .status(status)
+                .build();
+        vehicle.setId(id);
+        return vehicle;
+    }
+
+    private MaintenanceWindow window(Long id, Long vehicleId, MaintenanceStatus status) {
+        MaintenanceWindow window = MaintenanceWindow.builder()
+                .vehicleId(vehicleId)
+                .startDate(today)
+                .endDate(today)
+                .dueDate(today)
+                .dueMileage(15000L)
+                .revenueImpact(0.0)
+                .status(status)
+                .build();
+        window.setId(id);
+        return window;
+    }
+}
@@ -0,0 +1,133 @@
+package de.rentacar.vehicle.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.rentacar.vehicle.domain.TelemetryArchive;
+import de.rentacar.vehicle.domain.TelemetryReading;
+import de.rentacar.vehicle.domain.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für TelemetryIngestionService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelemetryIngestionService Tests")
+class TelemetryIngestionServiceTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private TelemetryArchive telemetryArchive;
+
+    @Mock
+    private MaintenancePlanner maintenancePlanner;
+
+    private TelemetryIngestionService service;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2026-03-01T10:00:00Z");
+        service = new TelemetryIngestionService(vehicleRepository, telemetryArchive, maintenancePlanner,
+                new ObjectMapper(), 4, 2);
+    }
+
+    @Test
+    @DisplayName("Sollte Meldungen pro Fahrzeug zum aktuellsten Stand zusammenfassen und gebündelt schreiben")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceReadingsPerVehicle() {
+        // Given: Position mit Kilometerstand, danach nur Tankfüllstand; verspätete ältere Meldung
+        service.ingest(List.of(
+                new TelemetryReading(1L, now, 1000L, 52.5, 13.4, null),
+                new TelemetryReading(1L, now.plusSeconds(30), null, null, null, 80.0)));
+        service.ingest(List.of(new TelemetryReading(1L, now.minusSeconds(30), 990L, 52.0, 13.0, 90.0)));
+
+        // When
+        service.flush();
+
+        // Then: ein Stand mit neuesten Werten, Rohdaten vollständig archiviert
+        ArgumentCaptor<Collection<TelemetryReading>> states = ArgumentCaptor.forClass(Collection.class);
+        verify(vehicleRepository).applyTelemetry(states.capture());
+        assertThat(states.getValue()).containsExactly(
+                new TelemetryReading(1L, now.plusSeconds(30), 1000L, 52.5, 13.4, 80.0));
+        verify(telemetryArchive).append(any());
+        assertThat(service.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte Meldungen bei vollem Puffer abweisen")
+    void shouldRejectWhenBufferIsFull() {
+        // Given
+        service.ingest(List.of(reading(1L), reading(2L)));
+        service.ingest(List.of(reading(3L)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.ingest(List.of(reading(4L), reading(5L))))
+                .isInstanceOf(TelemetryBufferFullException.class);
+        assertThat(service.getBufferedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sollte gepufferte Daten behalten, wenn der Flush fehlschlägt")
+    void shouldKeepBufferWhenFlushFails() {
+        // Given
+        service.ingest(List.of(reading(1L)));
+        when(vehicleRepository.applyTelemetry(any()))
+                .thenThrow(new IllegalStateException("Datenbank nicht erreichbar"))
+                .thenReturn(1);
+
+        // When
+        assertThatThrownBy(() -> service.flush()).isInstanceOf(IllegalStateException.class);
+
+        // Then: nichts archiviert, zweiter Flush schreibt den Stand nach
+        verify(telemetryArchive, never()).append(any());
+        assertThat(service.getBufferedCount()).isEqualTo(1);
+        service.flush();
+        verify(vehicleRepository, times(2)).applyTelemetry(any());
+        verify(telemetryArchive).append(List.of(reading(1L)));
+        assertThat(service.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte NDJSON-Zeilen einlesen und die maximale Batchgröße erzwingen")
+    void shouldParseNdjson() throws Exception {
+        // Given
+        String twoLines = "{\"vehicleId\":1,\"recordedAt\":\"2026-03-01T10:00:00Z\",\"odometer\":1200}\n"
+                + "{\"vehicleId\":2,\"recordedAt\":\"2026-03-01T10:00:05Z\",\"fuelLevel\":55.5}\n";
+        String threeLines = twoLines + "{\"vehicleId\":3,\"recordedAt\":\"2026-03-01T10:00:09Z\"}\n";
+
+        // When
+        int accepted = service.ingestNdjson(new ByteArrayInputStream(twoLines.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(accepted).isEqualTo(2);
+        assertThatThrownBy(() -> service.ingestNdjson(
+                new ByteArrayInputStream(threeLines.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.getBufferedCount()).isEqualTo(2);
+    }
+
+    private TelemetryReading reading(Long vehicleId) {
+        return new TelemetryReading(vehicleId, now, 100L, null, null, null);
+    }
+}
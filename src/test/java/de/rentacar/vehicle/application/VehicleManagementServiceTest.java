@@ -1,6 +1,7 @@
 package de.rentacar.vehicle.application;
 
 import de.rentacar.shared.domain.AuditService;
+import de.rentacar.shared.domain.OutboxService;
 import de.rentacar.vehicle.domain.LicensePlate;
 import de.rentacar.vehicle.domain.Vehicle;
 import de.rentacar.vehicle.domain.VehicleRepository;
@@ -33,9 +34,15 @@ class VehicleManagementServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private VehicleCatalog vehicleCatalog;
+
     @InjectMocks
     private VehicleManagementService vehicleManagementService;
 
@@ -88,6 +95,8 @@ class VehicleManagementServiceTest {
         
         verify(vehicleRepository).findByLicensePlate(any(LicensePlate.class));
         verify(vehicleRepository).save(any(Vehicle.class));
+        verify(outboxService).record(eq("Vehicle"), eq(1L), eq("VEHICLE_ADDED"), anyMap());
+        verify(vehicleCatalog).index(savedVehicle);
         verify(auditService).logAction(anyString(), eq("VEHICLE_ADDED"), anyString(), anyString(), anyString(), anyString());
     }
 
@@ -0,0 +1,95 @@
+package de.rentacar.vehicle.domain;
+
+import de.rentacar.vehicle.domain.BranchGeoIndex.NearbyBranch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit-Tests für BranchGeoIndex (Umkreissuche über Filialen)
+ */
+@DisplayName("BranchGeoIndex Tests")
+class BranchGeoIndexTest {
+
+    private static final List<Branch> BRANCHES = List.of(
+            Branch.of("Berlin", 52.5200, 13.4050),
+            Branch.of("Potsdam", 52.3906, 13.0645),
+            Branch.of("Hamburg", 53.5511, 9.9937),
+            Branch.of("München", 48.1374, 11.5755),
+            Branch.of("Frankfurt", 50.1109, 8.6821));
+
+    @Test
+    @DisplayName("Sollte Filialen im Umkreis nach Entfernung sortiert liefern")
+    void shouldReturnBranchesWithinRadiusByDistance() {
+        // Given
+        BranchGeoIndex index = BranchGeoIndex.of(BRANCHES);
+
+        // When: Suche ab Berlin-Schönefeld
+        List<NearbyBranch> nearby = index.within(52.3667, 13.5033, 40);
+
+        // Then
+        assertThat(nearby).extracting(NearbyBranch::name).containsExactly("Berlin", "Potsdam");
+        assertThat(nearby.get(0).distanceKm()).isCloseTo(18.3, within(0.5));
+    }
+
+    @Test
+    @DisplayName("Sollte Standorte ohne Koordinaten nicht indizieren")
+    void shouldSkipBranchesWithoutPosition() {
+        // Given: Standort nur über ein Fahrzeug bekannt
+        List<Branch> branches = new ArrayList<>(BRANCHES);
+        branches.add(Branch.builder().name("Werkstatt Nord").build());
+
+        // When
+        BranchGeoIndex index = BranchGeoIndex.of(branches);
+
+        // Then
+        assertThat(index.size()).isEqualTo(BRANCHES.size());
+        assertThat(index.within(52.5200, 13.4050, 5)).extracting(NearbyBranch::name).containsExactly("Berlin");
+    }
+
+    @Test
+    @DisplayName("Sollte Entfernungen per Haversine berechnen")
+    void shouldComputeGreatCircleDistance() {
+        // When
+        double berlinMunich = BranchGeoIndex.distanceKm(52.5200, 13.4050, 48.1374, 11.5755);
+
+        // Then
+        assertThat(berlinMunich).isCloseTo(504.0, within(2.0));
+    }
+
+    @Test
+    @DisplayName("Sollte dieselben Treffer liefern wie eine lineare Suche")
+    void shouldMatchLinearScan() {
+        // Given: zufällige Filialen in Mitteleuropa
+        Random random = new Random(42);
+        List<Branch> branches = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            branches.add(Branch.of("F" + i, 47 + random.nextDouble() * 8, 6 + random.nextDouble() * 9));
+        }
+        BranchGeoIndex index = BranchGeoIndex.of(branches);
+
+        for (int probe = 0; probe < 50; probe++) {
+            double latitude = 47 + random.nextDouble() * 8;
+            double longitude = 6 + random.nextDouble() * 9;
+
+            // When
+            List<String> found = index.within(latitude, longitude, 60).stream().map(NearbyBranch::name).toList();
+
+            // Then
+            List<String> expected = branches.stream()
+                    .filter(b -> BranchGeoIndex.distanceKm(latitude, longitude, b.getLatitude(), b.getLongitude()) <= 60)
+                    .sorted(Comparator.comparingDouble(
+                            b -> BranchGeoIndex.distanceKm(latitude, longitude, b.getLatitude(), b.getLongitude())))
+                    .map(Branch::getName)
+                    .toList();
+            assertThat(found).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package de.rentacar.vehicle.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-Tests für ServiceIntervalPolicy
+ */
+@DisplayName("ServiceIntervalPolicy Tests")
+class ServiceIntervalPolicyTest {
+
+    private ServiceIntervalPolicy policy;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        policy = new ServiceIntervalPolicy(15000, 365, 60);
+        today = LocalDate.of(2026, 6, 1);
+    }
+
+    @Test
+    @DisplayName("Sollte Fälligkeit aus der Tagesfahrleistung prognostizieren")
+    void shouldForecastDueDateFromDailyMileage() {
+        // Given: 10.000 km in 100 Tagen seit der Wartung
+        double dailyKm = policy.initialDailyKm(0, today.minusDays(100), 10000, today);
+
+        // When
+        LocalDate due = policy.dueDate(0, today.minusDays(100), 10000, dailyKm, today);
+
+        // Then: restliche 5.000 km bei 100 km/Tag
+        assertThat(dailyKm).isEqualTo(100.0);
+        assertThat(due).isEqualTo(today.plusDays(50));
+    }
+
+    @Test
+    @DisplayName("Sollte das Zeitintervall greifen lassen, wenn es früher endet")
+    void shouldUseTimeIntervalWhenEarlier() {
+        // When
+        LocalDate due = policy.dueDate(0, today.minusDays(360), 1000, 5.0, today);
+
+        // Then
+        assertThat(due).isEqualTo(today.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("Sollte überfällige Wartung auf heute legen")
+    void shouldClampOverdueToToday() {
+        // When
+        LocalDate due = policy.dueDate(0, today.minusDays(30), 16000, 100.0, today);
+
+        // Then
+        assertThat(due).isEqualTo(today);
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Wartungshistorie vom letzten vollen Intervall ausgehen")
+    void shouldAssumeLastFullIntervalWithoutHistory() {
+        // Given
+        Vehicle vehicle = Vehicle.builder().mileage(47200L).build();
+
+        // When/Then
+        assertThat(policy.serviceMileage(vehicle)).isEqualTo(45000L);
+        assertThat(policy.serviceDate(vehicle, today)).isEqualTo(today);
+        assertThat(policy.initialDailyKm(45000, today, 47200, today)).isEqualTo(60.0);
+    }
+}
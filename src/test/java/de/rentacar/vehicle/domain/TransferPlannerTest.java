@@ -0,0 +1,133 @@
+package de.rentacar.vehicle.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für TransferPlanner (Min-Cost-Flow)
+ */
+@DisplayName("TransferPlanner Tests")
+class TransferPlannerTest {
+
+    @Test
+    @DisplayName("Sollte Defizite zu minimalen Gesamtkosten decken")
+    void shouldCoverDeficitAtMinimalCost() {
+        // Given: A liegt nahe bei C, B nahe bei D
+        Map<String, Integer> balances = Map.of("A", 3, "B", 2, "C", -3, "D", -2);
+        Map<String, Long> costs = Map.of("A>C", 1L, "A>D", 10L, "B>C", 10L, "B>D", 1L);
+
+        // When
+        List<Transfer> transfers = TransferPlanner.plan(VehicleType.SUV, balances,
+                (from, to, type) -> costs.get(from + ">" + to));
+
+        // Then
+        assertThat(transfers).containsExactlyInAnyOrder(
+                new Transfer(VehicleType.SUV, "A", "C", 3, 3),
+                new Transfer(VehicleType.SUV, "B", "D", 2, 2));
+    }
+
+    @Test
+    @DisplayName("Sollte bei knappem Überschuss die günstigsten Defizite decken")
+    void shouldCoverCheapestDeficitsWhenSupplyIsShort() {
+        // Given
+        Map<String, Integer> balances = Map.of("A", 2, "C", -2, "D", -2);
+        Map<String, Long> costs = Map.of("A>C", 5L, "A>D", 2L);
+
+        // When
+        List<Transfer> transfers = TransferPlanner.plan(VehicleType.VAN, balances,
+                (from, to, type) -> costs.get(from + ">" + to));
+
+        // Then
+        assertThat(transfers).containsExactly(new Transfer(VehicleType.VAN, "A", "D", 2, 4));
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Überschuss oder Defizit keinen Plan erstellen")
+    void shouldReturnEmptyPlanWithoutImbalance() {
+        assertThat(TransferPlanner.plan(VehicleType.SUV, Map.of("A", 4), (from, to, type) -> 1L)).isEmpty();
+        assertThat(TransferPlanner.plan(VehicleType.SUV, Map.of("A", -4), (from, to, type) -> 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sollte negative Überführungskosten ablehnen")
+    void shouldRejectNegativeCosts() {
+        assertThatThrownBy(() -> TransferPlanner.plan(VehicleType.SUV, Map.of("A", 1, "B", -1), (from, to, type) -> -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte 500 Standorte mit 50.000 Fahrzeugen vollständig und ohne verbessernden Tausch planen")
+    void shouldPlanLargeFleetCompletelyAndOptimally() {
+        // Given: 500 Standorte auf einem Raster, 50.000 Fahrzeuge auf alle Typen verteilt,
+        // jeder Standort und Typ mit zufälligem Überschuss oder Defizit
+        Random random = new Random(42);
+        int locations = 500;
+        int[] x = new int[locations];
+        int[] y = new int[locations];
+        for (int i = 0; i < locations; i++) {
+            x[i] = random.nextInt(1000);
+            y[i] = random.nextInt(1000);
+        }
+        TransferCostModel distance = (from, to, type) -> {
+            int i = Integer.parseInt(from.substring(1));
+            int j = Integer.parseInt(to.substring(1));
+            return Math.abs(x[i] - x[j]) + Math.abs(y[i] - y[j]);
+        };
+        int vehiclesPerLocationAndType = 50_000 / locations / VehicleType.values().length;
+        Map<VehicleType, Map<String, Integer>> balancesByType = new HashMap<>();
+        for (VehicleType type : VehicleType.values()) {
+            Map<String, Integer> balances = new HashMap<>();
+            for (int i = 0; i < locations; i++) {
+                balances.put("L" + i, random.nextInt(2 * vehiclesPerLocationAndType + 1) - vehiclesPerLocationAndType);
+            }
+            balancesByType.put(type, balances);
+        }
+
+        for (Map.Entry<VehicleType, Map<String, Integer>> entry : balancesByType.entrySet()) {
+            // When
+            Map<String, Integer> balances = entry.getValue();
+            List<Transfer> transfers = TransferPlanner.plan(entry.getKey(), balances, distance);
+
+            // Then: Mengen und Kosten sind konsistent, kein Standort gibt mehr ab oder erhält
+            // mehr als sein Saldo, und der Plan bewegt so viele Fahrzeuge wie möglich
+            Map<String, Integer> moved = new HashMap<>();
+            for (Transfer transfer : transfers) {
+                assertThat(transfer.vehicles()).isPositive();
+                assertThat(transfer.cost()).isEqualTo(transfer.vehicles()
+                        * distance.cost(transfer.fromLocation(), transfer.toLocation(), entry.getKey()));
+                moved.merge(transfer.fromLocation(), transfer.vehicles(), Integer::sum);
+                moved.merge(transfer.toLocation(), -transfer.vehicles(), Integer::sum);
+            }
+            moved.forEach((location, net) -> {
+                int balance = balances.get(location);
+                assertThat(net).isBetween(Math.min(0, balance), Math.max(0, balance));
+            });
+            int surplus = balances.values().stream().filter(b -> b > 0).mapToInt(Integer::intValue).sum();
+            int deficit = -balances.values().stream().filter(b -> b < 0).mapToInt(Integer::intValue).sum();
+            assertThat(transfers.stream().mapToInt(Transfer::vehicles).sum()).isEqualTo(Math.min(surplus, deficit));
+
+            // Then: kein Tausch zweier Ziele senkt die Kosten (notwendige Optimalitätsbedingung)
+            int improvingSwaps = 0;
+            for (Transfer first : transfers) {
+                for (Transfer second : transfers) {
+                    long current = distance.cost(first.fromLocation(), first.toLocation(), entry.getKey())
+                            + distance.cost(second.fromLocation(), second.toLocation(), entry.getKey());
+                    long swapped = distance.cost(first.fromLocation(), second.toLocation(), entry.getKey())
+                            + distance.cost(second.fromLocation(), first.toLocation(), entry.getKey());
+                    if (swapped < current) {
+                        improvingSwaps++;
+                    }
+                }
+            }
+            assertThat(improvingSwaps).isZero();
+        }
+    }
+}
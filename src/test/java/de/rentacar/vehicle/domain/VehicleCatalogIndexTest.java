@@ -0,0 +1,112 @@
+package de.rentacar.vehicle.domain;
+
+import de.rentacar.vehicle.domain.VehicleCatalogIndex.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-Tests für VehicleCatalogIndex (Volltextsuche und Facetten)
+ */
+@DisplayName("VehicleCatalogIndex Tests")
+class VehicleCatalogIndexTest {
+
+    private VehicleCatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VehicleCatalogIndex(25);
+        index.put(vehicle(1L, "BMW", "320d Touring", VehicleType.MITTELKLASSE, "Berlin", 60.0));
+        index.put(vehicle(2L, "VW", "Golf", VehicleType.KOMPAKTKLASSE, "Hamburg", 45.0));
+        index.put(vehicle(3L, "BMW", "X5", VehicleType.SUV, "Berlin", 110.0));
+        index.put(vehicle(4L, "VW", "Golf Variant", VehicleType.KOMPAKTKLASSE, "Berlin", 49.0));
+    }
+
+    @Test
+    @DisplayName("Sollte per Präfix suchen und mehrere Begriffe verknüpfen")
+    void shouldSearchByPrefixAndCombineTerms() {
+        // When
+        SearchResult bmw = index.search("bm", null, null);
+        SearchResult golfBerlin = index.search("Golf ber", null, null);
+        SearchResult compact = index.search("kompakt", null, "Hamburg");
+
+        // Then
+        assertThat(bmw.vehicleIds()).containsExactly(1L, 3L);
+        assertThat(golfBerlin.vehicleIds()).containsExactly(4L);
+        assertThat(compact.vehicleIds()).containsExactly(2L);
+        assertThat(index.search("audi", null, null).vehicleIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sollte Facetten über die Treffermenge zählen")
+    void shouldCountFacetsOverHits() {
+        // When
+        SearchResult result = index.search(null, null, "Berlin");
+
+        // Then
+        assertThat(result.vehicleIds()).containsExactly(1L, 3L, 4L);
+        assertThat(result.facets().types()).isEqualTo(Map.of(
+                VehicleType.MITTELKLASSE, 1, VehicleType.SUV, 1, VehicleType.KOMPAKTKLASSE, 1));
+        assertThat(result.facets().locations()).isEqualTo(Map.of("Berlin", 3));
+        assertThat(result.facets().priceBands()).isEqualTo(Map.of(25, 1, 50, 1, 100, 1));
+    }
+
+    @Test
+    @DisplayName("Sollte geänderte und entfernte Fahrzeuge inkrementell nachführen")
+    void shouldUpdateIncrementally() {
+        // When: Golf nach Berlin versetzt, X5 entfernt, neues Fahrzeug übernimmt die freie Ordinalzahl
+        index.put(vehicle(2L, "VW", "Golf", VehicleType.KOMPAKTKLASSE, "Berlin", 45.0));
+        index.remove(3L);
+        index.put(vehicle(5L, "Audi", "A4", VehicleType.MITTELKLASSE, "Potsdam", 70.0));
+
+        // Then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search(null, null, "Hamburg").vehicleIds()).isEmpty();
+        assertThat(index.search("golf", null, "Berlin").vehicleIds()).containsExactly(2L, 4L);
+        assertThat(index.search("x5", null, null).vehicleIds()).isEmpty();
+        assertThat(index.search("audi", null, null).vehicleIds()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Sollte kombinierte Attributfilter mit UND, ODER und NICHT auswerten")
+    void shouldEvaluateCombinedFilters() {
+        // Given: der Golf in Hamburg ist vermietet
+        Vehicle rented = vehicle(2L, "VW", "Golf", VehicleType.KOMPAKTKLASSE, "Hamburg", 45.0);
+        rented.markAsRented();
+        index.put(rented);
+        index.put(vehicle(5L, "Opel", "Astra", VehicleType.KOMPAKTKLASSE, "Hamburg", 50.0));
+
+        // When: verfügbare Kompaktklasse in Hamburg oder Berlin unter 50 EUR
+        VehicleFilter filter = VehicleFilter.and(
+                VehicleFilter.type(VehicleType.KOMPAKTKLASSE),
+                VehicleFilter.status(VehicleStatus.VERFÜGBAR),
+                VehicleFilter.or(VehicleFilter.location("Hamburg"), VehicleFilter.location("Berlin")),
+                VehicleFilter.priceBelow(50));
+
+        // Then
+        assertThat(index.filter(filter)).containsExactly(4L);
+        assertThat(index.filter(VehicleFilter.priceBelow(50.0001))).containsExactly(2L, 4L, 5L);
+        assertThat(index.filter(VehicleFilter.not(VehicleFilter.location("Berlin")))).containsExactly(2L, 5L);
+        assertThat(index.filter(VehicleFilter.and())).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.filter(VehicleFilter.or())).isEmpty();
+        assertThat(index.search("golf", VehicleFilter.status(VehicleStatus.VERMIETET)).vehicleIds())
+                .containsExactly(2L);
+    }
+
+    private static Vehicle vehicle(Long id, String brand, String model, VehicleType type, String location,
+                                   double dailyPrice) {
+        Vehicle vehicle = Vehicle.builder()
+                .brand(brand)
+                .model(model)
+                .type(type)
+                .location(location)
+                .dailyPrice(dailyPrice)
+                .build();
+        vehicle.setId(id);
+        return vehicle;
+    }
+}